@@ -16,6 +16,7 @@
  */
 package org.apache.pivot.web.server;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
@@ -26,6 +27,7 @@ import java.net.URL;
 import java.net.URLDecoder;
 import java.util.Enumeration;
 import java.util.Iterator;
+import java.util.zip.GZIPOutputStream;
 
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServlet;
@@ -119,9 +121,131 @@ public abstract class QueryServlet extends HttpServlet {
         }
     }
 
+    /**
+     * Output stream that buffers content in memory until it exceeds a
+     * threshold, after which it spills to a temporary file.
+     */
+    private static class ContentBuffer extends OutputStream {
+        private final int threshold;
+
+        private byte[] buffer;
+        private int count = 0;
+
+        private File file = null;
+        private OutputStream fileOutputStream = null;
+        private long length = 0;
+
+        public ContentBuffer(int threshold) {
+            this.threshold = threshold;
+
+            // Never allocate more than the threshold allows
+            buffer = new byte[Math.min(INITIAL_BUFFER_SIZE, threshold)];
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (fileOutputStream == null
+                && count == buffer.length) {
+                reserve(1);
+            }
+
+            if (fileOutputStream == null) {
+                buffer[count++] = (byte)b;
+            } else {
+                fileOutputStream.write(b);
+            }
+
+            length++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (fileOutputStream == null
+                && count + len > buffer.length) {
+                reserve(len);
+            }
+
+            if (fileOutputStream == null) {
+                System.arraycopy(b, off, buffer, count, len);
+                count += len;
+            } else {
+                fileOutputStream.write(b, off, len);
+            }
+
+            length += len;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (fileOutputStream != null) {
+                fileOutputStream.close();
+            }
+        }
+
+        // Grows the buffer to hold the given number of additional bytes, or
+        // spills to a file if doing so would exceed the threshold
+        private void reserve(int len) throws IOException {
+            long required = (long)count + len;
+
+            if (required > threshold) {
+                file = File.createTempFile(QueryServlet.class.getName(), null);
+                fileOutputStream = new BufferedOutputStream(new FileOutputStream(file));
+                fileOutputStream.write(buffer, 0, count);
+                buffer = null;
+                count = 0;
+            } else {
+                int capacity = (int)Math.min(Math.max(required, (long)buffer.length * 2), threshold);
+                byte[] updatedBuffer = new byte[capacity];
+                System.arraycopy(buffer, 0, updatedBuffer, 0, count);
+                buffer = updatedBuffer;
+            }
+        }
+
+        public long getLength() {
+            return length;
+        }
+
+        public void writeTo(OutputStream outputStream) throws IOException {
+            if (file == null) {
+                outputStream.write(buffer, 0, count);
+            } else {
+                FileInputStream fileInputStream = new FileInputStream(file);
+                try {
+                    byte[] copyBuffer = new byte[COPY_BUFFER_SIZE];
+                    int nBytes;
+                    do {
+                        nBytes = fileInputStream.read(copyBuffer);
+                        if (nBytes > 0) {
+                            outputStream.write(copyBuffer, 0, nBytes);
+                        }
+                    } while (nBytes != -1);
+                } finally {
+                    fileInputStream.close();
+                }
+            }
+        }
+
+        public void dispose() {
+            if (file != null) {
+                try {
+                    close();
+                } catch (IOException exception) {
+                    // No-op
+                }
+
+                file.delete();
+                file = null;
+            }
+
+            buffer = null;
+        }
+    }
+
     private static final long serialVersionUID = 4881638232902478092L;
 
     private boolean determineContentLength = false;
+    private int spillThreshold = DEFAULT_SPILL_THRESHOLD;
+    private boolean compressionEnabled = false;
 
     private transient ThreadLocal<String> hostname = new ThreadLocal<String>();
     private transient ThreadLocal<Integer> port = new ThreadLocal<Integer>();
@@ -140,6 +264,16 @@ public abstract class QueryServlet extends HttpServlet {
     public static final String CONTENT_TYPE_HEADER = "Content-Type";
     public static final String CONTENT_LENGTH_HEADER = "Content-Length";
     public static final String LOCATION_HEADER = "Location";
+    public static final String ACCEPT_ENCODING_HEADER = "Accept-Encoding";
+    public static final String CONTENT_ENCODING_HEADER = "Content-Encoding";
+    public static final String VARY_HEADER = "Vary";
+
+    public static final int DEFAULT_SPILL_THRESHOLD = 1024 * 1024;
+
+    private static final String GZIP_ENCODING = "gzip";
+
+    private static final int INITIAL_BUFFER_SIZE = 8192;
+    private static final int COPY_BUFFER_SIZE = 8192;
 
     /**
      * Gets the host name that was requested.
@@ -223,6 +357,66 @@ public abstract class QueryServlet extends HttpServlet {
         return responseHeaders.get();
     }
 
+    /**
+     * Indicates whether GET responses are buffered so that a
+     * <tt>Content-Length</tt> header can be sent. If <tt>false</tt> (the
+     * default), responses are streamed directly to the client using chunked
+     * transfer encoding.
+     */
+    public boolean isDetermineContentLength() {
+        return determineContentLength;
+    }
+
+    /**
+     * Sets whether GET responses are buffered so that a
+     * <tt>Content-Length</tt> header can be sent.
+     *
+     * @param determineContentLength
+     */
+    public void setDetermineContentLength(boolean determineContentLength) {
+        this.determineContentLength = determineContentLength;
+    }
+
+    /**
+     * Returns the number of bytes of a buffered response that are held in
+     * memory before the response is spilled to a temporary file.
+     */
+    public int getSpillThreshold() {
+        return spillThreshold;
+    }
+
+    /**
+     * Sets the number of bytes of a buffered response that are held in memory
+     * before the response is spilled to a temporary file.
+     *
+     * @param spillThreshold
+     */
+    public void setSpillThreshold(int spillThreshold) {
+        if (spillThreshold < 0) {
+            throw new IllegalArgumentException("spillThreshold is negative.");
+        }
+
+        this.spillThreshold = spillThreshold;
+    }
+
+    /**
+     * Indicates whether GET responses are gzip-compressed for clients that
+     * accept gzip encoding. Disabled by default.
+     */
+    public boolean isCompressionEnabled() {
+        return compressionEnabled;
+    }
+
+    /**
+     * Sets whether GET responses are gzip-compressed for clients that accept
+     * gzip encoding.
+     *
+     * @param compressionEnabled
+     */
+    public void setCompressionEnabled(boolean compressionEnabled) {
+        this.compressionEnabled = compressionEnabled;
+    }
+
     /**
      * Prepares a servlet for request execution. This method is called immediately
      * prior to the {@link #validate(Query.Method, Path)} method.
@@ -432,44 +626,48 @@ public abstract class QueryServlet extends HttpServlet {
 
             response.setContentType(serializer.getMIMEType(result));
 
+            boolean compress = compressionEnabled
+                && acceptsGZIP(request.getHeader(ACCEPT_ENCODING_HEADER));
+            if (compress) {
+                response.setHeader(CONTENT_ENCODING_HEADER, GZIP_ENCODING);
+                response.addHeader(VARY_HEADER, ACCEPT_ENCODING_HEADER);
+            }
+
             OutputStream responseOutputStream = response.getOutputStream();
 
             if (determineContentLength) {
-                File tempFile = File.createTempFile(getClass().getName(), null);
-
-                // Serialize the result to an intermediary file
-                FileOutputStream fileOutputStream = new FileOutputStream(tempFile);
-                try {
-                    serializer.writeObject(result, fileOutputStream);
-                } catch (SerializationException exception) {
-                    throw new ServletException(exception);
-                } finally {
-                    fileOutputStream.close();
-                }
-
-                // Set the content length header
-                response.setHeader(CONTENT_LENGTH_HEADER, String.valueOf(tempFile.length()));
-
-                // Write the contents of the file out to the response
-                FileInputStream fileInputStream = new FileInputStream(tempFile);
+                // Serialize the result to an intermediary buffer
+                ContentBuffer contentBuffer = new ContentBuffer(spillThreshold);
                 try {
-                    byte[] buffer = new byte[1024];
-                    int nBytes;
-                    do {
-                        nBytes = fileInputStream.read(buffer);
-                        if (nBytes > 0) {
-                            responseOutputStream.write(buffer, 0, nBytes);
-                        }
-                    } while (nBytes != -1);
+                    OutputStream outputStream = compress ?
+                        new GZIPOutputStream(contentBuffer, COPY_BUFFER_SIZE) : contentBuffer;
+                    try {
+                        serializer.writeObject(result, outputStream);
+                    } catch (SerializationException exception) {
+                        throw new ServletException(exception);
+                    } finally {
+                        outputStream.close();
+                    }
+
+                    // Set the content length header and write the contents of
+                    // the buffer out to the response
+                    response.setHeader(CONTENT_LENGTH_HEADER, String.valueOf(contentBuffer.getLength()));
+                    contentBuffer.writeTo(responseOutputStream);
                 } finally {
-                    fileInputStream.close();
+                    contentBuffer.dispose();
                 }
             } else {
+                OutputStream outputStream = compress ?
+                    new GZIPOutputStream(responseOutputStream, COPY_BUFFER_SIZE) : responseOutputStream;
                 try {
-                    serializer.writeObject(result, responseOutputStream);
+                    serializer.writeObject(result, outputStream);
                 } catch (SerializationException exception) {
                     throw new ServletException(exception);
                 }
+
+                if (compress) {
+                    ((GZIPOutputStream)outputStream).finish();
+                }
             }
 
             response.flushBuffer();
@@ -597,6 +795,49 @@ public abstract class QueryServlet extends HttpServlet {
         return path;
     }
 
+    // Tests whether an Accept-Encoding header permits a gzip response. An
+    // explicit gzip entry takes precedence over "*", which applies only to
+    // codings not otherwise listed. For example, "gzip" and "gzip, *;q=0"
+    // accept gzip, while "gzip;q=0, *", "*;q=0" and "identity" do not.
+    private static boolean acceptsGZIP(String acceptEncoding) {
+        boolean gzipListed = false;
+        boolean gzipAccepted = false;
+        boolean wildcardAccepted = false;
+
+        if (acceptEncoding != null) {
+            String[] codings = acceptEncoding.split(",");
+
+            for (int i = 0; i < codings.length; i++) {
+                String[] parameters = codings[i].split(";");
+                String coding = parameters[0].trim();
+
+                // A quality value of zero means "not acceptable"
+                boolean acceptable = true;
+                for (int j = 1; j < parameters.length; j++) {
+                    String parameter = parameters[j].trim();
+
+                    if (parameter.startsWith("q=")) {
+                        try {
+                            acceptable = (Float.parseFloat(parameter.substring(2)) > 0);
+                        } catch (NumberFormatException exception) {
+                            acceptable = false;
+                        }
+                    }
+                }
+
+                if (coding.equalsIgnoreCase(GZIP_ENCODING)
+                    || coding.equalsIgnoreCase("x-gzip")) {
+                    gzipListed = true;
+                    gzipAccepted |= acceptable;
+                } else if (coding.equals("*")) {
+                    wildcardAccepted = acceptable;
+                }
+            }
+        }
+
+        return gzipListed ? gzipAccepted : wildcardAccepted;
+    }
+
     private void setResponseHeaders(HttpServletResponse response) {
         QueryDictionary responseHeaderDictionary = responseHeaders.get();
 
@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pivot.web;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.Proxy;
+import java.net.URL;
+
+/**
+ * Opens the HTTP connections used to execute web queries. Allows the transport
+ * to be replaced, for example by a client library that provides its own
+ * <tt>HttpURLConnection</tt> implementation.
+ */
+public interface ConnectionFactory {
+    /**
+     * Opens a connection to a location. The connection must not yet be
+     * connected.
+     *
+     * @param location
+     * The URL to connect to.
+     *
+     * @param proxy
+     * The proxy to connect through, or <tt>null</tt> to use the default JVM
+     * proxy settings.
+     */
+    public HttpURLConnection openConnection(URL location, Proxy proxy) throws IOException;
+}
@@ -16,6 +16,7 @@
  */
 package org.apache.pivot.web;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -26,6 +27,9 @@ import java.net.Proxy;
 import java.net.URL;
 import java.net.URLEncoder;
 import java.util.concurrent.ExecutorService;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
 
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.HttpsURLConnection;
@@ -91,45 +95,62 @@ public abstract class Query<V> extends IOTask<V> {
     }
 
     /**
-     * Query listener list.
+     * Query listener list. Events are fired to a snapshot of the listeners,
+     * so a query running on a background thread can fire them without
+     * locking while listeners are added or removed on other threads.
      */
+    @SuppressWarnings("unchecked")
     private static class QueryListenerList<V> extends ListenerList<QueryListener<V>>
         implements QueryListener<V> {
         @Override
-        public synchronized void add(QueryListener<V> listener) {
-            super.add(listener);
+        public void connected(Query<V> query) {
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((QueryListener<V>)listeners[i]).connected(query);
+            }
         }
 
         @Override
-        public synchronized void remove(QueryListener<V> listener) {
-            super.remove(listener);
+        public void requestSent(Query<V> query) {
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((QueryListener<V>)listeners[i]).requestSent(query);
+            }
         }
 
         @Override
-        public synchronized void connected(Query<V> query) {
-            for (QueryListener<V> listener : this) {
-                listener.connected(query);
+        public void responseReceived(Query<V> query) {
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((QueryListener<V>)listeners[i]).responseReceived(query);
             }
         }
 
         @Override
-        public synchronized void requestSent(Query<V> query) {
-            for (QueryListener<V> listener : this) {
-                listener.requestSent(query);
+        public void failed(Query<V> query) {
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((QueryListener<V>)listeners[i]).failed(query);
             }
         }
+    }
 
-        @Override
-        public synchronized void responseReceived(Query<V> query) {
-            for (QueryListener<V> listener : this) {
-                listener.responseReceived(query);
-            }
+    /**
+     * Inflater input stream that releases its inflater when closed;
+     * {@link InflaterInputStream} only does so for an inflater it created
+     * itself.
+     */
+    private static class DeflateInputStream extends InflaterInputStream {
+        public DeflateInputStream(InputStream inputStream, Inflater inflater) {
+            super(inputStream, inflater);
         }
 
         @Override
-        public synchronized void failed(Query<V> query) {
-            for (QueryListener<V> listener : this) {
-                listener.failed(query);
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                inf.end();
             }
         }
     }
@@ -146,6 +167,8 @@ public abstract class Query<V> extends IOTask<V> {
     private volatile long bytesExpected = -1;
 
     private Serializer<?> serializer = new JSONSerializer();
+    private ConnectionFactory connectionFactory = null;
+    private boolean compressionEnabled = true;
 
     private QueryListenerList<V> queryListeners = new QueryListenerList<V>();
 
@@ -155,6 +178,26 @@ public abstract class Query<V> extends IOTask<V> {
     private static final String HTTPS_PROTOCOL = "https";
     private static final String URL_ENCODING = "UTF-8";
 
+    private static final String ACCEPT_ENCODING_HEADER = "Accept-Encoding";
+    private static final String CONTENT_ENCODING_HEADER = "Content-Encoding";
+    private static final String ACCEPT_ENCODING = "gzip, deflate";
+
+    private static final int DRAIN_BUFFER_SIZE = 4096;
+
+    private static volatile ConnectionFactory defaultConnectionFactory = new ConnectionFactory() {
+        @Override
+        public HttpURLConnection openConnection(URL location, Proxy proxy) throws IOException {
+            HttpURLConnection connection;
+            if (proxy == null) {
+                connection = (HttpURLConnection)location.openConnection();
+            } else {
+                connection = (HttpURLConnection)location.openConnection(proxy);
+            }
+
+            return connection;
+        }
+    };
+
     static {
         try {
             // See http://java.sun.com/javase/6/docs/technotes/guides/net/proxies.html
@@ -324,6 +367,47 @@ public abstract class Query<V> extends IOTask<V> {
         this.serializer = serializer;
     }
 
+    /**
+     * Returns the connection factory used to open this query's connection.
+     *
+     * @return
+     * This query's connection factory, or <tt>null</tt> if the query uses the
+     * default connection factory.
+     */
+    public ConnectionFactory getConnectionFactory() {
+        return connectionFactory;
+    }
+
+    /**
+     * Sets the connection factory used to open this query's connection.
+     *
+     * @param connectionFactory
+     * The connection factory, or <tt>null</tt> to use the default connection
+     * factory.
+     */
+    public void setConnectionFactory(ConnectionFactory connectionFactory) {
+        this.connectionFactory = connectionFactory;
+    }
+
+    /**
+     * Indicates whether the query asks the server for a compressed response.
+     * Compressed responses are decoded transparently. Enabled by default.
+     */
+    public boolean isCompressionEnabled() {
+        return compressionEnabled;
+    }
+
+    /**
+     * Sets whether the query asks the server for a compressed response. Has
+     * no effect if an <tt>Accept-Encoding</tt> request header has been set
+     * explicitly.
+     *
+     * @param compressionEnabled
+     */
+    public void setCompressionEnabled(boolean compressionEnabled) {
+        this.compressionEnabled = compressionEnabled;
+    }
+
     /**
      * Gets the number of bytes that have been sent in the body of this query's
      * HTTP request. This will only be non-zero for POST and PUT requests, as
@@ -370,6 +454,28 @@ public abstract class Query<V> extends IOTask<V> {
         return bytesExpected;
     }
 
+    /**
+     * Returns the connection factory used by queries that have not been
+     * given one explicitly.
+     */
+    public static ConnectionFactory getDefaultConnectionFactory() {
+        return defaultConnectionFactory;
+    }
+
+    /**
+     * Sets the connection factory used by queries that have not been given
+     * one explicitly.
+     *
+     * @param connectionFactory
+     */
+    public static void setDefaultConnectionFactory(ConnectionFactory connectionFactory) {
+        if (connectionFactory == null) {
+            throw new IllegalArgumentException("connectionFactory is null.");
+        }
+
+        defaultConnectionFactory = connectionFactory;
+    }
+
     @SuppressWarnings("unchecked")
     protected Object execute(final Method method, final Object value) throws QueryException {
         Object result = value;
@@ -389,12 +495,12 @@ public abstract class Query<V> extends IOTask<V> {
             // Clear any properties from a previous response
             responseHeaders.clear();
 
-            // Open a connection
-            if (proxy == null) {
-                connection = (HttpURLConnection) location.openConnection();
-            } else {
-                connection = (HttpURLConnection) location.openConnection(proxy);
-            }
+            // Open a connection; the connection factory is expected to reuse
+            // persistent connections where possible, which requires that the
+            // response body always be read to the end
+            ConnectionFactory connectionFactoryLocal = (connectionFactory == null) ?
+                defaultConnectionFactory : connectionFactory;
+            connection = connectionFactoryLocal.openConnection(location, proxy);
 
             connection.setRequestMethod(method.toString());
             connection.setAllowUserInteraction(false);
@@ -422,6 +528,11 @@ public abstract class Query<V> extends IOTask<V> {
                 }
             }
 
+            if (compressionEnabled
+                && !requestHeaders.containsKey(ACCEPT_ENCODING_HEADER)) {
+                connection.setRequestProperty(ACCEPT_ENCODING_HEADER, ACCEPT_ENCODING);
+            }
+
             // Set the input/output state
             connection.setDoInput(true);
             connection.setDoOutput(result != null);
@@ -463,16 +574,31 @@ public abstract class Query<V> extends IOTask<V> {
             // If the response was anything other than 2xx, throw an exception
             int statusPrefix = status / 100;
             if (statusPrefix != 2) {
+                drain(connection.getErrorStream());
                 throw new QueryException(status, message);
             }
 
             // Read the response body
-            if (method == Method.GET
-                && status == Query.Status.OK) {
-                InputStream inputStream = null;
+            InputStream inputStream = null;
+            InputStream decodedInputStream = null;
+            try {
+                inputStream = connection.getInputStream();
+
+                if (method == Method.GET
+                    && status == Query.Status.OK) {
+                    decodedInputStream = decode(new MonitoredInputStream(inputStream),
+                        connection.getHeaderField(CONTENT_ENCODING_HEADER));
+                    result = serializerLocal.readObject(decodedInputStream);
+                }
+
+                // Consume any remaining content so the connection can be reused
+                drain(inputStream);
+            } finally {
                 try {
-                    inputStream = connection.getInputStream();
-                    result = serializerLocal.readObject(new MonitoredInputStream(inputStream));
+                    // Release the decoder's native resources
+                    if (decodedInputStream != null) {
+                        decodedInputStream.close();
+                    }
                 } finally {
                     if (inputStream != null) {
                         inputStream.close();
@@ -483,6 +609,10 @@ public abstract class Query<V> extends IOTask<V> {
             // Notify listeners that the response has been received
             queryListeners.responseReceived(this);
         } catch (IOException exception) {
+            if (connection != null) {
+                drain(connection.getErrorStream());
+            }
+
             queryListeners.failed(this);
             throw new QueryException(exception);
         } catch (SerializationException exception) {
@@ -496,6 +626,57 @@ public abstract class Query<V> extends IOTask<V> {
         return result;
     }
 
+    private static InputStream decode(InputStream inputStream, String contentEncoding)
+        throws IOException {
+        InputStream decodedInputStream = inputStream;
+
+        if (contentEncoding != null) {
+            contentEncoding = contentEncoding.trim();
+
+            if (contentEncoding.equalsIgnoreCase("gzip")
+                || contentEncoding.equalsIgnoreCase("x-gzip")) {
+                decodedInputStream = new GZIPInputStream(inputStream);
+            } else if (contentEncoding.equalsIgnoreCase("deflate")) {
+                // Servers disagree on whether deflate content is zlib-wrapped;
+                // check for a zlib header and fall back to raw deflate
+                BufferedInputStream bufferedInputStream = new BufferedInputStream(inputStream);
+                bufferedInputStream.mark(2);
+                int b0 = bufferedInputStream.read();
+                int b1 = bufferedInputStream.read();
+                bufferedInputStream.reset();
+
+                boolean zlib = (b0 != -1 && b1 != -1
+                    && (b0 & 0x0F) == 8
+                    && ((b0 << 8) | b1) % 31 == 0);
+                decodedInputStream = new DeflateInputStream(bufferedInputStream, new Inflater(!zlib));
+            }
+        }
+
+        return decodedInputStream;
+    }
+
+    // Consumes the rest of a stream so that its connection can be reused; an
+    // aborted task stops draining, which forgoes reuse of the connection
+    private void drain(InputStream inputStream) {
+        if (inputStream != null) {
+            try {
+                byte[] buffer = new byte[DRAIN_BUFFER_SIZE];
+                while (!abort
+                    && inputStream.read(buffer) != -1) {
+                    // empty block
+                }
+            } catch (IOException exception) {
+                // No-op; the connection will not be reused
+            } finally {
+                try {
+                    inputStream.close();
+                } catch (IOException exception) {
+                    // No-op
+                }
+            }
+        }
+    }
+
     /**
      * Returns the query listener list.
      */
@@ -0,0 +1,1289 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pivot.beans;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Locale;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.pivot.collections.ArrayList;
+import org.apache.pivot.collections.Dictionary;
+import org.apache.pivot.collections.HashMap;
+import org.apache.pivot.collections.Sequence;
+import org.apache.pivot.serialization.SerializationException;
+import org.apache.pivot.util.ListenerList;
+
+/**
+ * Translates a BXML document into the Java source of a {@link BXMLFactory}
+ * that builds the same object hierarchy with direct constructor and setter
+ * calls. Classes, setters, and literal attribute values are resolved when the
+ * source is generated, so the classes referenced by the document must be on
+ * the compiler's class path.
+ * <p>
+ * Instances, property elements, attached properties, IDs, namespace bindings,
+ * <tt>bxml:define</tt>, <tt>bxml:reference</tt>, and <tt>bxml:include</tt>
+ * are supported. Documents that use scripts (<tt>bxml:script</tt>, event
+ * attributes, listener list elements, or bind mapping functions) cannot be
+ * compiled and must continue to be loaded by {@link BXMLSerializer}. Objects
+ * are created with their public no-arg constructors; overrides of
+ * {@link BXMLSerializer#newTypedObject(Class)} do not apply.
+ * <p>
+ * The compiler can be run from a build via its {@link #main(String[])}
+ * method, for example with the Maven exec plugin's <tt>java</tt> goal bound
+ * to the <tt>generate-sources</tt> phase:
+ * <pre>
+ * java org.apache.pivot.beans.BXMLCompiler &lt;source&gt; &lt;class name&gt; &lt;output directory&gt;
+ * </pre>
+ */
+public class BXMLCompiler {
+    private enum NodeType {
+        INSTANCE,
+        READ_ONLY_PROPERTY,
+        WRITABLE_PROPERTY,
+        INCLUDE,
+        DEFINE,
+        REFERENCE
+    }
+
+    // A compile-time element
+    private static class Node {
+        public final Node parent;
+        public final NodeType type;
+        public final String name;
+        public final Class<?> propertyClass;
+
+        // Instance and read-only property nodes: the variable holding the value
+        public String variable = null;
+        public Class<?> valueType = null;
+
+        // Writable property nodes: the value assigned in the closing tag
+        public Value value = null;
+
+        public String id = null;
+
+        public final ArrayList<Attribute> attributes = new ArrayList<Attribute>();
+        public final HashMap<String, String> properties = new HashMap<String, String>();
+
+        public Node(Node parent, NodeType type, String name, Class<?> propertyClass) {
+            this.parent = parent;
+            this.type = type;
+            this.name = name;
+            this.propertyClass = propertyClass;
+        }
+    }
+
+    private static class Attribute {
+        public final String name;
+        public final Class<?> propertyClass;
+        public final Value value;
+
+        public Attribute(String name, Class<?> propertyClass, Value value) {
+            this.name = name;
+            this.propertyClass = propertyClass;
+            this.value = value;
+        }
+    }
+
+    // A Java expression, its static type, and, for string literals, the literal
+    private static class Value {
+        public final String expression;
+        public final Class<?> type;
+        public final String literal;
+
+        public Value(String expression, Class<?> type) {
+            this.expression = expression;
+            this.type = type;
+            this.literal = null;
+        }
+
+        public Value(String literal) {
+            this.expression = quote(literal);
+            this.type = String.class;
+            this.literal = literal;
+        }
+    }
+
+    private static class Binding {
+        public final Node node;
+        public final String name;
+        public final String sourcePath;
+
+        public Binding(Node node, String name, String sourcePath) {
+            this.node = node;
+            this.name = name;
+            this.sourcePath = sourcePath;
+        }
+    }
+
+    private ClassLoader classLoader;
+    private int maximumStatementCount = DEFAULT_MAXIMUM_STATEMENT_COUNT;
+
+    private XMLStreamReader xmlStreamReader = null;
+    private Node node = null;
+    private Node root = null;
+
+    private HashMap<String, Node> ids = null;
+    private ArrayList<Binding> bindings = null;
+    private ArrayList<String> fields = null;
+    private ArrayList<StringBuilder> methods = null;
+    private int statementCount = 0;
+    private int nextVariable = 0;
+    private int nextID = 0;
+
+    public static final int DEFAULT_MAXIMUM_STATEMENT_COUNT = 400;
+
+    private static final String INDENT = "    ";
+
+    public BXMLCompiler() {
+        this(Thread.currentThread().getContextClassLoader());
+    }
+
+    public BXMLCompiler(ClassLoader classLoader) {
+        if (classLoader == null) {
+            throw new IllegalArgumentException("classLoader is null.");
+        }
+
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * Returns the maximum number of statements generated per method. Generated
+     * code is split across methods to stay within the class file's method size
+     * limit.
+     */
+    public int getMaximumStatementCount() {
+        return maximumStatementCount;
+    }
+
+    public void setMaximumStatementCount(int maximumStatementCount) {
+        if (maximumStatementCount < 1) {
+            throw new IllegalArgumentException("maximumStatementCount must be positive.");
+        }
+
+        this.maximumStatementCount = maximumStatementCount;
+    }
+
+    /**
+     * Compiles a BXML document.
+     *
+     * @param inputStream
+     * The BXML source.
+     *
+     * @param className
+     * The fully qualified name of the factory class to generate.
+     *
+     * @param sourceName
+     * The name of the source resource, relative to the factory class, or
+     * <tt>null</tt>. If specified, the generated factory uses the resource's
+     * location as its default location.
+     *
+     * @param writer
+     * The writer to which the generated source will be written.
+     */
+    public void compile(InputStream inputStream, String className, String sourceName,
+        Writer writer) throws IOException, SerializationException {
+        if (inputStream == null) {
+            throw new IllegalArgumentException("inputStream is null.");
+        }
+
+        if (className == null) {
+            throw new IllegalArgumentException("className is null.");
+        }
+
+        if (writer == null) {
+            throw new IllegalArgumentException("writer is null.");
+        }
+
+        node = null;
+        root = null;
+        ids = new HashMap<String, Node>();
+        bindings = new ArrayList<Binding>();
+        fields = new ArrayList<String>();
+        methods = new ArrayList<StringBuilder>();
+        statementCount = 0;
+        nextVariable = 0;
+        nextID = 0;
+
+        XMLInputFactory xmlInputFactory = XMLInputFactory.newInstance();
+        xmlInputFactory.setProperty("javax.xml.stream.isCoalescing", true);
+
+        try {
+            xmlStreamReader = xmlInputFactory.createXMLStreamReader(inputStream);
+
+            try {
+                while (xmlStreamReader.hasNext()) {
+                    int event = xmlStreamReader.next();
+
+                    switch (event) {
+                        case XMLStreamConstants.PROCESSING_INSTRUCTION: {
+                            if (xmlStreamReader.getPITarget().equals(
+                                BXMLSerializer.LANGUAGE_PROCESSING_INSTRUCTION)) {
+                                throw unsupported("Scripting");
+                            }
+
+                            break;
+                        }
+
+                        case XMLStreamConstants.CHARACTERS: {
+                            if (!xmlStreamReader.isWhiteSpace()) {
+                                processCharacters(xmlStreamReader.getText());
+                            }
+
+                            break;
+                        }
+
+                        case XMLStreamConstants.START_ELEMENT: {
+                            processStartElement();
+                            break;
+                        }
+
+                        case XMLStreamConstants.END_ELEMENT: {
+                            processEndElement();
+                            break;
+                        }
+
+                        default: {
+                            break;
+                        }
+                    }
+                }
+            } catch (SerializationException exception) {
+                throw new SerializationException("Line "
+                    + xmlStreamReader.getLocation().getLineNumber() + ": "
+                    + exception.getMessage(), exception);
+            }
+        } catch (XMLStreamException exception) {
+            throw new SerializationException(exception);
+        } finally {
+            xmlStreamReader = null;
+        }
+
+        if (root == null) {
+            throw new SerializationException("Document is empty.");
+        }
+
+        processBindings();
+
+        writeClass(className, sourceName, writer);
+        writer.flush();
+
+        ids = null;
+        bindings = null;
+        fields = null;
+        methods = null;
+    }
+
+    private void processStartElement() throws SerializationException {
+        String namespaceURI = xmlStreamReader.getNamespaceURI();
+        String prefix = xmlStreamReader.getPrefix();
+        if (prefix != null
+            && prefix.length() == 0) {
+            prefix = null;
+        }
+
+        String localName = xmlStreamReader.getLocalName();
+
+        NodeType nodeType;
+        String name;
+        Class<?> propertyClass = null;
+        Class<?> type = null;
+
+        if (prefix != null
+            && prefix.equals(BXMLSerializer.BXML_PREFIX)) {
+            if (node == null) {
+                throw new SerializationException("Invalid root element.");
+            }
+
+            if (localName.equals(BXMLSerializer.INCLUDE_TAG)) {
+                nodeType = NodeType.INCLUDE;
+            } else if (localName.equals(BXMLSerializer.DEFINE_TAG)) {
+                nodeType = NodeType.DEFINE;
+            } else if (localName.equals(BXMLSerializer.REFERENCE_TAG)) {
+                nodeType = NodeType.REFERENCE;
+            } else if (localName.equals(BXMLSerializer.SCRIPT_TAG)) {
+                throw unsupported("Scripting");
+            } else {
+                throw new SerializationException("Invalid element.");
+            }
+
+            name = "<" + prefix + ":" + localName + ">";
+        } else {
+            if (Character.isUpperCase(localName.charAt(0))) {
+                int i = localName.indexOf('.');
+                if (i != -1
+                    && Character.isLowerCase(localName.charAt(i + 1))) {
+                    // The element represents an attached property
+                    nodeType = NodeType.WRITABLE_PROPERTY;
+                    name = localName.substring(i + 1);
+                    propertyClass = getType(namespaceURI + "." + localName.substring(0, i));
+                } else {
+                    // The element represents a typed object
+                    if (namespaceURI == null) {
+                        throw new SerializationException("No XML namespace specified for "
+                            + localName + " tag.");
+                    }
+
+                    nodeType = NodeType.INSTANCE;
+                    name = "<" + ((prefix == null) ? "" : prefix + ":") + localName + ">";
+                    type = getType(namespaceURI + "." + localName.replace('.', '$'));
+
+                    if (!isAccessible(type)) {
+                        throw new SerializationException(type.getName() + " is not public.");
+                    }
+
+                    if ((type.getModifiers() & Modifier.ABSTRACT) != 0) {
+                        throw new SerializationException(type.getName()
+                            + " cannot be instantiated.");
+                    }
+
+                    try {
+                        type.getConstructor();
+                    } catch (NoSuchMethodException exception) {
+                        throw new SerializationException(type.getName()
+                            + " does not have a public no-arg constructor.");
+                    }
+                }
+            } else {
+                // The element represents a property
+                if (prefix != null) {
+                    throw new SerializationException("Property elements cannot have a namespace prefix.");
+                }
+
+                if (node == null) {
+                    throw new SerializationException("Invalid root element.");
+                }
+
+                Class<?> parentType = node.valueType;
+                if (parentType == null) {
+                    throw new SerializationException("\"" + localName
+                        + "\" cannot be set on element " + node.name + ".");
+                }
+
+                if (Dictionary.class.isAssignableFrom(parentType)) {
+                    nodeType = NodeType.WRITABLE_PROPERTY;
+                } else if (!isAccessible(parentType)) {
+                    throw new SerializationException("The type of element " + node.name
+                        + " is not known; property elements cannot be compiled.");
+                } else if (BeanAdapter.isReadOnly(parentType, localName)) {
+                    type = BeanAdapter.getType(parentType, localName);
+                    if (type == null) {
+                        throw new SerializationException("\"" + localName
+                            + "\" is not a valid property of element " + node.name + ".");
+                    }
+
+                    if (ListenerList.class.isAssignableFrom(type)) {
+                        throw unsupported("Scripting");
+                    }
+
+                    nodeType = NodeType.READ_ONLY_PROPERTY;
+                } else {
+                    nodeType = NodeType.WRITABLE_PROPERTY;
+                }
+
+                name = localName;
+            }
+        }
+
+        node = new Node(node, nodeType, name, propertyClass);
+        processAttributes();
+
+        switch (node.type) {
+            case INSTANCE: {
+                node.variable = newVariable(type);
+                node.valueType = type;
+                addStatement(node.variable + " = new " + getTypeName(type) + "();");
+                break;
+            }
+
+            case READ_ONLY_PROPERTY: {
+                String getter;
+                Method getterMethod = BeanAdapter.getGetterMethod(node.parent.valueType, node.name);
+                if (getterMethod == null) {
+                    getter = BeanAdapter.getField(node.parent.valueType, node.name).getName();
+                } else {
+                    getter = getterMethod.getName() + "()";
+                }
+
+                node.variable = newVariable(type);
+                node.valueType = type;
+                addStatement(node.variable + " = " + node.parent.variable + "." + getter + ";");
+                break;
+            }
+
+            case INCLUDE: {
+                String src = node.properties.get(BXMLSerializer.INCLUDE_SRC_ATTRIBUTE);
+                if (src == null) {
+                    throw new SerializationException(BXMLSerializer.INCLUDE_SRC_ATTRIBUTE
+                        + " attribute is required for " + BXMLSerializer.BXML_PREFIX + ":"
+                        + BXMLSerializer.INCLUDE_TAG + " tag.");
+                }
+
+                boolean inline = Boolean.parseBoolean(node.properties.get(
+                    BXMLSerializer.INCLUDE_INLINE_ATTRIBUTE));
+
+                node.variable = newVariable(Object.class);
+                node.valueType = Object.class;
+                addStatement(node.variable + " = include(namespace, location, resources, "
+                    + quote(src) + ", "
+                    + quote(node.properties.get(BXMLSerializer.INCLUDE_RESOURCES_ATTRIBUTE)) + ", "
+                    + quote(node.properties.get(BXMLSerializer.INCLUDE_MIME_TYPE_ATTRIBUTE)) + ", "
+                    + inline + ");");
+                break;
+            }
+
+            case REFERENCE: {
+                String id = node.properties.get(BXMLSerializer.REFERENCE_ID_ATTRIBUTE);
+                if (id == null) {
+                    throw new SerializationException(BXMLSerializer.REFERENCE_ID_ATTRIBUTE
+                        + " attribute is required for " + BXMLSerializer.BXML_PREFIX + ":"
+                        + BXMLSerializer.REFERENCE_TAG + " tag.");
+                }
+
+                Node target = ids.get(id);
+                if (target == null) {
+                    node.variable = newVariable(Object.class);
+                    node.valueType = Object.class;
+                    addStatement(node.variable + " = getReference(namespace, " + quote(id) + ");");
+                } else {
+                    node.variable = target.variable;
+                    node.valueType = target.valueType;
+                }
+
+                break;
+            }
+
+            default: {
+                break;
+            }
+        }
+
+        if (node.id != null) {
+            ids.put(node.id, node);
+            addStatement("namespace.put(" + quote(node.id) + ", " + node.variable + ");");
+
+            if (node.valueType == Object.class) {
+                addStatement("setID(" + node.variable + ", " + quote(node.id) + ");");
+            } else {
+                IDProperty idProperty = node.valueType.getAnnotation(IDProperty.class);
+                if (idProperty != null) {
+                    addProperty(node, idProperty.value(), new Value(node.id));
+                }
+            }
+        }
+
+        if (root == null) {
+            root = node;
+        }
+    }
+
+    private void processAttributes() throws SerializationException {
+        for (int i = 0, n = xmlStreamReader.getAttributeCount(); i < n; i++) {
+            String prefix = xmlStreamReader.getAttributePrefix(i);
+            String localName = xmlStreamReader.getAttributeLocalName(i);
+            String value = xmlStreamReader.getAttributeValue(i);
+
+            if (prefix != null
+                && prefix.equals(BXMLSerializer.BXML_PREFIX)) {
+                if (!localName.equals(BXMLSerializer.ID_ATTRIBUTE)) {
+                    throw new SerializationException(BXMLSerializer.BXML_PREFIX + ":" + localName
+                        + " is not a valid attribute.");
+                }
+
+                if (value.length() == 0
+                    || value.contains(".")) {
+                    throw new SerializationException("\"" + value + "\" is not a valid ID value.");
+                }
+
+                if (ids.containsKey(value)) {
+                    throw new SerializationException("ID " + value + " is already in use.");
+                }
+
+                if (node.type != NodeType.INSTANCE
+                    && node.type != NodeType.INCLUDE) {
+                    throw new SerializationException("An ID cannot be assigned to this element.");
+                }
+
+                node.id = value;
+            } else {
+                boolean property = false;
+
+                switch (node.type) {
+                    case INCLUDE: {
+                        property = (localName.equals(BXMLSerializer.INCLUDE_SRC_ATTRIBUTE)
+                            || localName.equals(BXMLSerializer.INCLUDE_RESOURCES_ATTRIBUTE)
+                            || localName.equals(BXMLSerializer.INCLUDE_MIME_TYPE_ATTRIBUTE)
+                            || localName.equals(BXMLSerializer.INCLUDE_INLINE_ATTRIBUTE));
+                        break;
+                    }
+
+                    case REFERENCE: {
+                        property = (localName.equals(BXMLSerializer.REFERENCE_ID_ATTRIBUTE));
+                        break;
+                    }
+
+                    default: {
+                        break;
+                    }
+                }
+
+                if (property) {
+                    node.properties.put(localName, value);
+                } else {
+                    String name;
+                    Class<?> propertyClass = null;
+
+                    if (Character.isUpperCase(localName.charAt(0))) {
+                        // The attribute represents a static property or listener list
+                        int j = localName.indexOf('.');
+                        name = localName.substring(j + 1);
+
+                        String namespaceURI = xmlStreamReader.getAttributeNamespace(i);
+                        if (namespaceURI == null || namespaceURI.isEmpty()) {
+                            namespaceURI = xmlStreamReader.getNamespaceURI("");
+                        }
+
+                        propertyClass = getType(namespaceURI + "." + localName.substring(0, j));
+
+                        if (propertyClass.isInterface()) {
+                            throw unsupported("Scripting");
+                        }
+                    } else {
+                        name = localName;
+                    }
+
+                    if (value.startsWith(BXMLSerializer.NAMESPACE_BINDING_PREFIX)
+                        && value.endsWith(BXMLSerializer.NAMESPACE_BINDING_SUFFIX)) {
+                        if (propertyClass != null) {
+                            throw new SerializationException("Namespace binding is not supported for static properties.");
+                        }
+
+                        String sourcePath = value.substring(2, value.length() - 1);
+                        if (sourcePath.indexOf(BXMLSerializer.BIND_MAPPING_DELIMITER) != -1) {
+                            throw unsupported("Bind mapping");
+                        }
+
+                        bindings.add(new Binding(node, name, sourcePath));
+                    } else {
+                        // Resolve the value now, as the serializer would
+                        node.attributes.add(new Attribute(name, propertyClass, getValue(value)));
+                    }
+                }
+            }
+        }
+    }
+
+    private void processCharacters(String text) throws SerializationException {
+        switch (node.type) {
+            case INSTANCE: {
+                if (Sequence.class.isAssignableFrom(node.valueType)) {
+                    try {
+                        node.valueType.getMethod("add", String.class);
+                    } catch (NoSuchMethodException exception) {
+                        throw new SerializationException("Text content cannot be added to "
+                            + node.valueType.getName() + ": \"" + text + "\"", exception);
+                    }
+
+                    addStatement(node.variable + ".add(" + quote(text) + ");");
+                }
+
+                break;
+            }
+
+            case WRITABLE_PROPERTY: {
+                node.value = new Value(text);
+                break;
+            }
+
+            default: {
+                throw new SerializationException("Unexpected characters in "
+                    + node.type + " element.");
+            }
+        }
+    }
+
+    private void processEndElement() throws SerializationException {
+        switch (node.type) {
+            case INSTANCE:
+            case INCLUDE:
+            case REFERENCE: {
+                for (Attribute attribute : node.attributes) {
+                    if (attribute.propertyClass == null) {
+                        addProperty(node, attribute.name, attribute.value);
+                    } else {
+                        addStaticProperty(node, attribute.propertyClass, attribute.name,
+                            attribute.value);
+                    }
+                }
+
+                Node parent = node.parent;
+                if (parent != null) {
+                    if (parent.type == NodeType.WRITABLE_PROPERTY) {
+                        parent.value = new Value(node.variable, node.valueType);
+                    } else if (parent.variable != null) {
+                        addChild(parent, node);
+                    }
+                }
+
+                break;
+            }
+
+            case READ_ONLY_PROPERTY: {
+                for (Attribute attribute : node.attributes) {
+                    if (attribute.propertyClass != null) {
+                        throw new SerializationException("Static setters are not supported"
+                            + " for read-only properties.");
+                    }
+
+                    addProperty(node, attribute.name, attribute.value);
+                }
+
+                break;
+            }
+
+            case WRITABLE_PROPERTY: {
+                Value value = (node.value == null) ? new Value("null", null) : node.value;
+
+                if (node.propertyClass == null) {
+                    addProperty(node.parent, node.name, value);
+                } else {
+                    if (node.parent == null
+                        || node.parent.variable == null) {
+                        throw new SerializationException("Element does not have a parent.");
+                    }
+
+                    addStaticProperty(node.parent, node.propertyClass, node.name, value);
+                }
+
+                break;
+            }
+
+            default: {
+                break;
+            }
+        }
+
+        node = node.parent;
+    }
+
+    private void processBindings() {
+        for (Binding binding : bindings) {
+            Node bindingNode = binding.node;
+
+            String targetPath;
+            switch (bindingNode.type) {
+                case INSTANCE:
+                case INCLUDE: {
+                    targetPath = getID(bindingNode) + "." + binding.name;
+                    break;
+                }
+
+                case READ_ONLY_PROPERTY: {
+                    targetPath = getID(bindingNode.parent) + "." + bindingNode.name + "."
+                        + binding.name;
+                    break;
+                }
+
+                default: {
+                    continue;
+                }
+            }
+
+            addStatement("new " + NamespaceBinding.class.getName() + "(namespace, "
+                + quote(binding.sourcePath) + ", " + quote(targetPath) + ").bind();");
+        }
+    }
+
+    private String getID(Node node) {
+        if (node.id == null) {
+            node.id = BXMLSerializer.INTERNAL_ID_PREFIX + Integer.toString(nextID++);
+            addStatement("namespace.put(" + quote(node.id) + ", " + node.variable + ");");
+        }
+
+        return node.id;
+    }
+
+    /**
+     * Resolves an attribute value as its source expression.
+     */
+    private Value getValue(String attributeValue) throws SerializationException {
+        Value value;
+
+        if (attributeValue.length() == 0) {
+            value = new Value(attributeValue);
+        } else {
+            char c = attributeValue.charAt(0);
+            String argument = attributeValue.substring(1);
+
+            if (c == BXMLSerializer.URL_PREFIX) {
+                if (argument.length() == 0) {
+                    throw new SerializationException("Invalid URL resolution argument.");
+                }
+
+                if (argument.charAt(0) == BXMLSerializer.URL_PREFIX) {
+                    value = new Value(argument);
+                } else {
+                    value = new Value("getURL(location, " + quote(argument) + ")",
+                        java.net.URL.class);
+                }
+            } else if (c == BXMLSerializer.RESOURCE_KEY_PREFIX) {
+                if (argument.length() == 0) {
+                    throw new SerializationException("Invalid resource resolution argument.");
+                }
+
+                if (argument.charAt(0) == BXMLSerializer.RESOURCE_KEY_PREFIX) {
+                    value = new Value(argument);
+                } else {
+                    value = new Value("getResource(resources, " + quote(argument) + ")",
+                        Object.class);
+                }
+            } else if (c == BXMLSerializer.OBJECT_REFERENCE_PREFIX) {
+                if (argument.length() == 0) {
+                    throw new SerializationException("Invalid object resolution argument.");
+                }
+
+                if (argument.charAt(0) == BXMLSerializer.OBJECT_REFERENCE_PREFIX) {
+                    value = new Value(argument);
+                } else if (argument.equals(BXMLSerializer.BXML_PREFIX + ":" + null)) {
+                    value = new Value("null", null);
+                } else {
+                    Node target = ids.get(argument);
+                    if (target == null) {
+                        value = new Value("getValue(namespace, " + quote(argument) + ")",
+                            Object.class);
+                    } else {
+                        value = new Value(target.variable, target.valueType);
+                    }
+                }
+            } else {
+                value = new Value(attributeValue);
+            }
+        }
+
+        return value;
+    }
+
+    /**
+     * Generates the assignment of an instance property.
+     */
+    private void addProperty(Node target, String name, Value value) throws SerializationException {
+        Class<?> type = target.valueType;
+
+        if (type == Object.class
+            || !isAccessible(type)) {
+            // The target type is not known until run time
+            addStatement("setProperty(" + target.variable + ", " + quote(name) + ", "
+                + value.expression + ");");
+        } else if (Dictionary.class.isAssignableFrom(type)) {
+            addStatement("((" + Dictionary.class.getName() + "<String, Object>)"
+                + target.variable + ").put(" + quote(name) + ", " + value.expression + ");");
+        } else {
+            Method setterMethod = null;
+            String expression = null;
+            Class<?> expressionType = null;
+
+            if (value.type != null
+                && value.type != Object.class) {
+                setterMethod = BeanAdapter.getSetterMethod(type, name, value.type);
+                expression = value.expression;
+                expressionType = value.type;
+            }
+
+            if (setterMethod == null
+                && value.literal != null) {
+                // Coerce the literal to the property type, as BeanAdapter would
+                Class<?> propertyType = BeanAdapter.getType(type, name);
+                if (propertyType == null) {
+                    throw new SerializationException("\"" + name
+                        + "\" is not a valid property of element " + target.name + ".");
+                }
+
+                setterMethod = BeanAdapter.getSetterMethod(type, name, propertyType);
+
+                if (setterMethod == null) {
+                    Field field = BeanAdapter.getField(type, name);
+                    if (field == null) {
+                        throw new SerializationException("Property \"" + name + "\""
+                            + " does not exist or is read-only.");
+                    }
+
+                    addStatement(target.variable + "." + field.getName() + " = "
+                        + coerce(value.literal, field.getType()) + ";");
+                    return;
+                }
+
+                expressionType = setterMethod.getParameterTypes()[0];
+                expression = coerce(value.literal, expressionType);
+            }
+
+            if (setterMethod == null) {
+                // The value type is not known until run time
+                addStatement("setProperty(" + target.variable + ", " + quote(name) + ", "
+                    + value.expression + ");");
+            } else {
+                addStatement(target.variable + "." + setterMethod.getName() + "("
+                    + cast(expression, expressionType, setterMethod.getParameterTypes()[0]) + ");");
+            }
+        }
+    }
+
+    /**
+     * Generates the assignment of an attached property.
+     */
+    private void addStaticProperty(Node target, Class<?> propertyClass, String name,
+        Value value) throws SerializationException {
+        Class<?> objectType = target.valueType;
+        String propertyName = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+
+        Method setterMethod = null;
+        String expression = null;
+        Class<?> expressionType = null;
+
+        if (objectType != Object.class
+            && isAccessible(propertyClass)) {
+            if (value.type != null
+                && value.type != Object.class) {
+                setterMethod = BXMLSerializer.getStaticSetterMethod(propertyClass, propertyName,
+                    objectType, value.type);
+                expression = value.expression;
+                expressionType = value.type;
+            }
+
+            if (setterMethod == null
+                && value.literal != null) {
+                Method getterMethod = BXMLSerializer.getStaticGetterMethod(propertyClass,
+                    propertyName, objectType);
+
+                if (getterMethod != null) {
+                    setterMethod = BXMLSerializer.getStaticSetterMethod(propertyClass,
+                        propertyName, objectType, getterMethod.getReturnType());
+                }
+
+                if (setterMethod == null) {
+                    throw new SerializationException(propertyClass.getName()
+                        + "." + propertyName + " is not valid static property.");
+                }
+
+                expressionType = setterMethod.getParameterTypes()[1];
+                expression = coerce(value.literal, expressionType);
+            }
+        }
+
+        if (setterMethod == null) {
+            addStatement("setStaticProperty(" + target.variable + ", "
+                + getTypeName(propertyClass) + ".class, " + quote(name) + ", "
+                + value.expression + ");");
+        } else {
+            Class<?>[] parameterTypes = setterMethod.getParameterTypes();
+            addStatement(getTypeName(propertyClass) + "." + setterMethod.getName() + "("
+                + cast(target.variable, objectType, parameterTypes[0]) + ", "
+                + cast(expression, expressionType, parameterTypes[1]) + ");");
+        }
+    }
+
+    /**
+     * Generates the addition of a child to its parent's default property or
+     * sequence.
+     */
+    private void addChild(Node parent, Node child) throws SerializationException {
+        Class<?> parentType = parent.valueType;
+
+        // Only instance types are exact; other values may be subclasses
+        if (parent.type != NodeType.INSTANCE) {
+            addStatement("addChild(" + parent.variable + ", " + child.variable + ");");
+            return;
+        }
+
+        DefaultProperty defaultProperty = parentType.getAnnotation(DefaultProperty.class);
+        String sequenceName = Sequence.class.getName();
+
+        if (defaultProperty == null) {
+            if (!Sequence.class.isAssignableFrom(parentType)) {
+                throw new SerializationException(parentType + " is not a sequence.");
+            }
+
+            addStatement("((" + sequenceName + "<Object>)(Object)" + parent.variable + ").add("
+                + child.variable + ");");
+        } else {
+            String defaultPropertyName = defaultProperty.value();
+            Class<?> defaultPropertyType = BeanAdapter.getType(parentType, defaultPropertyName);
+            Method getterMethod = BeanAdapter.getGetterMethod(parentType, defaultPropertyName);
+
+            if (defaultPropertyType != null
+                && getterMethod != null
+                && Sequence.class.isAssignableFrom(defaultPropertyType)) {
+                addStatement("((" + sequenceName + "<Object>)(Object)" + parent.variable + "."
+                    + getterMethod.getName() + "()).add(" + child.variable + ");");
+            } else if (defaultPropertyType == null
+                || defaultPropertyType == Object.class
+                || defaultPropertyType.isInterface()) {
+                // The default property's value may or may not be a sequence
+                addStatement("addChild(" + parent.variable + ", " + child.variable + ");");
+            } else {
+                addProperty(parent, defaultPropertyName, new Value(child.variable, child.valueType));
+            }
+        }
+    }
+
+    private Class<?> getType(String className) throws SerializationException {
+        try {
+            return Class.forName(className, false, classLoader);
+        } catch (ClassNotFoundException exception) {
+            throw new SerializationException(exception);
+        } catch (LinkageError error) {
+            throw new SerializationException(error.toString());
+        }
+    }
+
+    private String newVariable(Class<?> type) {
+        String variable = "object" + nextVariable++;
+        fields.add(getTypeName(type) + " " + variable);
+
+        return variable;
+    }
+
+    private void addStatement(String statement) {
+        if (methods.getLength() == 0
+            || statementCount == maximumStatementCount) {
+            methods.add(new StringBuilder());
+            statementCount = 0;
+        }
+
+        StringBuilder method = methods.get(methods.getLength() - 1);
+        method.append(INDENT + INDENT + INDENT + statement + "\n");
+        statementCount++;
+    }
+
+    private void writeClass(String className, String sourceName, Writer writer)
+        throws IOException {
+        String packageName = null;
+        String simpleName = className;
+
+        int i = className.lastIndexOf('.');
+        if (i != -1) {
+            packageName = className.substring(0, i);
+            simpleName = className.substring(i + 1);
+        }
+
+        String mapName = org.apache.pivot.collections.Map.class.getName();
+        String urlName = java.net.URL.class.getName();
+        String resourcesName = org.apache.pivot.util.Resources.class.getName();
+        String throwsClause = " throws java.io.IOException, "
+            + SerializationException.class.getName();
+
+        StringBuilder source = new StringBuilder();
+        source.append("// Generated by " + BXMLCompiler.class.getName()
+            + ((sourceName == null) ? "" : " from " + sourceName) + "; do not edit.\n");
+
+        if (packageName != null) {
+            source.append("package " + packageName + ";\n");
+        }
+
+        source.append("\n");
+        source.append("public class " + simpleName + " extends " + BXMLFactory.class.getName()
+            + " {\n");
+
+        // Builder, holding the objects of a single hierarchy
+        source.append(INDENT + "@SuppressWarnings(\"unchecked\")\n");
+        source.append(INDENT + "private static class Builder {\n");
+        source.append(INDENT + INDENT + "private final " + mapName
+            + "<String, Object> namespace;\n");
+        source.append(INDENT + INDENT + "private final " + urlName + " location;\n");
+        source.append(INDENT + INDENT + "private final " + resourcesName + " resources;\n\n");
+
+        for (String field : fields) {
+            source.append(INDENT + INDENT + "private " + field + " = null;\n");
+        }
+
+        source.append("\n");
+        source.append(INDENT + INDENT + "public Builder(" + mapName + "<String, Object> namespace, "
+            + urlName + " location, " + resourcesName + " resources) {\n");
+        source.append(INDENT + INDENT + INDENT + "this.namespace = namespace;\n");
+        source.append(INDENT + INDENT + INDENT + "this.location = location;\n");
+        source.append(INDENT + INDENT + INDENT + "this.resources = resources;\n");
+        source.append(INDENT + INDENT + "}\n");
+
+        for (int j = 0, n = methods.getLength(); j < n; j++) {
+            source.append("\n");
+            source.append(INDENT + INDENT + "public void build" + j + "()" + throwsClause + " {\n");
+            source.append(methods.get(j));
+            source.append(INDENT + INDENT + "}\n");
+        }
+
+        source.append(INDENT + "}\n\n");
+
+        // Factory methods
+        source.append(INDENT + "@Override\n");
+        source.append(INDENT + "protected Object build(" + mapName + "<String, Object> namespace, "
+            + urlName + " location, " + resourcesName + " resources)" + throwsClause + " {\n");
+        source.append(INDENT + INDENT
+            + "Builder builder = new Builder(namespace, location, resources);\n");
+
+        for (int j = 0, n = methods.getLength(); j < n; j++) {
+            source.append(INDENT + INDENT + "builder.build" + j + "();\n");
+        }
+
+        source.append(INDENT + INDENT + "return builder." + root.variable + ";\n");
+        source.append(INDENT + "}\n");
+
+        if (sourceName != null) {
+            source.append("\n");
+            source.append(INDENT + "@Override\n");
+            source.append(INDENT + "protected " + urlName + " getDefaultLocation() {\n");
+            source.append(INDENT + INDENT + "return " + simpleName + ".class.getResource("
+                + quote(sourceName) + ");\n");
+            source.append(INDENT + "}\n");
+        }
+
+        source.append("}\n");
+
+        writer.write(source.toString());
+    }
+
+    private static SerializationException unsupported(String feature) {
+        return new SerializationException(feature + " is not supported by "
+            + BXMLCompiler.class.getSimpleName() + "; use " + BXMLSerializer.class.getSimpleName()
+            + " to load this document.");
+    }
+
+    private static boolean isAccessible(Class<?> type) {
+        Class<?> typeLocal = type;
+        while (typeLocal != null) {
+            if ((typeLocal.getModifiers() & Modifier.PUBLIC) == 0) {
+                return false;
+            }
+
+            typeLocal = typeLocal.getEnclosingClass();
+        }
+
+        return true;
+    }
+
+    /**
+     * Casts an expression to a parameter type, unless it already has that
+     * type; an exactly typed argument always selects the intended overload.
+     */
+    private static String cast(String expression, Class<?> expressionType, Class<?> type) {
+        return (expressionType == type) ?
+            expression : "((" + getTypeName(type) + ")" + expression + ")";
+    }
+
+    private static String getTypeName(Class<?> type) {
+        String typeName;
+        if (type.isArray()) {
+            typeName = getTypeName(type.getComponentType()) + "[]";
+        } else {
+            typeName = type.getName().replace('$', '.');
+        }
+
+        return typeName;
+    }
+
+    /**
+     * Returns an expression that evaluates to a string literal coerced to a
+     * given type, as {@link BeanAdapter#coerce(Object, Class)} would. The
+     * expression has exactly the given type.
+     */
+    private static String coerce(String literal, Class<?> type) throws SerializationException {
+        String expression;
+
+        try {
+            if (type == String.class) {
+                expression = quote(literal);
+            } else if (type == Object.class) {
+                expression = "((Object)" + quote(literal) + ")";
+            } else if (type == Boolean.class
+                || type == Boolean.TYPE) {
+                expression = Boolean.toString(Boolean.parseBoolean(literal));
+            } else if ((type == Character.class
+                || type == Character.TYPE)
+                && literal.length() > 0) {
+                // An empty value is left to BeanAdapter below, as the
+                // serializer would
+                expression = "'" + escape(literal.substring(0, 1), '\'') + "'";
+            } else if (type == Byte.class
+                || type == Byte.TYPE) {
+                expression = "((byte)" + Byte.parseByte(literal) + ")";
+            } else if (type == Short.class
+                || type == Short.TYPE) {
+                expression = "((short)" + Short.parseShort(literal) + ")";
+            } else if (type == Integer.class
+                || type == Integer.TYPE) {
+                expression = "(" + Integer.parseInt(literal) + ")";
+            } else if (type == Long.class
+                || type == Long.TYPE) {
+                expression = "(" + Long.parseLong(literal) + "L)";
+            } else if (type == Float.class
+                || type == Float.TYPE) {
+                float value = Float.parseFloat(literal);
+                if (Float.isNaN(value)
+                    || Float.isInfinite(value)) {
+                    expression = "Float.intBitsToFloat(" + Float.floatToIntBits(value) + ")";
+                } else {
+                    expression = "(" + Float.toString(value) + "f)";
+                }
+            } else if (type == Double.class
+                || type == Double.TYPE) {
+                double value = Double.parseDouble(literal);
+                if (Double.isNaN(value)
+                    || Double.isInfinite(value)) {
+                    expression = "Double.longBitsToDouble(" + Double.doubleToLongBits(value) + "L)";
+                } else {
+                    expression = "(" + Double.toString(value) + "d)";
+                }
+            } else if (type.isEnum()
+                && isAccessible(type)) {
+                String constant = literal.toUpperCase(Locale.ENGLISH);
+                boolean found = false;
+                for (Object enumConstant : type.getEnumConstants()) {
+                    if (((Enum<?>)enumConstant).name().equals(constant)) {
+                        found = true;
+                        break;
+                    }
+                }
+
+                if (!found) {
+                    throw new SerializationException("\"" + literal + "\" is not a valid "
+                        + type.getName() + " value.");
+                }
+
+                expression = getTypeName(type) + "." + constant;
+            } else {
+                expression = BeanAdapter.class.getName() + ".coerce(" + quote(literal) + ", "
+                    + getTypeName(type) + ".class)";
+            }
+        } catch (NumberFormatException exception) {
+            throw new SerializationException("\"" + literal + "\" is not a valid "
+                + type.getName() + " value.");
+        }
+
+        // Box wrapper types explicitly
+        if (type == Boolean.class
+            || type == Character.class
+            || type == Byte.class
+            || type == Short.class
+            || type == Integer.class
+            || type == Long.class
+            || type == Float.class
+            || type == Double.class) {
+            expression = getTypeName(type) + ".valueOf(" + expression + ")";
+        }
+
+        return expression;
+    }
+
+    private static String quote(String value) {
+        return (value == null) ? "null" : "\"" + escape(value, '"') + "\"";
+    }
+
+    private static String escape(String value, char quote) {
+        StringBuilder builder = new StringBuilder(value.length());
+
+        for (int i = 0, n = value.length(); i < n; i++) {
+            char c = value.charAt(i);
+
+            switch (c) {
+                case '\\': {
+                    builder.append("\\\\");
+                    break;
+                }
+
+                case '\n': {
+                    builder.append("\\n");
+                    break;
+                }
+
+                case '\r': {
+                    builder.append("\\r");
+                    break;
+                }
+
+                case '\t': {
+                    builder.append("\\t");
+                    break;
+                }
+
+                default: {
+                    if (c == quote) {
+                        builder.append('\\');
+                        builder.append(c);
+                    } else if (c < 0x20 || c > 0x7e) {
+                        builder.append(String.format("\\u%04x", (int)c));
+                    } else {
+                        builder.append(c);
+                    }
+
+                    break;
+                }
+            }
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Compiles a BXML file.
+     *
+     * @param args
+     * The path of the BXML file, the fully qualified name of the factory class
+     * to generate, and the source output directory.
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length != 3) {
+            System.err.println("Usage: " + BXMLCompiler.class.getName()
+                + " <source> <class name> <output directory>");
+            System.exit(1);
+        }
+
+        File sourceFile = new File(args[0]);
+        String className = args[1];
+
+        File outputFile = new File(args[2], className.replace('.', File.separatorChar) + ".java");
+        File outputDirectory = outputFile.getParentFile();
+        if (!outputDirectory.isDirectory()
+            && !outputDirectory.mkdirs()) {
+            throw new IOException("Unable to create " + outputDirectory + ".");
+        }
+
+        BXMLCompiler bxmlCompiler = new BXMLCompiler();
+
+        InputStream inputStream = new BufferedInputStream(new FileInputStream(sourceFile));
+        try {
+            Writer writer = new OutputStreamWriter(new FileOutputStream(outputFile), "UTF-8");
+            try {
+                bxmlCompiler.compile(inputStream, className, sourceFile.getName(), writer);
+            } finally {
+                writer.close();
+            }
+        } finally {
+            inputStream.close();
+        }
+    }
+}
@@ -0,0 +1,321 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pivot.beans;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+
+import org.apache.pivot.collections.Dictionary;
+import org.apache.pivot.collections.HashMap;
+import org.apache.pivot.collections.Map;
+import org.apache.pivot.json.JSON;
+import org.apache.pivot.serialization.SerializationException;
+import org.apache.pivot.serialization.Serializer;
+import org.apache.pivot.util.Resources;
+
+/**
+ * Base class for object hierarchy factories generated from BXML by
+ * {@link BXMLCompiler}. A factory builds the same hierarchy as
+ * {@link BXMLSerializer} would for the source document, using direct
+ * constructor and setter calls, and then applies the namespace to a
+ * {@link Bindable} root in the same way.
+ */
+public abstract class BXMLFactory {
+    /**
+     * Creates a new object hierarchy, using the default location and no
+     * resources.
+     *
+     * @see #newInstance(Map, URL, Resources)
+     */
+    public Object newInstance() throws IOException, SerializationException {
+        return newInstance(getDefaultLocation(), null);
+    }
+
+    /**
+     * Creates a new object hierarchy, using the default location.
+     *
+     * @param resources
+     * The resources that will be used to localize the hierarchy.
+     *
+     * @see #newInstance(Map, URL, Resources)
+     */
+    public Object newInstance(Resources resources) throws IOException, SerializationException {
+        return newInstance(getDefaultLocation(), resources);
+    }
+
+    /**
+     * Creates a new object hierarchy in a new namespace.
+     *
+     * @param location
+     * The location against which relative URLs and includes are resolved.
+     *
+     * @param resources
+     * The resources that will be used to localize the hierarchy.
+     *
+     * @see #newInstance(Map, URL, Resources)
+     */
+    public Object newInstance(URL location, Resources resources)
+        throws IOException, SerializationException {
+        return newInstance(new HashMap<String, Object>(), location, resources);
+    }
+
+    /**
+     * Creates a new object hierarchy.
+     *
+     * @param namespace
+     * The namespace into which identified objects will be placed.
+     *
+     * @param location
+     * The location against which relative URLs and includes are resolved. May
+     * be <tt>null</tt>.
+     *
+     * @param resources
+     * The resources that will be used to localize the hierarchy. May be
+     * <tt>null</tt>.
+     *
+     * @return
+     * The root of the object hierarchy.
+     */
+    public Object newInstance(Map<String, Object> namespace, URL location, Resources resources)
+        throws IOException, SerializationException {
+        if (namespace == null) {
+            throw new IllegalArgumentException("namespace is null.");
+        }
+
+        Object root = build(namespace, location, resources);
+
+        // Bind the root to the namespace
+        if (root instanceof Bindable) {
+            BXMLSerializer bxmlSerializer = new BXMLSerializer();
+            bxmlSerializer.setNamespace(namespace);
+
+            Class<?> type = root.getClass();
+            while (Bindable.class.isAssignableFrom(type)) {
+                bxmlSerializer.bind(root, type);
+                type = type.getSuperclass();
+            }
+
+            Bindable bindable = (Bindable)root;
+            bindable.initialize(namespace, location, resources);
+        }
+
+        return root;
+    }
+
+    /**
+     * Returns the location used by {@link #newInstance()}; by default, the
+     * location of the source document, if it is available on the class path.
+     */
+    protected URL getDefaultLocation() {
+        return null;
+    }
+
+    /**
+     * Builds the object hierarchy.
+     *
+     * @param namespace
+     * @param location
+     * @param resources
+     *
+     * @return
+     * The root of the object hierarchy.
+     */
+    protected abstract Object build(Map<String, Object> namespace, URL location,
+        Resources resources) throws IOException, SerializationException;
+
+    /**
+     * Resolves a URL attribute value.
+     */
+    protected static URL getURL(URL location, String path) throws SerializationException {
+        if (location == null) {
+            throw new IllegalStateException("Base location is undefined.");
+        }
+
+        try {
+            return new URL(location, path);
+        } catch (MalformedURLException exception) {
+            throw new SerializationException(exception);
+        }
+    }
+
+    /**
+     * Resolves a resource attribute value. If the resource is not defined, the
+     * key itself is returned.
+     */
+    protected static Object getResource(Resources resources, String key) {
+        Object value;
+        if (resources != null
+            && JSON.containsKey(resources, key)) {
+            value = JSON.get(resources, key);
+        } else {
+            value = key;
+        }
+
+        return value;
+    }
+
+    /**
+     * Resolves an object reference attribute value.
+     */
+    protected static Object getValue(Map<String, Object> namespace, String path)
+        throws SerializationException {
+        if (!JSON.containsKey(namespace, path)) {
+            throw new SerializationException("Value \"" + path + "\" is not defined.");
+        }
+
+        return JSON.get(namespace, path);
+    }
+
+    /**
+     * Resolves a <tt>bxml:reference</tt> element.
+     */
+    protected static Object getReference(Map<String, Object> namespace, String id)
+        throws SerializationException {
+        if (!namespace.containsKey(id)) {
+            throw new SerializationException("A value with ID \"" + id + "\" does not exist.");
+        }
+
+        return namespace.get(id);
+    }
+
+    /**
+     * Sets a property whose target or value type is not known until run time.
+     */
+    @SuppressWarnings("unchecked")
+    protected static void setProperty(Object object, String name, Object value) {
+        Dictionary<String, Object> dictionary;
+        if (object instanceof Dictionary<?, ?>) {
+            dictionary = (Dictionary<String, Object>)object;
+        } else {
+            dictionary = new BeanAdapter(object);
+        }
+
+        dictionary.put(name, value);
+    }
+
+    /**
+     * Sets an attached property whose value type is not known until run time.
+     */
+    protected static void setStaticProperty(Object object, Class<?> propertyClass,
+        String name, Object value) throws SerializationException {
+        BXMLSerializer.setStaticProperty(object, propertyClass, name, value);
+    }
+
+    /**
+     * Adds a child whose parent type is not known until run time.
+     */
+    protected static void addChild(Object parent, Object child) throws SerializationException {
+        BXMLSerializer.addChild(parent, child);
+    }
+
+    /**
+     * Applies an ID to an object whose type is not known until run time.
+     */
+    protected static void setID(Object object, String id) {
+        IDProperty idProperty = object.getClass().getAnnotation(IDProperty.class);
+
+        if (idProperty != null) {
+            BeanAdapter beanAdapter = new BeanAdapter(object);
+            beanAdapter.put(idProperty.value(), id);
+        }
+    }
+
+    /**
+     * Loads a <tt>bxml:include</tt> element.
+     */
+    protected static Object include(Map<String, Object> namespace, URL location,
+        Resources resources, String src, String resourcesName, String mimeType, boolean inline)
+        throws IOException, SerializationException {
+        String srcUpdated = src;
+        if (srcUpdated.charAt(0) == BXMLSerializer.OBJECT_REFERENCE_PREFIX) {
+            srcUpdated = srcUpdated.substring(1);
+            if (srcUpdated.length() > 0) {
+                srcUpdated = (String)getValue(namespace, srcUpdated);
+            }
+        }
+
+        Resources resourcesLocal = resources;
+        if (resourcesName != null) {
+            resourcesLocal = new Resources(resourcesLocal, resourcesName);
+        }
+
+        String mimeTypeUpdated = mimeType;
+        if (mimeTypeUpdated == null) {
+            int i = srcUpdated.lastIndexOf(".");
+            if (i != -1) {
+                mimeTypeUpdated = BXMLSerializer.getFileExtensions().get(srcUpdated.substring(i + 1));
+            }
+        }
+
+        if (mimeTypeUpdated == null) {
+            throw new SerializationException("Cannot determine MIME type of include \""
+                + srcUpdated + "\".");
+        }
+
+        Class<? extends Serializer<?>> serializerClass =
+            BXMLSerializer.getMimeTypes().get(mimeTypeUpdated);
+
+        if (serializerClass == null) {
+            throw new SerializationException("No serializer associated with MIME type "
+                + mimeTypeUpdated + ".");
+        }
+
+        Serializer<?> serializer;
+        try {
+            serializer = serializerClass.newInstance();
+        } catch (InstantiationException exception) {
+            throw new SerializationException(exception);
+        } catch (IllegalAccessException exception) {
+            throw new SerializationException(exception);
+        }
+
+        URL locationLocal;
+        if (srcUpdated.charAt(0) == '/') {
+            ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+            locationLocal = classLoader.getResource(srcUpdated.substring(1));
+        } else {
+            locationLocal = new URL(location, srcUpdated);
+        }
+
+        if (serializer instanceof Resolvable) {
+            Resolvable resolvable = (Resolvable)serializer;
+            if (inline) {
+                resolvable.setNamespace(namespace);
+            }
+
+            resolvable.setLocation(locationLocal);
+            resolvable.setResources(resourcesLocal);
+        }
+
+        Object value;
+        if (serializer instanceof BXMLSerializer) {
+            value = ((BXMLSerializer)serializer).readObject(locationLocal, resourcesLocal);
+        } else {
+            InputStream inputStream = new BufferedInputStream(locationLocal.openStream());
+            try {
+                value = serializer.readObject(inputStream);
+            } finally {
+                inputStream.close();
+            }
+        }
+
+        return value;
+    }
+}
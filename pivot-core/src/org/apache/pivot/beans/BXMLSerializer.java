@@ -22,6 +22,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
@@ -31,14 +33,18 @@ import java.lang.reflect.Proxy;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.Collection;
+import java.util.WeakHashMap;
 
 import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
 import javax.script.Invocable;
 import javax.script.ScriptContext;
 import javax.script.ScriptEngine;
 import javax.script.ScriptEngineManager;
 import javax.script.ScriptException;
 import javax.script.SimpleBindings;
+import javax.script.SimpleScriptContext;
 import javax.xml.stream.Location;
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamConstants;
@@ -114,13 +120,19 @@ public class BXMLSerializer implements Serializer<Object>, Resolvable {
 
     private static class AttributeInvocationHandler implements InvocationHandler {
         private ScriptEngine scriptEngine;
+        private HashMap<String, CompiledScript> compiledScripts;
+        private Bindings globalBindings;
         private String event;
         private String script;
 
         private static final String ARGUMENTS_KEY = "arguments";
 
-        public AttributeInvocationHandler(ScriptEngine scriptEngine, String event, String script) {
+        public AttributeInvocationHandler(ScriptEngine scriptEngine,
+            HashMap<String, CompiledScript> compiledScripts, Bindings globalBindings,
+            String event, String script) {
             this.scriptEngine = scriptEngine;
+            this.compiledScripts = compiledScripts;
+            this.globalBindings = globalBindings;
             this.event = event;
             this.script = script;
         }
@@ -132,11 +144,22 @@ public class BXMLSerializer implements Serializer<Object>, Resolvable {
 
             String methodName = method.getName();
             if (methodName.equals(event)) {
+                SimpleBindings bindings = new SimpleBindings();
+                bindings.put(ARGUMENTS_KEY, args);
+
+                // Evaluate in a private context so that handlers can share
+                // an engine
+                ScriptContext scriptContext = new SimpleScriptContext();
+                scriptContext.setBindings(bindings, ScriptContext.ENGINE_SCOPE);
+                scriptContext.setBindings(globalBindings, ScriptContext.GLOBAL_SCOPE);
+
                 try {
-                    SimpleBindings bindings = new SimpleBindings();
-                    bindings.put(ARGUMENTS_KEY, args);
-                    scriptEngine.setBindings(bindings, ScriptContext.ENGINE_SCOPE);
-                    scriptEngine.eval(script);
+                    CompiledScript compiledScript = getCompiledScript();
+                    if (compiledScript == null) {
+                        scriptEngine.eval(script, scriptContext);
+                    } else {
+                        compiledScript.eval(scriptContext);
+                    }
                 } catch (ScriptException exception) {
                     System.err.println(exception);
                     System.err.println(script);
@@ -153,6 +176,28 @@ public class BXMLSerializer implements Serializer<Object>, Resolvable {
 
             return result;
         }
+
+        /**
+         * Returns the compiled form of the script, or <tt>null</tt> if the
+         * engine does not support compilation. Compiled scripts are shared by
+         * the handlers that use the same engine.
+         */
+        private CompiledScript getCompiledScript() throws ScriptException {
+            if (!(scriptEngine instanceof Compilable)) {
+                return null;
+            }
+
+            synchronized (compiledScripts) {
+                CompiledScript compiledScript = compiledScripts.get(script);
+
+                if (compiledScript == null) {
+                    compiledScript = ((Compilable)scriptEngine).compile(script);
+                    compiledScripts.put(script, compiledScript);
+                }
+
+                return compiledScript;
+            }
+        }
     }
 
     private static class ElementInvocationHandler implements InvocationHandler {
@@ -230,8 +275,99 @@ public class BXMLSerializer implements Serializer<Object>, Resolvable {
         }
     }
 
+    // Exposes the namespace to script engines
+    private class NamespaceBindings implements Bindings {
+        @Override
+        public Object get(Object key) {
+            return namespace.get(key.toString());
+        }
+
+        @Override
+        public Object put(String key, Object value) {
+            return namespace.put(key, value);
+        }
+
+        @Override
+        public void putAll(java.util.Map<? extends String, ? extends Object> map) {
+            for (String key : map.keySet()) {
+                put(key, map.get(key));
+            }
+        }
+
+        @Override
+        public Object remove(Object key) {
+            return namespace.remove(key.toString());
+        }
+
+        @Override
+        public void clear() {
+            namespace.clear();
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return namespace.containsKey(key.toString());
+        }
+
+        @Override
+        public boolean containsValue(Object value) {
+            boolean contains = false;
+            for (String key : namespace) {
+                if (namespace.get(key).equals(value)) {
+                    contains = true;
+                    break;
+                }
+            }
+
+            return contains;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return namespace.isEmpty();
+        }
+
+        @Override
+        public java.util.Set<String> keySet() {
+            java.util.HashSet<String> keySet = new java.util.HashSet<String>();
+            for (String key : namespace) {
+                keySet.add(key);
+            }
+
+            return keySet;
+        }
+
+        @Override
+        public java.util.Set<Entry<String, Object>> entrySet() {
+            java.util.HashMap<String, Object> hashMap = new java.util.HashMap<String, Object>();
+            for (String key : namespace) {
+                hashMap.put(key, namespace.get(key));
+            }
+
+            return hashMap.entrySet();
+        }
+
+        @Override
+        public int size() {
+            return namespace.getCount();
+        }
+
+        @Override
+        public Collection<Object> values() {
+            java.util.ArrayList<Object> values = new java.util.ArrayList<Object>();
+            for (String key : namespace) {
+                values.add(namespace.get(key));
+            }
+
+            return values;
+        }
+    }
+
     private XMLInputFactory xmlInputFactory;
-    private ScriptEngineManager scriptEngineManager;
+    private NamespaceBindings namespaceBindings = null;
+    private HashMap<String, ScriptEngine> attributeScriptEngines = new HashMap<String, ScriptEngine>();
+    private HashMap<String, HashMap<String, CompiledScript>> attributeCompiledScripts =
+        new HashMap<String, HashMap<String, CompiledScript>>();
 
     private Map<String, Object> namespace = new HashMap<String, Object>();
     private URL location = null;
@@ -247,6 +383,12 @@ public class BXMLSerializer implements Serializer<Object>, Resolvable {
     private LinkedList<Attribute> namespaceBindingAttributes = new LinkedList<Attribute>();
 
     private static HashMap<String, String> fileExtensions = new HashMap<String, String>();
+    private static ScriptEngineManager scriptEngineRegistry = null;
+    private static volatile boolean templateCacheEnabled = false;
+    private static final java.util.HashMap<String, SoftReference<BXMLTemplate>> templates =
+        new java.util.HashMap<String, SoftReference<BXMLTemplate>>();
+    private static final WeakHashMap<ClassLoader, java.util.HashMap<String, WeakReference<Class<?>>>> types =
+        new WeakHashMap<ClassLoader, java.util.HashMap<String, WeakReference<Class<?>>>>();
     private static HashMap<String, Class<? extends Serializer<?>>> mimeTypes =
         new HashMap<String, Class<? extends Serializer<?>>>();
 
@@ -300,96 +442,6 @@ public class BXMLSerializer implements Serializer<Object>, Resolvable {
     }
 
     public BXMLSerializer() {
-        xmlInputFactory = XMLInputFactory.newInstance();
-        xmlInputFactory.setProperty("javax.xml.stream.isCoalescing", true);
-
-        scriptEngineManager = new javax.script.ScriptEngineManager();
-        scriptEngineManager.setBindings(new Bindings() {
-            @Override
-            public Object get(Object key) {
-                return namespace.get(key.toString());
-            }
-
-            @Override
-            public Object put(String key, Object value) {
-                return namespace.put(key, value);
-            }
-
-            @Override
-            public void putAll(java.util.Map<? extends String, ? extends Object> map) {
-                for (String key : map.keySet()) {
-                    put(key, map.get(key));
-                }
-            }
-
-            @Override
-            public Object remove(Object key) {
-                return namespace.remove(key.toString());
-            }
-
-            @Override
-            public void clear() {
-                namespace.clear();
-            }
-
-            @Override
-            public boolean containsKey(Object key) {
-                return namespace.containsKey(key.toString());
-            }
-
-            @Override
-            public boolean containsValue(Object value) {
-                boolean contains = false;
-                for (String key : namespace) {
-                    if (namespace.get(key).equals(value)) {
-                        contains = true;
-                        break;
-                    }
-                }
-
-                return contains;
-            }
-
-            @Override
-            public boolean isEmpty() {
-                return namespace.isEmpty();
-            }
-
-            @Override
-            public java.util.Set<String> keySet() {
-                java.util.HashSet<String> keySet = new java.util.HashSet<String>();
-                for (String key : namespace) {
-                    keySet.add(key);
-                }
-
-                return keySet;
-            }
-
-            @Override
-            public java.util.Set<Entry<String, Object>> entrySet() {
-                java.util.HashMap<String, Object> hashMap = new java.util.HashMap<String, Object>();
-                for (String key : namespace) {
-                    hashMap.put(key, namespace.get(key));
-                }
-
-                return hashMap.entrySet();
-            }
-
-            @Override
-            public int size() {
-                return namespace.getCount();
-            }
-
-            @Override
-            public Collection<Object> values() {
-                java.util.ArrayList<Object> values = new java.util.ArrayList<Object>();
-                for (String key : namespace) {
-                    values.add(namespace.get(key));
-                }
-
-                return values;
-            }
-        });
     }
 
     /** DO NOT USE. see https://issues.apache.org/jira/browse/PIVOT-742 */
@@ -417,13 +469,72 @@ public class BXMLSerializer implements Serializer<Object>, Resolvable {
             throw new IllegalArgumentException("inputStream is null.");
         }
 
+        XMLStreamReader xmlStreamReaderLocal;
+        try {
+            xmlStreamReaderLocal = getXMLInputFactory().createXMLStreamReader(inputStream);
+        } catch (XMLStreamException exception) {
+            throw new SerializationException(exception);
+        }
+
+        return readObject(xmlStreamReaderLocal);
+    }
+
+    private Bindings getBindings() {
+        if (namespaceBindings == null) {
+            namespaceBindings = new NamespaceBindings();
+        }
+
+        return namespaceBindings;
+    }
+
+    private ScriptEngine newScriptEngineByName(String name) {
+        ScriptEngineManager scriptEngineRegistryLocal = getScriptEngineRegistry();
+
+        ScriptEngine scriptEngine;
+        synchronized (scriptEngineRegistryLocal) {
+            scriptEngine = scriptEngineRegistryLocal.getEngineByName(name);
+        }
+
+        if (scriptEngine != null) {
+            scriptEngine.setBindings(getBindings(), ScriptContext.GLOBAL_SCOPE);
+        }
+
+        return scriptEngine;
+    }
+
+    private ScriptEngine newScriptEngineByExtension(String extension) {
+        ScriptEngineManager scriptEngineRegistryLocal = getScriptEngineRegistry();
+
+        ScriptEngine scriptEngine;
+        synchronized (scriptEngineRegistryLocal) {
+            scriptEngine = scriptEngineRegistryLocal.getEngineByExtension(extension);
+        }
+
+        if (scriptEngine != null) {
+            scriptEngine.setBindings(getBindings(), ScriptContext.GLOBAL_SCOPE);
+        }
+
+        return scriptEngine;
+    }
+
+    private XMLInputFactory getXMLInputFactory() {
+        if (xmlInputFactory == null) {
+            xmlInputFactory = XMLInputFactory.newInstance();
+            xmlInputFactory.setProperty("javax.xml.stream.isCoalescing", true);
+        }
+
+        return xmlInputFactory;
+    }
+
+    private Object readObject(XMLStreamReader xmlStreamReaderArgument)
+        throws IOException, SerializationException {
         root = null;
         language = null;
 
-        // Parse the XML stream
+        // Process the XML events
         try {
             try {
-                xmlStreamReader = xmlInputFactory.createXMLStreamReader(inputStream);
+                xmlStreamReader = xmlStreamReaderArgument;
 
                 while (xmlStreamReader.hasNext()) {
                     int event = xmlStreamReader.next();
@@ -482,7 +593,7 @@ public class BXMLSerializer implements Serializer<Object>, Resolvable {
             } else {
                 String bindFunction = sourcePath.substring(0, i);
                 sourcePath = sourcePath.substring(i + 1);
-                bindMapping = new ScriptBindMapping(scriptEngineManager.getEngineByName(language), bindFunction);
+                bindMapping = new ScriptBindMapping(newScriptEngineByName(language), bindFunction);
             }
 
             switch (elementLocal.type) {
@@ -627,13 +738,17 @@ public class BXMLSerializer implements Serializer<Object>, Resolvable {
         this.location = locationArgument;
         this.resources = resourcesArgument;
 
-        InputStream inputStream = new BufferedInputStream(locationArgument.openStream());
-
         Object object;
-        try {
-            object = readObject(inputStream);
-        } finally {
-            inputStream.close();
+        if (templateCacheEnabled) {
+            object = readObject(getTemplate(locationArgument).createXMLStreamReader());
+        } else {
+            InputStream inputStream = new BufferedInputStream(locationArgument.openStream());
+
+            try {
+                object = readObject(inputStream);
+            } finally {
+                inputStream.close();
+            }
         }
 
         this.location = null;
@@ -756,7 +871,7 @@ public class BXMLSerializer implements Serializer<Object>, Resolvable {
 
                     String propertyClassName = namespaceURI + "." + localName.substring(0, i);
                     try {
-                        propertyClass = Class.forName(propertyClassName, true, classLoader);
+                        propertyClass = getType(propertyClassName, classLoader);
                     } catch (Throwable exception) {
                         throw new SerializationException(exception);
                     }
@@ -773,7 +888,7 @@ public class BXMLSerializer implements Serializer<Object>, Resolvable {
                     String className = namespaceURI + "." + localName.replace('.', '$');
 
                     try {
-                        Class<?> type = Class.forName(className, true, classLoader);
+                        Class<?> type = getType(className, classLoader);
                         value = newTypedObject(type);
                     } catch (Throwable exception) {
                         throw new SerializationException(exception);
@@ -905,11 +1020,17 @@ public class BXMLSerializer implements Serializer<Object>, Resolvable {
             }
 
             // Read the object
-            InputStream inputStream = new BufferedInputStream(locationLocal.openStream());
-            try {
-                element.value = serializer.readObject(inputStream);
-            } finally {
-                inputStream.close();
+            if (templateCacheEnabled
+                && serializer instanceof BXMLSerializer) {
+                element.value = ((BXMLSerializer)serializer).readObject(locationLocal,
+                    resourcesLocal);
+            } else {
+                InputStream inputStream = new BufferedInputStream(locationLocal.openStream());
+                try {
+                    element.value = serializer.readObject(inputStream);
+                } finally {
+                    inputStream.close();
+                }
             }
         } else if (element.type == Element.Type.REFERENCE) {
             // Dereference the value
@@ -1019,7 +1140,7 @@ public class BXMLSerializer implements Serializer<Object>, Resolvable {
 
                         String propertyClassName = namespaceURI + "." + localName.substring(0, j);
                         try {
-                            propertyClass = Class.forName(propertyClassName, true, classLoader);
+                            propertyClass = getType(propertyClassName, classLoader);
                         } catch (Throwable exception) {
                             throw new SerializationException(exception);
                         }
@@ -1156,11 +1277,26 @@ public class BXMLSerializer implements Serializer<Object>, Resolvable {
                                 throw new SerializationException(exception);
                             }
 
-                            // Create an invocation handler for this listener
-                            ScriptEngine scriptEngine = scriptEngineManager.getEngineByName(language);
+                            // Create an invocation handler for this listener; handlers
+                            // evaluate in their own context, so they can share an engine
+                            ScriptEngine scriptEngine = attributeScriptEngines.get(language);
+                            if (scriptEngine == null) {
+                                scriptEngine = newScriptEngineByName(language);
+
+                                if (scriptEngine == null) {
+                                    throw new SerializationException("Script engine for \""
+                                        + language + "\" not found.");
+                                }
+
+                                attributeScriptEngines.put(language, scriptEngine);
+                                attributeCompiledScripts.put(language,
+                                    new HashMap<String, CompiledScript>());
+                            }
+
                             AttributeInvocationHandler handler =
-                                new AttributeInvocationHandler(scriptEngine, attribute.name,
-                                    (String)attribute.value);
+                                new AttributeInvocationHandler(scriptEngine,
+                                    attributeCompiledScripts.get(language), getBindings(),
+                                    attribute.name, (String)attribute.value);
 
                             Object listener = Proxy.newProxyInstance(classLoader,
                                 new Class<?>[]{attribute.propertyClass}, handler);
@@ -1195,35 +1331,8 @@ public class BXMLSerializer implements Serializer<Object>, Resolvable {
                         // parent's closing tag
                         element.parent.value = element.value;
                     } else if (element.parent.value != null) {
-                        // If the parent element has a default property, use it; otherwise, if the
-                        // parent is a sequence, add the element to it
-                        Class<?> parentType = element.parent.value.getClass();
-                        DefaultProperty defaultProperty = parentType.getAnnotation(DefaultProperty.class);
-
-                        if (defaultProperty == null) {
-                            if (element.parent.value instanceof Sequence<?>) {
-                                Sequence<Object> sequence = (Sequence<Object>)element.parent.value;
-                                sequence.add(element.value);
-                            } else {
-                                throw new SerializationException(element.parent.value.getClass()
-                                    + " is not a sequence.");
-                            }
-                        } else {
-                            String defaultPropertyName = defaultProperty.value();
-                            BeanAdapter beanAdapter = new BeanAdapter(element.parent.value);
-                            Object defaultPropertyValue = beanAdapter.get(defaultPropertyName);
-
-                            if (defaultPropertyValue instanceof Sequence<?>) {
-                                Sequence<Object> sequence = (Sequence<Object>)defaultPropertyValue;
-                                try {
-                                    sequence.add(element.value);
-                                } catch (UnsupportedOperationException uoe) {
-                                    beanAdapter.put(defaultPropertyName, element.value);
-                                }
-                            } else {
-                                beanAdapter.put(defaultPropertyName, element.value);
-                            }
-                        }
+                        // Add the element to the parent's default property or sequence
+                        addChild(element.parent.value, element.value);
                     }
                 }
 
@@ -1280,7 +1389,7 @@ public class BXMLSerializer implements Serializer<Object>, Resolvable {
             case LISTENER_LIST_PROPERTY: {
                 // Evaluate the script
                 String script = (String)element.value;
-                ScriptEngine scriptEngine = scriptEngineManager.getEngineByName(language);
+                ScriptEngine scriptEngine = newScriptEngineByName(language);
                 if (scriptEngine == null) {
                     throw new SerializationException("Script engine for \"" + language + "\" not found.");
                 }
@@ -1340,14 +1449,14 @@ public class BXMLSerializer implements Serializer<Object>, Resolvable {
                     }
 
                     String extension = src.substring(i + 1);
-                    ScriptEngine scriptEngine = scriptEngineManager.getEngineByExtension(extension);
+                    ScriptEngine scriptEngine = newScriptEngineByExtension(extension);
 
                     if (scriptEngine == null) {
                         throw new SerializationException("Unable to find scripting engine for"
                             + " extension " + extension + ".");
                     }
 
-                    scriptEngine.setBindings(scriptEngineManager.getBindings(), ScriptContext.ENGINE_SCOPE);
+                    scriptEngine.setBindings(getBindings(), ScriptContext.ENGINE_SCOPE);
 
                     try {
                         URL scriptLocation;
@@ -1376,14 +1485,14 @@ public class BXMLSerializer implements Serializer<Object>, Resolvable {
                 if (element.value != null) {
                     // Evaluate the script
                     String script = (String)element.value;
-                    ScriptEngine scriptEngine = scriptEngineManager.getEngineByName(language);
+                    ScriptEngine scriptEngine = newScriptEngineByName(language);
 
                     if (scriptEngine == null) {
                         throw new SerializationException("Unable to find scripting engine for"
                             + " language \"" + language + "\".");
                     }
 
-                    scriptEngine.setBindings(scriptEngineManager.getBindings(), ScriptContext.ENGINE_SCOPE);
+                    scriptEngine.setBindings(getBindings(), ScriptContext.ENGINE_SCOPE);
 
                     try {
                         scriptEngine.eval(script);
@@ -1643,7 +1752,170 @@ public class BXMLSerializer implements Serializer<Object>, Resolvable {
         return mimeTypes;
     }
 
-    private static Method getStaticGetterMethod(Class<?> propertyClass, String propertyName,
+    /**
+     * Returns the process-wide script engine registry, discovering the
+     * available engine factories on first use. Engines obtained from the
+     * registry are re-bound to the serializer's namespace.
+     */
+    private static synchronized ScriptEngineManager getScriptEngineRegistry() {
+        if (scriptEngineRegistry == null) {
+            scriptEngineRegistry = new ScriptEngineManager();
+        }
+
+        return scriptEngineRegistry;
+    }
+
+    /**
+     * Tests whether BXML resources read via {@link #readObject(URL, Resources)}
+     * are served from the template cache. Disabled by default.
+     */
+    public static boolean isTemplateCacheEnabled() {
+        return templateCacheEnabled;
+    }
+
+    /**
+     * Enables or disables the template cache. When enabled, the first read of
+     * a given URL records the document's parsed XML events; subsequent reads
+     * of the same URL, including those made via <tt>bxml:include</tt>, replay
+     * the recorded events instead of re-reading and re-parsing the XML. Only
+     * the parse is cached; properties, resources, includes and scripts are
+     * still resolved on every read.
+     * <p>
+     * Cached reads do not go through {@link #readObject(InputStream)}, so
+     * subclasses that override that method should leave the cache disabled.
+     * The cache is keyed on the URL alone; call {@link #clearTemplateCache()}
+     * if the contents of a URL change while the application is running.
+     *
+     * @param templateCacheEnabled
+     */
+    public static void setTemplateCacheEnabled(boolean templateCacheEnabled) {
+        BXMLSerializer.templateCacheEnabled = templateCacheEnabled;
+
+        if (!templateCacheEnabled) {
+            clearTemplateCache();
+        }
+    }
+
+    /**
+     * Discards all cached templates.
+     */
+    public static void clearTemplateCache() {
+        synchronized (templates) {
+            templates.clear();
+        }
+    }
+
+    private static BXMLTemplate getTemplate(URL location)
+        throws IOException, SerializationException {
+        // Key on the external form; URL.equals() may perform name resolution
+        String key = location.toExternalForm();
+
+        BXMLTemplate template = null;
+        synchronized (templates) {
+            SoftReference<BXMLTemplate> templateReference = templates.get(key);
+            if (templateReference != null) {
+                template = templateReference.get();
+            }
+        }
+
+        if (template == null) {
+            XMLInputFactory xmlInputFactoryLocal = XMLInputFactory.newInstance();
+            xmlInputFactoryLocal.setProperty("javax.xml.stream.isCoalescing", true);
+
+            InputStream inputStream = new BufferedInputStream(location.openStream());
+
+            try {
+                template = BXMLTemplate.compile(xmlInputFactoryLocal.createXMLStreamReader(inputStream),
+                    key);
+            } catch (XMLStreamException exception) {
+                Location exceptionLocation = exception.getLocation();
+                if (exceptionLocation != null) {
+                    System.err.println("An error occurred at line number "
+                        + exceptionLocation.getLineNumber() + " in file "
+                        + location.getPath() + ":");
+                }
+
+                throw new SerializationException(exception);
+            } finally {
+                inputStream.close();
+            }
+
+            synchronized (templates) {
+                templates.put(key, new SoftReference<BXMLTemplate>(template));
+            }
+        }
+
+        return template;
+    }
+
+    private static Class<?> getType(String className, ClassLoader classLoader)
+        throws ClassNotFoundException {
+        // Classes are held weakly so that the cache does not pin the class loader
+        java.util.HashMap<String, WeakReference<Class<?>>> typeMap;
+        synchronized (types) {
+            typeMap = types.get(classLoader);
+            if (typeMap == null) {
+                typeMap = new java.util.HashMap<String, WeakReference<Class<?>>>();
+                types.put(classLoader, typeMap);
+            }
+        }
+
+        Class<?> type = null;
+        synchronized (typeMap) {
+            WeakReference<Class<?>> typeReference = typeMap.get(className);
+            if (typeReference != null) {
+                type = typeReference.get();
+            }
+        }
+
+        if (type == null) {
+            type = Class.forName(className, true, classLoader);
+
+            synchronized (typeMap) {
+                typeMap.put(className, new WeakReference<Class<?>>(type));
+            }
+        }
+
+        return type;
+    }
+
+    /**
+     * Adds a child to its parent. If the parent's type has a default property,
+     * the child is added to it (when it is a sequence) or assigned to it;
+     * otherwise, the parent must be a sequence.
+     */
+    @SuppressWarnings("unchecked")
+    static void addChild(Object parent, Object child) throws SerializationException {
+        Class<?> parentType = parent.getClass();
+        DefaultProperty defaultProperty = parentType.getAnnotation(DefaultProperty.class);
+
+        if (defaultProperty == null) {
+            if (parent instanceof Sequence<?>) {
+                Sequence<Object> sequence = (Sequence<Object>)parent;
+                sequence.add(child);
+            } else {
+                throw new SerializationException(parent.getClass()
+                    + " is not a sequence.");
+            }
+        } else {
+            String defaultPropertyName = defaultProperty.value();
+            BeanAdapter beanAdapter = new BeanAdapter(parent);
+            Object defaultPropertyValue = beanAdapter.get(defaultPropertyName);
+
+            if (defaultPropertyValue instanceof Sequence<?>) {
+                Sequence<Object> sequence = (Sequence<Object>)defaultPropertyValue;
+                try {
+                    sequence.add(child);
+                } catch (UnsupportedOperationException uoe) {
+                    beanAdapter.put(defaultPropertyName, child);
+                }
+            } else {
+                beanAdapter.put(defaultPropertyName, child);
+            }
+        }
+    }
+
+    static Method getStaticGetterMethod(Class<?> propertyClass, String propertyName,
         Class<?> objectType) {
         Method method = null;
 
@@ -1673,7 +1945,7 @@ public class BXMLSerializer implements Serializer<Object>, Resolvable {
         return method;
     }
 
-    private static Method getStaticSetterMethod(Class<?> propertyClass, String propertyName,
+    static Method getStaticSetterMethod(Class<?> propertyClass, String propertyName,
         Class<?> objectType, Class<?> propertyValueType) {
         Method method = null;
 
@@ -1715,7 +1987,7 @@ public class BXMLSerializer implements Serializer<Object>, Resolvable {
         return method;
     }
 
-    private static void setStaticProperty(Object object, Class<?> propertyClass,
+    static void setStaticProperty(Object object, Class<?> propertyClass,
         final String propertyName, final Object value)
         throws SerializationException {
         Class<?> objectType = object.getClass();
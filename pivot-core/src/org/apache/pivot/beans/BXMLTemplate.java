@@ -0,0 +1,607 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pivot.beans;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.namespace.QName;
+import javax.xml.stream.Location;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.pivot.collections.ArrayList;
+
+/**
+ * Immutable, pre-parsed form of a BXML document. A template records the
+ * document's significant XML events (elements, attributes, non-whitespace
+ * text, and processing instructions) once, and can then be replayed any number
+ * of times, from any thread, via an {@link XMLStreamReader} that does not
+ * touch the XML parser.
+ */
+final class BXMLTemplate {
+    /**
+     * A recorded XML event.
+     */
+    private static final class Event {
+        public final int type;
+        public final int lineNumber;
+        public final int columnNumber;
+
+        // Element name, or processing instruction target
+        public final String namespaceURI;
+        public final String prefix;
+        public final String localName;
+
+        // Text, or processing instruction data
+        public final String text;
+
+        // Attribute data, in groups of ATTRIBUTE_FIELD_COUNT
+        public final String[] attributes;
+
+        // Namespace declarations, as prefix/URI pairs
+        public final String[] namespaces;
+
+        public Event(int type, int lineNumber, int columnNumber, String namespaceURI,
+            String prefix, String localName, String text, String[] attributes,
+            String[] namespaces) {
+            this.type = type;
+            this.lineNumber = lineNumber;
+            this.columnNumber = columnNumber;
+            this.namespaceURI = namespaceURI;
+            this.prefix = prefix;
+            this.localName = localName;
+            this.text = text;
+            this.attributes = attributes;
+            this.namespaces = namespaces;
+        }
+    }
+
+    /**
+     * Stream reader that replays the events of a template.
+     */
+    private final class TemplateStreamReader implements XMLStreamReader, Location,
+        NamespaceContext {
+        private int index = -1;
+        private Event event = null;
+
+        // Stack of in-scope namespace declarations
+        private ArrayList<String[]> namespaceStack = new ArrayList<String[]>();
+
+        private int getAttributeIndex(int index) {
+            if (index < 0
+                || index >= getAttributeCount()) {
+                throw new IndexOutOfBoundsException();
+            }
+
+            return index * ATTRIBUTE_FIELD_COUNT;
+        }
+
+        @Override
+        public Object getProperty(String name) {
+            return null;
+        }
+
+        @Override
+        public int next() throws XMLStreamException {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            if (event != null
+                && event.type == XMLStreamConstants.END_ELEMENT) {
+                namespaceStack.remove(namespaceStack.getLength() - 1, 1);
+            }
+
+            event = events[++index];
+
+            if (event.type == XMLStreamConstants.START_ELEMENT) {
+                namespaceStack.add(event.namespaces);
+            }
+
+            return event.type;
+        }
+
+        @Override
+        public void require(int type, String namespaceURI, String localName)
+            throws XMLStreamException {
+            if (type != getEventType()
+                || (namespaceURI != null && !namespaceURI.equals(getNamespaceURI()))
+                || (localName != null && !localName.equals(getLocalName()))) {
+                throw new XMLStreamException("Requirement not met.", this);
+            }
+        }
+
+        @Override
+        public String getElementText() throws XMLStreamException {
+            StringBuilder textBuilder = new StringBuilder();
+
+            int type = next();
+            while (type != XMLStreamConstants.END_ELEMENT) {
+                if (type == XMLStreamConstants.CHARACTERS) {
+                    textBuilder.append(event.text);
+                } else if (type != XMLStreamConstants.PROCESSING_INSTRUCTION) {
+                    throw new XMLStreamException("Element text expected.", this);
+                }
+
+                type = next();
+            }
+
+            return textBuilder.toString();
+        }
+
+        @Override
+        public int nextTag() throws XMLStreamException {
+            int type = next();
+
+            while (type == XMLStreamConstants.PROCESSING_INSTRUCTION) {
+                type = next();
+            }
+
+            if (type != XMLStreamConstants.START_ELEMENT
+                && type != XMLStreamConstants.END_ELEMENT) {
+                throw new XMLStreamException("Tag expected.", this);
+            }
+
+            return type;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return (index < events.length - 1);
+        }
+
+        @Override
+        public void close() {
+            // No-op
+        }
+
+        @Override
+        public String getNamespaceURI(String prefix) {
+            if (prefix == null) {
+                throw new IllegalArgumentException("prefix is null.");
+            }
+
+            for (int i = namespaceStack.getLength() - 1; i >= 0; i--) {
+                String[] namespaces = namespaceStack.get(i);
+
+                for (int j = 0; j < namespaces.length; j += 2) {
+                    String declaredPrefix = (namespaces[j] == null) ? "" : namespaces[j];
+                    if (declaredPrefix.equals(prefix)) {
+                        return namespaces[j + 1];
+                    }
+                }
+            }
+
+            return null;
+        }
+
+        @Override
+        public String getPrefix(String namespaceURI) {
+            for (int i = namespaceStack.getLength() - 1; i >= 0; i--) {
+                String[] namespaces = namespaceStack.get(i);
+
+                for (int j = 0; j < namespaces.length; j += 2) {
+                    if (namespaceURI.equals(namespaces[j + 1])) {
+                        return (namespaces[j] == null) ? "" : namespaces[j];
+                    }
+                }
+            }
+
+            return null;
+        }
+
+        @Override
+        public Iterator<String> getPrefixes(String namespaceURI) {
+            java.util.ArrayList<String> prefixes = new java.util.ArrayList<String>();
+
+            String prefix = getPrefix(namespaceURI);
+            if (prefix != null) {
+                prefixes.add(prefix);
+            }
+
+            return prefixes.iterator();
+        }
+
+        @Override
+        public boolean isStartElement() {
+            return (getEventType() == XMLStreamConstants.START_ELEMENT);
+        }
+
+        @Override
+        public boolean isEndElement() {
+            return (getEventType() == XMLStreamConstants.END_ELEMENT);
+        }
+
+        @Override
+        public boolean isCharacters() {
+            return (getEventType() == XMLStreamConstants.CHARACTERS);
+        }
+
+        @Override
+        public boolean isWhiteSpace() {
+            // Whitespace-only text is not recorded
+            return false;
+        }
+
+        @Override
+        public String getAttributeValue(String namespaceURI, String localName) {
+            for (int i = 0, n = getAttributeCount(); i < n; i++) {
+                if (localName.equals(getAttributeLocalName(i))
+                    && (namespaceURI == null || namespaceURI.equals(getAttributeNamespace(i)))) {
+                    return getAttributeValue(i);
+                }
+            }
+
+            return null;
+        }
+
+        @Override
+        public int getAttributeCount() {
+            if (event == null
+                || event.attributes == null) {
+                throw new IllegalStateException();
+            }
+
+            return event.attributes.length / ATTRIBUTE_FIELD_COUNT;
+        }
+
+        @Override
+        public QName getAttributeName(int index) {
+            String namespaceURI = getAttributeNamespace(index);
+            String prefix = getAttributePrefix(index);
+
+            return new QName((namespaceURI == null) ? "" : namespaceURI,
+                getAttributeLocalName(index), (prefix == null) ? "" : prefix);
+        }
+
+        @Override
+        public String getAttributeNamespace(int index) {
+            return event.attributes[getAttributeIndex(index) + 2];
+        }
+
+        @Override
+        public String getAttributeLocalName(int index) {
+            return event.attributes[getAttributeIndex(index) + 1];
+        }
+
+        @Override
+        public String getAttributePrefix(int index) {
+            return event.attributes[getAttributeIndex(index)];
+        }
+
+        @Override
+        public String getAttributeType(int index) {
+            return event.attributes[getAttributeIndex(index) + 4];
+        }
+
+        @Override
+        public String getAttributeValue(int index) {
+            return event.attributes[getAttributeIndex(index) + 3];
+        }
+
+        @Override
+        public boolean isAttributeSpecified(int index) {
+            return true;
+        }
+
+        @Override
+        public int getNamespaceCount() {
+            if (event == null
+                || event.namespaces == null) {
+                throw new IllegalStateException();
+            }
+
+            return event.namespaces.length / 2;
+        }
+
+        @Override
+        public String getNamespacePrefix(int index) {
+            return event.namespaces[index * 2];
+        }
+
+        @Override
+        public String getNamespaceURI(int index) {
+            return event.namespaces[index * 2 + 1];
+        }
+
+        @Override
+        public NamespaceContext getNamespaceContext() {
+            return this;
+        }
+
+        @Override
+        public int getEventType() {
+            return (event == null) ? XMLStreamConstants.START_DOCUMENT : event.type;
+        }
+
+        @Override
+        public String getText() {
+            if (event == null
+                || event.type != XMLStreamConstants.CHARACTERS) {
+                throw new IllegalStateException();
+            }
+
+            return event.text;
+        }
+
+        @Override
+        public char[] getTextCharacters() {
+            return getText().toCharArray();
+        }
+
+        @Override
+        public int getTextCharacters(int sourceStart, char[] target, int targetStart, int length)
+            throws XMLStreamException {
+            String text = getText();
+            int count = Math.max(0, Math.min(length, text.length() - sourceStart));
+            text.getChars(sourceStart, sourceStart + count, target, targetStart);
+
+            return count;
+        }
+
+        @Override
+        public int getTextStart() {
+            return 0;
+        }
+
+        @Override
+        public int getTextLength() {
+            return getText().length();
+        }
+
+        @Override
+        public String getEncoding() {
+            return null;
+        }
+
+        @Override
+        public boolean hasText() {
+            return isCharacters();
+        }
+
+        @Override
+        public Location getLocation() {
+            return this;
+        }
+
+        @Override
+        public QName getName() {
+            if (!hasName()) {
+                throw new IllegalStateException();
+            }
+
+            return new QName((event.namespaceURI == null) ? "" : event.namespaceURI,
+                event.localName, (event.prefix == null) ? "" : event.prefix);
+        }
+
+        @Override
+        public String getLocalName() {
+            if (!hasName()) {
+                throw new IllegalStateException();
+            }
+
+            return event.localName;
+        }
+
+        @Override
+        public boolean hasName() {
+            return (isStartElement() || isEndElement());
+        }
+
+        @Override
+        public String getNamespaceURI() {
+            return hasName() ? event.namespaceURI : null;
+        }
+
+        @Override
+        public String getPrefix() {
+            return hasName() ? event.prefix : null;
+        }
+
+        @Override
+        public String getVersion() {
+            return null;
+        }
+
+        @Override
+        public boolean isStandalone() {
+            return false;
+        }
+
+        @Override
+        public boolean standaloneSet() {
+            return false;
+        }
+
+        @Override
+        public String getCharacterEncodingScheme() {
+            return null;
+        }
+
+        @Override
+        public String getPITarget() {
+            return (getEventType() == XMLStreamConstants.PROCESSING_INSTRUCTION) ?
+                event.localName : null;
+        }
+
+        @Override
+        public String getPIData() {
+            return (getEventType() == XMLStreamConstants.PROCESSING_INSTRUCTION) ?
+                event.text : null;
+        }
+
+        // Location methods
+
+        @Override
+        public int getLineNumber() {
+            return (event == null) ? 1 : event.lineNumber;
+        }
+
+        @Override
+        public int getColumnNumber() {
+            return (event == null) ? 1 : event.columnNumber;
+        }
+
+        @Override
+        public int getCharacterOffset() {
+            return -1;
+        }
+
+        @Override
+        public String getPublicId() {
+            return null;
+        }
+
+        @Override
+        public String getSystemId() {
+            return systemID;
+        }
+    }
+
+    private final Event[] events;
+    private final String systemID;
+
+    private static final int ATTRIBUTE_FIELD_COUNT = 5;
+    private static final String[] EMPTY_ARRAY = {};
+
+    private BXMLTemplate(Event[] events, String systemID) {
+        this.events = events;
+        this.systemID = systemID;
+    }
+
+    /**
+     * Returns the system ID (typically the URL) of the document from which the
+     * template was compiled, or <tt>null</tt> if it is not known.
+     */
+    public String getSystemID() {
+        return systemID;
+    }
+
+    /**
+     * Creates a new stream reader that replays the template's events.
+     */
+    public XMLStreamReader createXMLStreamReader() {
+        return new TemplateStreamReader();
+    }
+
+    /**
+     * Compiles a template by reading all of the events from a stream reader.
+     *
+     * @param xmlStreamReader
+     * @param systemID
+     */
+    public static BXMLTemplate compile(XMLStreamReader xmlStreamReader, String systemID)
+        throws XMLStreamException {
+        ArrayList<Event> events = new ArrayList<Event>();
+        StringBuilder textBuilder = null;
+        int textLineNumber = 0;
+        int textColumnNumber = 0;
+
+        while (xmlStreamReader.hasNext()) {
+            int type = xmlStreamReader.next();
+
+            // Merge adjacent text so that replay does not depend on the
+            // parser's coalescing behavior
+            if (type == XMLStreamConstants.CHARACTERS
+                || type == XMLStreamConstants.CDATA
+                || type == XMLStreamConstants.SPACE) {
+                if (textBuilder == null) {
+                    textBuilder = new StringBuilder();
+
+                    Location location = xmlStreamReader.getLocation();
+                    textLineNumber = location.getLineNumber();
+                    textColumnNumber = location.getColumnNumber();
+                }
+
+                textBuilder.append(xmlStreamReader.getText());
+                continue;
+            }
+
+            if (textBuilder != null) {
+                String text = textBuilder.toString();
+                if (text.trim().length() > 0) {
+                    events.add(new Event(XMLStreamConstants.CHARACTERS, textLineNumber,
+                        textColumnNumber, null, null, null, text, null, null));
+                }
+
+                textBuilder = null;
+            }
+
+            Location location = xmlStreamReader.getLocation();
+            int lineNumber = location.getLineNumber();
+            int columnNumber = location.getColumnNumber();
+
+            switch (type) {
+                case XMLStreamConstants.START_ELEMENT: {
+                    int attributeCount = xmlStreamReader.getAttributeCount();
+                    String[] attributes = (attributeCount == 0) ?
+                        EMPTY_ARRAY : new String[attributeCount * ATTRIBUTE_FIELD_COUNT];
+
+                    for (int i = 0; i < attributeCount; i++) {
+                        int j = i * ATTRIBUTE_FIELD_COUNT;
+                        attributes[j] = xmlStreamReader.getAttributePrefix(i);
+                        attributes[j + 1] = xmlStreamReader.getAttributeLocalName(i);
+                        attributes[j + 2] = xmlStreamReader.getAttributeNamespace(i);
+                        attributes[j + 3] = xmlStreamReader.getAttributeValue(i);
+                        attributes[j + 4] = xmlStreamReader.getAttributeType(i);
+                    }
+
+                    int namespaceCount = xmlStreamReader.getNamespaceCount();
+                    String[] namespaces = (namespaceCount == 0) ?
+                        EMPTY_ARRAY : new String[namespaceCount * 2];
+
+                    for (int i = 0; i < namespaceCount; i++) {
+                        namespaces[i * 2] = xmlStreamReader.getNamespacePrefix(i);
+                        namespaces[i * 2 + 1] = xmlStreamReader.getNamespaceURI(i);
+                    }
+
+                    events.add(new Event(type, lineNumber, columnNumber,
+                        xmlStreamReader.getNamespaceURI(), xmlStreamReader.getPrefix(),
+                        xmlStreamReader.getLocalName(), null, attributes, namespaces));
+                    break;
+                }
+
+                case XMLStreamConstants.END_ELEMENT: {
+                    events.add(new Event(type, lineNumber, columnNumber,
+                        xmlStreamReader.getNamespaceURI(), xmlStreamReader.getPrefix(),
+                        xmlStreamReader.getLocalName(), null, null, null));
+                    break;
+                }
+
+                case XMLStreamConstants.PROCESSING_INSTRUCTION: {
+                    events.add(new Event(type, lineNumber, columnNumber, null, null,
+                        xmlStreamReader.getPITarget(), xmlStreamReader.getPIData(), null, null));
+                    break;
+                }
+
+                default: {
+                    break;
+                }
+            }
+        }
+
+        Event[] eventArray = new Event[events.getLength()];
+        for (int i = 0; i < eventArray.length; i++) {
+            eventArray[i] = events.get(i);
+        }
+
+        return new BXMLTemplate(eventArray, systemID);
+    }
+}
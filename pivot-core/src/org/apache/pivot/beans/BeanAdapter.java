@@ -16,6 +16,10 @@
  */
 package org.apache.pivot.beans;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -28,6 +32,7 @@ import java.util.Comparator;
 import java.util.Iterator;
 import java.util.Locale;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.pivot.collections.Map;
 import org.apache.pivot.collections.MapListener;
@@ -59,17 +64,14 @@ public class BeanAdapter implements Map<String, Object> {
      * non-final field defined by the bean.
      */
     private class PropertyIterator implements Iterator<String> {
-        private Method[] methods = null;
-        private Field[] fields = null;
+        private String[] properties;
 
         private int i = 0;
-        private int j = 0;
         private String nextProperty = null;
 
         public PropertyIterator() {
-            Class<?> type = bean.getClass();
-            methods = type.getMethods();
-            fields = type.getFields();
+            properties = ignoreReadOnlyProperties ?
+                beanClassInfo.getWritableProperties() : beanClassInfo.getProperties();
             nextProperty();
         }
 
@@ -91,71 +93,254 @@ public class BeanAdapter implements Map<String, Object> {
         }
 
         private void nextProperty() {
-            nextProperty = null;
-
-            while (i < methods.length
-                && nextProperty == null) {
-                Method method = methods[i++];
-
-                if (method.getParameterTypes().length == 0
-                    && (method.getModifiers() & Modifier.STATIC) == 0) {
-                    String methodName = method.getName();
-
-                    String prefix = null;
-                    if (methodName.startsWith(GET_PREFIX)) {
-                        prefix = GET_PREFIX;
-                    } else {
-                        if (methodName.startsWith(IS_PREFIX)) {
-                            prefix = IS_PREFIX;
-                        }
-                    }
+            nextProperty = (i < properties.length) ? properties[i++] : null;
+        }
 
-                    if (prefix != null) {
-                        int propertyOffset = prefix.length();
-                        nextProperty = Character.toLowerCase(methodName.charAt(propertyOffset))
-                            + methodName.substring(propertyOffset + 1);
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
 
-                        if (nextProperty.equals("class")) {
-                            nextProperty = null;
-                        }
-                    }
+    /**
+     * Converts values to a target type. A coercion is resolved once per type,
+     * so that {@link BeanAdapter#coerce(Object, Class)} does not repeat the
+     * type tests or reflective lookups for every value.
+     */
+    private abstract static class Coercion {
+        public abstract Object coerce(Object value);
+    }
 
-                    if (nextProperty != null
-                        && ignoreReadOnlyProperties
-                        && isReadOnly(nextProperty)) {
-                        nextProperty = null;
-                    }
+    /**
+     * Coercion to a numeric type, which converts numbers directly and parses
+     * other values from their string representation.
+     */
+    private abstract static class NumberCoercion extends Coercion {
+        @Override
+        public Object coerce(Object value) {
+            return (value instanceof Number) ? coerce((Number)value) : parse(value.toString());
+        }
+
+        protected abstract Object coerce(Number value);
+        protected abstract Object parse(String value);
+    }
+
+    /**
+     * Coercion to an enum type, via the type's <tt>valueOf(String)</tt> method
+     * applied to the upper case string representation of the value.
+     */
+    private static class EnumCoercion extends Coercion {
+        private final Class<?> type;
+        private final Method valueOfMethod;
+        private final Exception lookupException;
+
+        public EnumCoercion(Class<?> type) {
+            this.type = type;
+
+            Method valueOfMethodLocal = null;
+            Exception lookupExceptionLocal = null;
+
+            try {
+                valueOfMethodLocal = type.getMethod(ENUM_VALUE_OF_METHOD_NAME, String.class);
+            } catch (SecurityException exception) {
+                lookupExceptionLocal = exception;
+            } catch (NoSuchMethodException exception) {
+                lookupExceptionLocal = exception;
+            }
+
+            valueOfMethod = valueOfMethodLocal;
+            lookupException = lookupExceptionLocal;
+        }
+
+        @Override
+        public Object coerce(Object value) {
+            Exception exception = lookupException;
+
+            if (valueOfMethod != null) {
+                try {
+                    return valueOfMethod.invoke(null, value.toString().toUpperCase(Locale.ENGLISH));
+                }
+                // Nothing to be gained by handling the invoke() Exceptions
+                // separately
+                catch (IllegalAccessException e) {
+                    exception = e;
+                } catch (InvocationTargetException e) {
+                    exception = e;
                 }
             }
 
-            if (nextProperty == null) {
-                while (j < fields.length
-                    && nextProperty == null) {
-                    Field field = fields[j++];
+            throw new IllegalArgumentException(String.format(
+                ENUM_COERCION_EXECPTION_MESSAGE, value.getClass().getName(), value, type,
+                Arrays.toString(type.getEnumConstants())), exception);
+        }
+    }
 
-                    int modifiers = field.getModifiers();
-                    if ((modifiers & Modifier.PUBLIC) != 0
-                        && (modifiers & Modifier.STATIC) == 0) {
-                        nextProperty = field.getName();
-                    }
+    /**
+     * Cached property metadata for a bean class. Getter, setter and field
+     * lookups are resolved reflectively the first time they are requested
+     * and served from the cache thereafter; negative results are cached as
+     * well. For an enum class, the info also holds the coercion to it.
+     * <p>
+     * The info is shared between threads; the lazily built values are
+     * published through volatile fields, and may be built more than once
+     * by racing threads, since they are the same for a given class.
+     */
+    private static class BeanClassInfo {
+        private final Class<?> beanClass;
+        private volatile String[] properties = null;
+        private volatile String[] writableProperties = null;
+
+        private final ConcurrentHashMap<String, Object> getterMethods =
+            new ConcurrentHashMap<String, Object>();
+        private final ConcurrentHashMap<String, Object> fields =
+            new ConcurrentHashMap<String, Object>();
+        private final ConcurrentHashMap<String, ConcurrentHashMap<Class<?>, Object>> setterMethods =
+            new ConcurrentHashMap<String, ConcurrentHashMap<Class<?>, Object>>();
+
+        private volatile Object coercion = null;
+
+        // Marker for cached negative lookups
+        private static final Object NONE = new Object();
+
+        public BeanClassInfo(Class<?> beanClass) {
+            this.beanClass = beanClass;
+        }
+
+        public String[] getProperties() {
+            String[] propertiesLocal = properties;
+
+            if (propertiesLocal == null) {
+                propertiesLocal = lookupProperties(beanClass);
+                properties = propertiesLocal;
+            }
+
+            return propertiesLocal;
+        }
+
+        public String[] getWritableProperties() {
+            String[] writablePropertiesLocal = writableProperties;
+
+            if (writablePropertiesLocal == null) {
+                java.util.ArrayList<String> writablePropertyList = new java.util.ArrayList<String>();
 
-                    if (nextProperty != null
-                        && ignoreReadOnlyProperties
-                        && (modifiers & Modifier.FINAL) != 0) {
-                        nextProperty = null;
+                String[] propertiesLocal = getProperties();
+                for (int i = 0; i < propertiesLocal.length; i++) {
+                    if (!isReadOnly(beanClass, propertiesLocal[i])) {
+                        writablePropertyList.add(propertiesLocal[i]);
                     }
                 }
+
+                writablePropertiesLocal = writablePropertyList.toArray(
+                    new String[writablePropertyList.size()]);
+                writableProperties = writablePropertiesLocal;
             }
+
+            return writablePropertiesLocal;
+        }
+
+        public Method getGetterMethod(String key) {
+            Object getterMethod = getterMethods.get(key);
+
+            if (getterMethod == null) {
+                getterMethod = lookupGetterMethod(beanClass, key);
+                getterMethods.put(key, (getterMethod == null) ? NONE : getterMethod);
+            }
+
+            return (getterMethod == NONE) ? null : (Method)getterMethod;
+        }
+
+        public Method getSetterMethod(String key, Class<?> valueType) {
+            ConcurrentHashMap<Class<?>, Object> setterMethodsByType = setterMethods.get(key);
+
+            if (setterMethodsByType == null) {
+                setterMethodsByType = new ConcurrentHashMap<Class<?>, Object>();
+                ConcurrentHashMap<Class<?>, Object> previous = setterMethods.putIfAbsent(key, setterMethodsByType);
+
+                if (previous != null) {
+                    setterMethodsByType = previous;
+                }
+            }
+
+            Object setterMethod = setterMethodsByType.get(valueType);
+
+            if (setterMethod == null) {
+                String methodName = SET_PREFIX + Character.toUpperCase(key.charAt(0)) + key.substring(1);
+                setterMethod = lookupSetterMethod(beanClass, methodName, valueType);
+                setterMethodsByType.put(valueType, (setterMethod == null) ? NONE : setterMethod);
+            }
+
+            return (setterMethod == NONE) ? null : (Method)setterMethod;
+        }
+
+        public Field getField(String key) {
+            Object field = fields.get(key);
+
+            if (field == null) {
+                field = lookupField(beanClass, key);
+                fields.put(key, (field == null) ? NONE : field);
+            }
+
+            return (field == NONE) ? null : (Field)field;
+        }
+
+        /**
+         * Returns the coercion to this class, or <tt>null</tt> if values
+         * cannot be coerced to it.
+         */
+        public Coercion getCoercion() {
+            Object coercionLocal = coercion;
+
+            if (coercionLocal == null) {
+                coercionLocal = beanClass.isEnum() ? new EnumCoercion(beanClass) : NONE;
+                coercion = coercionLocal;
+            }
+
+            return (coercionLocal == NONE) ? null : (Coercion)coercionLocal;
+        }
+    }
+
+    /**
+     * Weak reference to a bean class, used as a cache key so that caching the
+     * class's info does not keep the class loaded. Keys are compared by the
+     * identity of the class they refer to.
+     */
+    private static class BeanClassReference extends WeakReference<Class<?>> {
+        private final int hashCode;
+
+        public BeanClassReference(Class<?> beanClass) {
+            super(beanClass);
+            hashCode = System.identityHashCode(beanClass);
+        }
+
+        public BeanClassReference(Class<?> beanClass, ReferenceQueue<Class<?>> queue) {
+            super(beanClass, queue);
+            hashCode = System.identityHashCode(beanClass);
         }
 
         @Override
-        public void remove() {
-            throw new UnsupportedOperationException();
+        public boolean equals(Object object) {
+            if (object == this) {
+                return true;
+            }
+
+            if (!(object instanceof BeanClassReference)) {
+                return false;
+            }
+
+            Class<?> beanClass = get();
+            return (beanClass != null
+                && beanClass == ((BeanClassReference)object).get());
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
         }
     }
 
     private Object bean;
     private boolean ignoreReadOnlyProperties;
+    private BeanClassInfo beanClassInfo;
 
     private MapListenerList<String, Object> mapListeners = new MapListenerList<String, Object>();
 
@@ -165,11 +350,159 @@ public class BeanAdapter implements Map<String, Object> {
 
     private static final String ENUM_VALUE_OF_METHOD_NAME = "valueOf";
 
+    // Keys are weakly referenced, and values softly referenced since they
+    // refer back to the key class; the keys of unloaded classes are removed
+    // from the cache when another class is added
+    private static final ConcurrentHashMap<BeanClassReference, SoftReference<BeanClassInfo>> beanClassInfoCache =
+        new ConcurrentHashMap<BeanClassReference, SoftReference<BeanClassInfo>>();
+    private static final ReferenceQueue<Class<?>> beanClassReferenceQueue =
+        new ReferenceQueue<Class<?>>();
+
+    private static final Object[] EMPTY_ARGUMENTS = {};
+
+    // Coercions to the built-in types; never modified after initialization,
+    // so read without locking
+    private static final java.util.HashMap<Class<?>, Coercion> coercions =
+        new java.util.HashMap<Class<?>, Coercion>();
+
     private static final String ILLEGAL_ACCESS_EXCEPTION_MESSAGE_FORMAT =
         "Unable to access property \"%s\" for type %s.";
     private static final String ENUM_COERCION_EXECPTION_MESSAGE =
         "Unable to coerce %s (\"%s\") to %s.\nValid enum constants - %s";
 
+    static {
+        coercions.put(String.class, new Coercion() {
+            @Override
+            public Object coerce(Object value) {
+                return value.toString();
+            }
+        });
+
+        Coercion booleanCoercion = new Coercion() {
+            @Override
+            public Object coerce(Object value) {
+                return Boolean.parseBoolean(value.toString());
+            }
+        };
+
+        coercions.put(Boolean.class, booleanCoercion);
+        coercions.put(Boolean.TYPE, booleanCoercion);
+
+        Coercion characterCoercion = new Coercion() {
+            @Override
+            public Object coerce(Object value) {
+                return value.toString().charAt(0);
+            }
+        };
+
+        coercions.put(Character.class, characterCoercion);
+        coercions.put(Character.TYPE, characterCoercion);
+
+        Coercion byteCoercion = new NumberCoercion() {
+            @Override
+            protected Object coerce(Number value) {
+                return value.byteValue();
+            }
+
+            @Override
+            protected Object parse(String value) {
+                return Byte.parseByte(value);
+            }
+        };
+
+        coercions.put(Byte.class, byteCoercion);
+        coercions.put(Byte.TYPE, byteCoercion);
+
+        Coercion shortCoercion = new NumberCoercion() {
+            @Override
+            protected Object coerce(Number value) {
+                return value.shortValue();
+            }
+
+            @Override
+            protected Object parse(String value) {
+                return Short.parseShort(value);
+            }
+        };
+
+        coercions.put(Short.class, shortCoercion);
+        coercions.put(Short.TYPE, shortCoercion);
+
+        Coercion integerCoercion = new NumberCoercion() {
+            @Override
+            protected Object coerce(Number value) {
+                return value.intValue();
+            }
+
+            @Override
+            protected Object parse(String value) {
+                return Integer.parseInt(value);
+            }
+        };
+
+        coercions.put(Integer.class, integerCoercion);
+        coercions.put(Integer.TYPE, integerCoercion);
+
+        Coercion longCoercion = new NumberCoercion() {
+            @Override
+            protected Object coerce(Number value) {
+                return value.longValue();
+            }
+
+            @Override
+            protected Object parse(String value) {
+                return Long.parseLong(value);
+            }
+        };
+
+        coercions.put(Long.class, longCoercion);
+        coercions.put(Long.TYPE, longCoercion);
+
+        Coercion floatCoercion = new NumberCoercion() {
+            @Override
+            protected Object coerce(Number value) {
+                return value.floatValue();
+            }
+
+            @Override
+            protected Object parse(String value) {
+                return Float.parseFloat(value);
+            }
+        };
+
+        coercions.put(Float.class, floatCoercion);
+        coercions.put(Float.TYPE, floatCoercion);
+
+        Coercion doubleCoercion = new NumberCoercion() {
+            @Override
+            protected Object coerce(Number value) {
+                return value.doubleValue();
+            }
+
+            @Override
+            protected Object parse(String value) {
+                return Double.parseDouble(value);
+            }
+        };
+
+        coercions.put(Double.class, doubleCoercion);
+        coercions.put(Double.TYPE, doubleCoercion);
+
+        coercions.put(BigInteger.class, new Coercion() {
+            @Override
+            public Object coerce(Object value) {
+                return new BigInteger(value.toString());
+            }
+        });
+
+        coercions.put(BigDecimal.class, new Coercion() {
+            @Override
+            public Object coerce(Object value) {
+                return new BigDecimal(value.toString());
+            }
+        });
+    }
+
     /**
      * Creates a new bean dictionary.
      *
@@ -196,6 +529,8 @@ public class BeanAdapter implements Map<String, Object> {
 
         this.bean = bean;
         this.ignoreReadOnlyProperties = ignoreReadOnlyProperties;
+
+        beanClassInfo = getBeanClassInfo(bean.getClass());
     }
 
     /**
@@ -245,7 +580,7 @@ public class BeanAdapter implements Map<String, Object> {
             }
         } else {
             try {
-                value = getterMethod.invoke(bean, new Object[] {});
+                value = getterMethod.invoke(bean, EMPTY_ARGUMENTS);
             } catch (IllegalAccessException exception) {
                 throw new RuntimeException(String.format(ILLEGAL_ACCESS_EXCEPTION_MESSAGE_FORMAT,
                     key, bean.getClass().getName()), exception);
@@ -541,7 +876,7 @@ public class BeanAdapter implements Map<String, Object> {
      * The getter method, or <tt>null</tt> if the method does not exist.
      */
     private Method getGetterMethod(String key) {
-        return getGetterMethod(bean.getClass(), key);
+        return beanClassInfo.getGetterMethod(key);
     }
 
     /**
@@ -554,7 +889,7 @@ public class BeanAdapter implements Map<String, Object> {
      * The getter method, or <tt>null</tt> if the method does not exist.
      */
     private Method getSetterMethod(String key, Class<?> valueType) {
-        return getSetterMethod(bean.getClass(), key, valueType);
+        return (valueType == null) ? null : beanClassInfo.getSetterMethod(key, valueType);
     }
 
     /**
@@ -573,7 +908,7 @@ public class BeanAdapter implements Map<String, Object> {
             throw new IllegalArgumentException("fieldName is null.");
         }
 
-        return getField(bean.getClass(), fieldName);
+        return beanClassInfo.getField(fieldName);
     }
 
     /**
@@ -734,23 +1069,7 @@ public class BeanAdapter implements Map<String, Object> {
             throw new IllegalArgumentException("key is empty.");
         }
 
-        Field field = null;
-
-        try {
-            field = beanClass.getField(key);
-
-            int modifiers = field.getModifiers();
-
-            // Exclude non-public and static fields
-            if ((modifiers & Modifier.PUBLIC) == 0
-                || (modifiers & Modifier.STATIC) > 0) {
-                field = null;
-            }
-        } catch (NoSuchFieldException exception) {
-            // No-op
-        }
-
-        return field;
+        return getBeanClassInfo(beanClass).getField(key);
     }
 
     /**
@@ -778,25 +1097,7 @@ public class BeanAdapter implements Map<String, Object> {
             throw new IllegalArgumentException("key is empty.");
         }
 
-        // Upper-case the first letter
-        String keyUpdated = Character.toUpperCase(key.charAt(0)) + key.substring(1);
-        Method getterMethod = null;
-
-        try {
-            getterMethod = beanClass.getMethod(GET_PREFIX + keyUpdated);
-        } catch (NoSuchMethodException exception) {
-            // No-op
-        }
-
-        if (getterMethod == null) {
-            try {
-                getterMethod = beanClass.getMethod(IS_PREFIX + keyUpdated);
-            } catch (NoSuchMethodException exception) {
-                // No-op
-            }
-        }
-
-        return getterMethod;
+        return getBeanClassInfo(beanClass).getGetterMethod(key);
     }
 
     /**
@@ -827,11 +1128,131 @@ public class BeanAdapter implements Map<String, Object> {
         Method setterMethod = null;
 
         if (valueType != null) {
-            // Upper-case the first letter and prepend the "set" prefix to
-            // determine the method name
-            String keyUpdated = Character.toUpperCase(key.charAt(0)) + key.substring(1);
-            final String methodName = SET_PREFIX + keyUpdated;
+            setterMethod = getBeanClassInfo(beanClass).getSetterMethod(key, valueType);
+        }
+
+        return setterMethod;
+    }
+
+    private static BeanClassInfo getBeanClassInfo(Class<?> beanClass) {
+        BeanClassInfo beanClassInfo = null;
+
+        SoftReference<BeanClassInfo> reference = beanClassInfoCache.get(
+            new BeanClassReference(beanClass));
+
+        if (reference != null) {
+            beanClassInfo = reference.get();
+        }
+
+        if (beanClassInfo == null) {
+            // Remove the entries of classes that have been unloaded
+            Reference<? extends Class<?>> staleReference;
+            while ((staleReference = beanClassReferenceQueue.poll()) != null) {
+                beanClassInfoCache.remove(staleReference);
+            }
+
+            // Racing threads may each create an info; any of them can be used
+            beanClassInfo = new BeanClassInfo(beanClass);
+            beanClassInfoCache.put(new BeanClassReference(beanClass, beanClassReferenceQueue),
+                new SoftReference<BeanClassInfo>(beanClassInfo));
+        }
+
+        return beanClassInfo;
+    }
+
+    private static String[] lookupProperties(Class<?> beanClass) {
+        java.util.ArrayList<String> properties = new java.util.ArrayList<String>();
+
+        Method[] methods = beanClass.getMethods();
+        for (int i = 0; i < methods.length; i++) {
+            Method method = methods[i];
+
+            if (method.getParameterTypes().length == 0
+                && (method.getModifiers() & Modifier.STATIC) == 0) {
+                String methodName = method.getName();
+
+                String prefix = null;
+                if (methodName.startsWith(GET_PREFIX)) {
+                    prefix = GET_PREFIX;
+                } else {
+                    if (methodName.startsWith(IS_PREFIX)) {
+                        prefix = IS_PREFIX;
+                    }
+                }
+
+                if (prefix != null
+                    && methodName.length() > prefix.length()) {
+                    int propertyOffset = prefix.length();
+                    String property = Character.toLowerCase(methodName.charAt(propertyOffset))
+                        + methodName.substring(propertyOffset + 1);
+
+                    if (!property.equals("class")) {
+                        properties.add(property);
+                    }
+                }
+            }
+        }
+
+        Field[] fields = beanClass.getFields();
+        for (int j = 0; j < fields.length; j++) {
+            Field field = fields[j];
+
+            int modifiers = field.getModifiers();
+            if ((modifiers & Modifier.PUBLIC) != 0
+                && (modifiers & Modifier.STATIC) == 0) {
+                properties.add(field.getName());
+            }
+        }
+
+        return properties.toArray(new String[properties.size()]);
+    }
+
+    private static Field lookupField(Class<?> beanClass, String key) {
+        Field field = null;
 
+        try {
+            field = beanClass.getField(key);
+
+            int modifiers = field.getModifiers();
+
+            // Exclude non-public and static fields
+            if ((modifiers & Modifier.PUBLIC) == 0
+                || (modifiers & Modifier.STATIC) > 0) {
+                field = null;
+            }
+        } catch (NoSuchFieldException exception) {
+            // No-op
+        }
+
+        return field;
+    }
+
+    private static Method lookupGetterMethod(Class<?> beanClass, String key) {
+        // Upper-case the first letter
+        String keyUpdated = Character.toUpperCase(key.charAt(0)) + key.substring(1);
+        Method getterMethod = null;
+
+        try {
+            getterMethod = beanClass.getMethod(GET_PREFIX + keyUpdated);
+        } catch (NoSuchMethodException exception) {
+            // No-op
+        }
+
+        if (getterMethod == null) {
+            try {
+                getterMethod = beanClass.getMethod(IS_PREFIX + keyUpdated);
+            } catch (NoSuchMethodException exception) {
+                // No-op
+            }
+        }
+
+        return getterMethod;
+    }
+
+    private static Method lookupSetterMethod(Class<?> beanClass, String methodName, Class<?> valueType) {
+        Method setterMethod = null;
+
+        if (valueType != null) {
             try {
                 setterMethod = beanClass.getMethod(methodName, valueType);
             } catch (NoSuchMethodException exception) {
@@ -841,7 +1262,7 @@ public class BeanAdapter implements Map<String, Object> {
             if (setterMethod == null) {
                 // Look for a match on the value's super type
                 Class<?> superType = valueType.getSuperclass();
-                setterMethod = getSetterMethod(beanClass, keyUpdated, superType);
+                setterMethod = lookupSetterMethod(beanClass, methodName, superType);
             }
 
             if (setterMethod == null) {
@@ -860,7 +1281,7 @@ public class BeanAdapter implements Map<String, Object> {
                     // No-op
                 } catch (IllegalAccessException exception) {
                     throw new RuntimeException(String.format(ILLEGAL_ACCESS_EXCEPTION_MESSAGE_FORMAT,
-                            keyUpdated, beanClass.getName()), exception);
+                        methodName, beanClass.getName()), exception);
                 }
             }
 
@@ -872,7 +1293,7 @@ public class BeanAdapter implements Map<String, Object> {
                 while (setterMethod == null
                     && i < n) {
                     Class<?> interfaceType = interfaces[i++];
-                    setterMethod = getSetterMethod(beanClass, keyUpdated, interfaceType);
+                    setterMethod = lookupSetterMethod(beanClass, methodName, interfaceType);
                 }
             }
         }
@@ -904,101 +1325,21 @@ public class BeanAdapter implements Map<String, Object> {
             if (type.isAssignableFrom(value.getClass())) {
                 // Value doesn't need coercion
                 coercedValue = value;
-            } else if (type.isEnum()) {
-                // Find and invoke the valueOf(String) method using an upper
-                // case conversion of the supplied Object's toString() value
-                try {
-                    String valueString = value.toString().toUpperCase(Locale.ENGLISH);
-                    Method valueOfMethod = type.getMethod(ENUM_VALUE_OF_METHOD_NAME, String.class);
-                    coercedValue = valueOfMethod.invoke(null, valueString);
-                }
-                // Nothing to be gained by handling the getMethod() & invoke()
-                // Exceptions separately
-                catch (IllegalAccessException e) {
-                    throw new IllegalArgumentException(String.format(
-                        ENUM_COERCION_EXECPTION_MESSAGE, value.getClass().getName(), value, type,
-                        Arrays.toString(type.getEnumConstants())), e);
-                } catch (InvocationTargetException e) {
-                    throw new IllegalArgumentException(String.format(
-                        ENUM_COERCION_EXECPTION_MESSAGE, value.getClass().getName(), value, type,
-                        Arrays.toString(type.getEnumConstants())), e);
-                } catch (SecurityException e) {
-                    throw new IllegalArgumentException(String.format(
-                        ENUM_COERCION_EXECPTION_MESSAGE, value.getClass().getName(), value, type,
-                        Arrays.toString(type.getEnumConstants())), e);
-                } catch (NoSuchMethodException e) {
-                    throw new IllegalArgumentException(String.format(
-                        ENUM_COERCION_EXECPTION_MESSAGE, value.getClass().getName(), value, type,
-                        Arrays.toString(type.getEnumConstants())), e);
-                }
             } else {
                 // Coerce the value to the requested type
-                if (type == String.class) {
-                    coercedValue = value.toString();
-                } else if (type == Boolean.class
-                    || type == Boolean.TYPE) {
-                    coercedValue = Boolean.parseBoolean(value.toString());
-                } else if (type == Character.class
-                    || type == Character.TYPE) {
-                    coercedValue = value.toString().charAt(0);
-                } else if (type == Byte.class
-                    || type == Byte.TYPE) {
-                    if (value instanceof Number) {
-                        coercedValue = ((Number)value).byteValue();
-                    } else {
-                        coercedValue = Byte.parseByte(value.toString());
-                    }
-                } else if (type == Short.class
-                    || type == Short.TYPE) {
-                    if (value instanceof Number) {
-                        coercedValue = ((Number)value).shortValue();
-                    } else {
-                        coercedValue = Short.parseShort(value.toString());
-                    }
-                } else if (type == Integer.class
-                    || type == Integer.TYPE) {
-                    if (value instanceof Number) {
-                        coercedValue = ((Number)value).intValue();
-                    } else {
-                        coercedValue = Integer.parseInt(value.toString());
-                    }
-                } else if (type == Long.class
-                    || type == Long.TYPE) {
-                    if (value instanceof Number) {
-                        coercedValue = ((Number)value).longValue();
-                    } else {
-                        coercedValue = Long.parseLong(value.toString());
-                    }
-                } else if (type == Float.class
-                    || type == Float.TYPE) {
-                    if (value instanceof Number) {
-                        coercedValue = ((Number)value).floatValue();
-                    } else {
-                        coercedValue = Float.parseFloat(value.toString());
-                    }
-                } else if (type == Double.class
-                    || type == Double.TYPE) {
-                    if (value instanceof Number) {
-                        coercedValue = ((Number)value).doubleValue();
-                    } else {
-                        coercedValue = Double.parseDouble(value.toString());
-                    }
-                } else if (type == BigInteger.class) {
-                    if (value instanceof Number) {
-                        coercedValue = new BigInteger(((Number)value).toString());
-                    } else {
-                        coercedValue = new BigInteger(value.toString());
-                    }
-                } else if (type == BigDecimal.class) {
-                    if (value instanceof Number) {
-                        coercedValue = new BigDecimal(((Number)value).toString());
-                    } else {
-                        coercedValue = new BigDecimal(value.toString());
-                    }
-                } else {
+                Coercion coercion = coercions.get(type);
+
+                if (coercion == null
+                    && type.isEnum()) {
+                    coercion = getBeanClassInfo(type).getCoercion();
+                }
+
+                if (coercion == null) {
                     throw new IllegalArgumentException("Unable to coerce " + value.getClass().getName()
                         + " to " + type + ".");
                 }
+
+                coercedValue = coercion.coerce(value);
             }
         }
 
@@ -80,8 +80,9 @@ public class BeanMonitor {
 
         @Override
         public void propertyChanged(Object beanArgument, String propertyName) {
-            for (PropertyChangeListener listener : this) {
-                listener.propertyChanged(beanArgument, propertyName);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((PropertyChangeListener)listeners[i]).propertyChanged(beanArgument, propertyName);
             }
         }
     }
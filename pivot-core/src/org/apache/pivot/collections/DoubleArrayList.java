@@ -0,0 +1,285 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pivot.collections;
+
+import java.util.Arrays;
+
+import org.apache.pivot.util.ListenerList;
+
+/**
+ * Array-backed list of <tt>double</tt> values. Provides the same basic
+ * operations as {@link ArrayList} without boxing, which makes it suitable
+ * for large numeric data sets such as layout boundaries or chart series.
+ * <p>
+ * NOTE This class is not thread-safe.
+ */
+public class DoubleArrayList extends PrimitiveArrayList {
+    private static final long serialVersionUID = -2217549062480134165L;
+
+    private static class DoubleArrayListListenerList extends ListenerList<DoubleArrayListListener>
+        implements DoubleArrayListListener {
+        @Override
+        public void itemInserted(DoubleArrayList list, int index) {
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((DoubleArrayListListener)listeners[i]).itemInserted(list, index);
+            }
+        }
+
+        @Override
+        public void itemsRemoved(DoubleArrayList list, int index, int count) {
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((DoubleArrayListListener)listeners[i]).itemsRemoved(list, index, count);
+            }
+        }
+
+        @Override
+        public void itemUpdated(DoubleArrayList list, int index, double previousItem) {
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((DoubleArrayListListener)listeners[i]).itemUpdated(list, index, previousItem);
+            }
+        }
+
+        @Override
+        public void listCleared(DoubleArrayList list) {
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((DoubleArrayListListener)listeners[i]).listCleared(list);
+            }
+        }
+
+        @Override
+        public void listSorted(DoubleArrayList list) {
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((DoubleArrayListListener)listeners[i]).listSorted(list);
+            }
+        }
+    }
+
+    private double[] items;
+
+    private transient DoubleArrayListListenerList listListeners = null;
+
+    public DoubleArrayList() {
+        items = new double[DEFAULT_CAPACITY];
+    }
+
+    public DoubleArrayList(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity cannot be negative.");
+        }
+
+        items = new double[capacity];
+    }
+
+    public DoubleArrayList(double[] items, int index, int count) {
+        if (items == null) {
+            throw new IllegalArgumentException("items cannot be null.");
+        }
+
+        verifyIndexBounds(index, count, items.length);
+
+        this.items = Arrays.copyOfRange(items, index, index + count);
+        length = count;
+    }
+
+    public DoubleArrayList(DoubleArrayList list) {
+        this(list.items, 0, list.length);
+    }
+
+    /**
+     * Creates a list containing the given items. This is a factory method
+     * rather than a constructor, since a <tt>double...</tt> constructor would
+     * be ambiguous with {@link #DoubleArrayList(int)}.
+     */
+    public static DoubleArrayList of(double... items) {
+        if (items == null) {
+            throw new IllegalArgumentException("items cannot be null.");
+        }
+
+        return new DoubleArrayList(items, 0, items.length);
+    }
+
+    /**
+     * Appends an item to the end of the list.
+     *
+     * @return
+     * The index at which the item was added.
+     */
+    public int add(double item) {
+        int index = length;
+        insert(item, index);
+
+        return index;
+    }
+
+    public void insert(double item, int index) {
+        insertSlot(index);
+        items[index] = item;
+
+        if (listListeners != null) {
+            listListeners.itemInserted(this, index);
+        }
+    }
+
+    public double update(int index, double item) {
+        verifyIndex(index);
+
+        double previousItem = items[index];
+        items[index] = item;
+
+        if (listListeners != null) {
+            listListeners.itemUpdated(this, index, previousItem);
+        }
+
+        return previousItem;
+    }
+
+    public double get(int index) {
+        verifyIndex(index);
+
+        return items[index];
+    }
+
+    public int indexOf(double item) {
+        for (int i = 0; i < length; i++) {
+            if (Double.doubleToLongBits(items[i]) == Double.doubleToLongBits(item)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public int getCapacity() {
+        return items.length;
+    }
+
+    public double[] toArray() {
+        return Arrays.copyOf(items, length);
+    }
+
+    public ListenerList<DoubleArrayListListener> getListListeners() {
+        if (listListeners == null) {
+            listListeners = new DoubleArrayListListenerList();
+        }
+
+        return listListeners;
+    }
+
+    @Override
+    Object getItems() {
+        return items;
+    }
+
+    @Override
+    void resize(int capacity) {
+        items = Arrays.copyOf(items, capacity);
+    }
+
+    @Override
+    void fireItemsRemoved(int index, int count) {
+        if (listListeners != null) {
+            listListeners.itemsRemoved(this, index, count);
+        }
+    }
+
+    @Override
+    void fireListCleared() {
+        if (listListeners != null) {
+            listListeners.listCleared(this);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        boolean equals = false;
+
+        if (this == o) {
+            equals = true;
+        } else if (o instanceof DoubleArrayList) {
+            DoubleArrayList list = (DoubleArrayList)o;
+
+            if (length == list.length) {
+                equals = true;
+
+                for (int i = 0; i < length; i++) {
+                    if (Double.doubleToLongBits(items[i]) != Double.doubleToLongBits(list.items[i])) {
+                        equals = false;
+                        break;
+                    }
+                }
+            }
+        }
+
+        return equals;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for (int i = 0; i < length; i++) {
+            hashCode = 31 * hashCode + (int)(Double.doubleToLongBits(items[i]) ^ (Double.doubleToLongBits(items[i]) >>> 32));
+        }
+
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+
+        sb.append(getClass().getName());
+        sb.append(" [");
+
+        for (int i = 0; i < length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+
+            sb.append(items[i]);
+        }
+
+        sb.append("]");
+
+        return sb.toString();
+    }
+
+    public static void sort(DoubleArrayList list) {
+        Arrays.sort(list.items, 0, list.length);
+
+        if (list.listListeners != null) {
+            list.listListeners.listSorted(list);
+        }
+    }
+
+    /**
+     * Searches a sorted list for an item.
+     *
+     * @return
+     * The index of the item, if found; otherwise, <tt>-(insertion point + 1)</tt>.
+     *
+     * @see Arrays#binarySearch(double[], int, int, double)
+     */
+    public static int binarySearch(DoubleArrayList list, double item) {
+        return Arrays.binarySearch(list.items, 0, list.length, item);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pivot.collections;
+
+/**
+ * {@link DoubleArrayList} listener interface.
+ */
+public interface DoubleArrayListListener {
+    /**
+     * {@link DoubleArrayList} listener adapter.
+     */
+    public static class Adapter implements DoubleArrayListListener {
+        @Override
+        public void itemInserted(DoubleArrayList list, int index) {
+            // empty block
+        }
+
+        @Override
+        public void itemsRemoved(DoubleArrayList list, int index, int count) {
+            // empty block
+        }
+
+        @Override
+        public void itemUpdated(DoubleArrayList list, int index, double previousItem) {
+            // empty block
+        }
+
+        @Override
+        public void listCleared(DoubleArrayList list) {
+            // empty block
+        }
+
+        @Override
+        public void listSorted(DoubleArrayList list) {
+            // empty block
+        }
+    }
+
+    /**
+     * Called when an item has been inserted into a list.
+     *
+     * @param list
+     * The source of the list event.
+     *
+     * @param index
+     * The index at which the item was added.
+     */
+    public void itemInserted(DoubleArrayList list, int index);
+
+    /**
+     * Called when items have been removed from a list.
+     *
+     * @param list
+     * The source of the list event.
+     *
+     * @param index
+     * The starting index from which items have been removed.
+     *
+     * @param count
+     * The number of items that were removed.
+     */
+    public void itemsRemoved(DoubleArrayList list, int index, int count);
+
+    /**
+     * Called when a list item has been updated.
+     *
+     * @param list
+     * The source of the list event.
+     *
+     * @param index
+     * The index of the item that was updated.
+     *
+     * @param previousItem
+     * The item that was previously stored at <tt>index</tt>.
+     */
+    public void itemUpdated(DoubleArrayList list, int index, double previousItem);
+
+    /**
+     * Called when list data has been reset.
+     *
+     * @param list
+     * The source of the list event.
+     */
+    public void listCleared(DoubleArrayList list);
+
+    /**
+     * Called when a list has been sorted.
+     *
+     * @param list
+     * The source of the list event.
+     */
+    public void listSorted(DoubleArrayList list);
+}
@@ -16,34 +16,40 @@
  */
 package org.apache.pivot.collections;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 
-import org.apache.pivot.util.EmptyIterator;
 import org.apache.pivot.util.ImmutableIterator;
 import org.apache.pivot.util.ListenerList;
 
 /**
  * Implementation of the {@link Map} interface that is backed by a
  * hash table.
+ * <p>
+ * Entries are stored in an open-addressed table of parallel key and value
+ * arrays using linear probing, so no per-entry objects are allocated.
+ * Removed entries leave a marker in place until the next rehash, which keeps
+ * iteration order stable when entries are removed via
+ * {@link Iterator#remove()}.
  */
 public class HashMap<K, V> implements Map<K, V>, Serializable {
-    private static final long serialVersionUID = -7079717428744528670L;
+    private static final long serialVersionUID = 2954162359314834102L;
 
     private class KeyIterator implements Iterator<K> {
-        private int bucketIndex;
-        private Iterator<Pair<K, V>> entryIterator;
+        private int index;
         private int countLocal;
 
-        private Pair<K, V> entry = null;
+        private int current = -1;
 
         public KeyIterator() {
-            bucketIndex = 0;
-            entryIterator = getBucketIterator(bucketIndex);
-
+            index = 0;
             countLocal = HashMap.this.count;
         }
 
@@ -53,59 +59,67 @@ public class HashMap<K, V> implements Map<K, V>, Serializable {
                 throw new ConcurrentModificationException();
             }
 
-            // Move to the next bucket
-            while (entryIterator != null
-                && !entryIterator.hasNext()) {
-                entryIterator = (++bucketIndex < buckets.getLength()) ?
-                    getBucketIterator(bucketIndex) : null;
+            // Move to the next occupied slot
+            while (index < keyTable.length
+                && (keyTable[index] == null
+                    || keyTable[index] == REMOVED)) {
+                index++;
             }
 
-            return (entryIterator != null);
+            return (index < keyTable.length);
         }
 
         @Override
+        @SuppressWarnings("unchecked")
         public K next() {
             if (!hasNext()) {
                 throw new NoSuchElementException();
             }
 
-            entry = entryIterator.next();
-            return entry.key;
+            current = index++;
+            return (K)keyTable[current];
         }
 
         @Override
+        @SuppressWarnings("unchecked")
         public void remove() {
-            if (entry == null
-                || entryIterator == null) {
+            if (current == -1) {
                 throw new IllegalStateException();
             }
 
-            entryIterator.remove();
+            K key = (K)keyTable[current];
+            V value = (V)valueTable[current];
+
+            keyTable[current] = REMOVED;
+            valueTable[current] = null;
+
             countLocal--;
             HashMap.this.count--;
 
             if (mapListeners != null) {
-                mapListeners.valueRemoved(HashMap.this, entry.key, entry.value);
+                mapListeners.valueRemoved(HashMap.this, key, value);
             }
 
-            entry = null;
-        }
-
-        private Iterator<Pair<K, V>> getBucketIterator(int bucketIndexArgument) {
-            LinkedList<Pair<K, V>> bucket = buckets.get(bucketIndexArgument);
-
-            return (bucket == null) ? new EmptyIterator<Pair<K,V>>() : bucket.iterator();
+            current = -1;
         }
     }
 
-    private ArrayList<LinkedList<Pair<K, V>>> buckets;
+    private transient Object[] keyTable;
+    private transient Object[] valueTable;
     private float loadFactor;
 
-    private int count = 0;
+    private transient int count = 0;
+    // Number of slots that are either in use or marked as removed
+    private transient int occupied = 0;
+    private transient int threshold = 0;
+
     private ArrayList<K> keys = null;
 
     private transient MapListenerList<K, V> mapListeners = null;
 
+    // Marks a slot whose entry has been removed
+    private static final Object REMOVED = new Object();
+
     public static final int DEFAULT_CAPACITY = 16;
     public static final float DEFAULT_LOAD_FACTOR = 0.75f;
 
@@ -118,6 +132,11 @@ public class HashMap<K, V> implements Map<K, V>, Serializable {
     }
 
     public HashMap(int capacity, float loadFactor) {
+        if (loadFactor <= 0
+            || Float.isNaN(loadFactor)) {
+            throw new IllegalArgumentException("loadFactor must be positive.");
+        }
+
         this.loadFactor = loadFactor;
 
         rehash(capacity);
@@ -153,27 +172,15 @@ public class HashMap<K, V> implements Map<K, V>, Serializable {
      * If {@code key} is {@literal null}.
      */
     @Override
+    @SuppressWarnings("unchecked")
     public V get(K key) {
         if (key == null) {
             throw new IllegalArgumentException("key cannot be null.");
         }
 
-        V value = null;
-
-        // Locate the entry
-        LinkedList<Pair<K, V>> bucket = getBucket(key);
+        int index = indexOf(key);
 
-        List.ItemIterator<Pair<K, V>> iterator = bucket.iterator();
-        while (iterator.hasNext()) {
-            Pair<K, V> entry = iterator.next();
-
-            if (entry.key.equals(key)) {
-                value = entry.value;
-                break;
-            }
-        }
-
-        return value;
+        return (index == -1) ? null : (V)valueTable[index];
     }
 
     /**
@@ -183,44 +190,51 @@ public class HashMap<K, V> implements Map<K, V>, Serializable {
      * If {@code key} is {@literal null}.
      */
     @Override
+    @SuppressWarnings("unchecked")
     public V put(K key, V value) {
-        return put(key, value, true);
-    }
-
-    private V put(K key, V value, boolean notifyListeners) {
         if (key == null) {
             throw new IllegalArgumentException("key cannot be null.");
         }
 
         V previousValue = null;
 
-        // Locate the entry
-        LinkedList<Pair<K, V>> bucket = getBucket(key);
+        // Locate the entry, remembering the first reusable slot
+        int mask = keyTable.length - 1;
+        int index = hash(key) & mask;
+        int available = -1;
 
-        int i = 0;
-        List.ItemIterator<Pair<K, V>> iterator = bucket.iterator();
-        while (iterator.hasNext()) {
-            Pair<K, V> entry = iterator.next();
-
-            if (entry.key.equals(key)) {
-                // Update the entry
-                previousValue = entry.value;
-                iterator.update(new Pair<K, V>(key, value));
-
-                if (mapListeners != null
-                    && notifyListeners) {
-                    mapListeners.valueUpdated(this, key, previousValue);
+        Object k = keyTable[index];
+        while (k != null) {
+            if (k == REMOVED) {
+                if (available == -1) {
+                    available = index;
                 }
-
+            } else if (k == key
+                || k.equals(key)) {
                 break;
             }
 
-            i++;
+            index = (index + 1) & mask;
+            k = keyTable[index];
         }
 
-        if (i == bucket.getLength()) {
+        if (k != null) {
+            // Update the entry
+            previousValue = (V)valueTable[index];
+            valueTable[index] = value;
+
+            if (mapListeners != null) {
+                mapListeners.valueUpdated(this, key, previousValue);
+            }
+        } else {
             // Add the entry
-            bucket.add(new Pair<K, V>(key, value));
+            if (available == -1) {
+                available = index;
+                occupied++;
+            }
+
+            keyTable[available] = key;
+            valueTable[available] = value;
 
             if (keys != null) {
                 keys.add(key);
@@ -229,13 +243,14 @@ public class HashMap<K, V> implements Map<K, V>, Serializable {
             // Increment the count
             count++;
 
-            int capacity = getCapacity();
-            if (count > (int)(capacity * loadFactor)) {
-                rehash(capacity * 2);
+            if (occupied > threshold) {
+                // Grow the table if it is full of live entries; otherwise,
+                // rehashing at the current capacity discards removed slots
+                int capacity = getCapacity();
+                rehash((count >= threshold / 2) ? capacity * 2 : capacity);
             }
 
-            if (mapListeners != null
-                && notifyListeners) {
+            if (mapListeners != null) {
                 mapListeners.valueAdded(this, key);
             }
         }
@@ -250,6 +265,7 @@ public class HashMap<K, V> implements Map<K, V>, Serializable {
      * If {@code key} is {@literal null}.
      */
     @Override
+    @SuppressWarnings("unchecked")
     public V remove(K key) {
         if (key == null) {
             throw new IllegalArgumentException("key cannot be null.");
@@ -258,29 +274,23 @@ public class HashMap<K, V> implements Map<K, V>, Serializable {
         V value = null;
 
         // Locate the entry
-        LinkedList<Pair<K, V>> bucket = getBucket(key);
-
-        List.ItemIterator<Pair<K, V>> iterator = bucket.iterator();
-        while (iterator.hasNext()) {
-            Pair<K, V> entry = iterator.next();
+        int index = indexOf(key);
 
-            if (entry.key.equals(key)) {
-                // Remove the entry
-                value = entry.value;
-                iterator.remove();
+        if (index != -1) {
+            // Remove the entry
+            value = (V)valueTable[index];
+            keyTable[index] = REMOVED;
+            valueTable[index] = null;
 
-                if (keys != null) {
-                    keys.remove(key);
-                }
-
-                // Decrement the count
-                count--;
+            if (keys != null) {
+                keys.remove(key);
+            }
 
-                if (mapListeners != null) {
-                    mapListeners.valueRemoved(this, key, value);
-                }
+            // Decrement the count
+            count--;
 
-                break;
+            if (mapListeners != null) {
+                mapListeners.valueRemoved(this, key, value);
             }
         }
 
@@ -291,11 +301,8 @@ public class HashMap<K, V> implements Map<K, V>, Serializable {
     public void clear() {
         if (count > 0) {
             // Remove all entries
-            for (LinkedList<Pair<K, V>> bucket : buckets) {
-                if (bucket != null) {
-                    bucket.clear();
-                }
-            }
+            Arrays.fill(keyTable, null);
+            Arrays.fill(valueTable, null);
 
             if (keys != null) {
                 keys.clear();
@@ -303,6 +310,7 @@ public class HashMap<K, V> implements Map<K, V>, Serializable {
 
             // Clear the count
             count = 0;
+            occupied = 0;
 
             if (mapListeners != null) {
                 mapListeners.mapCleared(this);
@@ -322,22 +330,7 @@ public class HashMap<K, V> implements Map<K, V>, Serializable {
             throw new IllegalArgumentException("key cannot be null.");
         }
 
-        // Locate the entry
-        LinkedList<Pair<K, V>> bucket = getBucket(key);
-
-        int i = 0;
-        List.ItemIterator<Pair<K, V>> iterator = bucket.iterator();
-        while (iterator.hasNext()) {
-            Pair<K, V> entry = iterator.next();
-
-            if (entry.key.equals(key)) {
-                break;
-            }
-
-            i++;
-        }
-
-        return (i < bucket.getLength());
+        return (indexOf(key) != -1);
     }
 
     @Override
@@ -351,45 +344,117 @@ public class HashMap<K, V> implements Map<K, V>, Serializable {
     }
 
     public int getCapacity() {
-        return buckets.getLength();
+        return keyTable.length;
     }
 
     private void rehash(int capacity) {
-        ArrayList<LinkedList<Pair<K, V>>> previousBuckets = this.buckets;
-        buckets = new ArrayList<LinkedList<Pair<K, V>>>(capacity);
-
-        for (int i = 0; i < capacity; i++) {
-            buckets.add(null);
+        // Round the capacity up to a power of two so that a mask can be
+        // used in place of the modulus
+        int tableCapacity = 1;
+        while (tableCapacity < capacity
+            && tableCapacity < (1 << 30)) {
+            tableCapacity <<= 1;
         }
 
-        if (previousBuckets != null) {
-            count = 0;
+        Object[] previousKeyTable = keyTable;
+        Object[] previousValueTable = valueTable;
 
-            if (keys != null) {
-                keys.clear();
-            }
+        keyTable = new Object[tableCapacity];
+        valueTable = new Object[tableCapacity];
+
+        // Always leave at least one empty slot to terminate probing
+        threshold = Math.min((int)(tableCapacity * loadFactor), tableCapacity - 1);
 
-            for (LinkedList<Pair<K, V>> bucket : previousBuckets) {
-                if (bucket != null) {
-                    for (Pair<K, V> entry : bucket) {
-                        put(entry.key, entry.value, false);
+        if (previousKeyTable != null) {
+            int mask = tableCapacity - 1;
+
+            for (int i = 0; i < previousKeyTable.length; i++) {
+                Object key = previousKeyTable[i];
+
+                if (key != null
+                    && key != REMOVED) {
+                    int index = hash(key) & mask;
+                    while (keyTable[index] != null) {
+                        index = (index + 1) & mask;
                     }
+
+                    keyTable[index] = key;
+                    valueTable[index] = previousValueTable[i];
                 }
             }
         }
+
+        occupied = count;
+    }
+
+    private int indexOf(Object key) {
+        int mask = keyTable.length - 1;
+        int index = hash(key) & mask;
+
+        Object k = keyTable[index];
+        while (k != null) {
+            if (k != REMOVED
+                && (k == key
+                    || k.equals(key))) {
+                return index;
+            }
+
+            index = (index + 1) & mask;
+            k = keyTable[index];
+        }
+
+        return -1;
+    }
+
+    private static int hash(Object key) {
+        // Spread the hash code so that keys differing only in their high
+        // bits do not collide in the low bits used to index the table
+        int hashCode = key.hashCode() * 0x9E3779B9;
+        return hashCode ^ (hashCode >>> 16);
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+
+        out.writeInt(keyTable.length);
+        out.writeInt(count);
+
+        for (int i = 0; i < keyTable.length; i++) {
+            Object key = keyTable[i];
+
+            if (key != null
+                && key != REMOVED) {
+                out.writeObject(key);
+                out.writeObject(valueTable[i]);
+            }
+        }
     }
 
-    private LinkedList<Pair<K, V>> getBucket(K key) {
-        int hashCode = key.hashCode();
-        int bucketIndex = Math.abs(hashCode % getCapacity());
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+
+        int capacity = in.readInt();
+        int n = in.readInt();
+
+        rehash(capacity);
+
+        int mask = keyTable.length - 1;
+        for (int i = 0; i < n; i++) {
+            K key = (K)in.readObject();
+            V value = (V)in.readObject();
+
+            int index = hash(key) & mask;
+            while (keyTable[index] != null) {
+                index = (index + 1) & mask;
+            }
 
-        LinkedList<Pair<K, V>> bucket = buckets.get(bucketIndex);
-        if (bucket == null) {
-            bucket = new LinkedList<Pair<K, V>>();
-            buckets.update(bucketIndex, bucket);
+            keyTable[index] = key;
+            valueTable[index] = value;
         }
 
-        return bucket;
+        count = n;
+        occupied = n;
     }
 
     @Override
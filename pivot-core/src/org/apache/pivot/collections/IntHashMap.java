@@ -0,0 +1,303 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pivot.collections;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+/**
+ * Hash table that maps <tt>int</tt> keys to values without boxing the keys.
+ * Like {@link HashMap}, entries are stored in an open-addressed table using
+ * linear probing.
+ * <p>
+ * NOTE This class is not thread-safe and does not fire events.
+ */
+public class IntHashMap<V> implements Serializable {
+    private static final long serialVersionUID = 1840219528417937704L;
+
+    /**
+     * Iterator over the keys of an {@link IntHashMap}.
+     */
+    public final class KeyIterator {
+        private int index = 0;
+        private int current = -1;
+        private int countLocal;
+
+        private KeyIterator() {
+            countLocal = count;
+        }
+
+        public boolean hasNext() {
+            if (countLocal != count) {
+                throw new ConcurrentModificationException();
+            }
+
+            // Move to the next occupied slot
+            while (index < states.length
+                && states[index] != OCCUPIED) {
+                index++;
+            }
+
+            return (index < states.length);
+        }
+
+        public int next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            current = index++;
+            return keyTable[current];
+        }
+
+        public void remove() {
+            if (current == -1) {
+                throw new IllegalStateException();
+            }
+
+            states[current] = REMOVED;
+            valueTable[current] = null;
+
+            countLocal--;
+            count--;
+
+            current = -1;
+        }
+    }
+
+    private int[] keyTable;
+    private Object[] valueTable;
+    private byte[] states;
+    private float loadFactor;
+
+    private int count = 0;
+    // Number of slots that are either in use or marked as removed
+    private int occupied = 0;
+    private int threshold = 0;
+
+    private static final byte EMPTY = 0;
+    private static final byte OCCUPIED = 1;
+    private static final byte REMOVED = 2;
+
+    public static final int DEFAULT_CAPACITY = 16;
+    public static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+    public IntHashMap() {
+        this(DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    public IntHashMap(int capacity) {
+        this(capacity, DEFAULT_LOAD_FACTOR);
+    }
+
+    public IntHashMap(int capacity, float loadFactor) {
+        if (loadFactor <= 0
+            || Float.isNaN(loadFactor)) {
+            throw new IllegalArgumentException("loadFactor must be positive.");
+        }
+
+        this.loadFactor = loadFactor;
+
+        rehash(capacity);
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        int index = indexOf(key);
+
+        return (index == -1) ? null : (V)valueTable[index];
+    }
+
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value) {
+        V previousValue = null;
+
+        // Locate the entry, remembering the first reusable slot
+        int mask = keyTable.length - 1;
+        int index = hash(key) & mask;
+        int available = -1;
+
+        while (states[index] != EMPTY) {
+            if (states[index] == REMOVED) {
+                if (available == -1) {
+                    available = index;
+                }
+            } else if (keyTable[index] == key) {
+                break;
+            }
+
+            index = (index + 1) & mask;
+        }
+
+        if (states[index] == OCCUPIED) {
+            // Update the entry
+            previousValue = (V)valueTable[index];
+            valueTable[index] = value;
+        } else {
+            // Add the entry
+            if (available == -1) {
+                available = index;
+                occupied++;
+            }
+
+            keyTable[available] = key;
+            valueTable[available] = value;
+            states[available] = OCCUPIED;
+
+            count++;
+
+            if (occupied > threshold) {
+                int capacity = getCapacity();
+                rehash((count >= threshold / 2) ? capacity * 2 : capacity);
+            }
+        }
+
+        return previousValue;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V remove(int key) {
+        V value = null;
+
+        int index = indexOf(key);
+
+        if (index != -1) {
+            value = (V)valueTable[index];
+            valueTable[index] = null;
+            states[index] = REMOVED;
+
+            count--;
+        }
+
+        return value;
+    }
+
+    public void clear() {
+        if (count > 0) {
+            Arrays.fill(valueTable, null);
+            Arrays.fill(states, EMPTY);
+
+            count = 0;
+            occupied = 0;
+        }
+    }
+
+    public boolean containsKey(int key) {
+        return (indexOf(key) != -1);
+    }
+
+    public boolean isEmpty() {
+        return (count == 0);
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public int getCapacity() {
+        return keyTable.length;
+    }
+
+    public KeyIterator keyIterator() {
+        return new KeyIterator();
+    }
+
+    private void rehash(int capacity) {
+        int tableCapacity = 1;
+        while (tableCapacity < capacity
+            && tableCapacity < (1 << 30)) {
+            tableCapacity <<= 1;
+        }
+
+        int[] previousKeyTable = keyTable;
+        Object[] previousValueTable = valueTable;
+        byte[] previousStates = states;
+
+        keyTable = new int[tableCapacity];
+        valueTable = new Object[tableCapacity];
+        states = new byte[tableCapacity];
+
+        // Always leave at least one empty slot to terminate probing
+        threshold = Math.min((int)(tableCapacity * loadFactor), tableCapacity - 1);
+
+        if (previousStates != null) {
+            int mask = tableCapacity - 1;
+
+            for (int i = 0; i < previousStates.length; i++) {
+                if (previousStates[i] == OCCUPIED) {
+                    int index = hash(previousKeyTable[i]) & mask;
+                    while (states[index] != EMPTY) {
+                        index = (index + 1) & mask;
+                    }
+
+                    keyTable[index] = previousKeyTable[i];
+                    valueTable[index] = previousValueTable[i];
+                    states[index] = OCCUPIED;
+                }
+            }
+        }
+
+        occupied = count;
+    }
+
+    private int indexOf(int key) {
+        int mask = keyTable.length - 1;
+        int index = hash(key) & mask;
+
+        while (states[index] != EMPTY) {
+            if (states[index] == OCCUPIED
+                && keyTable[index] == key) {
+                return index;
+            }
+
+            index = (index + 1) & mask;
+        }
+
+        return -1;
+    }
+
+    private static int hash(int key) {
+        int hashCode = key * 0x9E3779B9;
+        return hashCode ^ (hashCode >>> 16);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+
+        sb.append(getClass().getName());
+        sb.append(" {");
+
+        int i = 0;
+        for (int j = 0; j < states.length; j++) {
+            if (states[j] == OCCUPIED) {
+                if (i > 0) {
+                    sb.append(", ");
+                }
+
+                sb.append(keyTable[j] + ":" + valueTable[j]);
+                i++;
+            }
+        }
+
+        sb.append("}");
+
+        return sb.toString();
+    }
+}
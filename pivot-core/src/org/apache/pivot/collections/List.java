@@ -42,40 +42,46 @@ public interface List<T> extends Sequence<T>, Collection<T> {
     /**
      * List listener list.
      */
+    @SuppressWarnings("unchecked")
     public static class ListListenerList<T>
         extends ListenerList<ListListener<T>> implements ListListener<T> {
         @Override
         public void itemInserted(List<T> list, int index) {
-            for (ListListener<T> listener : this) {
-                listener.itemInserted(list, index);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ListListener<T>)listeners[i]).itemInserted(list, index);
             }
         }
 
         @Override
         public void itemsRemoved(List<T> list, int index, Sequence<T> items) {
-            for (ListListener<T> listener : this) {
-                listener.itemsRemoved(list, index, items);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ListListener<T>)listeners[i]).itemsRemoved(list, index, items);
             }
         }
 
         @Override
         public void itemUpdated(List<T> list, int index, T previousItem) {
-            for (ListListener<T> listener : this) {
-                listener.itemUpdated(list, index, previousItem);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ListListener<T>)listeners[i]).itemUpdated(list, index, previousItem);
             }
         }
 
         @Override
         public void listCleared(List<T> list) {
-            for (ListListener<T> listener : this) {
-                listener.listCleared(list);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ListListener<T>)listeners[i]).listCleared(list);
             }
         }
 
         @Override
         public void comparatorChanged(List<T> list, Comparator<T> previousComparator) {
-            for (ListListener<T> listener : this) {
-                listener.comparatorChanged(list, previousComparator);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ListListener<T>)listeners[i]).comparatorChanged(list, previousComparator);
             }
         }
     }
@@ -28,40 +28,46 @@ public interface Map<K, V> extends Dictionary<K, V>, Collection<K> {
     /**
      * Map listener list.
      */
+    @SuppressWarnings("unchecked")
     public static class MapListenerList<K, V>
         extends ListenerList<MapListener<K, V>> implements MapListener<K, V> {
         @Override
         public void valueAdded(Map<K, V> map, K key) {
-            for (MapListener<K, V> listener : this) {
-                listener.valueAdded(map, key);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((MapListener<K, V>)listeners[i]).valueAdded(map, key);
             }
         }
 
         @Override
         public void valueRemoved(Map<K, V> map, K key, V value) {
-            for (MapListener<K, V> listener : this) {
-                listener.valueRemoved(map, key, value);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((MapListener<K, V>)listeners[i]).valueRemoved(map, key, value);
             }
         }
 
         @Override
         public void valueUpdated(Map<K, V> map, K key, V previousValue) {
-            for (MapListener<K, V> listener : this) {
-                listener.valueUpdated(map, key, previousValue);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((MapListener<K, V>)listeners[i]).valueUpdated(map, key, previousValue);
             }
         }
 
         @Override
         public void mapCleared(Map<K, V> map) {
-            for (MapListener<K, V> listener : this) {
-                listener.mapCleared(map);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((MapListener<K, V>)listeners[i]).mapCleared(map);
             }
         }
 
         @Override
         public void comparatorChanged(Map<K, V> map, Comparator<K> previousComparator) {
-            for (MapListener<K, V> listener : this) {
-                listener.comparatorChanged(map, previousComparator);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((MapListener<K, V>)listeners[i]).comparatorChanged(map, previousComparator);
             }
         }
     }
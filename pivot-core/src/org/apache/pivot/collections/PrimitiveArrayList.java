@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pivot.collections;
+
+import java.io.Serializable;
+
+/**
+ * Abstract base class for the array-backed lists of primitive values, such
+ * as {@link IntArrayList}. Maintains the length of the list and the capacity
+ * of its backing array; subclasses hold the array itself, typed by the kind
+ * of value they store.
+ * <p>
+ * NOTE This class is not thread-safe.
+ */
+public abstract class PrimitiveArrayList implements Serializable {
+    private static final long serialVersionUID = 2749468251731457812L;
+
+    int length = 0;
+
+    public static final int DEFAULT_CAPACITY = 10;
+
+    PrimitiveArrayList() {
+    }
+
+    /**
+     * Returns the backing array.
+     */
+    abstract Object getItems();
+
+    /**
+     * Replaces the backing array with a copy of the given capacity.
+     */
+    abstract void resize(int capacity);
+
+    abstract void fireItemsRemoved(int index, int count);
+
+    abstract void fireListCleared();
+
+    /**
+     * Opens a slot in the backing array for an item inserted at the given
+     * index. The caller stores the item and fires the insert event.
+     */
+    final void insertSlot(int index) {
+        if (index < 0 || index > length) {
+            throw new IndexOutOfBoundsException("index " + index + " out of bounds [0," + length + "].");
+        }
+
+        ensureCapacity(length + 1);
+
+        Object items = getItems();
+        System.arraycopy(items, index, items, index + 1, length - index);
+
+        length++;
+    }
+
+    /**
+     * Removes a range of items from the list.
+     *
+     * @param index
+     * The starting index of the range to remove.
+     *
+     * @param count
+     * The number of items to remove.
+     */
+    public void remove(int index, int count) {
+        verifyIndexBounds(index, count, length);
+
+        if (count > 0) {
+            Object items = getItems();
+            System.arraycopy(items, index + count, items, index, length - (index + count));
+            length -= count;
+
+            fireItemsRemoved(index, count);
+        }
+    }
+
+    public void clear() {
+        if (length > 0) {
+            length = 0;
+
+            fireListCleared();
+        }
+    }
+
+    public boolean isEmpty() {
+        return (length == 0);
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    public void trimToSize() {
+        resize(length);
+    }
+
+    public void ensureCapacity(int capacity) {
+        int currentCapacity = getCapacity();
+
+        if (capacity > currentCapacity) {
+            resize(Math.max(currentCapacity * 3 / 2, capacity));
+        }
+    }
+
+    public abstract int getCapacity();
+
+    final void verifyIndex(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("index " + index + " out of bounds [0," + (length - 1) + "].");
+        }
+    }
+
+    static void verifyIndexBounds(int index, int count, int length) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count (" + count + ") < 0");
+        }
+
+        if (index < 0 || index + count > length) {
+            throw new IndexOutOfBoundsException("index + count " + index + "," + count + " out of bounds [0," + length + "].");
+        }
+    }
+}
@@ -28,33 +28,38 @@ public interface Queue<T> extends Collection<T> {
     /**
      * Queue listener list.
      */
+    @SuppressWarnings("unchecked")
     public static class QueueListenerList<T> extends ListenerList<QueueListener<T>>
         implements QueueListener<T> {
         @Override
         public void itemEnqueued(Queue<T> queue, T item) {
-            for (QueueListener<T> listener : this) {
-                listener.itemEnqueued(queue, item);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((QueueListener<T>)listeners[i]).itemEnqueued(queue, item);
             }
         }
 
         @Override
         public void itemDequeued(Queue<T> queue, T item) {
-            for (QueueListener<T> listener : this) {
-                listener.itemDequeued(queue, item);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((QueueListener<T>)listeners[i]).itemDequeued(queue, item);
             }
         }
 
         @Override
         public void queueCleared(Queue<T> queue) {
-            for (QueueListener<T> listener : this) {
-                listener.queueCleared(queue);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((QueueListener<T>)listeners[i]).queueCleared(queue);
             }
         }
 
         @Override
         public void comparatorChanged(Queue<T> queue, Comparator<T> previousComparator) {
-            for (QueueListener<T> listener : this) {
-                listener.comparatorChanged(queue, previousComparator);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((QueueListener<T>)listeners[i]).comparatorChanged(queue, previousComparator);
             }
         }
     }
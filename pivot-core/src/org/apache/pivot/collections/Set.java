@@ -27,33 +27,38 @@ public interface Set<E> extends Group<E>, Collection<E> {
     /**
      * Set listener list.
      */
+    @SuppressWarnings("unchecked")
     public static class SetListenerList<E>
         extends ListenerList<SetListener<E>> implements SetListener<E> {
         @Override
         public void elementAdded(Set<E> set, E element) {
-            for (SetListener<E> listener : this) {
-                listener.elementAdded(set, element);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((SetListener<E>)listeners[i]).elementAdded(set, element);
             }
         }
 
         @Override
         public void elementRemoved(Set<E> set, E element) {
-            for (SetListener<E> listener : this) {
-                listener.elementRemoved(set, element);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((SetListener<E>)listeners[i]).elementRemoved(set, element);
             }
         }
 
         @Override
         public void setCleared(Set<E> set) {
-            for (SetListener<E> listener : this) {
-                listener.setCleared(set);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((SetListener<E>)listeners[i]).setCleared(set);
             }
         }
 
         @Override
         public void comparatorChanged(Set<E> set, Comparator<E> previousComparator) {
-            for (SetListener<E> listener : this) {
-                listener.comparatorChanged(set, previousComparator);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((SetListener<E>)listeners[i]).comparatorChanged(set, previousComparator);
             }
         }
     }
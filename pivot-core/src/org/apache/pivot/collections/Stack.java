@@ -28,33 +28,38 @@ public interface Stack<T> extends Collection<T> {
     /**
      * Stack listener list.
      */
+    @SuppressWarnings("unchecked")
     public static class StackListenerList<T> extends ListenerList<StackListener<T>>
         implements StackListener<T> {
         @Override
         public void itemPushed(Stack<T> stack, T item) {
-            for (StackListener<T> listener : this) {
-                listener.itemPushed(stack, item);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((StackListener<T>)listeners[i]).itemPushed(stack, item);
             }
         }
 
         @Override
         public void itemPopped(Stack<T> stack, T item) {
-            for (StackListener<T> listener : this) {
-                listener.itemPopped(stack, item);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((StackListener<T>)listeners[i]).itemPopped(stack, item);
             }
         }
 
         @Override
         public void stackCleared(Stack<T> stack) {
-            for (StackListener<T> listener : this) {
-                listener.stackCleared(stack);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((StackListener<T>)listeners[i]).stackCleared(stack);
             }
         }
 
         @Override
         public void comparatorChanged(Stack<T> stack, Comparator<T> previousComparator) {
-            for (StackListener<T> listener : this) {
-                listener.comparatorChanged(stack, previousComparator);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((StackListener<T>)listeners[i]).comparatorChanged(stack, previousComparator);
             }
         }
     }
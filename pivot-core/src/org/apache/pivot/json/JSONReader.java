@@ -0,0 +1,595 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pivot.json;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+import org.apache.pivot.serialization.SerializationException;
+
+/**
+ * Pull-style JSON reader. Rather than building a tree of dictionaries and
+ * sequences, callers advance through the input one {@link Event} at a time
+ * via {@link #next()}, so arbitrarily large documents can be processed in
+ * constant memory. Accepts the same relaxed syntax as {@link JSONSerializer}
+ * (comments, single-quoted strings and undelimited keys).
+ * <p>
+ * Input is consumed through a private character buffer, so the underlying
+ * reader does not need to be buffered.
+ */
+public class JSONReader {
+    /**
+     * Enumeration of events produced by the reader.
+     */
+    public enum Event {
+        BEGIN_DICTIONARY,
+        END_DICTIONARY,
+        KEY,
+        BEGIN_SEQUENCE,
+        END_SEQUENCE,
+        STRING,
+        NUMBER,
+        BOOLEAN,
+        NULL,
+        END_DOCUMENT
+    }
+
+    private Reader reader;
+
+    private char[] buffer;
+    private int position = 0;
+    private int count = 0;
+    private int lineNumber = 0;
+
+    private int c = -1;
+
+    // Parse state for each open container
+    private int[] contexts = new int[16];
+    private int depth = 0;
+    private boolean rootRead = false;
+
+    private Event event = null;
+    private StringBuilder text = new StringBuilder();
+    private String string = null;
+    private Number number = null;
+    private boolean bool = false;
+
+    private static final int DICTIONARY_KEY = 0;
+    private static final int DICTIONARY_VALUE = 1;
+    private static final int DICTIONARY_NEXT = 2;
+    private static final int SEQUENCE_VALUE = 3;
+    private static final int SEQUENCE_NEXT = 4;
+
+    // Longest run of decimal digits that is guaranteed to fit in a long
+    private static final int MAXIMUM_LONG_DIGITS = 18;
+
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    public JSONReader(Reader reader) throws IOException {
+        this(reader, DEFAULT_BUFFER_SIZE);
+    }
+
+    public JSONReader(Reader reader, int bufferSize) throws IOException {
+        if (reader == null) {
+            throw new IllegalArgumentException("reader is null.");
+        }
+
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("bufferSize must be positive.");
+        }
+
+        this.reader = reader;
+        buffer = new char[bufferSize];
+
+        // Move to the first character
+        c = read();
+
+        // Ignore BOM (if present)
+        if (c == 0xFEFF) {
+            c = read();
+        }
+    }
+
+    /**
+     * Advances the reader to the next event.
+     *
+     * @return
+     * The event, or {@link Event#END_DOCUMENT} once the root value has been
+     * completely read.
+     */
+    public Event next() throws IOException, SerializationException {
+        string = null;
+        number = null;
+
+        if (depth == 0) {
+            if (rootRead) {
+                event = Event.END_DOCUMENT;
+            } else {
+                rootRead = true;
+                event = readValue();
+            }
+
+            return event;
+        }
+
+        skipWhitespaceAndComments();
+
+        switch (contexts[depth - 1]) {
+            case DICTIONARY_KEY: {
+                if (c == '}') {
+                    event = endContainer();
+                } else {
+                    readKey();
+                    contexts[depth - 1] = DICTIONARY_VALUE;
+                    event = Event.KEY;
+                }
+
+                break;
+            }
+
+            case DICTIONARY_VALUE: {
+                if (c != ':') {
+                    throw unexpected();
+                }
+
+                // Move to the first character after ':'
+                c = read();
+                contexts[depth - 1] = DICTIONARY_NEXT;
+                event = readValue();
+
+                break;
+            }
+
+            case DICTIONARY_NEXT: {
+                if (c == ',') {
+                    c = read();
+                    skipWhitespaceAndComments();
+
+                    if (c == '}') {
+                        event = endContainer();
+                    } else {
+                        readKey();
+                        contexts[depth - 1] = DICTIONARY_VALUE;
+                        event = Event.KEY;
+                    }
+                } else if (c == '}') {
+                    event = endContainer();
+                } else {
+                    throw unexpected();
+                }
+
+                break;
+            }
+
+            case SEQUENCE_VALUE: {
+                if (c == ']') {
+                    event = endContainer();
+                } else {
+                    contexts[depth - 1] = SEQUENCE_NEXT;
+                    event = readValue();
+                }
+
+                break;
+            }
+
+            case SEQUENCE_NEXT: {
+                if (c == ',') {
+                    c = read();
+                    skipWhitespaceAndComments();
+
+                    if (c == ']') {
+                        event = endContainer();
+                    } else {
+                        event = readValue();
+                    }
+                } else if (c == ']') {
+                    event = endContainer();
+                } else {
+                    throw unexpected();
+                }
+
+                break;
+            }
+
+            default: {
+                throw new IllegalStateException();
+            }
+        }
+
+        return event;
+    }
+
+    /**
+     * Skips the value associated with the current event. If the current event
+     * is {@link Event#BEGIN_DICTIONARY} or {@link Event#BEGIN_SEQUENCE}, the
+     * reader advances to the matching end event; if it is {@link Event#KEY},
+     * the key's value is skipped. Otherwise, this method has no effect.
+     */
+    public void skipValue() throws IOException, SerializationException {
+        if (event == Event.KEY) {
+            next();
+        }
+
+        if (event == Event.BEGIN_DICTIONARY
+            || event == Event.BEGIN_SEQUENCE) {
+            int targetDepth = depth - 1;
+
+            while (depth > targetDepth) {
+                if (next() == Event.END_DOCUMENT) {
+                    throw new SerializationException("Unexpected end of input stream.");
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the most recent event returned by {@link #next()}.
+     */
+    public Event getEvent() {
+        return event;
+    }
+
+    /**
+     * Returns the string value of the current {@link Event#KEY} or
+     * {@link Event#STRING} event.
+     */
+    public String getString() {
+        if (string == null
+            && (event == Event.KEY
+                || event == Event.STRING)) {
+            string = text.toString();
+        }
+
+        return string;
+    }
+
+    /**
+     * Returns the value of the current {@link Event#NUMBER} event as an
+     * <tt>Integer</tt>, <tt>Long</tt> or <tt>Double</tt>, consistent with
+     * {@link JSONSerializer}.
+     */
+    public Number getNumber() {
+        return number;
+    }
+
+    /**
+     * Returns the value of the current {@link Event#BOOLEAN} event.
+     */
+    public boolean getBoolean() {
+        return bool;
+    }
+
+    /**
+     * Returns the number of dictionaries and sequences that are currently open.
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Returns the zero-based line number of the current read position.
+     */
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    private int read() throws IOException {
+        if (position == count) {
+            count = reader.read(buffer, 0, buffer.length);
+            position = 0;
+
+            if (count <= 0) {
+                count = 0;
+                return -1;
+            }
+        }
+
+        char ch = buffer[position++];
+        if (ch == '\n') {
+            lineNumber++;
+        }
+
+        return ch;
+    }
+
+    private SerializationException unexpected() {
+        if (c == -1) {
+            return new SerializationException("Unexpected end of input stream.");
+        }
+
+        return new SerializationException("Unexpected character in input stream.");
+    }
+
+    private Event readValue() throws IOException, SerializationException {
+        skipWhitespaceAndComments();
+
+        if (c == -1) {
+            throw new SerializationException("Unexpected end of input stream.");
+        }
+
+        Event valueEvent;
+        if (c == 'n') {
+            readLiteral("null");
+            valueEvent = Event.NULL;
+        } else if (c == '"' || c == '\'') {
+            readString();
+            valueEvent = Event.STRING;
+        } else if (c == '+' || c == '-' || Character.isDigit(c)) {
+            readNumber();
+            valueEvent = Event.NUMBER;
+        } else if (c == 't') {
+            readLiteral("true");
+            bool = true;
+            valueEvent = Event.BOOLEAN;
+        } else if (c == 'f') {
+            readLiteral("false");
+            bool = false;
+            valueEvent = Event.BOOLEAN;
+        } else if (c == '{') {
+            beginContainer(DICTIONARY_KEY);
+            valueEvent = Event.BEGIN_DICTIONARY;
+        } else if (c == '[') {
+            beginContainer(SEQUENCE_VALUE);
+            valueEvent = Event.BEGIN_SEQUENCE;
+        } else {
+            throw new SerializationException("Unexpected character in input stream.");
+        }
+
+        return valueEvent;
+    }
+
+    private void beginContainer(int context) throws IOException {
+        if (depth == contexts.length) {
+            contexts = Arrays.copyOf(contexts, depth * 2);
+        }
+
+        contexts[depth++] = context;
+
+        // Move to the next character after '{' or '['
+        c = read();
+    }
+
+    private Event endContainer() throws IOException {
+        int context = contexts[--depth];
+
+        // Move to the next character after '}' or ']'
+        c = read();
+
+        return (context == SEQUENCE_VALUE
+            || context == SEQUENCE_NEXT) ? Event.END_SEQUENCE : Event.END_DICTIONARY;
+    }
+
+    private void skipWhitespaceAndComments() throws IOException, SerializationException {
+        while (c != -1
+            && (Character.isWhitespace(c)
+                || c == '/')) {
+            boolean comment = (c == '/');
+
+            // Read the next character
+            c = read();
+
+            if (comment) {
+                if (c == '/') {
+                    // Single-line comment
+                    while (c != -1
+                        && c != '\n'
+                        && c != '\r') {
+                        c = read();
+                    }
+                } else if (c == '*') {
+                    // Multi-line comment
+                    boolean closed = false;
+
+                    while (c != -1
+                        && !closed) {
+                        c = read();
+
+                        if (c == '*') {
+                            c = read();
+                            closed = (c == '/');
+                        }
+                    }
+
+                    if (!closed) {
+                        throw new SerializationException("Unexpected end of input stream.");
+                    }
+
+                    if (c != -1) {
+                        c = read();
+                    }
+                } else {
+                    throw new SerializationException("Unexpected character in input stream.");
+                }
+            }
+        }
+    }
+
+    private void readLiteral(String literal) throws IOException, SerializationException {
+        int n = literal.length();
+        int i = 0;
+
+        while (c != -1 && i < n) {
+            if (literal.charAt(i) != c) {
+                throw new SerializationException("Unexpected character in input stream.");
+            }
+
+            c = read();
+            i++;
+        }
+
+        if (i < n) {
+            throw new SerializationException("Incomplete " + literal + " value in input stream.");
+        }
+    }
+
+    private void readKey() throws IOException, SerializationException {
+        if (c == '"' || c == '\'') {
+            // The key is a delimited string
+            readString();
+        } else {
+            // The key is an undelimited string; it must adhere to Java
+            // identifier syntax
+            text.setLength(0);
+
+            if (c == -1) {
+                throw new SerializationException("Unexpected end of input stream.");
+            }
+
+            if (!Character.isJavaIdentifierStart(c)) {
+                throw new SerializationException("Illegal identifier start character.");
+            }
+
+            while (c != -1
+                && c != ':' && !Character.isWhitespace(c)) {
+                if (!Character.isJavaIdentifierPart(c)) {
+                    throw new SerializationException("Illegal identifier character.");
+                }
+
+                text.append((char)c);
+                c = read();
+            }
+
+            if (c == -1) {
+                throw new SerializationException("Unexpected end of input stream.");
+            }
+        }
+
+        if (text.length() == 0) {
+            throw new SerializationException("\"\" is not a valid key.");
+        }
+    }
+
+    private void readString() throws IOException, SerializationException {
+        text.setLength(0);
+
+        // Use the same delimiter to close the string
+        int t = c;
+
+        // Move to the next character after the delimiter
+        c = read();
+
+        while (c != -1 && c != t) {
+            if (!Character.isISOControl(c)) {
+                if (c == '\\') {
+                    c = read();
+
+                    if (c == 'b') {
+                        c = '\b';
+                    } else if (c == 'f') {
+                        c = '\f';
+                    } else if (c == 'n') {
+                        c = '\n';
+                    } else if (c == 'r') {
+                        c = '\r';
+                    } else if (c == 't') {
+                        c = '\t';
+                    } else if (c == 'u') {
+                        int unicode = 0;
+                        for (int i = 0; i < 4; i++) {
+                            c = read();
+
+                            int digit = Character.digit(c, 16);
+                            if (digit == -1) {
+                                throw new SerializationException("Invalid unicode escape sequence in input stream.");
+                            }
+
+                            unicode = (unicode << 4) | digit;
+                        }
+
+                        c = unicode;
+                    } else {
+                        if (!(c == '\\'
+                            || c == '/'
+                            || c == '\"'
+                            || c == '\''
+                            || c == t)) {
+                            throw new SerializationException("Unsupported escape sequence in input stream.");
+                        }
+                    }
+                }
+
+                text.append((char)c);
+            }
+
+            c = read();
+        }
+
+        if (c != t) {
+            throw new SerializationException("Unterminated string in input stream.");
+        }
+
+        // Move to the next character after the delimiter
+        c = read();
+    }
+
+    private void readNumber() throws IOException, SerializationException {
+        text.setLength(0);
+
+        boolean negative = false;
+        boolean integer = true;
+
+        if (c == '+' || c == '-') {
+            negative = (c == '-');
+            c = read();
+        }
+
+        // Accumulate integral values directly, deferring to the text only for
+        // fractional values and values that may overflow a long
+        long value = 0;
+
+        while (c != -1 && (Character.isDigit(c) || c == '.'
+            || c == 'e' || c == 'E' || c == '-' || c == '+')) {
+            if (integer
+                && c >= '0' && c <= '9') {
+                value = value * 10 + (c - '0');
+            } else {
+                integer = false;
+            }
+
+            text.append((char)c);
+            c = read();
+        }
+
+        if (text.length() == 0) {
+            throw new SerializationException("Unexpected character in input stream.");
+        }
+
+        try {
+            if (integer) {
+                if (text.length() > MAXIMUM_LONG_DIGITS) {
+                    value = Long.parseLong(text.toString());
+                }
+
+                if (negative) {
+                    value = -value;
+                }
+
+                if (value > Integer.MAX_VALUE
+                    || value < Integer.MIN_VALUE) {
+                    number = value;
+                } else {
+                    number = (int)value;
+                }
+            } else {
+                number = Double.parseDouble(text.toString()) * (negative ? -1.0d : 1.0d);
+            }
+        } catch (NumberFormatException exception) {
+            throw new SerializationException(exception);
+        }
+    }
+}
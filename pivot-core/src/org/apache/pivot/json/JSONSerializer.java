@@ -55,64 +55,73 @@ public class JSONSerializer implements Serializer<Object> {
         implements JSONSerializerListener {
         @Override
         public void beginDictionary(JSONSerializer jsonSerializer, Dictionary<String, ?> value) {
-            for (JSONSerializerListener listener : this) {
-                listener.beginDictionary(jsonSerializer, value);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((JSONSerializerListener)listeners[i]).beginDictionary(jsonSerializer, value);
             }
         }
 
         @Override
         public void endDictionary(JSONSerializer jsonSerializer) {
-            for (JSONSerializerListener listener : this) {
-                listener.endDictionary(jsonSerializer);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((JSONSerializerListener)listeners[i]).endDictionary(jsonSerializer);
             }
         }
 
         @Override
         public void readKey(JSONSerializer jsonSerializer, String key) {
-            for (JSONSerializerListener listener : this) {
-                listener.readKey(jsonSerializer, key);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((JSONSerializerListener)listeners[i]).readKey(jsonSerializer, key);
             }
         }
 
         @Override
         public void beginSequence(JSONSerializer jsonSerializer, Sequence<?> value) {
-            for (JSONSerializerListener listener : this) {
-                listener.beginSequence(jsonSerializer, value);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((JSONSerializerListener)listeners[i]).beginSequence(jsonSerializer, value);
             }
         }
 
         @Override
         public void endSequence(JSONSerializer jsonSerializer) {
-            for (JSONSerializerListener listener : this) {
-                listener.endSequence(jsonSerializer);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((JSONSerializerListener)listeners[i]).endSequence(jsonSerializer);
             }
         }
 
         @Override
         public void readString(JSONSerializer jsonSerializer, String value) {
-            for (JSONSerializerListener listener : this) {
-                listener.readString(jsonSerializer, value);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((JSONSerializerListener)listeners[i]).readString(jsonSerializer, value);
             }
         }
 
         @Override
         public void readNumber(JSONSerializer jsonSerializer, Number value) {
-            for (JSONSerializerListener listener : this) {
-                listener.readNumber(jsonSerializer, value);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((JSONSerializerListener)listeners[i]).readNumber(jsonSerializer, value);
             }
         }
 
         @Override
         public void readBoolean(JSONSerializer jsonSerializer, Boolean value) {
-            for (JSONSerializerListener listener : this) {
-                listener.readBoolean(jsonSerializer, value);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((JSONSerializerListener)listeners[i]).readBoolean(jsonSerializer, value);
             }
         }
 
         @Override
         public void readNull(JSONSerializer jsonSerializer) {
-            for (JSONSerializerListener listener : this) {
-                listener.readNull(jsonSerializer);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((JSONSerializerListener)listeners[i]).readNull(jsonSerializer);
             }
         }
     }
@@ -122,9 +131,13 @@ public class JSONSerializer implements Serializer<Object> {
 
     private boolean alwaysDelimitMapKeys = false;
     private boolean verbose = false;
+    private boolean streaming = false;
 
     private int c = -1;
 
+    private boolean escapeUnicode;
+    private char[] writeBuffer = new char[BUFFER_SIZE];
+
     private JSONSerializerListenerList jsonSerializerListeners = null;
 
     public static final String DEFAULT_CHARSET_NAME = "UTF-8";
@@ -134,6 +147,8 @@ public class JSONSerializer implements Serializer<Object> {
     public static final String MIME_TYPE = "application/json";
     public static final int BUFFER_SIZE = 2048;
 
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
     public JSONSerializer() {
         this(Charset.forName(DEFAULT_CHARSET_NAME), DEFAULT_TYPE);
     }
@@ -157,6 +172,8 @@ public class JSONSerializer implements Serializer<Object> {
 
         this.charset = charset;
         this.type = type;
+
+        escapeUnicode = !charset.name().startsWith("UTF");
     }
 
     /**
@@ -209,6 +226,29 @@ public class JSONSerializer implements Serializer<Object> {
         this.verbose = verbose;
     }
 
+    /**
+     * Returns the serializer's streaming flag.
+     */
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * Sets the serializer's streaming flag. When streaming is enabled,
+     * {@link #readObject(Reader)} does not build a result; the input is
+     * parsed with a {@link JSONReader} and reported exclusively through the
+     * serializer's listeners, allowing arbitrarily large documents to be
+     * processed in constant memory. The values passed to
+     * {@link JSONSerializerListener#beginDictionary(JSONSerializer, Dictionary)}
+     * and {@link JSONSerializerListener#beginSequence(JSONSerializer, Sequence)}
+     * are <tt>null</tt> in this mode, and the serializer's type is ignored.
+     *
+     * @param streaming
+     */
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
     /**
      * Reads data from a JSON stream.
      *
@@ -252,6 +292,9 @@ public class JSONSerializer implements Serializer<Object> {
      * <li><tt>null</tt></li>
      * <li>A JavaBean object</li>
      * </ul>
+     *
+     * If the serializer is {@linkplain #isStreaming() streaming}, <tt>null</tt>
+     * is always returned.
      */
     public Object readObject(Reader reader)
         throws IOException, SerializationException {
@@ -259,6 +302,11 @@ public class JSONSerializer implements Serializer<Object> {
             throw new IllegalArgumentException("reader is null.");
         }
 
+        if (streaming) {
+            readEvents(new JSONReader(reader, BUFFER_SIZE));
+            return null;
+        }
+
         // Move to the first character
         LineNumberReader lineNumberReader = new LineNumberReader(reader);
         c = lineNumberReader.read();
@@ -282,6 +330,76 @@ public class JSONSerializer implements Serializer<Object> {
         return object;
     }
 
+    private void readEvents(JSONReader jsonReader)
+        throws IOException, SerializationException {
+        try {
+            JSONReader.Event event = jsonReader.next();
+
+            while (event != JSONReader.Event.END_DOCUMENT) {
+                if (jsonSerializerListeners != null) {
+                    switch (event) {
+                        case BEGIN_DICTIONARY: {
+                            jsonSerializerListeners.beginDictionary(this, null);
+                            break;
+                        }
+
+                        case END_DICTIONARY: {
+                            jsonSerializerListeners.endDictionary(this);
+                            break;
+                        }
+
+                        case KEY: {
+                            jsonSerializerListeners.readKey(this, jsonReader.getString());
+                            break;
+                        }
+
+                        case BEGIN_SEQUENCE: {
+                            jsonSerializerListeners.beginSequence(this, null);
+                            break;
+                        }
+
+                        case END_SEQUENCE: {
+                            jsonSerializerListeners.endSequence(this);
+                            break;
+                        }
+
+                        case STRING: {
+                            jsonSerializerListeners.readString(this, jsonReader.getString());
+                            break;
+                        }
+
+                        case NUMBER: {
+                            jsonSerializerListeners.readNumber(this, jsonReader.getNumber());
+                            break;
+                        }
+
+                        case BOOLEAN: {
+                            jsonSerializerListeners.readBoolean(this,
+                                Boolean.valueOf(jsonReader.getBoolean()));
+                            break;
+                        }
+
+                        case NULL: {
+                            jsonSerializerListeners.readNull(this);
+                            break;
+                        }
+
+                        default: {
+                            break;
+                        }
+                    }
+                }
+
+                event = jsonReader.next();
+            }
+        } catch (SerializationException exception) {
+            System.err.println("An error occurred while processing input at line number "
+                + (jsonReader.getLineNumber() + 1));
+
+            throw exception;
+        }
+    }
+
     private Object readValue(Reader reader, Type typeArgument)
         throws IOException, SerializationException {
         Object object = null;
@@ -876,62 +994,234 @@ public class JSONSerializer implements Serializer<Object> {
      * <li>java.lang.Number</li>
      * <li>java.lang.Boolean</li>
      * <li><tt>null</tt></li>
+     * <li>A JavaBean object</li>
      * </ul>
      *
      * @param writer
      * The writer to which data will be written.
      */
-    @SuppressWarnings("unchecked")
     public void writeObject(Object object, Writer writer)
         throws IOException, SerializationException {
         if (writer == null) {
             throw new IllegalArgumentException("writer is null.");
         }
 
+        writeValue(object, writer);
+
+        writer.flush();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeValue(Object object, Writer writer)
+        throws IOException, SerializationException {
         if (object == null) {
-            writer.append("null");
+            writer.write("null");
         } else if (object instanceof String) {
-            String string = (String)object;
-            StringBuilder stringBuilder = new StringBuilder();
+            writeString((String)object, writer);
+        } else if (object instanceof Number) {
+            writeNumber((Number)object, writer);
+        } else if (object instanceof Boolean) {
+            writer.write(((Boolean)object).booleanValue() ? "true" : "false");
+        } else if (object instanceof List<?>) {
+            List<Object> list = (List<Object>)object;
+            writer.write('[');
 
-            for (int i = 0, n = string.length(); i < n; i++) {
-                char ci = string.charAt(i);
+            int i = 0;
+            for (Object item : list) {
+                if (i > 0) {
+                    writer.write(", ");
+                }
+
+                writeValue(item, writer);
+                i++;
+            }
+
+            writer.write(']');
+        } else if (object instanceof Map<?, ?>) {
+            Map<String, Object> map = (Map<String, Object>)object;
+            writer.write('{');
+
+            int i = 0;
+            for (String key : map) {
+                if (i > 0) {
+                    writer.write(", ");
+                }
+
+                writeKey(key, writer);
+                writeValue(map.get(key), writer);
+
+                i++;
+            }
+
+            writer.write('}');
+        } else {
+            // Property metadata is cached per class by BeanAdapter
+            BeanAdapter beanAdapter = new BeanAdapter(object, true);
+            writer.write('{');
+
+            int i = 0;
+            for (String key : beanAdapter) {
+                if (i > 0) {
+                    writer.write(", ");
+                }
 
-                switch(ci) {
+                writeKey(key, writer);
+                writeValue(beanAdapter.get(key), writer);
+
+                i++;
+            }
+
+            writer.write('}');
+        }
+    }
+
+    private void writeKey(String key, Writer writer) throws IOException {
+        boolean identifier = true;
+        boolean escape = false;
+
+        for (int i = 0, n = key.length(); i < n; i++) {
+            char ci = key.charAt(i);
+            identifier &= Character.isJavaIdentifierPart(ci);
+            escape |= (ci == '"');
+        }
+
+        boolean delimit = (!identifier || alwaysDelimitMapKeys);
+
+        if (delimit) {
+            writer.write('"');
+        }
+
+        if (escape) {
+            for (int i = 0, n = key.length(); i < n; i++) {
+                char ci = key.charAt(i);
+
+                if (ci == '"') {
+                    writer.write('\\');
+                }
+
+                writer.write(ci);
+            }
+        } else {
+            writer.write(key);
+        }
+
+        if (delimit) {
+            writer.write('"');
+        }
+
+        writer.write(": ");
+    }
+
+    private void writeString(String string, Writer writer) throws IOException {
+        int n = string.length();
+
+        // Find the first character that requires escaping; most strings
+        // contain none and can be written as-is
+        int i = 0;
+        while (i < n
+            && !isEscaped(string.charAt(i))) {
+            i++;
+        }
+
+        writer.write('"');
+
+        if (i == n) {
+            writer.write(string);
+        } else {
+            writer.write(string, 0, i);
+
+            int j = 0;
+            while (i < n) {
+                // Leave room for the longest escape sequence
+                if (j > writeBuffer.length - 6) {
+                    writer.write(writeBuffer, 0, j);
+                    j = 0;
+                }
+
+                char ci = string.charAt(i++);
+
+                switch (ci) {
                     case '\t': {
-                        stringBuilder.append("\\t");
+                        writeBuffer[j++] = '\\';
+                        writeBuffer[j++] = 't';
                         break;
                     }
 
                     case '\n': {
-                        stringBuilder.append("\\n");
+                        writeBuffer[j++] = '\\';
+                        writeBuffer[j++] = 'n';
                         break;
                     }
 
                     case '\\':
                     case '\"':
                     case '\'': {
-                        stringBuilder.append("\\" + ci);
+                        writeBuffer[j++] = '\\';
+                        writeBuffer[j++] = ci;
                         break;
                     }
 
                     default: {
-                        if (charset.name().startsWith("UTF")
+                        if (!escapeUnicode
                             || ci <= 0xFF) {
-                            stringBuilder.append(ci);
+                            writeBuffer[j++] = ci;
                         } else {
-                            stringBuilder.append("\\u");
-                            stringBuilder.append(String.format("%04x", (short)ci));
+                            writeBuffer[j++] = '\\';
+                            writeBuffer[j++] = 'u';
+                            writeBuffer[j++] = HEX_DIGITS[(ci >> 12) & 0xF];
+                            writeBuffer[j++] = HEX_DIGITS[(ci >> 8) & 0xF];
+                            writeBuffer[j++] = HEX_DIGITS[(ci >> 4) & 0xF];
+                            writeBuffer[j++] = HEX_DIGITS[ci & 0xF];
                         }
                     }
                 }
-
             }
 
-            writer.append("\"" + stringBuilder.toString() + "\"");
-        } else if (object instanceof Number) {
-            Number number = (Number)object;
+            writer.write(writeBuffer, 0, j);
+        }
+
+        writer.write('"');
+    }
+
+    private boolean isEscaped(char ci) {
+        return (ci == '\t'
+            || ci == '\n'
+            || ci == '\\'
+            || ci == '\"'
+            || ci == '\''
+            || (escapeUnicode && ci > 0xFF));
+    }
+
+    private void writeNumber(Number number, Writer writer)
+        throws IOException, SerializationException {
+        if (number instanceof Integer
+            || number instanceof Long
+            || number instanceof Short
+            || number instanceof Byte) {
+            long value = number.longValue();
+
+            if (value == Long.MIN_VALUE) {
+                writer.write(Long.toString(value));
+            } else {
+                // Format the digits directly into the write buffer
+                int j = writeBuffer.length;
+                boolean negative = (value < 0);
+                if (negative) {
+                    value = -value;
+                }
+
+                do {
+                    writeBuffer[--j] = (char)('0' + (value % 10));
+                    value /= 10;
+                } while (value != 0);
 
+                if (negative) {
+                    writeBuffer[--j] = '-';
+                }
+
+                writer.write(writeBuffer, j, writeBuffer.length - j);
+            }
+        } else {
             if (number instanceof Float) {
                 Float f = (Float)number;
                 if (f.isNaN()
@@ -946,81 +1236,8 @@ public class JSONSerializer implements Serializer<Object> {
                 }
             }
 
-            writer.append(number.toString());
-        } else if (object instanceof Boolean) {
-            writer.append(object.toString());
-        } else if (object instanceof List<?>) {
-            List<Object> list = (List<Object>)object;
-            writer.append("[");
-
-            int i = 0;
-            for (Object item : list) {
-                if (i > 0) {
-                    writer.append(", ");
-                }
-
-                writeObject(item, writer);
-                i++;
-            }
-
-            writer.append("]");
-        } else {
-            Map<String, Object> map;
-            if (object instanceof Map<?, ?>) {
-                map = (Map<String, Object>)object;
-            } else {
-                map = new BeanAdapter(object, true);
-            }
-
-            writer.append("{");
-
-            int i = 0;
-            for (String key : map) {
-                Object value = map.get(key);
-
-                boolean identifier = true;
-                StringBuilder keyStringBuilder = new StringBuilder();
-
-                for (int j = 0, n = key.length(); j < n; j++) {
-                    char cj = key.charAt(j);
-                    identifier &= Character.isJavaIdentifierPart(cj);
-
-                    if (cj == '"') {
-                        keyStringBuilder.append('\\');
-                    }
-
-                    keyStringBuilder.append(cj);
-                }
-
-                key = keyStringBuilder.toString();
-
-                if (i > 0) {
-                    writer.append(", ");
-                }
-
-                // Write the key
-                if (!identifier || alwaysDelimitMapKeys) {
-                    writer.append('"');
-                }
-
-                writer.append(key);
-
-                if (!identifier || alwaysDelimitMapKeys) {
-                    writer.append('"');
-                }
-
-                writer.append(": ");
-
-                // Write the value
-                writeObject(value, writer);
-
-                i++;
-            }
-
-            writer.append("}");
+            writer.write(number.toString());
         }
-
-        writer.flush();
     }
 
     @Override
@@ -29,6 +29,12 @@ import java.io.Writer;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.apache.pivot.beans.BeanAdapter;
 import org.apache.pivot.collections.ArrayAdapter;
@@ -46,26 +52,267 @@ import org.apache.pivot.util.ListenerList;
  * and writes data to a comma-separated value (CSV) file.
  */
 public class CSVSerializer implements Serializer<List<?>> {
+    /**
+     * Column types supported by {@link CSVSerializer#readColumns(Reader)}.
+     */
+    public enum ColumnType {
+        STRING,
+        INT,
+        LONG,
+        DOUBLE
+    }
+
+    /**
+     * Buffered character scanner used by the columnar reader. Fields are
+     * unquoted and trimmed into a reusable character buffer. The header line
+     * is read whole, so that it can be parsed by {@link #parseKeys(String)}
+     * as in {@link #readObject(Reader)}.
+     */
+    private static class ColumnScanner {
+        private final Reader reader;
+        private final char[] buffer;
+        private int position;
+        private int limit;
+
+        private int c = -1;
+        private int lineNumber = 1;
+
+        public char[] field = new char[64];
+        public int fieldStart = 0;
+        public int fieldEnd = 0;
+        private boolean separated = false;
+
+        public ColumnScanner(Reader reader) throws IOException {
+            this.reader = reader;
+
+            buffer = new char[COLUMN_BUFFER_SIZE];
+            position = 0;
+            limit = 0;
+
+            c = read();
+        }
+
+        public ColumnScanner(char[] chars, int start, int end, int lineNumber) throws IOException {
+            this.reader = null;
+
+            buffer = chars;
+            position = start;
+            limit = end;
+
+            this.lineNumber = lineNumber;
+
+            c = read();
+        }
+
+        private int read() throws IOException {
+            if (position == limit) {
+                if (reader == null) {
+                    return -1;
+                }
+
+                limit = reader.read(buffer, 0, buffer.length);
+                position = 0;
+
+                if (limit <= 0) {
+                    limit = 0;
+                    return -1;
+                }
+            }
+
+            return buffer[position++];
+        }
+
+        public boolean isEndOfInput() {
+            return (c == -1);
+        }
+
+        public boolean isEndOfLine() {
+            return (c == -1 || c == '\r' || c == '\n');
+        }
+
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+        // Reads the rest of the current line and moves past its terminator,
+        // as LineNumberReader.readLine() does
+        public String readLine() throws IOException {
+            if (c == -1) {
+                return null;
+            }
+
+            StringBuilder line = new StringBuilder();
+            while (c != -1
+                && c != '\r' && c != '\n') {
+                line.append((char)c);
+                c = read();
+            }
+
+            if (c == '\r') {
+                c = read();
+            }
+
+            if (c == '\n') {
+                c = read();
+            }
+
+            lineNumber++;
+
+            return line.toString();
+        }
+
+        public void skipBOM() throws IOException {
+            if (c == 0xFEFF) {
+                c = read();
+            }
+        }
+
+        // Moves past any line terminators, including those of blank lines
+        public void skipLineEnds() throws IOException {
+            while (c == '\r' || c == '\n') {
+                if (c == '\n') {
+                    lineNumber++;
+                }
+
+                c = read();
+            }
+
+            separated = false;
+        }
+
+        // Reads the next field on the current line, returning false if there
+        // are no more fields on the line
+        public boolean readField() throws IOException, SerializationException {
+            if (isEndOfLine()) {
+                if (separated) {
+                    // Trailing empty field
+                    separated = false;
+                    fieldStart = 0;
+                    fieldEnd = 0;
+                    return true;
+                }
+
+                return false;
+            }
+
+            int length = 0;
+
+            // Values may be bounded in quotes; the double-quote character is
+            // escaped by two successive occurrences
+            boolean quoted = (c == '"');
+            if (quoted) {
+                c = read();
+            }
+
+            while (c != -1
+                && (quoted || (c != ',' && c != '\r' && c != '\n'))) {
+                if (c == '"') {
+                    if (!quoted) {
+                        throw new SerializationException("Dangling quote.");
+                    }
+
+                    c = read();
+
+                    if (c != '"'
+                        && (c != ',' && c != '\r' && c != '\n' && c != -1)) {
+                        throw new SerializationException("Prematurely terminated quote.");
+                    }
+
+                    quoted &= (c == '"');
+                }
+
+                if (c != -1
+                    && (quoted || (c != ',' && c != '\r' && c != '\n'))) {
+                    if (length == field.length) {
+                        char[] updatedField = new char[field.length * 2];
+                        System.arraycopy(field, 0, updatedField, 0, length);
+                        field = updatedField;
+                    }
+
+                    if (c == '\r') {
+                        // Line terminators within a quoted value are read as
+                        // '\n', as LineNumberReader does for readObject()
+                        field[length++] = '\n';
+                        c = read();
+
+                        if (c == '\n') {
+                            c = read();
+                        }
+                    } else {
+                        field[length++] = (char)c;
+                        c = read();
+                    }
+                }
+            }
+
+            if (quoted) {
+                throw new SerializationException("Unterminated string.");
+            }
+
+            separated = (c == ',');
+            if (separated) {
+                c = read();
+            }
+
+            // Trim the value
+            int start = 0;
+            while (start < length
+                && field[start] <= ' ') {
+                start++;
+            }
+
+            while (length > start
+                && field[length - 1] <= ' ') {
+                length--;
+            }
+
+            fieldStart = start;
+            fieldEnd = length;
+
+            return true;
+        }
+
+        public String getField() {
+            return new String(field, fieldStart, fieldEnd - fieldStart);
+        }
+    }
+
     private static class CSVSerializerListenerList extends ListenerList<CSVSerializerListener>
         implements CSVSerializerListener {
         @Override
         public void beginList(CSVSerializer csvSerializer, List<?> list) {
-            for (CSVSerializerListener listener : this) {
-                listener.beginList(csvSerializer, list);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((CSVSerializerListener)listeners[i]).beginList(csvSerializer, list);
             }
         }
 
         @Override
         public void endList(CSVSerializer csvSerializer) {
-            for (CSVSerializerListener listener : this) {
-                listener.endList(csvSerializer);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((CSVSerializerListener)listeners[i]).endList(csvSerializer);
             }
         }
 
         @Override
         public void readItem(CSVSerializer csvSerializer, Object item) {
-            for (CSVSerializerListener listener : this) {
-                listener.readItem(csvSerializer, item);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((CSVSerializerListener)listeners[i]).readItem(csvSerializer, item);
+            }
+        }
+
+    }
+
+    private static class CSVSerializerWriteListenerList
+        extends ListenerList<CSVSerializerWriteListener>
+        implements CSVSerializerWriteListener {
+        @Override
+        public void writeItem(CSVSerializer csvSerializer, Object item) {
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((CSVSerializerWriteListener)listeners[i]).writeItem(csvSerializer, item);
             }
         }
     }
@@ -74,13 +321,17 @@ public class CSVSerializer implements Serializer<List<?>> {
     private Type itemType;
 
     private ArrayList<String> keys = new ArrayList<String>();
+    private HashMap<String, ColumnType> columnTypes = new HashMap<String, ColumnType>();
 
     private boolean writeKeys = false;
     private boolean verbose = false;
 
+    private ExecutorService executorService = null;
+
     private int c = -1;
 
     private CSVSerializerListenerList csvSerializerListeners = null;
+    private CSVSerializerWriteListenerList csvSerializerWriteListeners = null;
 
     public static final String DEFAULT_CHARSET_NAME = "ISO-8859-1";
     public static final Type DEFAULT_ITEM_TYPE = HashMap.class;
@@ -88,6 +339,14 @@ public class CSVSerializer implements Serializer<List<?>> {
     public static final String CSV_EXTENSION = "csv";
     public static final String MIME_TYPE = "text/csv";
     public static final int BUFFER_SIZE = 2048;
+    public static final int COLUMN_BUFFER_SIZE = 65536;
+
+    /**
+     * The minimum number of characters parsed, or items formatted, by a single
+     * task in parallel mode.
+     */
+    public static final int MINIMUM_CHUNK_SIZE = 65536;
+    public static final int MINIMUM_CHUNK_ITEM_COUNT = 1024;
 
     public CSVSerializer() {
         this(Charset.forName(DEFAULT_CHARSET_NAME), DEFAULT_ITEM_TYPE);
@@ -162,6 +421,43 @@ public class CSVSerializer implements Serializer<List<?>> {
         setKeys(new ArrayAdapter<String>(keys));
     }
 
+    /**
+     * Returns the type that values of a given key will be decoded to by
+     * {@link #readColumns(Reader)}.
+     *
+     * @param key
+     *
+     * @return
+     * The column type; {@link ColumnType#STRING} unless set otherwise.
+     */
+    public ColumnType getColumnType(String key) {
+        if (key == null) {
+            throw new IllegalArgumentException("key is null.");
+        }
+
+        ColumnType columnType = columnTypes.get(key);
+        return (columnType == null) ? ColumnType.STRING : columnType;
+    }
+
+    /**
+     * Sets the type that values of a given key will be decoded to by
+     * {@link #readColumns(Reader)}.
+     *
+     * @param key
+     * @param columnType
+     */
+    public void setColumnType(String key, ColumnType columnType) {
+        if (key == null) {
+            throw new IllegalArgumentException("key is null.");
+        }
+
+        if (columnType == null) {
+            throw new IllegalArgumentException("columnType is null.");
+        }
+
+        columnTypes.put(key, columnType);
+    }
+
     /**
      * Returns the serializer's write keys flag.
      */
@@ -197,6 +493,41 @@ public class CSVSerializer implements Serializer<List<?>> {
         this.verbose = verbose;
     }
 
+    /**
+     * Returns the executor service used to read and write in parallel.
+     *
+     * @return
+     * The executor service, or <tt>null</tt> if the serializer reads and
+     * writes on the calling thread.
+     */
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * Sets the executor service used to read and write in parallel. When set,
+     * {@link #readObject(Reader)} reads the entire input, splits it into
+     * chunks at record boundaries (taking quoted line breaks into account),
+     * and parses the chunks concurrently; {@link #writeObject(List, Writer)}
+     * formats chunks of items concurrently and writes them in order. Listeners
+     * are always notified on the calling thread, in item order.
+     * <p>
+     * A parallel read holds the whole input in memory before any item is
+     * parsed, so its memory use grows with the size of the input. Inputs that
+     * are too large for that should be read without an executor service.
+     * <p>
+     * The executor service may be a fork-join pool. It must not be the
+     * executor on which the caller itself is running if that executor has a
+     * bounded number of threads.
+     *
+     * @param executorService
+     * The executor service, or <tt>null</tt> to read and write on the calling
+     * thread.
+     */
+    public void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
     /**
      * Reads values from a comma-separated value stream.
      *
@@ -241,6 +572,10 @@ public class CSVSerializer implements Serializer<List<?>> {
             throw new IllegalArgumentException("reader is null.");
         }
 
+        if (executorService != null) {
+            return readObjectParallel(reader);
+        }
+
         LineNumberReader lineNumberReader = new LineNumberReader(reader);
 
         if (keys.getLength() == 0) {
@@ -250,13 +585,7 @@ public class CSVSerializer implements Serializer<List<?>> {
                 throw new SerializationException("Could not read keys from input.");
             }
 
-            String[] keysLocal = line.split(",");
-            this.keys = new ArrayList<String>(keysLocal.length);
-
-            for (int i = 0; i < keysLocal.length; i++) {
-                String key = keysLocal[i];
-                this.keys.add(key.trim());
-            }
+            this.keys = parseKeys(line);
         }
 
         // Create the list and notify the listeners
@@ -305,35 +634,149 @@ public class CSVSerializer implements Serializer<List<?>> {
         return items;
     }
 
-    @SuppressWarnings("unchecked")
-    private Object readItem(Reader reader)
+    /**
+     * Reads values from a comma-separated value stream into a column-oriented
+     * table.
+     *
+     * @param inputStream
+     * The input stream from which data will be read.
+     *
+     * @see #readColumns(Reader)
+     */
+    @SuppressWarnings("resource")
+    public CSVTable readColumns(InputStream inputStream)
         throws IOException, SerializationException {
-        Object item = null;
+        if (inputStream == null) {
+            throw new IllegalArgumentException("inputStream is null.");
+        }
 
-        if (c != -1) {
-            // Instantiate the item
-            Dictionary<String, Object> itemDictionary;
+        Reader reader = new InputStreamReader(inputStream, charset);
+        if (verbose) {
+            reader = new EchoReader(reader);
+        }
 
-            try {
-                if (itemType instanceof ParameterizedType) {
-                    ParameterizedType parameterizedItemType = (ParameterizedType)itemType;
-                    Class<?> rawItemType = (Class<?>)parameterizedItemType.getRawType();
-                    item = rawItemType.newInstance();
-                } else {
-                    Class<?> classItemType = (Class<?>)itemType;
-                    item = classItemType.newInstance();
+        return readColumns(reader);
+    }
+
+    /**
+     * Reads values from a comma-separated value stream into a column-oriented
+     * table. Unlike {@link #readObject(Reader)}, no object is created per row:
+     * values are decoded directly from the input buffer into one array per
+     * column, according to the type set for each key via
+     * {@link #setColumnType(String, ColumnType)}. Empty values in numeric
+     * columns are read as <tt>null</tt>.
+     *
+     * @param reader
+     * The reader from which data will be read. The reader does not need to be
+     * buffered.
+     *
+     * @return
+     * A table containing the data read from the CSV file.
+     * <p>
+     * If no keys have been specified when this method is called, they are assumed
+     * to be defined in the first line of the file.
+     */
+    public CSVTable readColumns(Reader reader)
+        throws IOException, SerializationException {
+        if (reader == null) {
+            throw new IllegalArgumentException("reader is null.");
+        }
+
+        ColumnScanner scanner = new ColumnScanner(reader);
+
+        if (keys.getLength() == 0) {
+            // Read keys from first line
+            String line = scanner.readLine();
+            if (line == null) {
+                throw new SerializationException("Could not read keys from input.");
+            }
+
+            this.keys = parseKeys(line);
+        }
+
+        // Ignore BOM (if present)
+        scanner.skipBOM();
+
+        // Create the table and notify the listeners
+        CSVTable table = new CSVTable(keys, columnTypes);
+
+        if (csvSerializerListeners != null) {
+            csvSerializerListeners.beginList(this, table);
+        }
+
+        int n = keys.getLength();
+        int row = 0;
+
+        try {
+            scanner.skipLineEnds();
+
+            while (!scanner.isEndOfInput()) {
+                for (int i = 0; i < n; i++) {
+                    if (!scanner.readField()) {
+                        throw new SerializationException("Line data is incomplete.");
+                    }
+
+                    CSVTable.Column column = table.getColumn(i);
+                    if (scanner.fieldEnd == scanner.fieldStart) {
+                        column.appendNull(row);
+                    } else {
+                        column.append(scanner.field, scanner.fieldStart, scanner.fieldEnd);
+                    }
                 }
 
-                if (item instanceof Dictionary<?, ?>) {
-                    itemDictionary = (Dictionary<String, Object>)item;
-                } else {
-                    itemDictionary = new BeanAdapter(item);
+                if (!scanner.isEndOfLine()) {
+                    throw new SerializationException("Line contains more than " + n + " values.");
                 }
-            } catch(IllegalAccessException exception) {
-                throw new SerializationException(exception);
-            } catch(InstantiationException exception) {
-                throw new SerializationException(exception);
+
+                table.addRow();
+
+                // Notify the listeners
+                if (csvSerializerListeners != null) {
+                    csvSerializerListeners.readItem(this, table.get(row));
+                }
+
+                row++;
+                scanner.skipLineEnds();
             }
+        } catch (SerializationException exception) {
+            System.err.println("An error occurred while processing input at line number "
+                + scanner.getLineNumber());
+
+            throw exception;
+        }
+
+        table.trimToSize();
+
+        // Notify the listeners
+        if (csvSerializerListeners != null) {
+            csvSerializerListeners.endList(this);
+        }
+
+        return table;
+    }
+
+    // Parses a header line into keys; the header is not quote-aware, and a
+    // byte order mark at its start is kept as part of the first key
+    private static ArrayList<String> parseKeys(String line) {
+        String[] keysLocal = line.split(",");
+        ArrayList<String> keysList = new ArrayList<String>(keysLocal.length);
+
+        for (int i = 0; i < keysLocal.length; i++) {
+            String key = keysLocal[i];
+            keysList.add(key.trim());
+        }
+
+        return keysList;
+    }
+
+    private Object readItem(Reader reader)
+        throws IOException, SerializationException {
+        Object item = null;
+
+        if (c != -1) {
+            // Instantiate the item
+            item = newItem();
+            Dictionary<String, Object> itemDictionary = getItemDictionary(item);
 
             // Add values to the item
             for (int i = 0, n = keys.getLength(); i < n; i++) {
@@ -369,6 +812,246 @@ public class CSVSerializer implements Serializer<List<?>> {
         return item;
     }
 
+    private Object newItem() throws SerializationException {
+        Object item;
+
+        try {
+            if (itemType instanceof ParameterizedType) {
+                ParameterizedType parameterizedItemType = (ParameterizedType)itemType;
+                Class<?> rawItemType = (Class<?>)parameterizedItemType.getRawType();
+                item = rawItemType.newInstance();
+            } else {
+                Class<?> classItemType = (Class<?>)itemType;
+                item = classItemType.newInstance();
+            }
+        } catch(IllegalAccessException exception) {
+            throw new SerializationException(exception);
+        } catch(InstantiationException exception) {
+            throw new SerializationException(exception);
+        }
+
+        return item;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Dictionary<String, Object> getItemDictionary(Object item) {
+        Dictionary<String, Object> itemDictionary;
+
+        if (item instanceof Dictionary<?, ?>) {
+            itemDictionary = (Dictionary<String, Object>)item;
+        } else {
+            itemDictionary = new BeanAdapter(item);
+        }
+
+        return itemDictionary;
+    }
+
+    private List<?> readObjectParallel(Reader reader)
+        throws IOException, SerializationException {
+        // Read the entire input
+        char[] chars = new char[COLUMN_BUFFER_SIZE];
+        int length = 0;
+
+        int count;
+        while ((count = reader.read(chars, length, chars.length - length)) != -1) {
+            length += count;
+
+            if (length == chars.length) {
+                chars = Arrays.copyOf(chars, chars.length * 2);
+            }
+        }
+
+        int start = 0;
+
+        if (keys.getLength() == 0) {
+            // Read keys from first line, as readObject() does on the calling
+            // thread
+            if (length == 0) {
+                throw new SerializationException("Could not read keys from input.");
+            }
+
+            while (start < length
+                && chars[start] != '\r' && chars[start] != '\n') {
+                start++;
+            }
+
+            this.keys = parseKeys(new String(chars, 0, start));
+
+            if (start < length
+                && chars[start] == '\r') {
+                start++;
+            }
+
+            if (start < length
+                && chars[start] == '\n') {
+                start++;
+            }
+        }
+
+        // Ignore BOM (if present)
+        if (start < length
+            && chars[start] == 0xFEFF) {
+            start++;
+        }
+
+        String[] keysLocal = new String[keys.getLength()];
+        for (int i = 0; i < keysLocal.length; i++) {
+            keysLocal[i] = keys.get(i);
+        }
+
+        // Split the input into chunks at line breaks that are not within a
+        // quoted value; a doubled quote toggles the state twice, so escaped
+        // quotes need no special handling
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        int chunkSize = Math.max(MINIMUM_CHUNK_SIZE, (length - start) / (parallelism * 4));
+
+        java.util.ArrayList<Future<ArrayList<Object>>> futures =
+            new java.util.ArrayList<Future<ArrayList<Object>>>();
+
+        try {
+            boolean quoted = false;
+            int lineNumber = 1;
+            for (int i = 0; i < start; i++) {
+                if (chars[i] == '\n') {
+                    lineNumber++;
+                }
+            }
+
+            int chunkStart = start;
+            int chunkLineNumber = lineNumber;
+
+            for (int i = start; i < length; i++) {
+                char c = chars[i];
+
+                if (c == '"') {
+                    quoted = !quoted;
+                } else if (c == '\n') {
+                    lineNumber++;
+                }
+
+                if (!quoted
+                    && (c == '\n' || (c == '\r' && (i + 1 == length || chars[i + 1] != '\n')))
+                    && i - chunkStart >= chunkSize) {
+                    futures.add(submitChunk(chars, chunkStart, i + 1, chunkLineNumber, keysLocal,
+                        chunkStart > start));
+
+                    chunkStart = i + 1;
+                    chunkLineNumber = lineNumber;
+                }
+            }
+
+            if (chunkStart < length) {
+                futures.add(submitChunk(chars, chunkStart, length, chunkLineNumber, keysLocal,
+                    chunkStart > start));
+            }
+
+            // Reassemble the chunks in order and notify the listeners
+            ArrayList<Object> items = new ArrayList<Object>();
+
+            if (csvSerializerListeners != null) {
+                csvSerializerListeners.beginList(this, items);
+            }
+
+            for (Future<ArrayList<Object>> future : futures) {
+                ArrayList<Object> chunkItems = getChunk(future);
+
+                for (Object item : chunkItems) {
+                    items.add(item);
+
+                    if (csvSerializerListeners != null) {
+                        csvSerializerListeners.readItem(this, item);
+                    }
+                }
+            }
+
+            if (csvSerializerListeners != null) {
+                csvSerializerListeners.endList(this);
+            }
+
+            return items;
+        } finally {
+            for (Future<ArrayList<Object>> future : futures) {
+                future.cancel(false);
+            }
+        }
+    }
+
+    // Parses the items in a chunk by the same rules as readItem(), so that
+    // parallel and sequential reads succeed or fail on the same input
+    private Future<ArrayList<Object>> submitChunk(final char[] chars, final int start,
+        final int end, final int lineNumber, final String[] keysLocal,
+        final boolean skipLeadingLineEnds) {
+        return executorService.submit(new Callable<ArrayList<Object>>() {
+            @Override
+            public ArrayList<Object> call() throws Exception {
+                ArrayList<Object> items = new ArrayList<Object>();
+                ColumnScanner scanner = new ColumnScanner(chars, start, end, lineNumber);
+
+                try {
+                    // Blank lines are skipped between items, but not before
+                    // the first one
+                    if (skipLeadingLineEnds) {
+                        scanner.skipLineEnds();
+                    }
+
+                    while (!scanner.isEndOfInput()) {
+                        Object item = newItem();
+                        Dictionary<String, Object> itemDictionary = getItemDictionary(item);
+
+                        for (int i = 0, n = keysLocal.length; i < n; i++) {
+                            if (scanner.isEndOfLine()) {
+                                throw new SerializationException("Error reading value for "
+                                    + keysLocal[i] + " from input stream.");
+                            }
+
+                            scanner.readField();
+
+                            if (i < n - 1
+                                && scanner.isEndOfLine()
+                                && !scanner.isEndOfInput()) {
+                                throw new SerializationException("Line data is incomplete.");
+                            }
+
+                            itemDictionary.put(keysLocal[i], scanner.getField());
+                        }
+
+                        items.add(item);
+                        scanner.skipLineEnds();
+                    }
+                } catch (SerializationException exception) {
+                    System.err.println("An error occurred while processing input at line number "
+                        + scanner.getLineNumber());
+
+                    throw exception;
+                }
+
+                return items;
+            }
+        });
+    }
+
+    private static <T> T getChunk(Future<T> future) throws IOException, SerializationException {
+        try {
+            return future.get();
+        } catch (InterruptedException exception) {
+            throw new SerializationException(exception);
+        } catch (ExecutionException exception) {
+            Throwable cause = exception.getCause();
+
+            if (cause instanceof IOException) {
+                throw (IOException)cause;
+            } else if (cause instanceof SerializationException) {
+                throw (SerializationException)cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            } else if (cause instanceof Error) {
+                throw (Error)cause;
+            }
+
+            throw new SerializationException(cause);
+        }
+    }
+
     private String readValue(Reader reader)
         throws IOException, SerializationException {
         String value = null;
@@ -474,7 +1157,6 @@ public class CSVSerializer implements Serializer<List<?>> {
      * @param writer
      * The writer to which data will be written.
      */
-    @SuppressWarnings("unchecked")
     public void writeObject(List<?> items, Writer writer) throws IOException {
         if (items == null) {
             throw new IllegalArgumentException("items is null.");
@@ -495,51 +1177,134 @@ public class CSVSerializer implements Serializer<List<?>> {
 
                 writer.append(key);
             }
+
+            writer.append("\r\n");
         }
 
-        for (Object item : items) {
-            Dictionary<String, Object> itemDictionary;
-            if (item instanceof Dictionary<?, ?>) {
-                itemDictionary = (Dictionary<String, Object>)item;
-            } else {
-                itemDictionary = new BeanAdapter(item);
+        if (executorService == null) {
+            for (Object item : items) {
+                writeItem(item, writer);
+
+                if (csvSerializerWriteListeners != null) {
+                    csvSerializerWriteListeners.writeItem(this, item);
+                }
             }
+        } else {
+            writeObjectParallel(items, writer);
+        }
 
-            for (int i = 0, n = keys.getLength(); i < n; i++) {
-                String key = keys.get(i);
+        writer.flush();
+    }
 
-                if (i > 0) {
-                    writer.append(",");
-                }
+    private void writeItem(Object item, Appendable appendable) throws IOException {
+        Dictionary<String, Object> itemDictionary = getItemDictionary(item);
 
-                Object value = itemDictionary.get(key);
+        for (int i = 0, n = keys.getLength(); i < n; i++) {
+            String key = keys.get(i);
 
-                if (value != null) {
-                    String string = value.toString();
+            if (i > 0) {
+                appendable.append(',');
+            }
 
-                    if (string.indexOf(',') >= 0
-                        || string.indexOf('"') >= 0
-                        || string.indexOf('\r') >= 0
-                        || string.indexOf('\n') >= 0) {
-                        writer.append('"');
+            Object value = itemDictionary.get(key);
 
-                        if (string.indexOf('"') == -1) {
-                            writer.append(string);
-                        } else {
-                            writer.append(string.replace("\"", "\"\""));
-                        }
+            if (value != null) {
+                String string = value.toString();
+
+                if (string.indexOf(',') >= 0
+                    || string.indexOf('"') >= 0
+                    || string.indexOf('\r') >= 0
+                    || string.indexOf('\n') >= 0) {
+                    appendable.append('"');
 
-                        writer.append('"');
+                    if (string.indexOf('"') == -1) {
+                        appendable.append(string);
                     } else {
-                        writer.append(string);
+                        appendable.append(string.replace("\"", "\"\""));
                     }
+
+                    appendable.append('"');
+                } else {
+                    appendable.append(string);
                 }
             }
+        }
 
-            writer.append("\r\n");
+        appendable.append("\r\n");
+    }
+
+    private void writeObjectParallel(List<?> items, Writer writer) throws IOException {
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        int chunkItemCount = Math.max(MINIMUM_CHUNK_ITEM_COUNT, items.getLength() / (parallelism * 4));
+
+        // Limit the number of formatted chunks held in memory
+        int maximumPendingChunkCount = parallelism * 2;
+
+        java.util.ArrayDeque<Object[]> pendingChunks = new java.util.ArrayDeque<Object[]>();
+        java.util.ArrayDeque<Future<StringBuilder>> futures =
+            new java.util.ArrayDeque<Future<StringBuilder>>();
+
+        try {
+            Iterator<?> iterator = items.iterator();
+
+            while (iterator.hasNext()
+                || !futures.isEmpty()) {
+                // Gather and submit chunks
+                while (iterator.hasNext()
+                    && futures.size() < maximumPendingChunkCount) {
+                    Object[] chunk = new Object[chunkItemCount];
+                    int count = 0;
+
+                    while (count < chunkItemCount
+                        && iterator.hasNext()) {
+                        chunk[count++] = iterator.next();
+                    }
+
+                    if (count < chunkItemCount) {
+                        chunk = Arrays.copyOf(chunk, count);
+                    }
+
+                    pendingChunks.add(chunk);
+                    futures.add(submitChunk(chunk));
+                }
+
+                // Write the oldest chunk
+                Object[] chunk = pendingChunks.remove();
+                StringBuilder chunkBuilder;
+                try {
+                    chunkBuilder = getChunk(futures.remove());
+                } catch (SerializationException exception) {
+                    throw new IOException(exception);
+                }
+
+                writer.append(chunkBuilder);
+
+                if (csvSerializerWriteListeners != null) {
+                    for (int i = 0; i < chunk.length; i++) {
+                        csvSerializerWriteListeners.writeItem(this, chunk[i]);
+                    }
+                }
+            }
+        } finally {
+            for (Future<StringBuilder> future : futures) {
+                future.cancel(false);
+            }
         }
+    }
 
-        writer.flush();
+    private Future<StringBuilder> submitChunk(final Object[] chunk) {
+        return executorService.submit(new Callable<StringBuilder>() {
+            @Override
+            public StringBuilder call() throws Exception {
+                StringBuilder chunkBuilder = new StringBuilder(chunk.length * 64);
+
+                for (int i = 0; i < chunk.length; i++) {
+                    writeItem(chunk[i], chunkBuilder);
+                }
+
+                return chunkBuilder;
+            }
+        });
     }
 
     @Override
@@ -554,4 +1319,12 @@ public class CSVSerializer implements Serializer<List<?>> {
 
         return csvSerializerListeners;
     }
+
+    public ListenerList<CSVSerializerWriteListener> getCSVSerializerWriteListeners() {
+        if (csvSerializerWriteListeners == null) {
+            csvSerializerWriteListeners = new CSVSerializerWriteListenerList();
+        }
+
+        return csvSerializerWriteListeners;
+    }
 }
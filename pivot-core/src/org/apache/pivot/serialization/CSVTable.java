@@ -0,0 +1,746 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pivot.serialization;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.apache.pivot.collections.Dictionary;
+import org.apache.pivot.collections.DoubleArrayList;
+import org.apache.pivot.collections.HashMap;
+import org.apache.pivot.collections.IntArrayList;
+import org.apache.pivot.collections.List;
+import org.apache.pivot.collections.ListListener;
+import org.apache.pivot.collections.LongArrayList;
+import org.apache.pivot.collections.Sequence;
+import org.apache.pivot.util.ListenerList;
+
+/**
+ * Read-only, column-oriented table of CSV data, as produced by
+ * {@link CSVSerializer#readColumns(java.io.Reader)}. Values are stored in
+ * one array per column, using primitive arrays for numeric columns. The table
+ * is exposed as a list of dictionaries so that it can be bound directly to a
+ * table view; the row dictionaries are lightweight views that are created on
+ * demand and read through to the columns.
+ */
+public class CSVTable implements List<Dictionary<String, Object>> {
+    /**
+     * Dictionary view of a single row.
+     */
+    private class Row implements Dictionary<String, Object> {
+        private final int index;
+
+        public Row(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public Object get(String key) {
+            Integer column = columnIndexes.get(key);
+            return (column == null) ? null : columns[column].get(index);
+        }
+
+        @Override
+        public Object put(String key, Object value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Object remove(String key) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean containsKey(String key) {
+            return columnIndexes.containsKey(key);
+        }
+
+        private CSVTable getTable() {
+            return CSVTable.this;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            boolean equals = false;
+
+            if (object instanceof Row) {
+                Row row = (Row)object;
+                equals = (row.getTable() == CSVTable.this
+                    && row.index == index);
+            }
+
+            return equals;
+        }
+
+        @Override
+        public int hashCode() {
+            return index;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder("{");
+
+            for (int i = 0; i < columns.length; i++) {
+                if (i > 0) {
+                    sb.append(", ");
+                }
+
+                sb.append(columns[i].key + ":" + columns[i].get(index));
+            }
+
+            sb.append("}");
+
+            return sb.toString();
+        }
+    }
+
+    private class RowIterator implements Iterator<Dictionary<String, Object>> {
+        private int index = 0;
+
+        @Override
+        public boolean hasNext() {
+            return (index < length);
+        }
+
+        @Override
+        public Dictionary<String, Object> next() {
+            if (index >= length) {
+                throw new NoSuchElementException();
+            }
+
+            return new Row(index++);
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Storage for the values of a single column.
+     */
+    abstract static class Column {
+        public final String key;
+        public final CSVSerializer.ColumnType type;
+
+        private BitSet nulls = null;
+
+        public Column(String key, CSVSerializer.ColumnType type) {
+            this.key = key;
+            this.type = type;
+        }
+
+        public abstract Object get(int row);
+
+        public abstract void append(char[] chars, int start, int end) throws SerializationException;
+
+        public abstract void trimToSize();
+
+        public void appendNull(int row) {
+            if (nulls == null) {
+                nulls = new BitSet();
+            }
+
+            nulls.set(row);
+        }
+
+        public boolean isNull(int row) {
+            return (nulls != null && nulls.get(row));
+        }
+    }
+
+    static class StringColumn extends Column {
+        private String[] values = new String[IntArrayList.DEFAULT_CAPACITY];
+        private int count = 0;
+
+        private String[] stringCache = new String[STRING_CACHE_SIZE];
+
+        public StringColumn(String key) {
+            super(key, CSVSerializer.ColumnType.STRING);
+        }
+
+        @Override
+        public Object get(int row) {
+            return getString(row);
+        }
+
+        public String getString(int row) {
+            return values[row];
+        }
+
+        @Override
+        public void append(char[] chars, int start, int end) {
+            // Share instances of recently seen values, since columns such as
+            // symbols or dates tend to repeat the same few strings
+            int hash = 0;
+            for (int i = start; i < end; i++) {
+                hash = 31 * hash + chars[i];
+            }
+
+            int slot = (hash ^ (hash >>> 16)) & (STRING_CACHE_SIZE - 1);
+            String value = stringCache[slot];
+
+            if (value == null
+                || !matches(value, chars, start, end)) {
+                value = new String(chars, start, end - start);
+                stringCache[slot] = value;
+            }
+
+            add(value);
+        }
+
+        private static boolean matches(String value, char[] chars, int start, int end) {
+            int length = end - start;
+            if (value.length() != length) {
+                return false;
+            }
+
+            for (int i = 0; i < length; i++) {
+                if (value.charAt(i) != chars[start + i]) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        @Override
+        public void appendNull(int row) {
+            add("");
+        }
+
+        private void add(String value) {
+            if (count == values.length) {
+                values = Arrays.copyOf(values, values.length * 3 / 2 + 1);
+            }
+
+            values[count++] = value;
+        }
+
+        @Override
+        public void trimToSize() {
+            values = Arrays.copyOf(values, count);
+            stringCache = null;
+        }
+    }
+
+    static class IntColumn extends Column {
+        private IntArrayList values = new IntArrayList();
+
+        public IntColumn(String key) {
+            super(key, CSVSerializer.ColumnType.INT);
+        }
+
+        @Override
+        public Object get(int row) {
+            return isNull(row) ? null : Integer.valueOf(values.get(row));
+        }
+
+        public int getInt(int row) {
+            return values.get(row);
+        }
+
+        @Override
+        public void append(char[] chars, int start, int end) throws SerializationException {
+            long value = parseLong(chars, start, end);
+            if (value < Integer.MIN_VALUE
+                || value > Integer.MAX_VALUE) {
+                throw new SerializationException("Integer value out of range: "
+                    + new String(chars, start, end - start));
+            }
+
+            values.add((int)value);
+        }
+
+        @Override
+        public void appendNull(int row) {
+            super.appendNull(row);
+            values.add(0);
+        }
+
+        @Override
+        public void trimToSize() {
+            values.trimToSize();
+        }
+    }
+
+    static class LongColumn extends Column {
+        private LongArrayList values = new LongArrayList();
+
+        public LongColumn(String key) {
+            super(key, CSVSerializer.ColumnType.LONG);
+        }
+
+        @Override
+        public Object get(int row) {
+            return isNull(row) ? null : Long.valueOf(values.get(row));
+        }
+
+        public long getLong(int row) {
+            return values.get(row);
+        }
+
+        @Override
+        public void append(char[] chars, int start, int end) throws SerializationException {
+            values.add(parseLong(chars, start, end));
+        }
+
+        @Override
+        public void appendNull(int row) {
+            super.appendNull(row);
+            values.add(0);
+        }
+
+        @Override
+        public void trimToSize() {
+            values.trimToSize();
+        }
+    }
+
+    static class DoubleColumn extends Column {
+        private DoubleArrayList values = new DoubleArrayList();
+
+        public DoubleColumn(String key) {
+            super(key, CSVSerializer.ColumnType.DOUBLE);
+        }
+
+        @Override
+        public Object get(int row) {
+            return isNull(row) ? null : Double.valueOf(values.get(row));
+        }
+
+        public double getDouble(int row) {
+            return values.get(row);
+        }
+
+        @Override
+        public void append(char[] chars, int start, int end) throws SerializationException {
+            values.add(parseDouble(chars, start, end));
+        }
+
+        @Override
+        public void appendNull(int row) {
+            super.appendNull(row);
+            values.add(Double.NaN);
+        }
+
+        @Override
+        public void trimToSize() {
+            values.trimToSize();
+        }
+    }
+
+    private final Column[] columns;
+    private final HashMap<String, Integer> columnIndexes = new HashMap<String, Integer>();
+    private int length = 0;
+
+    private ListListenerList<Dictionary<String, Object>> listListeners =
+        new ListListenerList<Dictionary<String, Object>>();
+
+    private static final int STRING_CACHE_SIZE = 1024;
+
+    // Powers of ten that are exactly representable as doubles
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+        1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20,
+        1e21, 1e22
+    };
+
+    // The largest mantissa for which the fast path in parseDouble() is exact
+    private static final long MAXIMUM_EXACT_MANTISSA = (1L << 53);
+
+    CSVTable(Sequence<String> keys, HashMap<String, CSVSerializer.ColumnType> columnTypes) {
+        int n = keys.getLength();
+        columns = new Column[n];
+
+        for (int i = 0; i < n; i++) {
+            String key = keys.get(i);
+            CSVSerializer.ColumnType type = columnTypes.get(key);
+
+            if (type == null) {
+                type = CSVSerializer.ColumnType.STRING;
+            }
+
+            switch (type) {
+                case INT: {
+                    columns[i] = new IntColumn(key);
+                    break;
+                }
+
+                case LONG: {
+                    columns[i] = new LongColumn(key);
+                    break;
+                }
+
+                case DOUBLE: {
+                    columns[i] = new DoubleColumn(key);
+                    break;
+                }
+
+                default: {
+                    columns[i] = new StringColumn(key);
+                    break;
+                }
+            }
+
+            columnIndexes.put(key, i);
+        }
+    }
+
+    Column getColumn(int column) {
+        return columns[column];
+    }
+
+    // Makes the row whose values were just appended to the columns visible
+    void addRow() {
+        length++;
+    }
+
+    void trimToSize() {
+        for (int i = 0; i < columns.length; i++) {
+            columns[i].trimToSize();
+        }
+    }
+
+    /**
+     * Returns the number of columns in the table.
+     */
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    /**
+     * Returns the key of a column.
+     *
+     * @param column
+     */
+    public String getColumnKey(int column) {
+        return columns[column].key;
+    }
+
+    /**
+     * Returns the type of a column.
+     *
+     * @param column
+     */
+    public CSVSerializer.ColumnType getColumnType(int column) {
+        return columns[column].type;
+    }
+
+    /**
+     * Returns the index of the column with the given key.
+     *
+     * @param key
+     *
+     * @return
+     * The column index, or <tt>-1</tt> if the table has no such column.
+     */
+    public int getColumnIndex(String key) {
+        Integer column = columnIndexes.get(key);
+        return (column == null) ? -1 : column;
+    }
+
+    /**
+     * Returns the value at a given row and column, boxing it if necessary.
+     *
+     * @param row
+     * @param column
+     *
+     * @return
+     * The value, or <tt>null</tt> if a numeric column was empty at the given
+     * row.
+     */
+    public Object getValue(int row, int column) {
+        verifyRow(row);
+        return columns[column].get(row);
+    }
+
+    /**
+     * Tests whether a numeric column was empty at a given row.
+     *
+     * @param row
+     * @param column
+     */
+    public boolean isNull(int row, int column) {
+        verifyRow(row);
+        return columns[column].isNull(row);
+    }
+
+    /**
+     * Returns the value of a {@link CSVSerializer.ColumnType#STRING} column.
+     *
+     * @param row
+     * @param column
+     */
+    public String getString(int row, int column) {
+        verifyRow(row);
+        return ((StringColumn)getColumn(column, CSVSerializer.ColumnType.STRING)).getString(row);
+    }
+
+    /**
+     * Returns the value of an {@link CSVSerializer.ColumnType#INT} column.
+     * Empty values are returned as <tt>0</tt>.
+     *
+     * @param row
+     * @param column
+     */
+    public int getInt(int row, int column) {
+        verifyRow(row);
+        return ((IntColumn)getColumn(column, CSVSerializer.ColumnType.INT)).getInt(row);
+    }
+
+    /**
+     * Returns the value of a {@link CSVSerializer.ColumnType#LONG} column.
+     * Empty values are returned as <tt>0</tt>.
+     *
+     * @param row
+     * @param column
+     */
+    public long getLong(int row, int column) {
+        verifyRow(row);
+        return ((LongColumn)getColumn(column, CSVSerializer.ColumnType.LONG)).getLong(row);
+    }
+
+    /**
+     * Returns the value of a {@link CSVSerializer.ColumnType#DOUBLE} column.
+     * Empty values are returned as {@link Double#NaN}.
+     *
+     * @param row
+     * @param column
+     */
+    public double getDouble(int row, int column) {
+        verifyRow(row);
+        return ((DoubleColumn)getColumn(column, CSVSerializer.ColumnType.DOUBLE)).getDouble(row);
+    }
+
+    private Column getColumn(int column, CSVSerializer.ColumnType type) {
+        Column columnLocal = columns[column];
+
+        if (columnLocal.type != type) {
+            throw new IllegalArgumentException("Column " + columnLocal.key + " is of type "
+                + columnLocal.type + ", not " + type + ".");
+        }
+
+        return columnLocal;
+    }
+
+    private void verifyRow(int row) {
+        if (row < 0
+            || row >= length) {
+            throw new IndexOutOfBoundsException("row " + row + " out of bounds.");
+        }
+    }
+
+    @Override
+    public int add(Dictionary<String, Object> item) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void insert(Dictionary<String, Object> item, int index) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Dictionary<String, Object> update(int index, Dictionary<String, Object> item) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int remove(Dictionary<String, Object> item) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Sequence<Dictionary<String, Object>> remove(int index, int count) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Dictionary<String, Object> get(int index) {
+        verifyRow(index);
+        return new Row(index);
+    }
+
+    @Override
+    public int indexOf(Dictionary<String, Object> item) {
+        int index = -1;
+
+        if (item instanceof Row) {
+            Row row = (Row)item;
+            if (row.getTable() == this) {
+                index = row.index;
+            }
+        }
+
+        return index;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return (length == 0);
+    }
+
+    @Override
+    public int getLength() {
+        return length;
+    }
+
+    @Override
+    public Comparator<Dictionary<String, Object>> getComparator() {
+        return null;
+    }
+
+    @Override
+    public void setComparator(Comparator<Dictionary<String, Object>> comparator) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Iterator<Dictionary<String, Object>> iterator() {
+        return new RowIterator();
+    }
+
+    @Override
+    public ListenerList<ListListener<Dictionary<String, Object>>> getListListeners() {
+        return listListeners;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getName() + " [" + length + " rows]";
+    }
+
+    // Parses a decimal integer without creating an intermediate string
+    static long parseLong(char[] chars, int start, int end) throws SerializationException {
+        int i = start;
+        boolean negative = false;
+
+        if (i < end
+            && (chars[i] == '-' || chars[i] == '+')) {
+            negative = (chars[i] == '-');
+            i++;
+        }
+
+        if (i == end) {
+            throw new SerializationException("Invalid integer value: "
+                + new String(chars, start, end - start));
+        }
+
+        // Accumulate negatively, since the magnitude of Long.MIN_VALUE is
+        // greater than that of Long.MAX_VALUE
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multiplyLimit = limit / 10;
+        long value = 0;
+
+        while (i < end) {
+            int digit = chars[i++] - '0';
+
+            if (digit < 0
+                || digit > 9
+                || value < multiplyLimit) {
+                throw new SerializationException("Invalid integer value: "
+                    + new String(chars, start, end - start));
+            }
+
+            value *= 10;
+
+            if (value < limit + digit) {
+                throw new SerializationException("Invalid integer value: "
+                    + new String(chars, start, end - start));
+            }
+
+            value -= digit;
+        }
+
+        return negative ? value : -value;
+    }
+
+    // Parses a decimal floating-point value. Plain decimals with up to 15
+    // significant digits are converted exactly without creating an
+    // intermediate string; anything else is delegated to Double.parseDouble().
+    static double parseDouble(char[] chars, int start, int end) throws SerializationException {
+        int i = start;
+        boolean negative = false;
+
+        if (i < end
+            && (chars[i] == '-' || chars[i] == '+')) {
+            negative = (chars[i] == '-');
+            i++;
+        }
+
+        long mantissa = 0;
+        int digits = 0;
+        int scale = 0;
+        boolean point = false;
+        boolean simple = (i < end);
+
+        while (i < end && simple) {
+            char c = chars[i++];
+
+            if (c >= '0' && c <= '9') {
+                mantissa = mantissa * 10 + (c - '0');
+
+                if (mantissa > 0) {
+                    digits++;
+                }
+
+                if (point) {
+                    scale++;
+                }
+
+                simple = (digits <= 15);
+            } else if (c == '.' && !point) {
+                point = true;
+            } else {
+                simple = false;
+            }
+        }
+
+        double value;
+        if (simple
+            && (digits > 0 || scale > 0 || !point)
+            && mantissa < MAXIMUM_EXACT_MANTISSA
+            && scale < POWERS_OF_TEN.length) {
+            // Both operands are exact, so the quotient is correctly rounded
+            value = mantissa / POWERS_OF_TEN[scale];
+
+            if (negative) {
+                value = -value;
+            }
+        } else {
+            try {
+                value = Double.parseDouble(new String(chars, start, end - start));
+            } catch (NumberFormatException exception) {
+                throw new SerializationException("Invalid floating-point value: "
+                    + new String(chars, start, end - start));
+            }
+        }
+
+        return value;
+    }
+}
@@ -23,33 +23,42 @@ import java.util.NoSuchElementException;
 /**
  * Abstract base class for listener lists.
  * <p>
- * NOTE This class is not inherently thread safe. Subclasses that require
- * thread-safe access should synchronize method access appropriately. Callers
- * must manually synchronize on the listener list instance to ensure thread
- * safety during iteration.
+ * Listeners are held in a copy-on-write array. Adding or removing a listener
+ * replaces the array, so dispatch always operates on an immutable snapshot:
+ * events may be fired from any thread without locking, and listeners may be
+ * added or removed while an event is being dispatched (such changes take
+ * effect for the next event). Modifications are serialized on the list
+ * instance.
+ * <p>
+ * Subclasses may dispatch either by iterating over the list or, to avoid
+ * allocating an iterator, by looping over the array returned by
+ * {@link #getSnapshot()}.
  */
 public abstract class ListenerList<T> implements Iterable<T> {
 
-    // Iterator through the current array of elements
-    private class NodeIterator implements Iterator<T> {
+    // Iterator through a snapshot of the listener array
+    private static class NodeIterator<T> implements Iterator<T> {
+        private Object[] snapshot;
         private int index;
 
-        public NodeIterator() {
+        public NodeIterator(Object[] snapshot) {
+            this.snapshot = snapshot;
             this.index = 0;
         }
 
         @Override
         public boolean hasNext() {
-            return (index < last);
+            return (index < snapshot.length);
         }
 
         @Override
+        @SuppressWarnings("unchecked")
         public T next() {
-            if (index >= last) {
+            if (index >= snapshot.length) {
                 throw new NoSuchElementException();
             }
 
-            return list[index++];
+            return (T)snapshot[index++];
         }
 
         @Override
@@ -58,15 +67,13 @@ public abstract class ListenerList<T> implements Iterable<T> {
         }
     }
 
-    private static final int DEFAULT_SIZE = 5;
+    private static final Object[] EMPTY_LIST = {};
+
+    // Shared by all empty lists, since iterating an empty snapshot has no state
+    private static final NodeIterator<Object> EMPTY_ITERATOR = new NodeIterator<Object>(EMPTY_LIST);
 
-    // The current array of items (some of which are null)
-    // All non-null objects are at the beginning of the array
-    // and the array is reorganized on "remove"
-    @SuppressWarnings({"unchecked"})
-    private T[] list = (T[])new Object[DEFAULT_SIZE];
-    // The current length of the active list
-    private int last = 0;
+    // The current array of listeners; never modified once published
+    private volatile Object[] list = EMPTY_LIST;
 
     /**
      * Adds a listener to the list, if it has not previously been added.
@@ -74,17 +81,19 @@ public abstract class ListenerList<T> implements Iterable<T> {
      * @param listener
      */
     public void add(T listener) {
-        if (indexOf(listener) >= 0) {
-            System.err.println("Duplicate listener " + listener + " added to " + this);
-            return;
-        }
+        synchronized (this) {
+            Object[] listLocal = list;
 
-        // If no slot is available, increase the size of the array
-        if (last >= list.length) {
-            list = Arrays.copyOf(list, list.length + DEFAULT_SIZE);
-        }
+            if (indexOf(listLocal, listener) >= 0) {
+                System.err.println("Duplicate listener " + listener + " added to " + this);
+                return;
+            }
 
-        list[last++] = listener;
+            Object[] updatedList = Arrays.copyOf(listLocal, listLocal.length + 1);
+            updatedList[listLocal.length] = listener;
+
+            list = updatedList;
+        }
     }
 
     /**
@@ -93,31 +102,34 @@ public abstract class ListenerList<T> implements Iterable<T> {
      * @param listener
      */
     public void remove(T listener) {
-        int index = indexOf(listener);
+        synchronized (this) {
+            Object[] listLocal = list;
+            int index = indexOf(listLocal, listener);
 
-        if (index < 0) {
-            System.err.println("Nonexistent listener " + listener + " removed from " + this);
-            return;
-        }
+            if (index < 0) {
+                System.err.println("Nonexistent listener " + listener + " removed from " + this);
+                return;
+            }
 
-        // Once we find the entry in the list, copy the rest of the
-        // existing entries down by one position
-        if (index < last - 1) {
-            System.arraycopy(list, index + 1, list, index, last - 1 - index);
-        }
+            Object[] updatedList = new Object[listLocal.length - 1];
+            System.arraycopy(listLocal, 0, updatedList, 0, index);
+            System.arraycopy(listLocal, index + 1, updatedList, index, updatedList.length - index);
 
-        list[--last] = null;
+            list = updatedList;
+        }
     }
 
-    private int indexOf(T listener) {
+    private static int indexOf(Object[] listLocal, Object listener) {
         if (listener == null) {
             throw new IllegalArgumentException("listener is null.");
         }
-        for (int i = 0; i < last; i++) {
-            if (list[i] == listener) {
+
+        for (int i = 0; i < listLocal.length; i++) {
+            if (listLocal[i] == listener) {
                 return i;
             }
         }
+
         return -1;
     }
 
@@ -131,7 +143,7 @@ public abstract class ListenerList<T> implements Iterable<T> {
      * otherwise.
      */
     public boolean contains(T listener) {
-        return indexOf(listener) >= 0;
+        return indexOf(list, listener) >= 0;
     }
 
     /**
@@ -142,7 +154,7 @@ public abstract class ListenerList<T> implements Iterable<T> {
      * otherwise.
      */
     public boolean isEmpty() {
-        return last == 0;
+        return list.length == 0;
     }
 
     /**
@@ -152,12 +164,25 @@ public abstract class ListenerList<T> implements Iterable<T> {
      * the number of elements.
      */
     public int getLength() {
-        return last;
+        return list.length;
+    }
+
+    /**
+     * Returns the current listeners. The returned array is a snapshot that is
+     * not affected by subsequent changes to the list, and must not be
+     * modified by the caller.
+     */
+    protected final Object[] getSnapshot() {
+        return list;
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public Iterator<T> iterator() {
-        return new NodeIterator();
+        Object[] listLocal = list;
+
+        return (listLocal.length == 0) ?
+            (Iterator<T>)EMPTY_ITERATOR : new NodeIterator<T>(listLocal);
     }
 
     @Override
@@ -16,67 +16,562 @@
  */
 package org.apache.pivot.util;
 
-import org.apache.pivot.collections.HashMap;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.apache.pivot.collections.ArrayList;
 
 /**
  * Provides support for basic intra-application message passing.
+ * <p>
+ * A message is delivered to the listeners of every topic that its class is
+ * assignable to, i.e. to subscribers of the message's class as well as of any
+ * of its superclasses and interfaces. The resolved topics are cached per
+ * message class, including classes that resolve to no topics, and are read
+ * without locking. The cache holds a bounded number of classes and is
+ * discarded whenever a topic is added or removed.
+ * <p>
+ * Bus instances are thread-safe: listeners may be subscribed and unsubscribed
+ * and messages sent from any thread. A bus created without an executor
+ * delivers messages synchronously on the sending thread. A bus created with
+ * an executor queues messages and delivers them, in order, from tasks
+ * submitted to that executor; at most one delivery task is outstanding at a
+ * time, so a burst of messages results in a single task. When the queue is
+ * bounded, the bus's {@link DropPolicy} determines what happens when it is
+ * full. An asynchronous bus may also coalesce messages, in which case a
+ * pending message is replaced by a newer message of the same class.
+ * <p>
+ * The static methods operate on a shared, synchronous default bus.
  */
 public class MessageBus {
-    private static HashMap<Class<?>, ListenerList<MessageBusListener<?>>> messageTopics
-        = new HashMap<Class<?>, ListenerList<MessageBusListener<?>>>();
+    /**
+     * Determines how an asynchronous bus handles a message sent while its
+     * queue is full.
+     */
+    public enum DropPolicy {
+        /**
+         * The sending thread waits until space is available. Must not be used
+         * when messages may be sent from the executor's own thread.
+         */
+        BLOCK,
+
+        /**
+         * The new message is discarded.
+         */
+        DROP_NEWEST,
+
+        /**
+         * The oldest pending message is discarded to make room for the new
+         * message.
+         */
+        DROP_OLDEST
+    }
+
+    private static class TopicListenerList extends ListenerList<MessageBusListener<?>> {
+        @SuppressWarnings("unchecked")
+        public <T> void messageSent(T message) {
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((MessageBusListener<T>)listeners[i]).messageSent(message);
+            }
+        }
+    }
+
+    private class DeliveryTask implements Runnable {
+        @Override
+        public void run() {
+            int count = getPendingMessageCount();
+
+            // Deliver only the messages that were pending when the task
+            // started, so that a busy sender cannot monopolize the executor
+            try {
+                for (int i = 0; i < count; i++) {
+                    Object message = poll();
+                    if (message == null) {
+                        break;
+                    }
+
+                    deliver(message);
+                }
+            } finally {
+                // Reschedule if messages remain, including when a listener
+                // has thrown
+                boolean reschedule;
+                synchronized (pendingLock) {
+                    reschedule = (getPendingMessageCount() > 0);
+                    scheduled = reschedule;
+                }
+
+                if (reschedule) {
+                    schedule();
+                }
+            }
+        }
+    }
+
+    private final ConcurrentHashMap<Class<?>, TopicListenerList> messageTopics =
+        new ConcurrentHashMap<Class<?>, TopicListenerList>();
+    // Copy-on-write: a published map is never modified, so senders can read
+    // it without locking. Replaced under the messageTopics lock.
+    private volatile HashMap<Class<?>, TopicListenerList[]> dispatchCache =
+        new HashMap<Class<?>, TopicListenerList[]>();
+
+    private final Executor executor;
+    private final int capacity;
+    private final DropPolicy dropPolicy;
+    private final boolean coalesce;
+
+    private final Object pendingLock = new Object();
+    private final ArrayDeque<Object> pendingMessages;
+    private final LinkedHashMap<Class<?>, Object> coalescedMessages;
+    private final DeliveryTask deliveryTask;
+    private boolean scheduled = false;
+    private long droppedMessageCount = 0;
+
+    private static final TopicListenerList[] EMPTY_DISPATCH = {};
+
+    // Maximum number of message classes held by a bus's dispatch cache; the
+    // cache is started over when it is full, so that sending arbitrary
+    // message classes cannot grow it or keep the classes loaded indefinitely
+    private static final int DISPATCH_CACHE_CAPACITY = 256;
+
+    private static final MessageBus DEFAULT_MESSAGE_BUS = new MessageBus();
 
     /**
-     * Subscribes a listener to a message topic.
+     * Creates a message bus that delivers messages synchronously on the
+     * sending thread.
+     */
+    public MessageBus() {
+        this(null, Integer.MAX_VALUE, DropPolicy.BLOCK, false);
+    }
+
+    /**
+     * Creates a message bus that delivers messages asynchronously via an
+     * unbounded queue.
      *
-     * @param topic
-     * @param messageListener
+     * @param executor
+     * The executor on which messages will be delivered.
      */
-    public static <T> void subscribe(Class<? super T> topic, MessageBusListener<T> messageListener) {
-        ListenerList<MessageBusListener<?>> topicListeners = messageTopics.get(topic);
+    public MessageBus(Executor executor) {
+        this(executor, Integer.MAX_VALUE, DropPolicy.BLOCK, false);
+    }
 
-        if (topicListeners == null) {
-            topicListeners = new ListenerList<MessageBusListener<?>>() {
-                // empty block
-            };
-            messageTopics.put(topic, topicListeners);
+    /**
+     * Creates a message bus.
+     *
+     * @param executor
+     * The executor on which messages will be delivered, or <tt>null</tt> to
+     * deliver messages synchronously on the sending thread.
+     *
+     * @param capacity
+     * The maximum number of pending messages. Ignored for synchronous buses.
+     *
+     * @param dropPolicy
+     * The policy to apply when a message is sent and the queue is full.
+     *
+     * @param coalesce
+     * If <tt>true</tt>, a pending message is replaced by a newer message of
+     * the same class rather than queued after it.
+     */
+    public MessageBus(Executor executor, int capacity, DropPolicy dropPolicy, boolean coalesce) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive.");
+        }
+
+        if (dropPolicy == null) {
+            throw new IllegalArgumentException("dropPolicy is null.");
+        }
+
+        if (executor == null && coalesce) {
+            throw new IllegalArgumentException("A synchronous message bus cannot coalesce messages.");
+        }
+
+        this.executor = executor;
+        this.capacity = capacity;
+        this.dropPolicy = dropPolicy;
+        this.coalesce = coalesce;
+
+        if (executor == null) {
+            pendingMessages = null;
+            coalescedMessages = null;
+            deliveryTask = null;
+        } else {
+            if (coalesce) {
+                pendingMessages = null;
+                coalescedMessages = new LinkedHashMap<Class<?>, Object>();
+            } else {
+                pendingMessages = new ArrayDeque<Object>();
+                coalescedMessages = null;
+            }
+
+            deliveryTask = new DeliveryTask();
         }
+    }
+
+    /**
+     * Returns the executor on which messages are delivered, or <tt>null</tt>
+     * if this bus delivers messages synchronously.
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
 
-        topicListeners.add(messageListener);
+    /**
+     * Returns the maximum number of pending messages.
+     */
+    public int getCapacity() {
+        return capacity;
     }
 
     /**
-     * Unsubscribe a listener from a message topic.
+     * Returns the policy applied when a message is sent and the queue is full.
+     */
+    public DropPolicy getDropPolicy() {
+        return dropPolicy;
+    }
+
+    /**
+     * Indicates whether pending messages are coalesced by class.
+     */
+    public boolean isCoalesce() {
+        return coalesce;
+    }
+
+    /**
+     * Adds a listener to a message topic.
      *
      * @param topic
      * @param messageListener
      */
-    public static <T> void unsubscribe(Class<? super T> topic, MessageBusListener<T> messageListener) {
-        ListenerList<MessageBusListener<?>> topicListeners = messageTopics.get(topic);
+    public <T> void addListener(Class<? super T> topic, MessageBusListener<T> messageListener) {
+        if (topic == null) {
+            throw new IllegalArgumentException("topic is null.");
+        }
 
-        if (topicListeners == null) {
-            throw new IllegalArgumentException(topic.getName() + " does not exist.");
+        synchronized (messageTopics) {
+            TopicListenerList topicListeners = messageTopics.get(topic);
+
+            if (topicListeners == null) {
+                topicListeners = new TopicListenerList();
+                messageTopics.put(topic, topicListeners);
+                clearDispatchCache();
+            }
+
+            topicListeners.add(messageListener);
         }
+    }
+
+    /**
+     * Removes a listener from a message topic.
+     *
+     * @param topic
+     * @param messageListener
+     */
+    public <T> void removeListener(Class<? super T> topic, MessageBusListener<T> messageListener) {
+        if (topic == null) {
+            throw new IllegalArgumentException("topic is null.");
+        }
+
+        synchronized (messageTopics) {
+            TopicListenerList topicListeners = messageTopics.get(topic);
+
+            if (topicListeners == null) {
+                throw new IllegalArgumentException(topic.getName() + " does not exist.");
+            }
 
-        topicListeners.remove(messageListener);
-        if (topicListeners.isEmpty()) {
-            messageTopics.remove(topic);
+            topicListeners.remove(messageListener);
+            if (topicListeners.isEmpty()) {
+                messageTopics.remove(topic);
+                clearDispatchCache();
+            }
         }
     }
 
     /**
-     * Sends a message to subscribed topic listeners.
+     * Sends a message to the listeners of every topic the message's class is
+     * assignable to. If this bus is asynchronous, the message is queued and
+     * this method returns without waiting for it to be delivered (unless the
+     * queue is full and the drop policy is {@link DropPolicy#BLOCK}).
      *
      * @param message
      */
-    @SuppressWarnings("unchecked")
-    public static <T> void sendMessage(T message) {
-        Class<?> topic = message.getClass();
-        ListenerList<MessageBusListener<?>> topicListeners = messageTopics.get(topic);
+    public <T> void send(T message) {
+        if (message == null) {
+            throw new IllegalArgumentException("message is null.");
+        }
 
-        if (topicListeners != null) {
-            for (MessageBusListener<?> listener : topicListeners) {
-                ((MessageBusListener<T>)listener).messageSent(message);
+        if (executor == null) {
+            deliver(message);
+        } else {
+            if (getTopicListeners(message.getClass()).length > 0) {
+                offer(message);
             }
         }
     }
+
+    /**
+     * Returns the number of messages waiting to be delivered.
+     */
+    public int getPendingMessageCount() {
+        int count;
+
+        synchronized (pendingLock) {
+            if (pendingMessages != null) {
+                count = pendingMessages.size();
+            } else if (coalescedMessages != null) {
+                count = coalescedMessages.size();
+            } else {
+                count = 0;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Returns the number of messages that have been discarded because the
+     * queue was full, or replaced by a newer message of the same class.
+     */
+    public long getDroppedMessageCount() {
+        synchronized (pendingLock) {
+            return droppedMessageCount;
+        }
+    }
+
+    private void offer(Object message) {
+        boolean schedule = false;
+
+        synchronized (pendingLock) {
+            if (coalesce) {
+                Class<?> messageClass = message.getClass();
+
+                if (coalescedMessages.containsKey(messageClass)) {
+                    // Replace the pending message in place, preserving its order
+                    coalescedMessages.put(messageClass, message);
+                    droppedMessageCount++;
+                } else if (makeRoom()) {
+                    coalescedMessages.put(messageClass, message);
+                }
+            } else {
+                if (makeRoom()) {
+                    pendingMessages.add(message);
+                }
+            }
+
+            if (!scheduled
+                && getPendingMessageCount() > 0) {
+                scheduled = true;
+                schedule = true;
+            }
+        }
+
+        if (schedule) {
+            schedule();
+        }
+    }
+
+    // Submits the delivery task; if the executor rejects it, the bus is
+    // marked unscheduled so that a later send can try again
+    private void schedule() {
+        try {
+            executor.execute(deliveryTask);
+        } catch (RejectedExecutionException exception) {
+            synchronized (pendingLock) {
+                scheduled = false;
+            }
+
+            throw exception;
+        }
+    }
+
+    // Called with pendingLock held; returns false if the new message should
+    // be discarded
+    private boolean makeRoom() {
+        while (getPendingMessageCount() >= capacity) {
+            switch (dropPolicy) {
+                case BLOCK: {
+                    // Only a delivery task can make room; if none is
+                    // outstanding (e.g. the executor rejected the last one),
+                    // submit one before waiting
+                    if (!scheduled) {
+                        scheduled = true;
+                        schedule();
+                        break;
+                    }
+
+                    try {
+                        pendingLock.wait();
+                    } catch (InterruptedException exception) {
+                        Thread.currentThread().interrupt();
+                        droppedMessageCount++;
+                        return false;
+                    }
+
+                    break;
+                }
+
+                case DROP_NEWEST: {
+                    droppedMessageCount++;
+                    return false;
+                }
+
+                case DROP_OLDEST: {
+                    poll();
+                    droppedMessageCount++;
+                    break;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private Object poll() {
+        Object message;
+
+        synchronized (pendingLock) {
+            if (coalesce) {
+                Iterator<Object> iterator = coalescedMessages.values().iterator();
+                if (iterator.hasNext()) {
+                    message = iterator.next();
+                    iterator.remove();
+                } else {
+                    message = null;
+                }
+            } else {
+                message = pendingMessages.poll();
+            }
+
+            if (message != null
+                && dropPolicy == DropPolicy.BLOCK) {
+                pendingLock.notifyAll();
+            }
+        }
+
+        return message;
+    }
+
+    private void deliver(Object message) {
+        TopicListenerList[] topicListeners = getTopicListeners(message.getClass());
+        for (int i = 0; i < topicListeners.length; i++) {
+            topicListeners[i].messageSent(message);
+        }
+    }
+
+    private TopicListenerList[] getTopicListeners(Class<?> messageClass) {
+        TopicListenerList[] topicListeners = dispatchCache.get(messageClass);
+
+        if (topicListeners == null) {
+            // Resolve under the subscription lock so that a concurrent change
+            // to the set of topics cannot leave a stale entry in the cache
+            synchronized (messageTopics) {
+                HashMap<Class<?>, TopicListenerList[]> dispatchCacheLocal = dispatchCache;
+                topicListeners = dispatchCacheLocal.get(messageClass);
+
+                if (topicListeners == null) {
+                    ArrayList<TopicListenerList> topicListenerList = new ArrayList<TopicListenerList>();
+
+                    if (!messageTopics.isEmpty()) {
+                        ArrayList<Class<?>> types = new ArrayList<Class<?>>();
+                        addTypes(messageClass, types);
+
+                        for (Class<?> type : types) {
+                            TopicListenerList listeners = messageTopics.get(type);
+                            if (listeners != null) {
+                                topicListenerList.add(listeners);
+                            }
+                        }
+                    }
+
+                    if (topicListenerList.getLength() == 0) {
+                        topicListeners = EMPTY_DISPATCH;
+                    } else {
+                        topicListeners = new TopicListenerList[topicListenerList.getLength()];
+                        for (int i = 0; i < topicListeners.length; i++) {
+                            topicListeners[i] = topicListenerList.get(i);
+                        }
+                    }
+
+                    HashMap<Class<?>, TopicListenerList[]> updatedDispatchCache;
+                    if (dispatchCacheLocal.size() < DISPATCH_CACHE_CAPACITY) {
+                        updatedDispatchCache =
+                            new HashMap<Class<?>, TopicListenerList[]>(dispatchCacheLocal);
+                    } else {
+                        updatedDispatchCache = new HashMap<Class<?>, TopicListenerList[]>();
+                    }
+
+                    updatedDispatchCache.put(messageClass, topicListeners);
+                    dispatchCache = updatedDispatchCache;
+                }
+            }
+        }
+
+        return topicListeners;
+    }
+
+    // Called with the messageTopics lock held
+    private void clearDispatchCache() {
+        dispatchCache = new HashMap<Class<?>, TopicListenerList[]>();
+    }
+
+    // Collects a type and its supertypes, most specific first
+    private static void addTypes(Class<?> type, ArrayList<Class<?>> types) {
+        Class<?> superclass = type;
+
+        while (superclass != null) {
+            types.add(superclass);
+            superclass = superclass.getSuperclass();
+        }
+
+        for (int i = 0; i < types.getLength(); i++) {
+            for (Class<?> interfaceType : types.get(i).getInterfaces()) {
+                if (types.indexOf(interfaceType) == -1) {
+                    types.add(interfaceType);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the default message bus, which delivers messages synchronously
+     * on the sending thread.
+     */
+    public static MessageBus getDefault() {
+        return DEFAULT_MESSAGE_BUS;
+    }
+
+    /**
+     * Subscribes a listener to a message topic on the default message bus.
+     *
+     * @param topic
+     * @param messageListener
+     */
+    public static <T> void subscribe(Class<? super T> topic, MessageBusListener<T> messageListener) {
+        DEFAULT_MESSAGE_BUS.addListener(topic, messageListener);
+    }
+
+    /**
+     * Unsubscribe a listener from a message topic on the default message bus.
+     *
+     * @param topic
+     * @param messageListener
+     */
+    public static <T> void unsubscribe(Class<? super T> topic, MessageBusListener<T> messageListener) {
+        DEFAULT_MESSAGE_BUS.removeListener(topic, messageListener);
+    }
+
+    /**
+     * Sends a message to subscribed topic listeners on the default message
+     * bus.
+     *
+     * @param message
+     */
+    public static <T> void sendMessage(T message) {
+        DEFAULT_MESSAGE_BUS.send(message);
+    }
 }
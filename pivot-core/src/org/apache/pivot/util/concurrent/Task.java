@@ -16,9 +16,7 @@
  */
 package org.apache.pivot.util.concurrent;
 
-import java.util.concurrent.AbstractExecutorService;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.TimeUnit;
 
 /**
  * Abstract base class for "tasks". A task is an asynchronous operation that
@@ -65,42 +63,6 @@ public abstract class Task<V> {
         }
     }
 
-    private static class DefaultExecutorService extends AbstractExecutorService {
-        private boolean shutdown = false;
-
-        @Override
-        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
-            return true;
-        }
-
-        @Override
-        public void shutdown() {
-            shutdownNow();
-        }
-
-        @Override
-        public java.util.List<Runnable> shutdownNow() {
-            shutdown = true;
-            return new java.util.ArrayList<Runnable>();
-        }
-
-        @Override
-        public boolean isShutdown() {
-            return shutdown;
-        }
-
-        @Override
-        public boolean isTerminated() {
-            return isShutdown();
-        }
-
-        @Override
-        public void execute(Runnable command) {
-            Thread thread = new Thread(command);
-            thread.start();
-        }
-    }
-
     private ExecutorService executorService;
 
     private V result = null;
@@ -110,9 +72,15 @@ public abstract class Task<V> {
     protected volatile long timeout = Long.MAX_VALUE;
     protected volatile boolean abort = false;
 
-    // TODO This is a workaround for an issue with Executors.newCachedThreadPool(), which
-    // unpredictably throws IllegalThreadStateException when run in an applet.
-    public static final ExecutorService DEFAULT_EXECUTOR_SERVICE = new DefaultExecutorService();
+    private static final TaskExecutorService defaultExecutorService =
+        new TaskExecutorService(TaskExecutorService.newDefaultExecutorService());
+
+    /**
+     * The executor service used by tasks that are not given one explicitly.
+     *
+     * @see #getDefaultExecutorService()
+     */
+    public static final ExecutorService DEFAULT_EXECUTOR_SERVICE = defaultExecutorService;
 
     public Task() {
         this(DEFAULT_EXECUTOR_SERVICE);
@@ -126,6 +94,17 @@ public abstract class Task<V> {
         this.executorService = executorService;
     }
 
+    /**
+     * Returns the default executor service, through which its execution
+     * strategy may be changed globally (via
+     * {@link TaskExecutorService#setExecutorService(ExecutorService)}) and its
+     * task counts monitored. This is the same object as
+     * {@link #DEFAULT_EXECUTOR_SERVICE}.
+     */
+    public static TaskExecutorService getDefaultExecutorService() {
+        return defaultExecutorService;
+    }
+
     /**
      * Synchronously executes the task.
      *
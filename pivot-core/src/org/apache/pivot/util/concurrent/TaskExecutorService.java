@@ -0,0 +1,409 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pivot.util.concurrent;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Executor service that forwards tasks to a replaceable delegate and keeps
+ * track of how many tasks are queued, running, and completed. Used as the
+ * {@linkplain Task#getDefaultExecutorService() default executor service} for
+ * tasks, so that the execution strategy can be selected globally.
+ * <p>
+ * The initial delegate of the default executor service is determined by the
+ * <tt>org.apache.pivot.util.concurrent.executor</tt> system property, which
+ * may be one of:
+ * <ul>
+ * <li><tt>thread</tt> - a new platform thread per task (the default)</li>
+ * <li><tt>pool</tt> - a bounded pool of named daemon threads; the maximum
+ * number of threads may be set via the
+ * <tt>org.apache.pivot.util.concurrent.maximumPoolSize</tt> property</li>
+ * <li><tt>virtual</tt> - a new virtual thread per task, on JVMs that support
+ * virtual threads (Java 21 or later); otherwise, a warning is printed and the
+ * bounded pool is used instead</li>
+ * </ul>
+ * Unrecognized or invalid property values are ignored.
+ * <p>
+ * Note that tasks that block waiting for other tasks (such as a
+ * {@link TaskGroup}) occupy a pool thread while they wait; a pool that is
+ * too small for such tasks can deadlock.
+ */
+public class TaskExecutorService extends AbstractExecutorService {
+    // Runs a single command, maintaining the counters
+    private class InstrumentedCommand implements Runnable {
+        private final Runnable command;
+
+        public InstrumentedCommand(Runnable command) {
+            this.command = command;
+        }
+
+        @Override
+        public void run() {
+            queuedTaskCount.decrementAndGet();
+            int active = activeTaskCount.incrementAndGet();
+
+            int peak = peakActiveTaskCount.get();
+            while (active > peak
+                && !peakActiveTaskCount.compareAndSet(peak, active)) {
+                peak = peakActiveTaskCount.get();
+            }
+
+            try {
+                command.run();
+            } finally {
+                activeTaskCount.decrementAndGet();
+                completedTaskCount.incrementAndGet();
+            }
+        }
+    }
+
+    // Executor service that creates a new platform thread for every task
+    private static class ThreadPerTaskExecutorService extends AbstractExecutorService {
+        private volatile boolean shutdown = false;
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return true;
+        }
+
+        @Override
+        public void shutdown() {
+            shutdownNow();
+        }
+
+        @Override
+        public java.util.List<Runnable> shutdownNow() {
+            shutdown = true;
+            return new java.util.ArrayList<Runnable>();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return isShutdown();
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            Thread thread = new Thread(command);
+            thread.start();
+        }
+    }
+
+    // Creates named daemon threads
+    private static class NamedThreadFactory implements ThreadFactory {
+        private final String name;
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        public NamedThreadFactory(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, name + "-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+
+            return thread;
+        }
+    }
+
+    private volatile ExecutorService executorService;
+
+    private final AtomicInteger queuedTaskCount = new AtomicInteger();
+    private final AtomicInteger activeTaskCount = new AtomicInteger();
+    private final AtomicInteger peakActiveTaskCount = new AtomicInteger();
+    private final AtomicLong completedTaskCount = new AtomicLong();
+
+    public static final String EXECUTOR_PROPERTY = "org.apache.pivot.util.concurrent.executor";
+    public static final String MAXIMUM_POOL_SIZE_PROPERTY = "org.apache.pivot.util.concurrent.maximumPoolSize";
+
+    public static final int DEFAULT_MAXIMUM_POOL_SIZE = 64;
+    public static final long KEEP_ALIVE_TIME = 60;
+
+    // The first Java version in which virtual threads are not a preview
+    // feature; on Java 19 and 20, the factory method exists but fails unless
+    // preview features are enabled
+    private static final int VIRTUAL_THREAD_JAVA_VERSION = 21;
+
+    private static Method newVirtualThreadPerTaskExecutorMethod = null;
+
+    static {
+        if (getJavaVersion() >= VIRTUAL_THREAD_JAVA_VERSION) {
+            try {
+                newVirtualThreadPerTaskExecutorMethod =
+                    java.util.concurrent.Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            } catch (NoSuchMethodException exception) {
+                // Virtual threads are not supported by this JVM
+            }
+        }
+    }
+
+    public TaskExecutorService(ExecutorService executorService) {
+        setExecutorService(executorService);
+    }
+
+    /**
+     * Returns the executor service to which tasks are forwarded.
+     */
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * Sets the executor service to which tasks are forwarded. Tasks that have
+     * already been submitted continue to run on the previous executor
+     * service, which is not shut down.
+     *
+     * @param executorService
+     */
+    public void setExecutorService(ExecutorService executorService) {
+        if (executorService == null) {
+            throw new IllegalArgumentException("executorService is null.");
+        }
+
+        this.executorService = executorService;
+    }
+
+    /**
+     * Returns the number of tasks that have been submitted but have not yet
+     * started running.
+     */
+    public int getQueuedTaskCount() {
+        return queuedTaskCount.get();
+    }
+
+    /**
+     * Returns the number of tasks that are currently running.
+     */
+    public int getActiveTaskCount() {
+        return activeTaskCount.get();
+    }
+
+    /**
+     * Returns the largest number of tasks that have run concurrently.
+     */
+    public int getPeakActiveTaskCount() {
+        return peakActiveTaskCount.get();
+    }
+
+    /**
+     * Returns the number of tasks that have finished running.
+     */
+    public long getCompletedTaskCount() {
+        return completedTaskCount.get();
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (command == null) {
+            throw new IllegalArgumentException("command is null.");
+        }
+
+        queuedTaskCount.incrementAndGet();
+
+        try {
+            executorService.execute(new InstrumentedCommand(command));
+        } catch (RejectedExecutionException exception) {
+            queuedTaskCount.decrementAndGet();
+            throw exception;
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        executorService.shutdown();
+    }
+
+    @Override
+    public java.util.List<Runnable> shutdownNow() {
+        return executorService.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return executorService.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return executorService.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return executorService.awaitTermination(timeout, unit);
+    }
+
+    /**
+     * Creates an executor service that starts a new platform thread for each
+     * task.
+     */
+    public static ExecutorService newThreadPerTaskExecutorService() {
+        return new ThreadPerTaskExecutorService();
+    }
+
+    /**
+     * Creates an executor service backed by a bounded pool of daemon threads.
+     * Threads are created on demand up to the maximum pool size, after which
+     * tasks are queued; idle threads are retired after
+     * {@link #KEEP_ALIVE_TIME} seconds.
+     *
+     * @param name
+     * The prefix used to name the pool's threads.
+     *
+     * @param maximumPoolSize
+     * The maximum number of threads.
+     */
+    public static ExecutorService newPooledExecutorService(String name, int maximumPoolSize) {
+        if (name == null) {
+            throw new IllegalArgumentException("name is null.");
+        }
+
+        if (maximumPoolSize < 1) {
+            throw new IllegalArgumentException("maximumPoolSize must be positive.");
+        }
+
+        ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(maximumPoolSize,
+            maximumPoolSize, KEEP_ALIVE_TIME, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(),
+            new NamedThreadFactory(name));
+        threadPoolExecutor.allowCoreThreadTimeOut(true);
+
+        return threadPoolExecutor;
+    }
+
+    // Returns the major version of the Java specification, or 0 if it cannot
+    // be determined
+    private static int getJavaVersion() {
+        int version = 0;
+
+        try {
+            String specificationVersion = System.getProperty("java.specification.version");
+
+            if (specificationVersion != null) {
+                // Versions before 9 are of the form "1.x"
+                if (specificationVersion.startsWith("1.")) {
+                    specificationVersion = specificationVersion.substring(2);
+                }
+
+                int i = specificationVersion.indexOf('.');
+                if (i != -1) {
+                    specificationVersion = specificationVersion.substring(0, i);
+                }
+
+                version = Integer.parseInt(specificationVersion);
+            }
+        } catch (SecurityException exception) {
+            // No-op; the version is unknown
+        } catch (NumberFormatException exception) {
+            // No-op; the version is unknown
+        }
+
+        return version;
+    }
+
+    /**
+     * Tests whether this JVM supports virtual threads.
+     */
+    public static boolean isVirtualThreadSupported() {
+        return (newVirtualThreadPerTaskExecutorMethod != null);
+    }
+
+    /**
+     * Creates an executor service that starts a new virtual thread for each
+     * task.
+     *
+     * @throws UnsupportedOperationException
+     * If this JVM does not support virtual threads, or the executor service
+     * could not be created.
+     */
+    public static ExecutorService newVirtualThreadExecutorService() {
+        if (newVirtualThreadPerTaskExecutorMethod == null) {
+            throw new UnsupportedOperationException("Virtual threads are not supported.");
+        }
+
+        try {
+            return (ExecutorService)newVirtualThreadPerTaskExecutorMethod.invoke(null);
+        } catch (InvocationTargetException exception) {
+            throw new UnsupportedOperationException("Virtual threads are not available.",
+                exception.getCause());
+        } catch (Exception exception) {
+            throw new UnsupportedOperationException("Virtual threads are not available.",
+                exception);
+        }
+    }
+
+    /**
+     * Creates the initial delegate of the default executor service, as
+     * selected by the {@link #EXECUTOR_PROPERTY} system property.
+     */
+    static ExecutorService newDefaultExecutorService() {
+        String executor = null;
+        int maximumPoolSize = DEFAULT_MAXIMUM_POOL_SIZE;
+
+        try {
+            executor = System.getProperty(EXECUTOR_PROPERTY);
+
+            String maximumPoolSizeProperty = System.getProperty(MAXIMUM_POOL_SIZE_PROPERTY);
+            if (maximumPoolSizeProperty != null) {
+                maximumPoolSize = Integer.parseInt(maximumPoolSizeProperty);
+            }
+        } catch (SecurityException exception) {
+            // No-op; use the defaults
+        } catch (NumberFormatException exception) {
+            // No-op; use the default pool size
+        }
+
+        if (maximumPoolSize < 1) {
+            maximumPoolSize = DEFAULT_MAXIMUM_POOL_SIZE;
+        }
+
+        ExecutorService executorService = null;
+        if ("pool".equals(executor)) {
+            executorService = newPooledExecutorService("pivot-task", maximumPoolSize);
+        } else if ("virtual".equals(executor)) {
+            // This is called while Task is being initialized, so a failure
+            // here must not be thrown
+            try {
+                executorService = newVirtualThreadExecutorService();
+            } catch (UnsupportedOperationException exception) {
+                System.err.println("Virtual threads are not available on this JVM; using a"
+                    + " thread pool for tasks instead. (" + exception.getMessage() + ")");
+
+                executorService = newPooledExecutorService("pivot-task", maximumPoolSize);
+            }
+        } else {
+            executorService = newThreadPerTaskExecutorService();
+        }
+
+        return executorService;
+    }
+}
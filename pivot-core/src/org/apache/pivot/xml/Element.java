@@ -405,50 +405,57 @@ public class Element extends Node implements List<Node> {
         implements ElementListener {
         @Override
         public void defaultNamespaceURIChanged(Element element, String previousDefaultNamespaceURI) {
-            for (ElementListener listener : this) {
-                listener.defaultNamespaceURIChanged(element, previousDefaultNamespaceURI);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ElementListener)listeners[i]).defaultNamespaceURIChanged(element, previousDefaultNamespaceURI);
             }
         }
 
         @Override
         public void namespaceAdded(Element element, String prefix) {
-            for (ElementListener listener : this) {
-                listener.namespaceAdded(element, prefix);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ElementListener)listeners[i]).namespaceAdded(element, prefix);
             }
         }
 
         @Override
         public void namespaceUpdated(Element element, String prefix, String previousURI) {
-            for (ElementListener listener : this) {
-                listener.namespaceUpdated(element, prefix, previousURI);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ElementListener)listeners[i]).namespaceUpdated(element, prefix, previousURI);
             }
         }
 
         @Override
         public void namespaceRemoved(Element element, String prefix, String uri) {
-            for (ElementListener listener : this) {
-                listener.namespaceRemoved(element, prefix, uri);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ElementListener)listeners[i]).namespaceRemoved(element, prefix, uri);
             }
         }
 
         @Override
         public void attributeInserted(Element element, int index) {
-            for (ElementListener listener : this) {
-                listener.attributeInserted(element, index);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ElementListener)listeners[i]).attributeInserted(element, index);
             }
         }
 
         @Override
         public void attributesRemoved(Element element, int index, Sequence<Attribute> attributes) {
-            for (ElementListener listener : this) {
-                listener.attributesRemoved(element, index, attributes);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ElementListener)listeners[i]).attributesRemoved(element, index, attributes);
             }
         }
 
         @Override
         public void attributeValueChanged(Attribute attribute, String previousValue) {
-            for (ElementListener listener : this) {
-                listener.attributeValueChanged(attribute, previousValue);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ElementListener)listeners[i]).attributeValueChanged(attribute, previousValue);
             }
         }
     }
@@ -561,10 +568,17 @@ public class Element extends Node implements List<Node> {
     private HashMap<String, Attribute> attributeMap = new HashMap<String, Attribute>();
 
     private ArrayList<Node> nodes = new ArrayList<Node>();
+    private HashMap<String, ArrayList<Element>> elementIndex = null;
 
     private ListListenerList<Node> listListeners = new ListListenerList<Node>();
     private ElementListenerList elementListeners = new ElementListenerList();
 
+    /**
+     * The number of child nodes above which name lookups are served from an
+     * index rather than by scanning the children.
+     */
+    public static final int ELEMENT_INDEX_THRESHOLD = 16;
+
     public Element(String localName) {
         this(null, localName);
     }
@@ -660,7 +674,7 @@ public class Element extends Node implements List<Node> {
         Element parent = getParent();
         if (prefix == null) {
             if (defaultNamespaceURI == null) {
-                namespaceURI = parent.getDefaultNamespaceURI();
+                namespaceURI = (parent == null) ? null : parent.getDefaultNamespaceURI();
             } else {
                 namespaceURI = defaultNamespaceURI;
             }
@@ -668,7 +682,7 @@ public class Element extends Node implements List<Node> {
             if (namespaces.containsKey(prefix)) {
                 namespaceURI = namespaces.get(prefix);
             } else {
-                namespaceURI = parent.getNamespaceURI(prefix);
+                namespaceURI = (parent == null) ? null : parent.getNamespaceURI(prefix);
             }
         }
 
@@ -723,6 +737,27 @@ public class Element extends Node implements List<Node> {
 
         nodes.insert(node, index);
         node.setParent(this);
+
+        if (elementIndex != null
+            && node instanceof Element) {
+            if (index == nodes.getLength() - 1) {
+                Element element = (Element)node;
+                String name = element.getName();
+
+                ArrayList<Element> elements = elementIndex.get(name);
+                if (elements == null) {
+                    elements = new ArrayList<Element>();
+                    elementIndex.put(name, elements);
+                }
+
+                elements.add(element);
+            } else {
+                // The element's position among its namesakes is not known; the
+                // index will be rebuilt on demand
+                elementIndex = null;
+            }
+        }
+
         listListeners.itemInserted(this, index);
     }
 
@@ -763,9 +798,53 @@ public class Element extends Node implements List<Node> {
     public Sequence<Node> remove(int index, int count) {
         Sequence<Node> removed = nodes.remove(index, count);
         if (count > 0) {
+            // The removed elements are consecutive among the children, so
+            // those with a given name form a run in that name's index entry;
+            // find the first element and length of each run
+            HashMap<String, Element> firstRemovedElements = null;
+            HashMap<String, Integer> removedElementCounts = null;
+
+            if (elementIndex != null) {
+                firstRemovedElements = new HashMap<String, Element>();
+                removedElementCounts = new HashMap<String, Integer>();
+            }
+
             for (int i = 0, n = removed.getLength(); i < n; i++ ) {
                 Node node = removed.get(i);
                 node.setParent(null);
+
+                if (elementIndex != null
+                    && node instanceof Element) {
+                    Element element = (Element)node;
+                    String name = element.getName();
+
+                    Integer removedElementCount = removedElementCounts.get(name);
+                    if (removedElementCount == null) {
+                        firstRemovedElements.put(name, element);
+                        removedElementCounts.put(name, 1);
+                    } else {
+                        removedElementCounts.put(name, removedElementCount + 1);
+                    }
+                }
+            }
+
+            if (elementIndex != null) {
+                // Remove each run from the index at once
+                for (String name : removedElementCounts) {
+                    ArrayList<Element> elements = elementIndex.get(name);
+                    Element firstRemovedElement = firstRemovedElements.get(name);
+
+                    int start = 0;
+                    while (elements.get(start) != firstRemovedElement) {
+                        start++;
+                    }
+
+                    elements.remove(start, removedElementCounts.get(name));
+
+                    if (elements.getLength() == 0) {
+                        elementIndex.remove(name);
+                    }
+                }
             }
 
             listListeners.itemsRemoved(this, index, removed);
@@ -786,6 +865,8 @@ public class Element extends Node implements List<Node> {
             }
 
             nodes.clear();
+            elementIndex = null;
+
             listListeners.listCleared(this);
         }
     }
@@ -870,23 +951,121 @@ public class Element extends Node implements List<Node> {
      * elements matched the given tag name.
      */
     public List<Element> getElements(String name) {
-        ArrayList<Element> elements = new ArrayList<Element>();
+        if (name == null) {
+            throw new IllegalArgumentException("name is null.");
+        }
 
-        for (int i = 0, n = getLength(); i < n; i++) {
-            Node node = get(i);
+        ArrayList<Element> elements;
 
-            if (node instanceof Element) {
-                Element element = (Element)node;
+        HashMap<String, ArrayList<Element>> elementIndexLocal = getElementIndex();
+        if (elementIndexLocal == null) {
+            elements = new ArrayList<Element>();
 
-                if (element.getName().equals(name)) {
-                    elements.add(element);
+            for (int i = 0, n = getLength(); i < n; i++) {
+                Node node = get(i);
+
+                if (node instanceof Element) {
+                    Element element = (Element)node;
+
+                    if (element.getName().equals(name)) {
+                        elements.add(element);
+                    }
                 }
             }
+        } else {
+            ArrayList<Element> indexedElements = elementIndexLocal.get(name);
+            elements = (indexedElements == null) ?
+                new ArrayList<Element>() : new ArrayList<Element>(indexedElements);
         }
 
         return elements;
     }
 
+    /**
+     * Returns a sub-element of this element by tag name.
+     *
+     * @param name
+     * The tag name to match.
+     *
+     * @param index
+     * The occurrence of the tag name within this element.
+     *
+     * @return
+     * The <i>index</i>th sub-element whose tag name matches the given name, or
+     * {@code null} if there is no such element.
+     */
+    public Element getElement(String name, int index) {
+        if (name == null) {
+            throw new IllegalArgumentException("name is null.");
+        }
+
+        if (index < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        Element element = null;
+
+        HashMap<String, ArrayList<Element>> elementIndexLocal = getElementIndex();
+        if (elementIndexLocal == null) {
+            int k = 0;
+            for (int i = 0, n = getLength(); i < n; i++) {
+                Node node = get(i);
+
+                if (node instanceof Element
+                    && ((Element)node).getName().equals(name)) {
+                    if (k == index) {
+                        element = (Element)node;
+                        break;
+                    }
+
+                    k++;
+                }
+            }
+        } else {
+            ArrayList<Element> elements = elementIndexLocal.get(name);
+            if (elements != null
+                && index < elements.getLength()) {
+                element = elements.get(index);
+            }
+        }
+
+        return element;
+    }
+
+    /**
+     * Returns the index of sub-elements by tag name, building it if this
+     * element has enough children to warrant one. Once built, the index is
+     * maintained as children are added and removed.
+     *
+     * @return
+     * The index, or {@code null} if lookups should scan the children.
+     */
+    private HashMap<String, ArrayList<Element>> getElementIndex() {
+        if (elementIndex == null
+            && getLength() > ELEMENT_INDEX_THRESHOLD) {
+            elementIndex = new HashMap<String, ArrayList<Element>>();
+
+            for (int i = 0, n = getLength(); i < n; i++) {
+                Node node = get(i);
+
+                if (node instanceof Element) {
+                    Element element = (Element)node;
+                    String name = element.getName();
+
+                    ArrayList<Element> elements = elementIndex.get(name);
+                    if (elements == null) {
+                        elements = new ArrayList<Element>();
+                        elementIndex.put(name, elements);
+                    }
+
+                    elements.add(element);
+                }
+            }
+        }
+
+        return elementIndex;
+    }
+
     /**
      * Returns the text content of this element. An element is defined to
      * contain text when it contains a single child that is an instance of
@@ -26,8 +26,9 @@ public abstract class Node {
         implements NodeListener {
         @Override
         public void parentChanged(Node node, Element previousParent) {
-            for (NodeListener listener : this) {
-                listener.parentChanged(node, previousParent);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((NodeListener)listeners[i]).parentChanged(node, previousParent);
             }
         }
     }
@@ -79,29 +79,8 @@ public class XML {
                     trailingBracketIndex));
             }
 
-
-            int j = 0;
-            int k = 0;
-            for (Node node : current) {
-                if (node instanceof Element) {
-                    Element element = (Element)node;
-
-                    if (element.getName().equals(tagName)) {
-                        if (k == index) {
-                            break;
-                        }
-
-                        k++;
-                    }
-                }
-
-                j++;
-            }
-
-            if (j < current.getLength()) {
-                current = (Element)current.get(j);
-            } else {
-                current = null;
+            current = (index < 0) ? null : current.getElement(tagName, index);
+            if (current == null) {
                 break;
             }
         }
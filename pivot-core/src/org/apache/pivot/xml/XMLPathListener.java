@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pivot.xml;
+
+/**
+ * XML path listener interface.
+ *
+ * @see XMLSerializer#addPathListener(String, XMLPathListener)
+ */
+public interface XMLPathListener {
+    /**
+     * Called when the serializer has read an element matching a path pattern
+     * while streaming. The element is detached from its ancestors; it declares
+     * all of the namespaces that were in scope, and the serializer retains no
+     * reference to it.
+     *
+     * @param xmlSerializer
+     * @param path
+     * The path pattern that the element matched.
+     * @param element
+     */
+    public void elementMatched(XMLSerializer xmlSerializer, String path, Element element);
+}
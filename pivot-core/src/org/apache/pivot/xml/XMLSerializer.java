@@ -34,6 +34,7 @@ import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamReader;
 import javax.xml.stream.XMLStreamWriter;
 
+import org.apache.pivot.collections.ArrayList;
 import org.apache.pivot.serialization.SerializationException;
 import org.apache.pivot.serialization.Serializer;
 import org.apache.pivot.util.ListenerList;
@@ -46,29 +47,89 @@ public class XMLSerializer implements Serializer<Element> {
         implements XMLSerializerListener {
         @Override
         public void beginElement(XMLSerializer xmlSerializer, Element element) {
-            for (XMLSerializerListener listener : this) {
-                listener.beginElement(xmlSerializer, element);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((XMLSerializerListener)listeners[i]).beginElement(xmlSerializer, element);
             }
         }
 
         @Override
         public void endElement(XMLSerializer xmlSerializer) {
-            for (XMLSerializerListener listener : this) {
-                listener.endElement(xmlSerializer);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((XMLSerializerListener)listeners[i]).endElement(xmlSerializer);
             }
         }
 
         @Override
         public void readTextNode(XMLSerializer xmlSerializer, TextNode textNode) {
-            for (XMLSerializerListener listener : this) {
-                listener.readTextNode(xmlSerializer, textNode);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((XMLSerializerListener)listeners[i]).readTextNode(xmlSerializer, textNode);
             }
         }
     }
 
+    private static class XMLPathListenerList extends ListenerList<XMLPathListener>
+        implements XMLPathListener {
+        @Override
+        public void elementMatched(XMLSerializer xmlSerializer, String path, Element element) {
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((XMLPathListener)listeners[i]).elementMatched(xmlSerializer, path, element);
+            }
+        }
+    }
+
+    // A path pattern and its listeners
+    private static class PathSubscription {
+        public final String path;
+        public final String[] steps;
+        public final XMLPathListenerList listeners = new XMLPathListenerList();
+
+        public PathSubscription(String path) {
+            this.path = path;
+
+            // Leading "/" anchors the pattern at the root; "//" matches any
+            // number of elements
+            String pathUpdated = path;
+            if (pathUpdated.startsWith("/")) {
+                pathUpdated = pathUpdated.substring(1);
+            } else {
+                pathUpdated = "/" + pathUpdated;
+            }
+
+            String[] components = pathUpdated.split("/", -1);
+            for (int i = 0; i < components.length; i++) {
+                String component = components[i];
+
+                if (component.length() == 0) {
+                    if (i == components.length - 1) {
+                        throw new IllegalArgumentException("\"" + path + "\" is not a valid path.");
+                    }
+
+                    components[i] = null;
+                }
+            }
+
+            steps = components;
+        }
+    }
+
     private Charset charset = null;
 
     private XMLSerializerListenerList xmlSerializerListeners = null;
+    private ArrayList<PathSubscription> pathSubscriptions = new ArrayList<PathSubscription>();
+
+    private static final XMLInputFactory xmlInputFactory;
+    private static final XMLOutputFactory xmlOutputFactory;
+
+    static {
+        xmlInputFactory = XMLInputFactory.newInstance();
+        xmlInputFactory.setProperty("javax.xml.stream.isCoalescing", true);
+
+        xmlOutputFactory = XMLOutputFactory.newInstance();
+    }
 
     public static final String XMLNS_ATTRIBUTE_PREFIX = "xmlns";
 
@@ -77,6 +138,8 @@ public class XMLSerializer implements Serializer<Element> {
     public static final String MIME_TYPE = "text/xml";
     public static final int BUFFER_SIZE = 2048;
 
+    public static final String WILDCARD_STEP = "*";
+
     public XMLSerializer() {
         this(Charset.forName(DEFAULT_CHARSET_NAME));
     }
@@ -112,13 +175,10 @@ public class XMLSerializer implements Serializer<Element> {
         }
 
         // Parse the XML stream
-        XMLInputFactory xmlInputFactory = XMLInputFactory.newInstance();
-        xmlInputFactory.setProperty("javax.xml.stream.isCoalescing", true);
-
         Element document = null;
 
         try {
-            XMLStreamReader xmlStreamReader = xmlInputFactory.createXMLStreamReader(reader);
+            XMLStreamReader xmlStreamReader = createXMLStreamReader(reader);
 
             Element current = null;
 
@@ -128,12 +188,7 @@ public class XMLSerializer implements Serializer<Element> {
                 switch (event) {
                     case XMLStreamConstants.CHARACTERS: {
                         if (!xmlStreamReader.isWhiteSpace()) {
-                            TextNode textNode = new TextNode(xmlStreamReader.getText());
-
-                            // Notify listeners
-                            if (xmlSerializerListeners != null) {
-                                xmlSerializerListeners.readTextNode(this, textNode);
-                            }
+                            TextNode textNode = readTextNode(xmlStreamReader);
 
                             if (current != null) {
                                 current.add(textNode);
@@ -144,43 +199,7 @@ public class XMLSerializer implements Serializer<Element> {
                     }
 
                     case XMLStreamConstants.START_ELEMENT: {
-                        // Create the element
-                        String prefix = xmlStreamReader.getPrefix();
-                        if (prefix != null
-                            && prefix.length() == 0) {
-                            prefix = null;
-                        }
-
-                        String localName = xmlStreamReader.getLocalName();
-
-                        Element element = new Element(prefix, localName);
-
-                        // Get the element's namespaces
-                        for (int i = 0, n = xmlStreamReader.getNamespaceCount(); i < n; i++) {
-                            String namespacePrefix = xmlStreamReader.getNamespacePrefix(i);
-                            String namespaceURI = xmlStreamReader.getNamespaceURI(i);
-
-                            if (namespacePrefix == null) {
-                                element.setDefaultNamespaceURI(namespaceURI);
-                            } else {
-                                element.getNamespaces().put(namespacePrefix, namespaceURI);
-                            }
-                        }
-
-                        // Get the element's attributes
-                        for (int i = 0, n = xmlStreamReader.getAttributeCount(); i < n; i++) {
-                            String attributePrefix = xmlStreamReader.getAttributePrefix(i);
-                            if (attributePrefix != null
-                                && attributePrefix.length() == 0) {
-                                attributePrefix = null;
-                            }
-
-                            String attributeLocalName = xmlStreamReader.getAttributeLocalName(i);
-                            String attributeValue = xmlStreamReader.getAttributeValue(i);
-
-                            element.getAttributes().add(new Element.Attribute(attributePrefix,
-                                attributeLocalName, attributeValue));
-                        }
+                        Element element = readElement(xmlStreamReader);
 
                         if (current == null) {
                             document = element;
@@ -224,6 +243,282 @@ public class XMLSerializer implements Serializer<Element> {
         return document;
     }
 
+    /**
+     * Reads XML data in streaming mode. Rather than building the complete
+     * document, the serializer builds only the elements that match the path
+     * patterns registered via {@link #addPathListener(String, XMLPathListener)},
+     * passes each to the pattern's listeners as it is completed, and then
+     * releases it. Memory use is therefore bounded by the largest matching
+     * element rather than by the size of the document.
+     * <p>
+     * Serializer listeners are notified only of the elements and text nodes
+     * that are built.
+     *
+     * @param inputStream
+     *
+     * @return
+     * The number of matching elements.
+     *
+     * @see #readElements(Reader)
+     */
+    public int readElements(InputStream inputStream) throws SerializationException {
+        if (inputStream == null) {
+            throw new IllegalArgumentException("inputStream is null.");
+        }
+
+        Reader reader = new BufferedReader(new InputStreamReader(inputStream, charset), BUFFER_SIZE);
+        return readElements(reader);
+    }
+
+    /**
+     * Reads XML data in streaming mode.
+     *
+     * @param reader
+     *
+     * @return
+     * The number of matching elements.
+     *
+     * @see #readElements(InputStream)
+     */
+    public int readElements(Reader reader) throws SerializationException {
+        if (reader == null) {
+            throw new IllegalArgumentException("reader is null.");
+        }
+
+        int count = 0;
+
+        // The names of the open elements and the namespaces they declare
+        ArrayList<String> names = new ArrayList<String>();
+        ArrayList<String[]> namespaces = new ArrayList<String[]>();
+
+        // The element being built, the pattern it matched, and its depth
+        Element current = null;
+        PathSubscription match = null;
+        int matchDepth = -1;
+
+        try {
+            XMLStreamReader xmlStreamReader = createXMLStreamReader(reader);
+
+            while (xmlStreamReader.hasNext()) {
+                int event = xmlStreamReader.next();
+
+                switch (event) {
+                    case XMLStreamConstants.CHARACTERS: {
+                        if (current != null
+                            && !xmlStreamReader.isWhiteSpace()) {
+                            current.add(readTextNode(xmlStreamReader));
+                        }
+
+                        break;
+                    }
+
+                    case XMLStreamConstants.START_ELEMENT: {
+                        String prefix = xmlStreamReader.getPrefix();
+                        String localName = xmlStreamReader.getLocalName();
+                        names.add((prefix == null || prefix.length() == 0) ?
+                            localName : prefix + ":" + localName);
+
+                        if (current == null) {
+                            // Record the declared namespaces, so that they can be
+                            // applied to a detached element
+                            int namespaceCount = xmlStreamReader.getNamespaceCount();
+                            String[] declarations = null;
+
+                            if (namespaceCount > 0) {
+                                declarations = new String[namespaceCount * 2];
+
+                                for (int i = 0; i < namespaceCount; i++) {
+                                    declarations[i * 2] = xmlStreamReader.getNamespacePrefix(i);
+                                    declarations[i * 2 + 1] = xmlStreamReader.getNamespaceURI(i);
+                                }
+                            }
+
+                            namespaces.add(declarations);
+
+                            match = getPathSubscription(names);
+
+                            if (match != null) {
+                                current = readElement(xmlStreamReader);
+                                matchDepth = names.getLength();
+
+                                // Declare the namespaces inherited from the ancestors
+                                for (int i = namespaces.getLength() - 2; i >= 0; i--) {
+                                    declareNamespaces(current, namespaces.get(i));
+                                }
+
+                                if (xmlSerializerListeners != null) {
+                                    xmlSerializerListeners.beginElement(this, current);
+                                }
+                            }
+                        } else {
+                            namespaces.add(null);
+
+                            Element element = readElement(xmlStreamReader);
+                            current.add(element);
+
+                            if (xmlSerializerListeners != null) {
+                                xmlSerializerListeners.beginElement(this, element);
+                            }
+
+                            current = element;
+                        }
+
+                        break;
+                    }
+
+                    case XMLStreamConstants.END_ELEMENT: {
+                        if (current != null) {
+                            if (xmlSerializerListeners != null) {
+                                xmlSerializerListeners.endElement(this);
+                            }
+
+                            if (names.getLength() == matchDepth) {
+                                Element element = current;
+                                current = null;
+                                matchDepth = -1;
+
+                                match.listeners.elementMatched(this, match.path, element);
+                                count++;
+                            } else {
+                                current = current.getParent();
+                            }
+                        }
+
+                        names.remove(names.getLength() - 1, 1);
+                        namespaces.remove(namespaces.getLength() - 1, 1);
+
+                        break;
+                    }
+
+                    default: {
+                        break;
+                    }
+                }
+            }
+        } catch (XMLStreamException exception) {
+            throw new SerializationException(exception);
+        }
+
+        return count;
+    }
+
+    private PathSubscription getPathSubscription(ArrayList<String> names) {
+        for (int i = 0, n = pathSubscriptions.getLength(); i < n; i++) {
+            PathSubscription pathSubscription = pathSubscriptions.get(i);
+            if (matches(pathSubscription.steps, 0, names, 0)) {
+                return pathSubscription;
+            }
+        }
+
+        return null;
+    }
+
+    private static boolean matches(String[] steps, int stepIndex, ArrayList<String> names,
+        int nameIndex) {
+        int nameCount = names.getLength();
+
+        if (stepIndex == steps.length) {
+            return (nameIndex == nameCount);
+        }
+
+        String step = steps[stepIndex];
+
+        if (step == null) {
+            // Match any number of elements
+            for (int i = nameIndex; i <= nameCount; i++) {
+                if (matches(steps, stepIndex + 1, names, i)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        return (nameIndex < nameCount
+            && (step.equals(WILDCARD_STEP) || step.equals(names.get(nameIndex)))
+            && matches(steps, stepIndex + 1, names, nameIndex + 1));
+    }
+
+    private static void declareNamespaces(Element element, String[] declarations) {
+        if (declarations != null) {
+            for (int i = 0; i < declarations.length; i += 2) {
+                String prefix = declarations[i];
+                if (prefix == null
+                    || prefix.length() == 0) {
+                    if (element.getDefaultNamespaceURI() == null) {
+                        element.setDefaultNamespaceURI(declarations[i + 1]);
+                    }
+                } else {
+                    Element.NamespaceDictionary namespaceDictionary = element.getNamespaces();
+                    if (!namespaceDictionary.containsKey(prefix)) {
+                        namespaceDictionary.put(prefix, declarations[i + 1]);
+                    }
+                }
+            }
+        }
+    }
+
+    private TextNode readTextNode(XMLStreamReader xmlStreamReader) {
+        TextNode textNode = new TextNode(xmlStreamReader.getText());
+
+        // Notify listeners
+        if (xmlSerializerListeners != null) {
+            xmlSerializerListeners.readTextNode(this, textNode);
+        }
+
+        return textNode;
+    }
+
+    private static Element readElement(XMLStreamReader xmlStreamReader) {
+        // Create the element
+        String prefix = xmlStreamReader.getPrefix();
+        if (prefix != null
+            && prefix.length() == 0) {
+            prefix = null;
+        }
+
+        String localName = xmlStreamReader.getLocalName();
+
+        Element element = new Element(prefix, localName);
+
+        // Get the element's namespaces
+        for (int i = 0, n = xmlStreamReader.getNamespaceCount(); i < n; i++) {
+            String namespacePrefix = xmlStreamReader.getNamespacePrefix(i);
+            String namespaceURI = xmlStreamReader.getNamespaceURI(i);
+
+            if (namespacePrefix == null) {
+                element.setDefaultNamespaceURI(namespaceURI);
+            } else {
+                element.getNamespaces().put(namespacePrefix, namespaceURI);
+            }
+        }
+
+        // Get the element's attributes
+        for (int i = 0, n = xmlStreamReader.getAttributeCount(); i < n; i++) {
+            String attributePrefix = xmlStreamReader.getAttributePrefix(i);
+            if (attributePrefix != null
+                && attributePrefix.length() == 0) {
+                attributePrefix = null;
+            }
+
+            String attributeLocalName = xmlStreamReader.getAttributeLocalName(i);
+            String attributeValue = xmlStreamReader.getAttributeValue(i);
+
+            element.getAttributes().add(new Element.Attribute(attributePrefix,
+                attributeLocalName, attributeValue));
+        }
+
+        return element;
+    }
+
+    private static XMLStreamReader createXMLStreamReader(Reader reader)
+        throws XMLStreamException {
+        // Factories are not guaranteed to be thread-safe
+        synchronized (xmlInputFactory) {
+            return xmlInputFactory.createXMLStreamReader(reader);
+        }
+    }
+
     @Override
     public void writeObject(Element element, OutputStream outputStream)
         throws IOException, SerializationException {
@@ -246,10 +541,12 @@ public class XMLSerializer implements Serializer<Element> {
             throw new IllegalArgumentException("element is null.");
         }
 
-        XMLOutputFactory output = XMLOutputFactory.newInstance();
-
         try {
-            XMLStreamWriter xmlStreamWriter = output.createXMLStreamWriter(writer);
+            XMLStreamWriter xmlStreamWriter;
+            synchronized (xmlOutputFactory) {
+                xmlStreamWriter = xmlOutputFactory.createXMLStreamWriter(writer);
+            }
+
             xmlStreamWriter.writeStartDocument();
             writeElement(element, xmlStreamWriter);
             xmlStreamWriter.writeEndDocument();
@@ -334,6 +631,84 @@ public class XMLSerializer implements Serializer<Element> {
         return MIME_TYPE;
     }
 
+    /**
+     * Registers a listener for the elements matching a path pattern when
+     * {@linkplain #readElements(Reader) streaming}. A pattern is a sequence of
+     * element names (including any namespace prefix) separated by "/":
+     * <ul>
+     * <li>a leading "/" anchors the pattern at the root element; otherwise,
+     * the pattern may match at any depth;</li>
+     * <li>"//" matches any number of intermediate elements;</li>
+     * <li>"{@value #WILDCARD_STEP}" matches any single element.</li>
+     * </ul>
+     * For example, <tt>/feed/entry</tt> matches each <tt>entry</tt> child of
+     * the root <tt>feed</tt> element, and <tt>price</tt> matches every
+     * <tt>price</tt> element. When patterns overlap, an element is reported
+     * for the first pattern registered; elements within a matching element
+     * are not reported separately.
+     *
+     * @param path
+     * @param listener
+     */
+    public void addPathListener(String path, XMLPathListener listener) {
+        if (path == null) {
+            throw new IllegalArgumentException("path is null.");
+        }
+
+        if (path.length() == 0) {
+            throw new IllegalArgumentException("path is empty.");
+        }
+
+        if (listener == null) {
+            throw new IllegalArgumentException("listener is null.");
+        }
+
+        PathSubscription pathSubscription = null;
+        for (PathSubscription existingPathSubscription : pathSubscriptions) {
+            if (existingPathSubscription.path.equals(path)) {
+                pathSubscription = existingPathSubscription;
+                break;
+            }
+        }
+
+        if (pathSubscription == null) {
+            pathSubscription = new PathSubscription(path);
+            pathSubscriptions.add(pathSubscription);
+        }
+
+        pathSubscription.listeners.add(listener);
+    }
+
+    /**
+     * Unregisters a path listener.
+     *
+     * @param path
+     * @param listener
+     */
+    public void removePathListener(String path, XMLPathListener listener) {
+        if (path == null) {
+            throw new IllegalArgumentException("path is null.");
+        }
+
+        if (listener == null) {
+            throw new IllegalArgumentException("listener is null.");
+        }
+
+        for (int i = 0, n = pathSubscriptions.getLength(); i < n; i++) {
+            PathSubscription pathSubscription = pathSubscriptions.get(i);
+
+            if (pathSubscription.path.equals(path)) {
+                pathSubscription.listeners.remove(listener);
+
+                if (pathSubscription.listeners.isEmpty()) {
+                    pathSubscriptions.remove(i, 1);
+                }
+
+                break;
+            }
+        }
+    }
+
     public ListenerList<XMLSerializerListener> getXMLSerializerListeners() {
         if (xmlSerializerListeners == null) {
             xmlSerializerListeners = new XMLSerializerListenerList();
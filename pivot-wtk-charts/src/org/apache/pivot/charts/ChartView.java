@@ -266,43 +266,49 @@ public abstract class ChartView extends Component {
         implements ChartViewListener {
         @Override
         public void chartDataChanged(ChartView chartView, List<?> previousChartData) {
-            for (ChartViewListener listener : this) {
-                listener.chartDataChanged(chartView, previousChartData);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ChartViewListener)listeners[i]).chartDataChanged(chartView, previousChartData);
             }
         }
 
         @Override
         public void seriesNameKeyChanged(ChartView chartView, String previousSeriesNameKey) {
-            for (ChartViewListener listener : this) {
-                listener.seriesNameKeyChanged(chartView, previousSeriesNameKey);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ChartViewListener)listeners[i]).seriesNameKeyChanged(chartView, previousSeriesNameKey);
             }
         }
 
         @Override
         public void titleChanged(ChartView chartView, String previousTitle) {
-            for (ChartViewListener listener : this) {
-                listener.titleChanged(chartView, previousTitle);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ChartViewListener)listeners[i]).titleChanged(chartView, previousTitle);
             }
         }
 
         @Override
         public void horizontalAxisLabelChanged(ChartView chartView, String previousXAxisLabel) {
-            for (ChartViewListener listener : this) {
-                listener.horizontalAxisLabelChanged(chartView, previousXAxisLabel);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ChartViewListener)listeners[i]).horizontalAxisLabelChanged(chartView, previousXAxisLabel);
             }
         }
 
         @Override
         public void verticalAxisLabelChanged(ChartView chartView, String previousYAxisLabel) {
-            for (ChartViewListener listener : this) {
-                listener.verticalAxisLabelChanged(chartView, previousYAxisLabel);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ChartViewListener)listeners[i]).verticalAxisLabelChanged(chartView, previousYAxisLabel);
             }
         }
 
         @Override
         public void showLegendChanged(ChartView chartView) {
-            for (ChartViewListener listener : this) {
-                listener.showLegendChanged(chartView);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ChartViewListener)listeners[i]).showLegendChanged(chartView);
             }
         }
     }
@@ -314,29 +320,33 @@ public abstract class ChartView extends Component {
         implements ChartViewCategoryListener {
         @Override
         public void categoryInserted(ChartView chartView, int index) {
-            for (ChartViewCategoryListener listener : this) {
-                listener.categoryInserted(chartView, index);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ChartViewCategoryListener)listeners[i]).categoryInserted(chartView, index);
             }
         }
 
         @Override
         public void categoriesRemoved(ChartView chartView, int index, Sequence<ChartView.Category> categories) {
-            for (ChartViewCategoryListener listener : this) {
-                listener.categoriesRemoved(chartView, index, categories);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ChartViewCategoryListener)listeners[i]).categoriesRemoved(chartView, index, categories);
             }
         }
 
         @Override
         public void categoryKeyChanged(ChartView chartView, int index, String previousKey) {
-            for (ChartViewCategoryListener listener : this) {
-                listener.categoryKeyChanged(chartView, index, previousKey);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ChartViewCategoryListener)listeners[i]).categoryKeyChanged(chartView, index, previousKey);
             }
         }
 
         @Override
         public void categoryLabelChanged(ChartView chartView, int index, String previousLabel) {
-            for (ChartViewCategoryListener listener : this) {
-                listener.categoryLabelChanged(chartView, index, previousLabel);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ChartViewCategoryListener)listeners[i]).categoryLabelChanged(chartView, index, previousLabel);
             }
         }
     }
@@ -348,36 +358,41 @@ public abstract class ChartView extends Component {
         implements ChartViewSeriesListener {
         @Override
         public void seriesInserted(ChartView chartView, int index) {
-            for (ChartViewSeriesListener listener : this) {
-                listener.seriesInserted(chartView, index);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ChartViewSeriesListener)listeners[i]).seriesInserted(chartView, index);
             }
         }
 
         @Override
         public void seriesRemoved(ChartView chartView, int index, int count) {
-            for (ChartViewSeriesListener listener : this) {
-                listener.seriesRemoved(chartView, index, count);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ChartViewSeriesListener)listeners[i]).seriesRemoved(chartView, index, count);
             }
         }
 
         @Override
         public void seriesUpdated(ChartView chartView, int index) {
-            for (ChartViewSeriesListener listener : this) {
-                listener.seriesUpdated(chartView, index);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ChartViewSeriesListener)listeners[i]).seriesUpdated(chartView, index);
             }
         }
 
         @Override
         public void seriesCleared(ChartView chartView) {
-            for (ChartViewSeriesListener listener : this) {
-                listener.seriesCleared(chartView);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ChartViewSeriesListener)listeners[i]).seriesCleared(chartView);
             }
         }
 
         @Override
         public void seriesSorted(ChartView chartView) {
-            for (ChartViewSeriesListener listener : this) {
-                listener.seriesSorted(chartView);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ChartViewSeriesListener)listeners[i]).seriesSorted(chartView);
             }
         }
     }
@@ -0,0 +1,227 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pivot.wtk.skin.terra;
+
+/**
+ * Maintains the heights of a sequence of variable-height rows, each followed
+ * by a one-pixel grid line, as a Fenwick (binary indexed) tree. Row positions
+ * and hit tests are answered in <tt>O(log n)</tt>, as are height updates and
+ * additions or removals at the end of the sequence; inserting or removing
+ * rows elsewhere shifts the heights and rebuilds the tree in <tt>O(n)</tt>.
+ */
+final class RowHeightIndex {
+    private int[] heights;
+    private int[] tree;
+    private int length;
+
+    public RowHeightIndex(int[] heights, int length) {
+        this.heights = heights;
+        this.length = length;
+
+        tree = new int[heights.length + 1];
+        build();
+    }
+
+    /**
+     * Returns the number of rows.
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * Returns the height of a row, excluding its grid line.
+     *
+     * @param index
+     */
+    public int getHeight(int index) {
+        verifyIndex(index);
+        return heights[index];
+    }
+
+    /**
+     * Returns the y-coordinate of a row; i.e. the total height of the rows
+     * and grid lines that precede it.
+     *
+     * @param index
+     */
+    public int getY(int index) {
+        if (index < 0
+            || index > length) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        int y = 0;
+        for (int i = index; i > 0; i -= (i & -i)) {
+            y += tree[i];
+        }
+
+        return y;
+    }
+
+    /**
+     * Returns the total height of the rows and their grid lines.
+     */
+    public int getTotalHeight() {
+        return getY(length);
+    }
+
+    /**
+     * Returns the index of the row at a given y-coordinate. A row's trailing
+     * grid line is considered part of the row.
+     *
+     * @param y
+     *
+     * @return
+     * The row index, or {@link #getLength()} if <tt>y</tt> is beyond the last
+     * row.
+     */
+    public int getIndexAt(int y) {
+        // Find the largest number of rows whose total height does not exceed y
+        int index = 0;
+        int remainder = y;
+
+        for (int mask = Integer.highestOneBit(Math.max(length, 1)); mask > 0; mask >>= 1) {
+            int i = index + mask;
+            if (i <= length
+                && tree[i] <= remainder) {
+                index = i;
+                remainder -= tree[i];
+            }
+        }
+
+        return index;
+    }
+
+    /**
+     * Sets the height of a row.
+     *
+     * @param index
+     * @param height
+     *
+     * @return
+     * The previous height.
+     */
+    public int update(int index, int height) {
+        verifyIndex(index);
+
+        int previousHeight = heights[index];
+        int delta = height - previousHeight;
+
+        if (delta != 0) {
+            heights[index] = height;
+
+            for (int i = index + 1; i <= length; i += (i & -i)) {
+                tree[i] += delta;
+            }
+        }
+
+        return previousHeight;
+    }
+
+    /**
+     * Inserts a row.
+     *
+     * @param index
+     * @param height
+     */
+    public void insert(int index, int height) {
+        if (index < 0
+            || index > length) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        if (length == heights.length) {
+            int capacity = Math.max(length * 3 / 2, 16);
+
+            int[] heightsUpdated = new int[capacity];
+            System.arraycopy(heights, 0, heightsUpdated, 0, length);
+            heights = heightsUpdated;
+
+            int[] treeUpdated = new int[capacity + 1];
+            System.arraycopy(tree, 0, treeUpdated, 0, length + 1);
+            tree = treeUpdated;
+        }
+
+        if (index == length) {
+            // The new node covers the new row and the rows (i - lowbit(i), i - 1]
+            int i = length + 1;
+            tree[i] = (height + 1) + getY(length) - getY(i - (i & -i));
+
+            heights[length] = height;
+            length++;
+        } else {
+            System.arraycopy(heights, index, heights, index + 1, length - index);
+            heights[index] = height;
+            length++;
+
+            build();
+        }
+    }
+
+    /**
+     * Removes a range of rows.
+     *
+     * @param index
+     * @param count
+     */
+    public void remove(int index, int count) {
+        if (index < 0
+            || count < 0
+            || index + count > length) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        if (index + count == length) {
+            // Tree nodes only cover rows that precede them, so the remaining
+            // nodes are unaffected
+            length = index;
+        } else {
+            System.arraycopy(heights, index + count, heights, index, length - (index + count));
+            length -= count;
+
+            build();
+        }
+    }
+
+    /**
+     * Removes all rows.
+     */
+    public void clear() {
+        length = 0;
+    }
+
+    private void build() {
+        for (int i = 1; i <= length; i++) {
+            tree[i] = heights[i - 1] + 1;
+        }
+
+        for (int i = 1; i <= length; i++) {
+            int j = i + (i & -i);
+            if (j <= length) {
+                tree[j] += tree[i];
+            }
+        }
+    }
+
+    private void verifyIndex(int index) {
+        if (index < 0
+            || index >= length) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+}
@@ -24,6 +24,7 @@ import java.awt.Transparency;
 
 import org.apache.pivot.collections.ArrayList;
 import org.apache.pivot.collections.Dictionary;
+import org.apache.pivot.collections.IntArrayList;
 import org.apache.pivot.collections.List;
 import org.apache.pivot.collections.Sequence;
 import org.apache.pivot.util.Filter;
@@ -71,7 +72,7 @@ public class TerraListViewSkin extends ComponentSkin implements ListView.Skin,
     private int highlightIndex = -1;
     private int selectIndex = -1;
 
-    private ArrayList<Integer> itemBoundaries = null;
+    private IntArrayList itemBoundaries = null;
     private int fixedItemHeight;
 
     private boolean validateSelection = false;
@@ -225,7 +226,7 @@ public class TerraListViewSkin extends ComponentSkin implements ListView.Skin,
             }
 
             int n = listData.getLength();
-            itemBoundaries = new ArrayList<Integer>(n);
+            itemBoundaries = new IntArrayList(n);
 
             int itemY = 0;
             for (int i = 0; i < n; i++) {
@@ -412,7 +413,7 @@ public class TerraListViewSkin extends ComponentSkin implements ListView.Skin,
             if (y == 0) {
                 index = 0;
             } else {
-                index = ArrayList.binarySearch(itemBoundaries, y);
+                index = IntArrayList.binarySearch(itemBoundaries, y);
                 if (index < 0) {
                     index = -(index + 1);
                 }
@@ -16,17 +16,24 @@
  */
 package org.apache.pivot.wtk.skin.terra;
 
+import java.awt.AlphaComposite;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.Graphics2D;
 import java.awt.Rectangle;
+import java.awt.RenderingHints;
 import java.awt.Transparency;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
 
 import org.apache.pivot.collections.ArrayList;
 import org.apache.pivot.collections.Dictionary;
+import org.apache.pivot.collections.LongArrayList;
 import org.apache.pivot.collections.List;
 import org.apache.pivot.collections.Sequence;
 import org.apache.pivot.util.Filter;
+import org.apache.pivot.wtk.ApplicationContext;
 import org.apache.pivot.wtk.Bounds;
 import org.apache.pivot.wtk.Component;
 import org.apache.pivot.wtk.Dimensions;
@@ -41,6 +48,7 @@ import org.apache.pivot.wtk.SortDirection;
 import org.apache.pivot.wtk.Span;
 import org.apache.pivot.wtk.TableView;
 import org.apache.pivot.wtk.TableView.SelectMode;
+import org.apache.pivot.wtk.TableViewCellListener;
 import org.apache.pivot.wtk.TableViewColumnListener;
 import org.apache.pivot.wtk.TableViewListener;
 import org.apache.pivot.wtk.TableViewRowListener;
@@ -51,13 +59,28 @@ import org.apache.pivot.wtk.skin.ComponentSkin;
 /**
  * Table view skin.
  * <p>
+ * When the <tt>cellCacheCapacity</tt> style is positive, the skin keeps the
+ * painted images of the cells of that many recently painted rows, and repaints
+ * a cell from its image until the row is updated or the cell's selection,
+ * highlight or disabled state changes. This avoids running the cell
+ * renderers for rows that have not changed when a large table is repainted
+ * frequently. Rows are identified by reference, so the cache is only
+ * suitable when row changes are reported via the table data list (for
+ * example, by calling <tt>update()</tt> with the modified row) and when cell
+ * renderers depend only on the row data and its state.
+ * <p>
+ * Cells marked via {@link TableView#markCellDirty(int, String)} are
+ * repainted together, as the smallest set of rectangles covering them, once
+ * the current event has been processed or, if the
+ * <tt>cellRepaintInterval</tt> style is positive, at most once per interval.
+ * <p>
  * TODO Add disableMouseSelection style to support the case where selection
  * should be enabled but the caller wants to implement the management of it;
  * e.g. changing a message's flag state in an email client.
  */
 public class TerraTableViewSkin extends ComponentSkin implements
 		TableView.Skin, TableViewListener, TableViewColumnListener,
-		TableViewRowListener, TableViewSelectionListener {
+		TableViewRowListener, TableViewCellListener, TableViewSelectionListener {
 	private Font font;
 	private Color color;
 	private Color disabledColor;
@@ -79,7 +102,7 @@ public class TerraTableViewSkin extends ComponentSkin implements
 	private boolean editOnMouseDown;
 
 	private ArrayList<Integer> columnWidths = null;
-	private ArrayList<Integer> rowBoundaries = null;
+	private RowHeightIndex rowHeightIndex = null;
 	private int fixedRowHeight = -1;
 	private int defaultWidthColumnCount = 0;
 
@@ -91,6 +114,56 @@ public class TerraTableViewSkin extends ComponentSkin implements
 
 	private boolean validateSelection = false;
 
+	// The painted images of a row's cells, and the state they were painted in;
+	// the background colors are those painted into an opaque image
+	private static class CachedCell {
+		public BufferedImage image = null;
+		public boolean selected;
+		public boolean highlighted;
+		public boolean disabled;
+		public Color alternateRowBackgroundColor;
+		public Color columnBackgroundColor;
+		public Color rowBackgroundColor;
+	}
+
+	// Identifies a row by reference, since row data may be mutable
+	private static final class RowKey {
+		private final Object row;
+
+		public RowKey(Object row) {
+			this.row = row;
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			return (object instanceof RowKey && ((RowKey) object).row == row);
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(row);
+		}
+	}
+
+	private int cellCacheCapacity = 0;
+	private LinkedHashMap<RowKey, CachedCell[]> cellCache = null;
+	private long cellCacheHitCount = 0;
+	private long cellCacheMissCount = 0;
+
+	// Cells awaiting repaint, encoded as (row index << 32) | column index
+	private LongArrayList dirtyCells = new LongArrayList();
+	private boolean dirtyCellRepaintScheduled = false;
+	private int cellRepaintInterval = 0;
+	private long lastDirtyCellRepaintTime = 0;
+
+	private Runnable repaintDirtyCellsCallback = new Runnable() {
+		@Override
+		public void run() {
+			dirtyCellRepaintScheduled = false;
+			repaintDirtyCells();
+		}
+	};
+
 	public TerraTableViewSkin() {
 		TerraTheme theme = (TerraTheme) Theme.getTheme();
 		font = theme.getFont();
@@ -125,6 +198,7 @@ public class TerraTableViewSkin extends ComponentSkin implements
 		tableView.getTableViewListeners().add(this);
 		tableView.getTableViewColumnListeners().add(this);
 		tableView.getTableViewRowListeners().add(this);
+		tableView.getTableViewCellListeners().add(this);
 		tableView.getTableViewSelectionListeners().add(this);
 	}
 
@@ -199,8 +273,17 @@ public class TerraTableViewSkin extends ComponentSkin implements
 			ArrayList<Integer> columnWidthsLocal = getColumnWidths(tableView,
 					width);
 
-			for (int i = 0; i < n; i++) {
-				preferredHeight += getVariableRowHeight(i, columnWidthsLocal);
+			if (rowHeightIndex != null
+					&& rowHeightIndex.getLength() == n
+					&& columnWidthsLocal.equals(columnWidths)) {
+				// The row heights at this width are already known; the
+				// index total includes the grid lines
+				preferredHeight = rowHeightIndex.getTotalHeight() - n;
+			} else {
+				for (int i = 0; i < n; i++) {
+					preferredHeight += getVariableRowHeight(i,
+							columnWidthsLocal);
+				}
 			}
 		} else {
 			int fixedRowHeightLocal = calculateFixedRowHeight(tableView);
@@ -267,39 +350,25 @@ public class TerraTableViewSkin extends ComponentSkin implements
 	@Override
 	@SuppressWarnings("unchecked")
 	public void layout() {
-		columnWidths = getColumnWidths((TableView) getComponent(), getWidth());
-
 		TableView tableView = (TableView) getComponent();
 		TableView.ColumnSequence columns = tableView.getColumns();
 
+		ArrayList<Integer> previousColumnWidths = columnWidths;
+		columnWidths = getColumnWidths(tableView, getWidth());
+
 		if (variableRowHeight) {
 			List<Object> tableData = (List<Object>) tableView.getTableData();
 
 			int n = tableData.getLength();
-			rowBoundaries = new ArrayList<Integer>(n);
-
-			int rowY = 0;
-			for (int i = 0; i < n; i++) {
-				Object rowData = tableData.get(i);
-
-				int rowHeight = 0;
-				for (int columnIndex = 0, columnCount = columns.getLength(); columnIndex < columnCount; columnIndex++) {
-					TableView.Column column = columns.get(columnIndex);
-
-					TableView.CellRenderer cellRenderer = column
-							.getCellRenderer();
-
-					int columnWidth = columnWidths.get(columnIndex);
-
-					cellRenderer.render(rowData, i, columnIndex, tableView,
-							column.getName(), false, false, false);
-					rowHeight = Math.max(rowHeight,
-							cellRenderer.getPreferredHeight(columnWidth));
-				}
 
-				rowY += rowHeight;
-				rowBoundaries.add(rowY);
-				rowY++;
+			// Row heights are maintained incrementally as rows change; they
+			// only need to be measured again when the column widths change
+			// or the index has been discarded
+			if (rowHeightIndex == null
+					|| rowHeightIndex.getLength() != n
+					|| !columnWidths.equals(previousColumnWidths)) {
+				rowHeightIndex = new RowHeightIndex(
+						measureRowHeights(tableView, columns), n);
 			}
 		} else {
 			fixedRowHeight = calculateFixedRowHeight(tableView);
@@ -329,6 +398,40 @@ public class TerraTableViewSkin extends ComponentSkin implements
 		validateSelection = false;
 	}
 
+	/**
+	 * Measures the height of every row at the current column widths.
+	 */
+	@SuppressWarnings("unchecked")
+	private int[] measureRowHeights(TableView tableView,
+			TableView.ColumnSequence columns) {
+		List<Object> tableData = (List<Object>) tableView.getTableData();
+
+		int n = tableData.getLength();
+		int[] rowHeights = new int[n];
+
+		for (int i = 0; i < n; i++) {
+			Object rowData = tableData.get(i);
+
+			int rowHeight = 0;
+			for (int columnIndex = 0, columnCount = columns.getLength(); columnIndex < columnCount; columnIndex++) {
+				TableView.Column column = columns.get(columnIndex);
+
+				TableView.CellRenderer cellRenderer = column.getCellRenderer();
+
+				int columnWidth = columnWidths.get(columnIndex);
+
+				cellRenderer.render(rowData, i, columnIndex, tableView,
+						column.getName(), false, false, false);
+				rowHeight = Math.max(rowHeight,
+						cellRenderer.getPreferredHeight(columnWidth));
+			}
+
+			rowHeights[i] = rowHeight;
+		}
+
+		return rowHeights;
+	}
+
 	/**
 	 * Calculates the table row height, which is determined as the maximum
 	 * preferred height of all cell renderers.
@@ -381,7 +484,7 @@ public class TerraTableViewSkin extends ComponentSkin implements
 				if (rowEnd != -1) {
 					int clipBottom = clipBounds.y + clipBounds.height - 1;
 					clipBottom = Math.min(clipBottom,
-							rowBoundaries.get(rowEnd) - 1);
+							rowHeightIndex.getTotalHeight() - 2);
 					rowEnd = getRowAt(clipBottom);
 				}
 			} else {
@@ -430,6 +533,30 @@ public class TerraTableViewSkin extends ComponentSkin implements
 			}
 		}
 
+		// Paint cells from the cache unless the graphics are scaled or rotated,
+		// in which case the images would not match the direct rendering. When
+		// the table background is opaque, cells are cached as opaque images
+		// painted over their background, so that LCD text antialiasing still
+		// applies; otherwise, the images must be translucent, and the cache is
+		// bypassed if LCD text antialiasing is in effect.
+		boolean opaqueCellImages = (backgroundColor != null
+				&& backgroundColor.getAlpha() == 255);
+		boolean useCellCache = (cellCache != null
+				&& (graphics.getTransform().getType() & ~AffineTransform.TYPE_TRANSLATION) == 0
+				&& (opaqueCellImages || !isLCDTextAntialiasing(graphics)));
+
+		boolean[] sortedColumns = null;
+		if (useCellCache
+				&& opaqueCellImages
+				&& columnSelectionColor != null) {
+			sortedColumns = new boolean[columns.getLength()];
+
+			for (int columnIndex = 0; columnIndex < sortedColumns.length; columnIndex++) {
+				sortedColumns[columnIndex] = (tableView.getSort().get(
+						columns.get(columnIndex).getName()) != null);
+			}
+		}
+
 		// Paint the row content
 		for (int rowIndex = rowStart; rowIndex <= rowEnd; rowIndex++) {
 			Object rowData = tableData.get(rowIndex);
@@ -463,6 +590,18 @@ public class TerraTableViewSkin extends ComponentSkin implements
 			// Paint the cells
 			columnX = 0;
 
+			CachedCell[] cachedCells = null;
+			if (useCellCache) {
+				RowKey rowKey = new RowKey(rowData);
+				cachedCells = cellCache.get(rowKey);
+
+				if (cachedCells == null
+						|| cachedCells.length != columns.getLength()) {
+					cachedCells = new CachedCell[columns.getLength()];
+					cellCache.put(rowKey, cachedCells);
+				}
+			}
+
 			for (int columnIndex = 0, columnCount = columns.getLength(); columnIndex < columnCount; columnIndex++) {
 				TableView.Column column = columns.get(columnIndex);
 
@@ -470,16 +609,123 @@ public class TerraTableViewSkin extends ComponentSkin implements
 
 				int columnWidth = columnWidths.get(columnIndex);
 
-				Graphics2D rendererGraphics = (Graphics2D) graphics.create(
-						columnX, rowY, columnWidth, rowHeight);
+				if (cachedCells == null) {
+					Graphics2D rendererGraphics = (Graphics2D) graphics.create(
+							columnX, rowY, columnWidth, rowHeight);
+
+					cellRenderer.render(rowData, rowIndex, columnIndex,
+							tableView, column.getName(), rowSelected,
+							rowHighlighted, rowDisabled);
+					cellRenderer.setSize(columnWidth, rowHeight);
+					cellRenderer.paint(rendererGraphics);
+
+					rendererGraphics.dispose();
+				} else if (columnWidth > 0 && rowHeight > 0) {
+					CachedCell cachedCell = cachedCells[columnIndex];
+					if (cachedCell == null) {
+						cachedCell = new CachedCell();
+						cachedCells[columnIndex] = cachedCell;
+					}
 
-				cellRenderer.render(rowData, rowIndex, columnIndex, tableView,
-						column.getName(), rowSelected, rowHighlighted,
-						rowDisabled);
-				cellRenderer.setSize(columnWidth, rowHeight);
-				cellRenderer.paint(rendererGraphics);
+					// The backgrounds painted beneath the cell, in order
+					Color cellAlternateRowBackgroundColor = null;
+					Color cellColumnBackgroundColor = null;
+					Color cellRowBackgroundColor = null;
 
-				rendererGraphics.dispose();
+					if (opaqueCellImages) {
+						if (rowIndex % 2 > 0) {
+							cellAlternateRowBackgroundColor = alternateRowBackgroundColor;
+						}
+
+						if (sortedColumns != null
+								&& sortedColumns[columnIndex]) {
+							cellColumnBackgroundColor = columnSelectionColor;
+						}
+
+						cellRowBackgroundColor = rowBackgroundColor;
+					}
+
+					int transparency = opaqueCellImages ? Transparency.OPAQUE
+							: Transparency.TRANSLUCENT;
+
+					BufferedImage image = cachedCell.image;
+					if (image != null
+							&& image.getWidth() == columnWidth
+							&& image.getHeight() == rowHeight
+							&& image.getTransparency() == transparency
+							&& cachedCell.selected == rowSelected
+							&& cachedCell.highlighted == rowHighlighted
+							&& cachedCell.disabled == rowDisabled
+							&& equals(cachedCell.alternateRowBackgroundColor,
+									cellAlternateRowBackgroundColor)
+							&& equals(cachedCell.columnBackgroundColor,
+									cellColumnBackgroundColor)
+							&& equals(cachedCell.rowBackgroundColor,
+									cellRowBackgroundColor)) {
+						cellCacheHitCount++;
+					} else {
+						cellCacheMissCount++;
+
+						// Reuse the previous image if it is the right size
+						if (image == null
+								|| image.getWidth() != columnWidth
+								|| image.getHeight() != rowHeight
+								|| image.getTransparency() != transparency) {
+							image = graphics.getDeviceConfiguration()
+									.createCompatibleImage(columnWidth,
+											rowHeight, transparency);
+							cachedCell.image = image;
+						}
+
+						Graphics2D imageGraphics = image.createGraphics();
+
+						if (opaqueCellImages) {
+							// Paint the backgrounds as paint() does beneath
+							// the cell
+							imageGraphics.setPaint(backgroundColor);
+							imageGraphics.fillRect(0, 0, columnWidth, rowHeight);
+
+							if (cellAlternateRowBackgroundColor != null) {
+								imageGraphics.setPaint(cellAlternateRowBackgroundColor);
+								imageGraphics.fillRect(0, 0, columnWidth, rowHeight);
+							}
+
+							if (cellColumnBackgroundColor != null) {
+								imageGraphics.setPaint(cellColumnBackgroundColor);
+								imageGraphics.fillRect(0, 0, columnWidth, rowHeight);
+							}
+
+							if (cellRowBackgroundColor != null) {
+								imageGraphics.setPaint(cellRowBackgroundColor);
+								imageGraphics.fillRect(0, 0, columnWidth, rowHeight);
+							}
+						} else {
+							imageGraphics.setComposite(AlphaComposite.Clear);
+							imageGraphics.fillRect(0, 0, columnWidth, rowHeight);
+							imageGraphics.setComposite(AlphaComposite.SrcOver);
+						}
+
+						imageGraphics.setRenderingHints(graphics
+								.getRenderingHints());
+
+						cellRenderer.render(rowData, rowIndex, columnIndex,
+								tableView, column.getName(), rowSelected,
+								rowHighlighted, rowDisabled);
+						cellRenderer.setSize(columnWidth, rowHeight);
+						cellRenderer.paint(imageGraphics);
+
+						imageGraphics.dispose();
+
+						cachedCell.selected = rowSelected;
+						cachedCell.highlighted = rowHighlighted;
+						cachedCell.disabled = rowDisabled;
+						cachedCell.alternateRowBackgroundColor = cellAlternateRowBackgroundColor;
+						cachedCell.columnBackgroundColor = cellColumnBackgroundColor;
+						cachedCell.rowBackgroundColor = cellRowBackgroundColor;
+					}
+
+					graphics.drawImage(image, columnX, rowY, null);
+				}
 				
 				if (showVerticalGridLines) {
 					columnX += columnWidth + 1;
@@ -558,11 +804,7 @@ public class TerraTableViewSkin extends ComponentSkin implements
 	private int getRowY(int rowIndex) {
 		int rowY;
 		if (variableRowHeight) {
-			if (rowIndex == 0) {
-				rowY = 0;
-			} else {
-				rowY = rowBoundaries.get(rowIndex - 1);
-			}
+			rowY = rowHeightIndex.getY(rowIndex);
 		} else {
 			rowY = rowIndex * (fixedRowHeight + 1);
 		}
@@ -572,11 +814,7 @@ public class TerraTableViewSkin extends ComponentSkin implements
 	private int getRowHeight(int rowIndex) {
 		int rowHeight;
 		if (variableRowHeight) {
-			rowHeight = rowBoundaries.get(rowIndex);
-
-			if (rowIndex > 0) {
-				rowHeight -= rowBoundaries.get(rowIndex - 1);
-			}
+			rowHeight = rowHeightIndex.getHeight(rowIndex);
 		} else {
 			rowHeight = fixedRowHeight;
 		}
@@ -619,14 +857,7 @@ public class TerraTableViewSkin extends ComponentSkin implements
 
 		int rowIndex;
 		if (variableRowHeight) {
-			if (y == 0) {
-				rowIndex = 0;
-			} else {
-				rowIndex = ArrayList.binarySearch(rowBoundaries, y);
-				if (rowIndex < 0) {
-					rowIndex = -(rowIndex + 1);
-				}
-			}
+			rowIndex = rowHeightIndex.getIndexAt(y);
 		} else {
 			rowIndex = (y / (fixedRowHeight + 1));
 		}
@@ -698,7 +929,7 @@ public class TerraTableViewSkin extends ComponentSkin implements
 
 		int rowHeight = getRowHeight(rowIndex);
 
-		return new Bounds(cellX, rowIndex * (rowHeight + 1),
+		return new Bounds(cellX, getRowY(rowIndex),
 				columnWidths.get(columnIndex), rowHeight);
 	}
 
@@ -1211,13 +1442,269 @@ public class TerraTableViewSkin extends ComponentSkin implements
 		invalidateComponent();
 	}
 
+	/**
+	 * Invalidates the component and discards the row heights, which will be
+	 * measured again on the next layout.
+	 */
+	@Override
+	protected void invalidateComponent() {
+		rowHeightIndex = null;
+		clearCellCache();
+		dirtyCells.clear();
+		super.invalidateComponent();
+	}
+
+	/**
+	 * Repaints the component and discards the cached cell images, since a
+	 * full repaint follows a change that may affect every cell.
+	 */
+	@Override
+	protected void repaintComponent() {
+		clearCellCache();
+		dirtyCells.clear();
+		super.repaintComponent();
+	}
+
+	/**
+	 * Invalidates the component after the row heights have been updated to
+	 * reflect a change to the table data.
+	 */
+	private void invalidateRowLayout() {
+		dirtyCells.clear();
+		super.invalidateComponent();
+	}
+
+	/**
+	 * Repaints the cells that have been marked dirty, merging adjacent cells
+	 * in the same row and identical column runs in adjacent rows.
+	 */
+	private void repaintDirtyCells() {
+		lastDirtyCellRepaintTime = System.currentTimeMillis();
+
+		TableView tableView = (TableView) getComponent();
+		if (dirtyCells.getLength() == 0
+				|| tableView == null
+				|| !tableView.isValid()) {
+			// A pending layout will repaint the whole table
+			dirtyCells.clear();
+			return;
+		}
+
+		LongArrayList.sort(dirtyCells);
+
+		int pendingRowStart = -1;
+		int pendingRowEnd = -1;
+		int pendingX = 0;
+		int pendingWidth = 0;
+
+		int i = 0;
+		int n = dirtyCells.getLength();
+		while (i < n) {
+			long cell = dirtyCells.get(i);
+			int rowIndex = (int) (cell >>> 32);
+
+			// Collect the column runs of this row
+			int runX = -1;
+			int runWidth = 0;
+			int previousColumnIndex = -2;
+
+			while (i < n && (int) (dirtyCells.get(i) >>> 32) == rowIndex) {
+				int columnIndex = (int) dirtyCells.get(i);
+				i++;
+
+				if (columnIndex == previousColumnIndex) {
+					continue;
+				}
+
+				int cellX = getCellX(columnIndex);
+				int cellWidth = columnWidths.get(columnIndex) + 1;
+
+				if (columnIndex == previousColumnIndex + 1) {
+					runWidth = cellX + cellWidth - runX;
+				} else {
+					if (runX != -1) {
+						// A gap ends the run, which is repainted on its own
+						repaintCells(rowIndex, rowIndex, runX, runWidth);
+					}
+
+					runX = cellX;
+					runWidth = cellWidth;
+				}
+
+				previousColumnIndex = columnIndex;
+			}
+
+			// Extend the pending rectangle with the last run of this row if it
+			// covers the same columns of the preceding row
+			if (pendingRowStart != -1
+					&& pendingRowEnd == rowIndex - 1
+					&& pendingX == runX
+					&& pendingWidth == runWidth) {
+				pendingRowEnd = rowIndex;
+			} else {
+				if (pendingRowStart != -1) {
+					repaintCells(pendingRowStart, pendingRowEnd, pendingX,
+							pendingWidth);
+				}
+
+				pendingRowStart = rowIndex;
+				pendingRowEnd = rowIndex;
+				pendingX = runX;
+				pendingWidth = runWidth;
+			}
+		}
+
+		if (pendingRowStart != -1) {
+			repaintCells(pendingRowStart, pendingRowEnd, pendingX,
+					pendingWidth);
+		}
+
+		dirtyCells.clear();
+	}
+
+	private void repaintCells(int rowStart, int rowEnd, int x, int width) {
+		int y = getRowY(rowStart);
+		int height = getRowY(rowEnd) + getRowHeight(rowEnd) + 1 - y;
+
+		repaintComponent(x, y, width, height);
+	}
+
+	/**
+	 * Returns the x-coordinate of a column as it is painted.
+	 */
+	private int getCellX(int columnIndex) {
+		int cellX = 0;
+		for (int i = 0; i < columnIndex; i++) {
+			cellX += columnWidths.get(i);
+
+			if (showVerticalGridLines) {
+				cellX++;
+			}
+		}
+
+		return cellX;
+	}
+
+	/**
+	 * Returns the minimum interval between repaints of dirty cells, in
+	 * milliseconds.
+	 */
+	public int getCellRepaintInterval() {
+		return cellRepaintInterval;
+	}
+
+	/**
+	 * Sets the minimum interval between repaints of dirty cells. Cells marked
+	 * dirty within the interval are repainted together when it elapses.
+	 *
+	 * @param cellRepaintInterval
+	 * The interval in milliseconds, or <tt>0</tt> to repaint dirty cells as
+	 * soon as the current event has been processed.
+	 */
+	public void setCellRepaintInterval(int cellRepaintInterval) {
+		if (cellRepaintInterval < 0) {
+			throw new IllegalArgumentException(
+					"cellRepaintInterval is negative.");
+		}
+
+		this.cellRepaintInterval = cellRepaintInterval;
+	}
+
+	private static boolean equals(Color color1, Color color2) {
+		return (color1 == null) ? (color2 == null) : color1.equals(color2);
+	}
+
+	/**
+	 * Tests whether text may be painted with LCD (subpixel) antialiasing,
+	 * which is not available when painting into a translucent image.
+	 */
+	private static boolean isLCDTextAntialiasing(Graphics2D graphics) {
+		return isLCDTextAntialiasingHint(graphics
+				.getRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING))
+				|| isLCDTextAntialiasingHint(Platform.getFontRenderContext()
+						.getAntiAliasingHint());
+	}
+
+	private static boolean isLCDTextAntialiasingHint(Object hint) {
+		return (hint == RenderingHints.VALUE_TEXT_ANTIALIAS_LCD_HRGB
+				|| hint == RenderingHints.VALUE_TEXT_ANTIALIAS_LCD_HBGR
+				|| hint == RenderingHints.VALUE_TEXT_ANTIALIAS_LCD_VRGB
+				|| hint == RenderingHints.VALUE_TEXT_ANTIALIAS_LCD_VBGR);
+	}
+
+	private void clearCellCache() {
+		if (cellCache != null) {
+			cellCache.clear();
+		}
+	}
+
+	/**
+	 * Returns the number of rows whose cell images are cached, or <tt>0</tt>
+	 * if cell caching is disabled.
+	 */
+	public int getCellCacheCapacity() {
+		return cellCacheCapacity;
+	}
+
+	/**
+	 * Sets the number of rows whose cell images are cached.
+	 *
+	 * @param cellCacheCapacity
+	 * The number of rows, which should be at least the number of visible
+	 * rows, or <tt>0</tt> to disable cell caching.
+	 */
+	public void setCellCacheCapacity(int cellCacheCapacity) {
+		if (cellCacheCapacity < 0) {
+			throw new IllegalArgumentException(
+					"cellCacheCapacity is negative.");
+		}
+
+		this.cellCacheCapacity = cellCacheCapacity;
+
+		if (cellCacheCapacity == 0) {
+			cellCache = null;
+		} else {
+			final int capacity = cellCacheCapacity;
+			cellCache = new LinkedHashMap<RowKey, CachedCell[]>(16, 0.75f, true) {
+				private static final long serialVersionUID = 0;
+
+				@Override
+				protected boolean removeEldestEntry(
+						java.util.Map.Entry<RowKey, CachedCell[]> eldest) {
+					return (size() > capacity);
+				}
+			};
+		}
+
+		cellCacheHitCount = 0;
+		cellCacheMissCount = 0;
+
+		repaintComponent();
+	}
+
+	/**
+	 * Returns the number of cells painted from the cell cache since it was
+	 * enabled.
+	 */
+	public long getCellCacheHitCount() {
+		return cellCacheHitCount;
+	}
+
+	/**
+	 * Returns the number of cells that were rendered into the cell cache
+	 * since it was enabled.
+	 */
+	public long getCellCacheMissCount() {
+		return cellCacheMissCount;
+	}
+
 	public boolean isVariableRowHeight() {
 		return variableRowHeight;
 	}
 
 	public void setVariableRowHeight(boolean variableRowHeight) {
 		this.variableRowHeight = variableRowHeight;
-		this.rowBoundaries = null;
+		this.rowHeightIndex = null;
 		this.fixedRowHeight = -1;
 		invalidateComponent();
 	}
@@ -1635,26 +2122,115 @@ public class TerraTableViewSkin extends ComponentSkin implements
 	// Table view row events
 	@Override
 	public void rowInserted(TableView tableView, int index) {
-		invalidateComponent();
+		if (variableRowHeight && rowHeightIndex != null) {
+			rowHeightIndex.insert(index,
+					getVariableRowHeight(index, columnWidths));
+			invalidateRowLayout();
+		} else {
+			invalidateComponent();
+		}
 	}
 
 	@Override
 	public void rowsRemoved(TableView tableView, int index, int count) {
-		invalidateComponent();
+		if (variableRowHeight && rowHeightIndex != null) {
+			rowHeightIndex.remove(index, count);
+			invalidateRowLayout();
+		} else {
+			invalidateComponent();
+		}
 	}
 
 	@Override
 	public void rowUpdated(TableView tableView, int index) {
-		if (variableRowHeight || defaultWidthColumnCount > 0) {
+		if (cellCache != null) {
+			cellCache.remove(new RowKey(tableView.getTableData().get(index)));
+		}
+
+		if (variableRowHeight && rowHeightIndex != null) {
+			int rowHeight = getVariableRowHeight(index, columnWidths);
+			int previousRowHeight = rowHeightIndex.update(index, rowHeight);
+
+			if (rowHeight != previousRowHeight || defaultWidthColumnCount > 0) {
+				invalidateRowLayout();
+			} else {
+				repaintComponent(getRowBounds(index));
+			}
+		} else if (variableRowHeight || defaultWidthColumnCount > 0) {
 			invalidateComponent();
 		} else {
 			repaintComponent(getRowBounds(index));
 		}
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	public void cellUpdated(TableView tableView, int rowIndex,
+			String columnName) {
+		if (defaultWidthColumnCount > 0) {
+			// The cell's content may affect the column widths
+			rowUpdated(tableView, rowIndex);
+			return;
+		}
+
+		TableView.ColumnSequence columns = tableView.getColumns();
+
+		if (cellCache != null) {
+			List<Object> tableData = (List<Object>) tableView.getTableData();
+			CachedCell[] cachedCells = cellCache.get(new RowKey(tableData
+					.get(rowIndex)));
+
+			if (cachedCells != null) {
+				for (int i = 0, n = Math.min(cachedCells.length,
+						columns.getLength()); i < n; i++) {
+					if (columnName.equals(columns.get(i).getName())) {
+						cachedCells[i] = null;
+					}
+				}
+			}
+		}
+
+		if (variableRowHeight) {
+			if (rowHeightIndex == null) {
+				// A layout is already pending
+				return;
+			}
+
+			int rowHeight = getVariableRowHeight(rowIndex, columnWidths);
+			if (rowHeightIndex.update(rowIndex, rowHeight) != rowHeight) {
+				invalidateRowLayout();
+				return;
+			}
+		}
+
+		for (int i = 0, n = columns.getLength(); i < n; i++) {
+			if (columnName.equals(columns.get(i).getName())) {
+				dirtyCells.add(((long) rowIndex << 32) | i);
+			}
+		}
+
+		if (!dirtyCellRepaintScheduled) {
+			dirtyCellRepaintScheduled = true;
+
+			if (cellRepaintInterval == 0) {
+				ApplicationContext.queueCallback(repaintDirtyCellsCallback);
+			} else {
+				long delay = lastDirtyCellRepaintTime + cellRepaintInterval
+						- System.currentTimeMillis();
+				ApplicationContext.scheduleCallback(repaintDirtyCellsCallback,
+						Math.max(delay, 0));
+			}
+		}
+	}
+
 	@Override
 	public void rowsCleared(TableView listView) {
-		invalidateComponent();
+		if (variableRowHeight && rowHeightIndex != null) {
+			rowHeightIndex.clear();
+			invalidateRowLayout();
+		} else {
+			invalidateComponent();
+		}
 	}
 
 	@Override
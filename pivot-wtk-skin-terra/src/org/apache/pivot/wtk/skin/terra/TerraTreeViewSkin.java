@@ -25,6 +25,7 @@ import java.awt.RenderingHints;
 import java.awt.Transparency;
 import java.awt.geom.GeneralPath;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.NoSuchElementException;
 
 import org.apache.pivot.collections.ArrayList;
@@ -49,7 +50,7 @@ import org.apache.pivot.wtk.TreeView;
 import org.apache.pivot.wtk.TreeView.SelectMode;
 import org.apache.pivot.wtk.TreeViewBranchListener;
 import org.apache.pivot.wtk.TreeViewListener;
-import org.apache.pivot.wtk.TreeViewNodeListener;
+import org.apache.pivot.wtk.TreeViewNodeRangeListener;
 import org.apache.pivot.wtk.TreeViewNodeStateListener;
 import org.apache.pivot.wtk.TreeViewSelectionListener;
 import org.apache.pivot.wtk.skin.ComponentSkin;
@@ -58,7 +59,7 @@ import org.apache.pivot.wtk.skin.ComponentSkin;
  * Tree view skin.
  */
 public class TerraTreeViewSkin extends ComponentSkin implements TreeView.Skin,
-    TreeViewListener, TreeViewBranchListener, TreeViewNodeListener,
+    TreeViewListener, TreeViewBranchListener, TreeViewNodeRangeListener,
     TreeViewNodeStateListener, TreeViewSelectionListener{
 
     /**
@@ -79,13 +80,21 @@ public class TerraTreeViewSkin extends ComponentSkin implements TreeView.Skin,
      * path of each visible node, using this iterator will be much more
      * efficient than manually iterating over the visible nodes and calling
      * <tt>getPath()</tt> on each node.
+     * <p>
+     * The children of a lazy branch are given node infos as the iterator
+     * reaches them.
      */
     protected final class VisibleNodeIterator implements Iterator<NodeInfo> {
         private int index;
         private int end;
+        private boolean materialize;
 
         private Path path = null;
         private NodeInfo previous = null;
+        private NodeInfo next;
+
+        // The row of the next node within its page, if it is a page info
+        private int offset = 0;
 
         public VisibleNodeIterator() {
             this(0, visibleNodes.getLength() - 1);
@@ -102,6 +111,15 @@ public class TerraTreeViewSkin extends ComponentSkin implements TreeView.Skin,
          * The end index, inclusive
          */
         public VisibleNodeIterator(int start, int end) {
+            this(start, end, true);
+        }
+
+        /**
+         * Creates a new visible node iterator that returns the page info of
+         * any children of a lazy branch that have no node infos, once for
+         * each of their rows, rather than creating node infos for them.
+         */
+        private VisibleNodeIterator(int start, int end, boolean materialize) {
             if (start < 0
                 || end >= visibleNodes.getLength()) {
                 throw new IndexOutOfBoundsException();
@@ -109,6 +127,16 @@ public class TerraTreeViewSkin extends ComponentSkin implements TreeView.Skin,
 
             this.index = start;
             this.end = end;
+            this.materialize = materialize;
+
+            if (start > end) {
+                next = null;
+            } else if (materialize) {
+                next = getVisibleNode(start);
+            } else {
+                next = visibleNodes.get(start);
+                offset = start - visibleNodes.indexOf(next);
+            }
         }
 
         /**
@@ -128,11 +156,43 @@ public class TerraTreeViewSkin extends ComponentSkin implements TreeView.Skin,
                 throw new NoSuchElementException();
             }
 
-            NodeInfo next = visibleNodes.get(index++);
+            NodeInfo next = this.next;
+            int nextOffset = offset;
+            index++;
+
+            if (materialize
+                && next.page != null) {
+                touchPage(next.page);
+            }
+
+            if (index > end) {
+                this.next = null;
+            } else if (offset + 1 < next.getRowCount()) {
+                offset++;
+            } else {
+                offset = 0;
+                this.next = visibleNodes.next(next);
+
+                if (materialize
+                    && this.next instanceof PageInfo) {
+                    PageInfo page = (PageInfo)this.next;
+                    materializePage(page);
+                    this.next = page.nodes.get(0);
+                }
+            }
 
             if (path == null) {
                 // First iteration
                 path = next.getPath();
+
+                if (nextOffset > 0) {
+                    int n = path.getLength();
+                    path.update(n - 1, path.get(n - 1) + nextOffset);
+                }
+            } else if (next == previous) {
+                // Next row of the same page
+                int n = path.getLength();
+                path.update(n - 1, path.get(n - 1) + 1);
             } else if (next.parent == previous) {
                 // Child of previous visible node
                 path.add(0);
@@ -191,7 +251,7 @@ public class TerraTreeViewSkin extends ComponentSkin implements TreeView.Skin,
     /**
      * An internal data structure that keeps track of skin-related metadata
      * for a tree node. The justification for the existence of this class lies
-     * in the <tt>visibleNodes</tt> data structure, which is a flat list of
+     * in the <tt>visibleNodes</tt> data structure, which is an ordered list of
      * nodes that are visible at any given time. In this context, visible means
      * that their parent hierarchy is expanded, <b>not</b> that they are being
      * painted. This list, combined with <tt>getNodeHeight()</tt>, enables us
@@ -209,6 +269,17 @@ public class TerraTreeViewSkin extends ComponentSkin implements TreeView.Skin,
         final Object data;
         final int depth;
 
+        // The page that holds the node, if it is a child of a lazy branch
+        PageInfo page = null;
+
+        // Position in the visible node list, maintained by VisibleNodeList
+        NodeInfo visibleLeft = null;
+        NodeInfo visibleRight = null;
+        NodeInfo visibleParent = null;
+        int visibleSize = 0;
+        int visibleMinimumDepth = 0;
+        int visiblePriority = 0;
+
         // Cached fields. Note that this is maintained as a bitmask in favor of
         // separate properties because it allows us to easily clear any cached
         // field for all nodes in one common method. See #clearField(byte)
@@ -248,6 +319,14 @@ public class TerraTreeViewSkin extends ComponentSkin implements TreeView.Skin,
             }
         }
 
+        private NodeInfo(BranchInfo parent) {
+            this.treeView = parent.treeView;
+            this.parent = parent;
+            this.data = null;
+
+            depth = parent.depth + 1;
+        }
+
         @SuppressWarnings("unchecked")
         private static NodeInfo newInstance(TreeView treeView, BranchInfo parent, Object data) {
             NodeInfo nodeInfo = null;
@@ -261,6 +340,14 @@ public class TerraTreeViewSkin extends ComponentSkin implements TreeView.Skin,
             return nodeInfo;
         }
 
+        /**
+         * Returns the number of rows that the node occupies in the visible
+         * node list.
+         */
+        int getRowCount() {
+            return 1;
+        }
+
         @SuppressWarnings("unchecked")
         public Path getPath() {
             Path path = Path.forDepth(depth);
@@ -268,8 +355,14 @@ public class TerraTreeViewSkin extends ComponentSkin implements TreeView.Skin,
             NodeInfo nodeInfo = this;
 
             while (nodeInfo.parent != null) {
-                List<Object> parentData = (List<Object>)nodeInfo.parent.data;
-                int index = parentData.indexOf(nodeInfo.data);
+                // Look the node info up rather than its data, since a lazy
+                // branch may return the same placeholder for many nodes
+                int index = nodeInfo.parent.indexOf(nodeInfo);
+                if (index == -1) {
+                    List<Object> parentData = (List<Object>)nodeInfo.parent.data;
+                    index = parentData.indexOf(nodeInfo.data);
+                }
+
                 path.insert(index, 0);
 
                 nodeInfo = nodeInfo.parent;
@@ -378,6 +471,10 @@ public class TerraTreeViewSkin extends ComponentSkin implements TreeView.Skin,
         // Core skin metadata
         private List<NodeInfo> children = null;
 
+        // The children of a lazy branch, in place of the children list
+        private ArrayList<PageInfo> pages = null;
+        private boolean pageStartsValid = true;
+
         public static final byte EXPANDED_MASK = 1 << 6;
 
         private BranchInfo(TreeView treeView, BranchInfo parent, List<Object> data) {
@@ -391,23 +488,163 @@ public class TerraTreeViewSkin extends ComponentSkin implements TreeView.Skin,
          * order to paint. Thus, it is the responsibility of the skin to check
          * if <tt>children</tt> is null and call <tt>loadChildren()</tt> if
          * necessary.
+         * <p>
+         * The children of a lazy branch are divided into pages instead, whose
+         * node infos are only created while the skin needs them (see
+         * {@link PageInfo}).
          */
         @SuppressWarnings("unchecked")
         public void loadChildren() {
-            if (children == null) {
+            if (children == null
+                && pages == null) {
                 List<Object> dataLocal = (List<Object>)this.data;
                 int count = dataLocal.getLength();
 
-                children = new ArrayList<NodeInfo>(count);
+                if (dataLocal instanceof TreeView.LazyBranch) {
+                    pages = new ArrayList<PageInfo>();
 
-                for (int i = 0; i < count; i++) {
-                    Object nodeData = dataLocal.get(i);
-                    NodeInfo childNodeInfo = NodeInfo.newInstance(treeView, this, nodeData);
-                    children.add(childNodeInfo);
+                    for (int i = 0; i < count; i += NODE_PAGE_SIZE) {
+                        PageInfo page = new PageInfo(this, Math.min(count - i, NODE_PAGE_SIZE));
+                        page.start = i;
+                        pages.add(page);
+                    }
+                } else {
+                    children = new ArrayList<NodeInfo>(count);
+
+                    for (int i = 0; i < count; i++) {
+                        Object nodeData = dataLocal.get(i);
+                        NodeInfo childNodeInfo = NodeInfo.newInstance(treeView, this, nodeData);
+                        children.add(childNodeInfo);
+                    }
                 }
             }
         }
 
+        /**
+         * Tells whether this branch info's children have been loaded.
+         */
+        public boolean isLoaded() {
+            return (children != null || pages != null);
+        }
+
+        /**
+         * Returns the number of children of this branch, loading them if
+         * necessary.
+         */
+        public int getChildCount() {
+            loadChildren();
+
+            int count;
+            if (children != null) {
+                count = children.getLength();
+            } else {
+                validatePageStarts();
+
+                int n = pages.getLength();
+                if (n == 0) {
+                    count = 0;
+                } else {
+                    PageInfo page = pages.get(n - 1);
+                    count = page.start + page.length;
+                }
+            }
+
+            return count;
+        }
+
+        /**
+         * Returns the loaded children of this branch; for a lazy branch, these
+         * are the children of its materialized pages.
+         */
+        private Sequence<NodeInfo> getLoadedChildren() {
+            Sequence<NodeInfo> loadedChildren;
+
+            if (pages == null) {
+                loadedChildren = (children == null) ? new ArrayList<NodeInfo>() : children;
+            } else {
+                loadedChildren = new ArrayList<NodeInfo>();
+
+                for (int i = 0, n = pages.getLength(); i < n; i++) {
+                    PageInfo page = pages.get(i);
+
+                    if (page.nodes != null) {
+                        for (int j = 0, m = page.nodes.getLength(); j < m; j++) {
+                            loadedChildren.add(page.nodes.get(j));
+                        }
+                    }
+                }
+            }
+
+            return loadedChildren;
+        }
+
+        /**
+         * Returns the index of a loaded child, or <tt>-1</tt> if the node
+         * info is not one. The index of a page info is that of its first
+         * child.
+         */
+        private int indexOf(NodeInfo nodeInfo) {
+            int index = -1;
+
+            if (children != null) {
+                index = children.indexOf(nodeInfo);
+            } else if (pages != null) {
+                PageInfo page = (nodeInfo instanceof PageInfo) ?
+                    (PageInfo)nodeInfo : nodeInfo.page;
+
+                int offset = -1;
+                if (page == nodeInfo) {
+                    offset = 0;
+                } else if (page != null
+                    && page.nodes != null) {
+                    offset = page.nodes.indexOf(nodeInfo);
+                }
+
+                if (offset >= 0) {
+                    validatePageStarts();
+                    index = page.start + offset;
+                }
+            }
+
+            return index;
+        }
+
+        /**
+         * Returns the index of the page that holds a child of a lazy branch.
+         */
+        private int getPageIndex(int index) {
+            validatePageStarts();
+
+            int low = 0;
+            int high = pages.getLength() - 1;
+
+            while (low < high) {
+                int middle = (low + high + 1) >>> 1;
+
+                if (pages.get(middle).start <= index) {
+                    low = middle;
+                } else {
+                    high = middle - 1;
+                }
+            }
+
+            return low;
+        }
+
+        private void validatePageStarts() {
+            if (!pageStartsValid) {
+                int start = 0;
+
+                for (int i = 0, n = pages.getLength(); i < n; i++) {
+                    PageInfo page = pages.get(i);
+                    page.start = start;
+                    start += page.length;
+                }
+
+                pageStartsValid = true;
+            }
+        }
+
         public boolean isExpanded() {
             return ((fields & EXPANDED_MASK) != 0);
         }
@@ -421,12 +658,37 @@ public class TerraTreeViewSkin extends ComponentSkin implements TreeView.Skin,
         }
     }
 
+    /**
+     * A run of consecutive children of a lazy branch. Node infos are only
+     * created for the children while the page is materialized; otherwise, the
+     * page stands in for them in the visible node list, occupying one row for
+     * each child.
+     */
+    private static final class PageInfo extends NodeInfo {
+        private int start = 0;
+        private int length;
+        private ArrayList<NodeInfo> nodes = null;
+
+        private PageInfo(BranchInfo parent, int length) {
+            super(parent);
+            this.length = length;
+        }
+
+        @Override
+        int getRowCount() {
+            return length;
+        }
+    }
+
     private BranchInfo rootBranchInfo = null;
-    private List<NodeInfo> visibleNodes = new ArrayList<NodeInfo>();
+    private VisibleNodeList visibleNodes = new VisibleNodeList();
 
     private NodeInfo highlightedNode = null;
     private Path selectPath = null;
 
+    // The materialized pages of lazy branches, least recently used first
+    private LinkedHashSet<PageInfo> materializedPages = new LinkedHashSet<PageInfo>();
+
     // Styles
     private Font font;
     private Color color;
@@ -455,6 +717,9 @@ public class TerraTreeViewSkin extends ComponentSkin implements TreeView.Skin,
     private static final int BRANCH_CONTROL_IMAGE_HEIGHT = 8;
     private static final int VERTICAL_SPACING = 1;
 
+    private static final int NODE_PAGE_SIZE = 128;
+    private static final int MAXIMUM_MATERIALIZED_PAGE_COUNT = 64;
+
     private static final Checkbox CHECKBOX = new Checkbox();
     private static final int CHECKBOX_VERTICAL_PADDING = 2;
 
@@ -509,13 +774,21 @@ public class TerraTreeViewSkin extends ComponentSkin implements TreeView.Skin,
 
         int preferredWidth = 0;
 
-        VisibleNodeIterator visibleNodeIterator = new VisibleNodeIterator();
+        VisibleNodeIterator visibleNodeIterator = new VisibleNodeIterator(0,
+            visibleNodes.getLength() - 1, false);
         while (visibleNodeIterator.hasNext()) {
             NodeInfo nodeInfo = visibleNodeIterator.next();
+            Path path = visibleNodeIterator.getPath();
+
+            Object nodeData = nodeInfo.data;
+            if (nodeInfo instanceof PageInfo) {
+                List<?> branchData = (List<?>)nodeInfo.parent.data;
+                nodeData = branchData.get(path.get(path.getLength() - 1));
+            }
 
             int nodeWidth = (nodeInfo.depth - 1) * (indent + spacing);
 
-            nodeRenderer.render(nodeInfo.data, visibleNodeIterator.getPath(),
+            nodeRenderer.render(nodeData, path,
                 visibleNodeIterator.getRowIndex(), treeView, false, false,
                 TreeView.NodeCheckState.UNCHECKED, false, false);
             nodeWidth += nodeRenderer.getPreferredWidth(-1);
@@ -556,7 +829,7 @@ public class TerraTreeViewSkin extends ComponentSkin implements TreeView.Skin,
             TreeView treeView = (TreeView)getComponent();
             TreeView.NodeRenderer nodeRenderer = treeView.getNodeRenderer();
 
-            NodeInfo nodeInfo = visibleNodes.get(0);
+            NodeInfo nodeInfo = getVisibleNode(0);
 
             int nodeWidth = width - (nodeInfo.depth - 1) * (indent + spacing);
             int nodeHeight = getNodeHeight();
@@ -630,10 +903,31 @@ public class TerraTreeViewSkin extends ComponentSkin implements TreeView.Skin,
 
         int nodeY = nodeStart * (nodeHeight + VERTICAL_SPACING);
 
+        // The run of children of a lazy branch that are being painted
+        BranchInfo lazyBranchInfo = null;
+        int lazyStart = 0;
+        int lazyEnd = -1;
+
         VisibleNodeIterator visibleNodeIterator = new VisibleNodeIterator(nodeStart, nodeEnd);
         while (visibleNodeIterator.hasNext()) {
             NodeInfo nodeInfo = visibleNodeIterator.next();
 
+            if (nodeInfo.parent.data instanceof TreeView.LazyBranch) {
+                Path path = visibleNodeIterator.getPath();
+                int index = path.get(path.getLength() - 1);
+
+                if (nodeInfo.parent == lazyBranchInfo
+                    && index == lazyEnd + 1) {
+                    lazyEnd = index;
+                } else {
+                    loadNodes(lazyBranchInfo, lazyStart, lazyEnd);
+
+                    lazyBranchInfo = nodeInfo.parent;
+                    lazyStart = index;
+                    lazyEnd = index;
+                }
+            }
+
             boolean expanded = false;
             boolean highlighted = nodeInfo.isHighlighted();
             boolean selected = nodeInfo.isSelected();
@@ -662,8 +956,7 @@ public class TerraTreeViewSkin extends ComponentSkin implements TreeView.Skin,
 
                     boolean showBranchControl = true;
                     if (!showEmptyBranchControls) {
-                        branchInfo.loadChildren();
-                        showBranchControl = !branchInfo.children.isEmpty();
+                        showBranchControl = (branchInfo.getChildCount() > 0);
                     }
 
                     if (showBranchControl) {
@@ -772,6 +1065,19 @@ public class TerraTreeViewSkin extends ComponentSkin implements TreeView.Skin,
 
             nodeY += nodeHeight + VERTICAL_SPACING;
         }
+
+        loadNodes(lazyBranchInfo, lazyStart, lazyEnd);
+    }
+
+    /**
+     * Requests the children of a lazy branch that are being painted. The
+     * branch reports them as updates once they have been loaded.
+     */
+    private static void loadNodes(BranchInfo branchInfo, int start, int end) {
+        if (branchInfo != null) {
+            TreeView.LazyBranch lazyBranch = (TreeView.LazyBranch)branchInfo.data;
+            lazyBranch.loadNodes(start, end - start + 1);
+        }
     }
 
     public Font getFont() {
@@ -1242,7 +1548,7 @@ public class TerraTreeViewSkin extends ComponentSkin implements TreeView.Skin,
 
         if (index >= 0
             && index < visibleNodes.getLength()) {
-            nodeInfo = visibleNodes.get(index);
+            nodeInfo = getVisibleNode(index);
         }
 
         return nodeInfo;
@@ -1266,16 +1572,14 @@ public class TerraTreeViewSkin extends ComponentSkin implements TreeView.Skin,
             BranchInfo branchInfo = rootBranchInfo;
 
             for (int i = 0; i < n - 1; i++) {
-                branchInfo.loadChildren();
-                NodeInfo nodeInfo = branchInfo.children.get(path.get(i));
+                NodeInfo nodeInfo = getChild(branchInfo, path.get(i));
 
                 assert(nodeInfo instanceof BranchInfo) : "Invalid path";
 
                 branchInfo = (BranchInfo)nodeInfo;
             }
 
-            branchInfo.loadChildren();
-            result = branchInfo.children.get(path.get(n - 1));
+            result = getChild(branchInfo, path.get(n - 1));
         }
 
         return result;
@@ -1319,16 +1623,183 @@ public class TerraTreeViewSkin extends ComponentSkin implements TreeView.Skin,
 
             if (nodeInfo instanceof BranchInfo) {
                 BranchInfo branchInfo = (BranchInfo)nodeInfo;
+                Sequence<NodeInfo> children = branchInfo.getLoadedChildren();
 
-                if (branchInfo.children != null) {
-                    for (int i = 0, n = branchInfo.children.getLength(); i < n; i++) {
-                        nodes.insert(branchInfo.children.get(i), i);
-                    }
+                for (int i = 0, n = children.getLength(); i < n; i++) {
+                    nodes.insert(children.get(i), i);
                 }
             }
         }
     }
 
+    /**
+     * Gets the metadata associated with a child of a branch, materializing
+     * its page if the branch is lazy.
+     */
+    private NodeInfo getChild(BranchInfo branchInfo, int index) {
+        branchInfo.loadChildren();
+
+        NodeInfo nodeInfo;
+        if (branchInfo.children != null) {
+            nodeInfo = branchInfo.children.get(index);
+        } else {
+            PageInfo page = branchInfo.pages.get(branchInfo.getPageIndex(index));
+
+            if (page.nodes == null) {
+                materializePage(page);
+            } else {
+                touchPage(page);
+            }
+
+            nodeInfo = page.nodes.get(index - page.start);
+        }
+
+        return nodeInfo;
+    }
+
+    /**
+     * Gets the metadata associated with the node at a visible row,
+     * materializing its page if it is a child of a lazy branch.
+     */
+    private NodeInfo getVisibleNode(int index) {
+        NodeInfo nodeInfo = visibleNodes.get(index);
+
+        if (nodeInfo instanceof PageInfo) {
+            materializePage((PageInfo)nodeInfo);
+            nodeInfo = visibleNodes.get(index);
+        } else if (nodeInfo.page != null) {
+            touchPage(nodeInfo.page);
+        }
+
+        return nodeInfo;
+    }
+
+    /**
+     * Creates the node infos for the children in a page of a lazy branch,
+     * taking their state from the tree view, and shows them in place of the
+     * page if it is visible. If this leaves too many pages materialized, the
+     * least recently used ones are discarded.
+     */
+    @SuppressWarnings("unchecked")
+    private void materializePage(PageInfo page) {
+        BranchInfo branchInfo = page.parent;
+        TreeView treeView = branchInfo.treeView;
+        List<Object> branchData = (List<Object>)branchInfo.data;
+
+        branchInfo.validatePageStarts();
+        Path branchPath = branchInfo.getPath();
+
+        ArrayList<NodeInfo> nodes = new ArrayList<NodeInfo>(page.length);
+
+        for (int i = 0; i < page.length; i++) {
+            int index = page.start + i;
+
+            NodeInfo nodeInfo = NodeInfo.newInstance(treeView, branchInfo, branchData.get(index));
+            nodeInfo.page = page;
+
+            Path path = new Path(branchPath);
+            path.add(index);
+
+            nodeInfo.setSelected(treeView.isNodeSelected(path));
+            nodeInfo.setCheckState(treeView.getNodeCheckState(path));
+
+            if (nodeInfo instanceof BranchInfo) {
+                ((BranchInfo)nodeInfo).setExpanded(treeView.isBranchExpanded(path));
+            }
+
+            nodes.add(nodeInfo);
+        }
+
+        int rowIndex = visibleNodes.indexOf(page);
+        page.nodes = nodes;
+
+        if (rowIndex >= 0) {
+            ArrayList<NodeInfo> visibleNodesLocal = new ArrayList<NodeInfo>();
+            getVisibleDescendants(nodes, visibleNodesLocal);
+
+            visibleNodes.remove(rowIndex, page.length);
+            visibleNodes.insert(visibleNodesLocal, rowIndex);
+        }
+
+        materializedPages.add(page);
+
+        Iterator<PageInfo> iterator = materializedPages.iterator();
+        while (materializedPages.size() > MAXIMUM_MATERIALIZED_PAGE_COUNT
+            && iterator.hasNext()) {
+            PageInfo materializedPage = iterator.next();
+
+            if (materializedPage != page
+                && !isPinned(materializedPage)) {
+                iterator.remove();
+                discardPage(materializedPage);
+            }
+        }
+    }
+
+    /**
+     * Marks a materialized page as the most recently used.
+     */
+    private void touchPage(PageInfo page) {
+        if (materializedPages.remove(page)) {
+            materializedPages.add(page);
+        }
+    }
+
+    /**
+     * Tells whether a materialized page must be kept: it holds the
+     * highlighted node, or a branch whose children have been loaded (and
+     * whose descendants' node infos would otherwise be lost).
+     */
+    private boolean isPinned(PageInfo page) {
+        boolean pinned = false;
+
+        for (int i = 0, n = page.nodes.getLength(); i < n && !pinned; i++) {
+            NodeInfo nodeInfo = page.nodes.get(i);
+
+            pinned = (nodeInfo == highlightedNode
+                || (nodeInfo instanceof BranchInfo
+                    && ((BranchInfo)nodeInfo).isLoaded()));
+        }
+
+        return pinned;
+    }
+
+    /**
+     * Discards the node infos of a materialized page, showing the page in
+     * their place if they are visible. The page must not be pinned, so none
+     * of its nodes have visible descendants.
+     */
+    private void discardPage(PageInfo page) {
+        int rowIndex = visibleNodes.indexOf(page.nodes.get(0));
+        if (rowIndex >= 0) {
+            visibleNodes.remove(rowIndex, page.length);
+            visibleNodes.insert(page, rowIndex);
+        }
+
+        page.nodes = null;
+    }
+
+    /**
+     * Forgets the materialized pages of the lazy branches within a node's
+     * loaded subtree, which is being discarded.
+     */
+    private void releasePages(NodeInfo nodeInfo) {
+        if (nodeInfo instanceof BranchInfo) {
+            BranchInfo branchInfo = (BranchInfo)nodeInfo;
+
+            if (branchInfo.pages != null) {
+                for (int i = 0, n = branchInfo.pages.getLength(); i < n; i++) {
+                    materializedPages.remove(branchInfo.pages.get(i));
+                }
+            }
+
+            Sequence<NodeInfo> children = branchInfo.getLoadedChildren();
+            for (int i = 0, n = children.getLength(); i < n; i++) {
+                releasePages(children.get(i));
+            }
+        }
+    }
+
     /**
      * Adds all children of the specified branch to the visible node list.
      * Any children nodes that are expanded [branches] will also have their
@@ -1349,36 +1820,51 @@ public class TerraTreeViewSkin extends ComponentSkin implements TreeView.Skin,
         }
 
         if (insertIndex >= 0) {
-            Sequence<NodeInfo> nodes = new ArrayList<NodeInfo>();
+            ArrayList<NodeInfo> nodes = new ArrayList<NodeInfo>();
+            getVisibleDescendants(parentBranchInfo, nodes);
 
-            // The parent branch's children are the baseline nodes to make
-            // visible
-            parentBranchInfo.loadChildren();
-            for (int i = 0, n = parentBranchInfo.children.getLength(); i < n; i++) {
-                nodes.add(parentBranchInfo.children.get(i));
-            }
+            visibleNodes.insert(nodes, insertIndex);
 
-            while (nodes.getLength() > 0) {
-                NodeInfo nodeInfo = nodes.get(0);
-                nodes.remove(0, 1);
+            invalidateComponent();
+        }
+    }
 
-                visibleNodes.insert(nodeInfo, insertIndex++);
+    /**
+     * Appends the children of a branch to a list in display order, along with
+     * the descendants of any that are expanded branches.
+     */
+    private static void getVisibleDescendants(BranchInfo branchInfo,
+        ArrayList<NodeInfo> nodes) {
+        branchInfo.loadChildren();
 
-                // If we encounter an expanded branch, we add that branch's
-                // children to our list of nodes that are to become visible
-                if (nodeInfo instanceof BranchInfo) {
-                    BranchInfo branchInfo = (BranchInfo)nodeInfo;
+        if (branchInfo.pages != null) {
+            for (int i = 0, n = branchInfo.pages.getLength(); i < n; i++) {
+                PageInfo page = branchInfo.pages.get(i);
 
-                    if (branchInfo.isExpanded()) {
-                        branchInfo.loadChildren();
-                        for (int i = 0, n = branchInfo.children.getLength(); i < n; i++) {
-                            nodes.insert(branchInfo.children.get(i), i);
-                        }
-                    }
+                if (page.nodes == null) {
+                    nodes.add(page);
+                } else {
+                    getVisibleDescendants(page.nodes, nodes);
                 }
             }
+        } else {
+            getVisibleDescendants(branchInfo.children, nodes);
+        }
+    }
 
-            invalidateComponent();
+    private static void getVisibleDescendants(Sequence<NodeInfo> children,
+        ArrayList<NodeInfo> nodes) {
+        for (int i = 0, n = children.getLength(); i < n; i++) {
+            NodeInfo nodeInfo = children.get(i);
+            nodes.add(nodeInfo);
+
+            if (nodeInfo instanceof BranchInfo) {
+                BranchInfo childBranchInfo = (BranchInfo)nodeInfo;
+
+                if (childBranchInfo.isExpanded()) {
+                    getVisibleDescendants(childBranchInfo, nodes);
+                }
+            }
         }
     }
 
@@ -1414,17 +1900,10 @@ public class TerraTreeViewSkin extends ComponentSkin implements TreeView.Skin,
                 // visible nodes list and pushing down our insert index
                 NodeInfo youngerSibling = parentBranchInfo.children.get(index - 1);
 
-                // Try to insert after our younger sibling
-                insertIndex = visibleNodes.indexOf(youngerSibling) + 1;
-
-                // Continue looking as long as the node at our insert index
-                // has a greater depth than we do, which means that it's a
-                // descendant of our younger sibling
-                for (int n = visibleNodes.getLength(), nodeDepth = youngerSibling.depth;
-                    insertIndex < n && visibleNodes.get(insertIndex).depth > nodeDepth;
-                    insertIndex++) {
-                    // empty block
-                }
+                // Insert after our younger sibling and any following nodes
+                // of greater depth, which are its descendants
+                insertIndex = visibleNodes.indexOfDepth(visibleNodes.indexOf(youngerSibling) + 1,
+                    youngerSibling.depth);
             }
 
             visibleNodes.insert(nodeInfo, insertIndex);
@@ -1450,7 +1929,17 @@ public class TerraTreeViewSkin extends ComponentSkin implements TreeView.Skin,
      * child nodes from the visible nodes sequence.
      */
     private void removeVisibleNodes(BranchInfo parentBranchInfo, int index, int count) {
-        parentBranchInfo.loadChildren();
+        if (!parentBranchInfo.isLoaded()) {
+            // The branch has never been expanded, so none of its children are
+            // visible; loading them now would reflect the updated tree data
+            return;
+        }
+
+        if (parentBranchInfo.pages != null) {
+            assert(index == 0 && count == -1) : "Partial removal from a lazy branch";
+            removeVisibleDescendants(parentBranchInfo);
+            return;
+        }
 
         int countUpdated = count;
 
@@ -1472,15 +1961,37 @@ public class TerraTreeViewSkin extends ComponentSkin implements TreeView.Skin,
 
                 assert(rangeEnd > rangeStart) : "Invalid visible node structure";
 
-                // Continue looking as long as the node at our endpoint has a
-                // greater depth than the last child node, which means that
-                // it's a descendant of the last child node
-                for (int n = visibleNodes.getLength(), nodeDepth = last.depth;
-                    rangeEnd < n && visibleNodes.get(rangeEnd).depth > nodeDepth;
-                    rangeEnd++) {
-                    // empty block
-                }
+                // Extend the range over any following nodes of greater depth
+                // than the last child node, which are its descendants
+                rangeEnd = visibleNodes.indexOfDepth(rangeEnd, last.depth);
+
+                visibleNodes.remove(rangeStart, rangeEnd - rangeStart);
+
+                invalidateComponent();
+            }
+        }
+    }
+
+    /**
+     * Removes the descendants of the specified branch from the visible node
+     * list if necessary. Invalidates the component only if necessary.
+     */
+    private void removeVisibleDescendants(BranchInfo branchInfo) {
+        int rangeStart = -1;
+
+        if (branchInfo == rootBranchInfo) {
+            rangeStart = 0;
+        } else {
+            int branchIndex = visibleNodes.indexOf(branchInfo);
+            if (branchIndex >= 0) {
+                rangeStart = branchIndex + 1;
+            }
+        }
+
+        if (rangeStart >= 0) {
+            int rangeEnd = visibleNodes.indexOfDepth(rangeStart, branchInfo.depth);
 
+            if (rangeEnd > rangeStart) {
                 visibleNodes.remove(rangeStart, rangeEnd - rangeStart);
 
                 invalidateComponent();
@@ -1488,6 +1999,343 @@ public class TerraTreeViewSkin extends ComponentSkin implements TreeView.Skin,
         }
     }
 
+    /**
+     * Returns the row at which the children of the specified branch are
+     * shown, or <tt>-1</tt> if they are not visible.
+     */
+    private int getChildRowIndex(BranchInfo branchInfo) {
+        int rowIndex = -1;
+
+        if (branchInfo == rootBranchInfo) {
+            rowIndex = 0;
+        } else if (branchInfo.isExpanded()) {
+            int branchIndex = visibleNodes.indexOf(branchInfo);
+            if (branchIndex >= 0) {
+                rowIndex = branchIndex + 1;
+            }
+        }
+
+        return rowIndex;
+    }
+
+    /**
+     * Adds a node inserted into a lazy branch to the branch's pages, and to
+     * the visible node list if necessary. A node inserted into a page that
+     * is not materialized only lengthens the page.
+     */
+    @SuppressWarnings("unchecked")
+    private void insertLazyNode(BranchInfo branchInfo, int index) {
+        ArrayList<PageInfo> pages = branchInfo.pages;
+        int count = branchInfo.getChildCount();
+        int childRowIndex = getChildRowIndex(branchInfo);
+
+        int pageIndex = pages.getLength() - 1;
+        if (index < count) {
+            pageIndex = branchInfo.getPageIndex(index);
+        }
+
+        if (pageIndex == -1
+            || (index == count && pages.get(pageIndex).length >= NODE_PAGE_SIZE)) {
+            // Start a new page
+            PageInfo page = new PageInfo(branchInfo, 1);
+            page.start = index;
+            pages.add(page);
+
+            if (childRowIndex >= 0) {
+                visibleNodes.insert(page, visibleNodes.indexOfDepth(childRowIndex,
+                    branchInfo.depth));
+                invalidateComponent();
+            }
+        } else {
+            PageInfo page = pages.get(pageIndex);
+            int offset = index - page.start;
+
+            if (page.nodes == null) {
+                page.length++;
+
+                if (visibleNodes.indexOf(page) >= 0) {
+                    visibleNodes.resize(page);
+                    invalidateComponent();
+                }
+            } else {
+                List<Object> branchData = (List<Object>)branchInfo.data;
+                NodeInfo nodeInfo = NodeInfo.newInstance(branchInfo.treeView, branchInfo,
+                    branchData.get(index));
+                nodeInfo.page = page;
+
+                if (childRowIndex >= 0) {
+                    int insertIndex;
+                    if (offset > 0) {
+                        NodeInfo youngerSibling = page.nodes.get(offset - 1);
+                        insertIndex = visibleNodes.indexOfDepth(visibleNodes.indexOf(youngerSibling) + 1,
+                            youngerSibling.depth);
+                    } else {
+                        insertIndex = visibleNodes.indexOf(page.nodes.get(0));
+                    }
+
+                    visibleNodes.insert(nodeInfo, insertIndex);
+                    invalidateComponent();
+                }
+
+                page.nodes.insert(nodeInfo, offset);
+                page.length++;
+            }
+
+            if (pageIndex < pages.getLength() - 1) {
+                branchInfo.pageStartsValid = false;
+            }
+
+            if (page.length > 2 * NODE_PAGE_SIZE) {
+                splitPage(page, pageIndex);
+            }
+        }
+    }
+
+    /**
+     * Adds a run of nodes inserted into a lazy branch to the branch's pages.
+     * Nodes appended to the branch fill its last page and are then added as
+     * new pages that are not materialized, which are shown with a single
+     * update to the visible node list.
+     */
+    private void insertLazyNodes(BranchInfo branchInfo, int index, int count) {
+        ArrayList<PageInfo> pages = branchInfo.pages;
+
+        if (index < branchInfo.getChildCount()) {
+            for (int i = 0; i < count; i++) {
+                insertLazyNode(branchInfo, index + i);
+            }
+        } else {
+            int filled = 0;
+
+            int n = pages.getLength();
+            if (n > 0) {
+                filled = Math.min(count, Math.max(NODE_PAGE_SIZE - pages.get(n - 1).length, 0));
+
+                for (int i = 0; i < filled; i++) {
+                    insertLazyNode(branchInfo, index + i);
+                }
+            }
+
+            ArrayList<NodeInfo> addedPages = new ArrayList<NodeInfo>();
+
+            int start = index + filled;
+            int end = index + count;
+
+            while (start < end) {
+                PageInfo page = new PageInfo(branchInfo, Math.min(end - start, NODE_PAGE_SIZE));
+                page.start = start;
+                pages.add(page);
+                addedPages.add(page);
+
+                start += page.length;
+            }
+
+            int childRowIndex = getChildRowIndex(branchInfo);
+
+            if (childRowIndex >= 0
+                && addedPages.getLength() > 0) {
+                visibleNodes.insert(addedPages, visibleNodes.indexOfDepth(childRowIndex,
+                    branchInfo.depth));
+                invalidateComponent();
+            }
+        }
+    }
+
+    /**
+     * Splits a page of a lazy branch that has grown too long in two.
+     */
+    private void splitPage(PageInfo page, int pageIndex) {
+        BranchInfo branchInfo = page.parent;
+        int length = page.length / 2;
+
+        PageInfo nextPage = new PageInfo(branchInfo, page.length - length);
+        branchInfo.pages.insert(nextPage, pageIndex + 1);
+        branchInfo.pageStartsValid = false;
+
+        if (page.nodes == null) {
+            int rowIndex = visibleNodes.indexOf(page);
+
+            if (rowIndex >= 0) {
+                visibleNodes.remove(rowIndex, page.length);
+            }
+
+            page.length = length;
+
+            if (rowIndex >= 0) {
+                ArrayList<NodeInfo> pagesLocal = new ArrayList<NodeInfo>(page, nextPage);
+                visibleNodes.insert(pagesLocal, rowIndex);
+            }
+        } else {
+            nextPage.nodes = new ArrayList<NodeInfo>(page.nodes, length, nextPage.length);
+            page.nodes.remove(length, nextPage.length);
+            page.length = length;
+
+            for (int i = 0; i < nextPage.length; i++) {
+                nextPage.nodes.get(i).page = nextPage;
+            }
+
+            materializedPages.add(nextPage);
+        }
+    }
+
+    /**
+     * Removes nodes removed from a lazy branch from the branch's pages, and
+     * from the visible node list if necessary.
+     */
+    private void removeLazyNodes(BranchInfo branchInfo, int index, int count) {
+        ArrayList<PageInfo> pages = branchInfo.pages;
+        int end = index + count;
+
+        int pageIndex = branchInfo.getPageIndex(index);
+        int pageStart = pages.get(pageIndex).start;
+
+        while (pageStart < end) {
+            PageInfo page = pages.get(pageIndex);
+            int pageEnd = pageStart + page.length;
+
+            int rangeStart = Math.max(index, pageStart) - pageStart;
+            int rangeEnd = Math.min(end, pageEnd) - pageStart;
+
+            if (page.nodes == null) {
+                int rowIndex = visibleNodes.indexOf(page);
+
+                if (rangeEnd - rangeStart == page.length) {
+                    if (rowIndex >= 0) {
+                        visibleNodes.remove(rowIndex, page.length);
+                    }
+
+                    pages.remove(pageIndex, 1);
+                    pageIndex--;
+                } else {
+                    page.length -= rangeEnd - rangeStart;
+
+                    if (rowIndex >= 0) {
+                        visibleNodes.resize(page);
+                    }
+                }
+
+                if (rowIndex >= 0) {
+                    invalidateComponent();
+                }
+            } else {
+                NodeInfo first = page.nodes.get(rangeStart);
+                NodeInfo last = page.nodes.get(rangeEnd - 1);
+
+                int rowIndex = visibleNodes.indexOf(first);
+                if (rowIndex >= 0) {
+                    int rowEnd = visibleNodes.indexOfDepth(visibleNodes.indexOf(last) + 1,
+                        last.depth);
+                    visibleNodes.remove(rowIndex, rowEnd - rowIndex);
+
+                    invalidateComponent();
+                }
+
+                Sequence<NodeInfo> removed = page.nodes.remove(rangeStart,
+                    rangeEnd - rangeStart);
+                for (int i = 0, n = removed.getLength(); i < n; i++) {
+                    releasePages(removed.get(i));
+                }
+
+                if (page.nodes.getLength() == 0) {
+                    materializedPages.remove(page);
+                    pages.remove(pageIndex, 1);
+                    pageIndex--;
+                } else {
+                    page.length = page.nodes.getLength();
+                }
+            }
+
+            pageIndex++;
+            pageStart = pageEnd;
+        }
+
+        branchInfo.pageStartsValid = false;
+    }
+
+    /**
+     * Updates the node info of a node updated in a lazy branch, if its page
+     * is materialized; otherwise, the node has no node info, and only its row
+     * needs to be repainted.
+     */
+    @SuppressWarnings("unchecked")
+    private void updateLazyNode(BranchInfo branchInfo, int index) {
+        TreeView treeView = branchInfo.treeView;
+        List<Object> branchData = (List<Object>)branchInfo.data;
+
+        PageInfo page = branchInfo.pages.get(branchInfo.getPageIndex(index));
+        int offset = index - page.start;
+
+        if (page.nodes == null) {
+            if (visibleNodes.indexOf(page) >= 0) {
+                // The updated node data might affect our preferred width
+                invalidateComponent();
+            }
+        } else {
+            NodeInfo nodeInfo = page.nodes.get(offset);
+
+            Object previousNodeData = nodeInfo.data;
+            Object nodeData = branchData.get(index);
+
+            if (previousNodeData != nodeData) {
+                // Replace the old node in the visible nodes list
+                int rowIndex = visibleNodes.indexOf(nodeInfo);
+                if (rowIndex >= 0) {
+                    int rowEnd = visibleNodes.indexOfDepth(rowIndex + 1, nodeInfo.depth);
+                    visibleNodes.remove(rowIndex, rowEnd - rowIndex);
+                }
+
+                releasePages(nodeInfo);
+
+                nodeInfo = NodeInfo.newInstance(treeView, branchInfo, nodeData);
+                nodeInfo.page = page;
+                page.nodes.update(offset, nodeInfo);
+
+                if (rowIndex >= 0) {
+                    visibleNodes.insert(nodeInfo, rowIndex);
+                    invalidateComponent();
+                }
+            } else {
+                // This update might affect the node's disabled state
+                Filter<Object> disabledNodeFilter = (Filter<Object>)treeView.getDisabledNodeFilter();
+                nodeInfo.setDisabled(disabledNodeFilter != null
+                    && disabledNodeFilter.include(nodeData));
+
+                if (visibleNodes.indexOf(nodeInfo) >= 0) {
+                    // The updated node data might affect our preferred width
+                    invalidateComponent();
+                }
+            }
+        }
+    }
+
+    /**
+     * Updates a run of children of a lazy branch. Only the node infos of
+     * materialized pages are updated; the rows of the other pages reflect the
+     * branch data when they are painted.
+     */
+    private void updateLazyNodes(BranchInfo branchInfo, int index, int count) {
+        branchInfo.validatePageStarts();
+
+        ArrayList<PageInfo> pages = new ArrayList<PageInfo>();
+        for (PageInfo page : materializedPages) {
+            if (page.parent == branchInfo
+                && page.start < index + count
+                && page.start + page.length > index) {
+                pages.add(page);
+            }
+        }
+
+        for (PageInfo page : pages) {
+            for (int i = Math.max(index, page.start),
+                n = Math.min(index + count, page.start + page.length); i < n; i++) {
+                updateLazyNode(branchInfo, i);
+            }
+        }
+
+        // The updated node data might affect our preferred width
+        invalidateComponent();
+    }
+
     /**
      * Repaints the region occupied by the specified node.
      */
@@ -1798,7 +2646,7 @@ public class TerraTreeViewSkin extends ComponentSkin implements TreeView.Skin,
 
                 NodeInfo newSelectedNode = null;
                 do {
-                    newSelectedNode = (--index >= 0) ? visibleNodes.get(index) : null;
+                    newSelectedNode = (--index >= 0) ? getVisibleNode(index) : null;
                 } while (newSelectedNode != null
                     && newSelectedNode.isDisabled());
 
@@ -1833,7 +2681,7 @@ public class TerraTreeViewSkin extends ComponentSkin implements TreeView.Skin,
                 NodeInfo newSelectedNode = null;
                 int n = visibleNodes.getLength();
                 do {
-                    newSelectedNode = (++index <= n - 1) ? visibleNodes.get(index) : null;
+                    newSelectedNode = (++index <= n - 1) ? getVisibleNode(index) : null;
                 } while (newSelectedNode != null
                     && newSelectedNode.isDisabled());
 
@@ -2037,6 +2885,7 @@ public class TerraTreeViewSkin extends ComponentSkin implements TreeView.Skin,
         List<Object> treeData = (List<Object>)treeView.getTreeData();
 
         visibleNodes.clear();
+        materializedPages.clear();
 
         if (treeData == null) {
             rootBranchInfo = null;
@@ -2081,29 +2930,19 @@ public class TerraTreeViewSkin extends ComponentSkin implements TreeView.Skin,
             // The check state of all *branch* nodes may have changed, so we
             // need to update the cached check state of all BranchNode
             // instances in our hierarchy
-            Sequence<NodeInfo> nodes = new ArrayList<NodeInfo>();
-            nodes.add(rootBranchInfo);
-
-            while (nodes.getLength() > 0) {
-                NodeInfo nodeInfo = nodes.get(0);
-                nodes.remove(0, 1);
-
-                // Only branch nodes can be affected by this event
-                if (nodeInfo instanceof BranchInfo) {
-                    BranchInfo branchInfo = (BranchInfo)nodeInfo;
-
-                    // Update the cached entry for this branch
-                    Path path = branchInfo.getPath();
-                    branchInfo.setCheckState(treeView.getNodeCheckState(path));
+            final TreeView treeViewLocal = treeView;
 
-                    // Add the branch's children to the queue
-                    if (branchInfo.children != null) {
-                        for (int i = 0, n = branchInfo.children.getLength(); i < n; i++) {
-                            nodes.insert(branchInfo.children.get(i), i);
-                        }
+            accept(new NodeInfoVisitor() {
+                @Override
+                public void visit(NodeInfo nodeInfo) {
+                    // Only branch nodes can be affected by this event
+                    if (nodeInfo instanceof BranchInfo) {
+                        // Update the cached entry for this branch
+                        Path path = nodeInfo.getPath();
+                        nodeInfo.setCheckState(treeViewLocal.getNodeCheckState(path));
                     }
                 }
-            }
+            });
 
             repaintComponent();
         }
@@ -2153,8 +2992,12 @@ public class TerraTreeViewSkin extends ComponentSkin implements TreeView.Skin,
     public void branchExpanded(TreeView treeView, Path path) {
         BranchInfo branchInfo = (BranchInfo)getNodeInfoAt(path);
 
-        branchInfo.setExpanded(true);
-        addVisibleNodes(branchInfo);
+        // A branch info created for this lookup is already expanded, and its
+        // children already visible
+        if (!branchInfo.isExpanded()) {
+            branchInfo.setExpanded(true);
+            addVisibleNodes(branchInfo);
+        }
 
         repaintNode(branchInfo);
     }
@@ -2177,14 +3020,21 @@ public class TerraTreeViewSkin extends ComponentSkin implements TreeView.Skin,
         BranchInfo branchInfo = (BranchInfo)getNodeInfoAt(path);
         List<Object> branchData = (List<Object>)branchInfo.data;
 
-        // Update our internal branch info
-        if (branchInfo.children != null) {
-            NodeInfo nodeInfo = NodeInfo.newInstance(treeView, branchInfo, branchData.get(index));
-            branchInfo.children.insert(nodeInfo, index);
-        }
+        if (branchData instanceof TreeView.LazyBranch) {
+            // Children that have not been loaded will reflect the insertion
+            if (branchInfo.isLoaded()) {
+                insertLazyNode(branchInfo, index);
+            }
+        } else {
+            // Update our internal branch info
+            if (branchInfo.children != null) {
+                NodeInfo nodeInfo = NodeInfo.newInstance(treeView, branchInfo, branchData.get(index));
+                branchInfo.children.insert(nodeInfo, index);
+            }
 
-        // Add the node to the visible nodes list
-        addVisibleNode(branchInfo, index);
+            // Add the node to the visible nodes list
+            addVisibleNode(branchInfo, index);
+        }
     }
 
     @Override
@@ -2192,12 +3042,20 @@ public class TerraTreeViewSkin extends ComponentSkin implements TreeView.Skin,
         int count) {
         BranchInfo branchInfo = (BranchInfo)getNodeInfoAt(path);
 
-        // Remove the node from the visible nodes list
-        removeVisibleNodes(branchInfo, index, count);
+        if (branchInfo.pages != null) {
+            removeLazyNodes(branchInfo, index, count);
+        } else {
+            // Remove the node from the visible nodes list
+            removeVisibleNodes(branchInfo, index, count);
 
-        // Update our internal branch info
-        if (branchInfo.children != null) {
-            branchInfo.children.remove(index, count);
+            // Update our internal branch info
+            if (branchInfo.children != null) {
+                Sequence<NodeInfo> removed = branchInfo.children.remove(index, count);
+
+                for (int i = 0, n = removed.getLength(); i < n; i++) {
+                    releasePages(removed.get(i));
+                }
+            }
         }
     }
 
@@ -2207,6 +3065,15 @@ public class TerraTreeViewSkin extends ComponentSkin implements TreeView.Skin,
         BranchInfo branchInfo = (BranchInfo)getNodeInfoAt(path);
         List<Object> branchData = (List<Object>)branchInfo.data;
 
+        if (branchData instanceof TreeView.LazyBranch) {
+            // Children that have not been loaded will reflect the update
+            if (branchInfo.isLoaded()) {
+                updateLazyNode(branchInfo, index);
+            }
+
+            return;
+        }
+
         branchInfo.loadChildren();
         NodeInfo nodeInfo = branchInfo.children.get(index);
 
@@ -2216,6 +3083,7 @@ public class TerraTreeViewSkin extends ComponentSkin implements TreeView.Skin,
         if (previousNodeData != nodeData) {
             // Remove the old node from the visible nodes list
             removeVisibleNodes(branchInfo, index, 1);
+            releasePages(nodeInfo);
 
             // Update our internal branch info
             nodeInfo = NodeInfo.newInstance(treeView, branchInfo, nodeData);
@@ -2242,11 +3110,17 @@ public class TerraTreeViewSkin extends ComponentSkin implements TreeView.Skin,
 
         // Remove the node from the visible nodes list
         removeVisibleNodes(branchInfo, 0, -1);
+        releasePages(branchInfo);
 
         // Update our internal branch info
         if (branchInfo.children != null) {
             branchInfo.children.clear();
         }
+
+        if (branchInfo.pages != null) {
+            branchInfo.pages.clear();
+            branchInfo.pageStartsValid = true;
+        }
     }
 
     @Override
@@ -2255,13 +3129,58 @@ public class TerraTreeViewSkin extends ComponentSkin implements TreeView.Skin,
 
         // Remove the child nodes from the visible nodes list
         removeVisibleNodes(branchInfo, 0, -1);
+        releasePages(branchInfo);
 
         // Re-load the branch's children to get the correct sort order
         branchInfo.children = null;
+        branchInfo.pages = null;
+        branchInfo.pageStartsValid = true;
         branchInfo.loadChildren();
 
-        // Add the child nodes back to the visible nodes list
-        addVisibleNodes(branchInfo);
+        // Add the child nodes back to the visible nodes list, unless the
+        // branch is collapsed (in which case they were never visible)
+        if (branchInfo == rootBranchInfo
+            || branchInfo.isExpanded()) {
+            addVisibleNodes(branchInfo);
+        }
+    }
+
+    // TreeViewNodeRangeListener methods
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void nodesInserted(TreeView treeView, Path path, int index, int count) {
+        BranchInfo branchInfo = (BranchInfo)getNodeInfoAt(path);
+        List<Object> branchData = (List<Object>)branchInfo.data;
+
+        if (branchData instanceof TreeView.LazyBranch) {
+            // Children that have not been loaded will reflect the insertion
+            if (branchInfo.isLoaded()) {
+                insertLazyNodes(branchInfo, index, count);
+            }
+        } else {
+            for (int i = 0; i < count; i++) {
+                nodeInserted(treeView, path, index + i);
+            }
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void nodesUpdated(TreeView treeView, Path path, int index, int count) {
+        BranchInfo branchInfo = (BranchInfo)getNodeInfoAt(path);
+        List<Object> branchData = (List<Object>)branchInfo.data;
+
+        if (branchData instanceof TreeView.LazyBranch) {
+            // Children that have not been loaded will reflect the update
+            if (branchInfo.isLoaded()) {
+                updateLazyNodes(branchInfo, index, count);
+            }
+        } else {
+            for (int i = 0; i < count; i++) {
+                nodeUpdated(treeView, path, index + i);
+            }
+        }
     }
 
     // TreeViewNodeStateListener methods
@@ -0,0 +1,398 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pivot.wtk.skin.terra;
+
+import org.apache.pivot.collections.Sequence;
+import org.apache.pivot.wtk.skin.terra.TerraTreeViewSkin.NodeInfo;
+
+/**
+ * The visible nodes of a tree view, in display order. The list is an
+ * implicit treap (a randomized balanced binary tree ordered by position)
+ * whose links are stored in the node infos themselves, so that looking up a
+ * node by row, finding the row of a node, and inserting or removing a
+ * contiguous run of rows all take <tt>O(log n)</tt> time, plus <tt>O(k)</tt>
+ * to link in <tt>k</tt> inserted nodes.
+ * <p>
+ * A node may occupy more than one row (see {@link NodeInfo#getRowCount()});
+ * such a node is treated as a unit, and a run of nodes may not begin or end
+ * within its rows.
+ * <p>
+ * Removed nodes are not unlinked individually; a node is considered to be in
+ * the list only if its links lead consistently back to the current root.
+ */
+final class VisibleNodeList {
+    private NodeInfo root = null;
+    private int seed = 0x2545F491;
+
+    // The results of split()
+    private NodeInfo splitLeft = null;
+    private NodeInfo splitRight = null;
+
+    /**
+     * Returns the number of rows occupied by the visible nodes.
+     */
+    public int getLength() {
+        return (root == null) ? 0 : root.visibleSize;
+    }
+
+    /**
+     * Returns the node that occupies a given row.
+     *
+     * @param index
+     */
+    public NodeInfo get(int index) {
+        if (index < 0
+            || index >= getLength()) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        NodeInfo node = root;
+        int indexUpdated = index;
+
+        while (true) {
+            int leftSize = size(node.visibleLeft);
+
+            if (indexUpdated < leftSize) {
+                node = node.visibleLeft;
+            } else if (indexUpdated < leftSize + node.getRowCount()) {
+                break;
+            } else {
+                indexUpdated -= leftSize + node.getRowCount();
+                node = node.visibleRight;
+            }
+        }
+
+        return node;
+    }
+
+    /**
+     * Returns the first row of a node.
+     *
+     * @param node
+     *
+     * @return
+     * The row index, or <tt>-1</tt> if the node is not visible.
+     */
+    public int indexOf(NodeInfo node) {
+        if (node == null) {
+            return -1;
+        }
+
+        int index = size(node.visibleLeft);
+
+        NodeInfo current = node;
+        while (current.visibleParent != null) {
+            NodeInfo parent = current.visibleParent;
+
+            if (parent.visibleRight == current) {
+                index += size(parent.visibleLeft) + parent.getRowCount();
+            } else if (parent.visibleLeft != current) {
+                // The node was removed and its former parent has since been
+                // relinked
+                return -1;
+            }
+
+            current = parent;
+        }
+
+        return (current == root) ? index : -1;
+    }
+
+    /**
+     * Returns the node that follows a visible node.
+     *
+     * @param node
+     *
+     * @return
+     * The next node, or <tt>null</tt> if the node is the last one.
+     */
+    public NodeInfo next(NodeInfo node) {
+        NodeInfo next;
+
+        if (node.visibleRight != null) {
+            next = node.visibleRight;
+            while (next.visibleLeft != null) {
+                next = next.visibleLeft;
+            }
+        } else {
+            NodeInfo current = node;
+            next = current.visibleParent;
+
+            while (next != null
+                && next.visibleRight == current) {
+                current = next;
+                next = next.visibleParent;
+            }
+        }
+
+        return next;
+    }
+
+    /**
+     * Returns the first row at or after a given row whose node is at most a
+     * given depth; i.e. the row following the visible descendants of a node.
+     *
+     * @param start
+     * @param depth
+     *
+     * @return
+     * The row index, or the length of the list if there is no such row.
+     */
+    public int indexOfDepth(int start, int depth) {
+        int index = indexOfDepth(root, 0, start, depth);
+        return (index == -1) ? getLength() : index;
+    }
+
+    private static int indexOfDepth(NodeInfo node, int offset, int start, int depth) {
+        if (node == null
+            || node.visibleMinimumDepth > depth
+            || offset + node.visibleSize <= start) {
+            return -1;
+        }
+
+        int index = indexOfDepth(node.visibleLeft, offset, start, depth);
+
+        if (index == -1) {
+            index = offset + size(node.visibleLeft);
+            int rowCount = node.getRowCount();
+
+            if (index + rowCount <= start
+                || node.depth > depth) {
+                index = indexOfDepth(node.visibleRight, index + rowCount, start, depth);
+            } else {
+                index = Math.max(index, start);
+            }
+        }
+
+        return index;
+    }
+
+    /**
+     * Inserts a node.
+     *
+     * @param node
+     * @param index
+     */
+    public void insert(NodeInfo node, int index) {
+        if (index < 0
+            || index > getLength()) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        reset(node);
+
+        split(root, index);
+        root = merge(merge(splitLeft, node), splitRight);
+        root.visibleParent = null;
+    }
+
+    /**
+     * Inserts a run of nodes.
+     *
+     * @param nodes
+     * @param index
+     */
+    public void insert(Sequence<NodeInfo> nodes, int index) {
+        if (index < 0
+            || index > getLength()) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        int n = nodes.getLength();
+        if (n == 0) {
+            return;
+        }
+
+        // Link the nodes into a treap, using the right spine as a stack
+        NodeInfo[] spine = new NodeInfo[n];
+        int top = 0;
+
+        for (int i = 0; i < n; i++) {
+            NodeInfo node = nodes.get(i);
+            reset(node);
+
+            NodeInfo last = null;
+            while (top > 0
+                && spine[top - 1].visiblePriority < node.visiblePriority) {
+                last = spine[--top];
+                update(last);
+            }
+
+            node.visibleLeft = last;
+            if (last != null) {
+                last.visibleParent = node;
+            }
+
+            if (top > 0) {
+                spine[top - 1].visibleRight = node;
+                node.visibleParent = spine[top - 1];
+            }
+
+            spine[top++] = node;
+        }
+
+        while (top > 0) {
+            update(spine[--top]);
+        }
+
+        split(root, index);
+        root = merge(merge(splitLeft, spine[0]), splitRight);
+        root.visibleParent = null;
+    }
+
+    /**
+     * Removes the nodes occupying a run of rows.
+     *
+     * @param index
+     * @param count
+     */
+    public void remove(int index, int count) {
+        if (index < 0
+            || count < 0
+            || index + count > getLength()) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        split(root, index);
+        NodeInfo left = splitLeft;
+
+        split(splitRight, count);
+        NodeInfo removed = splitLeft;
+        NodeInfo right = splitRight;
+
+        if (removed != null) {
+            removed.visibleParent = null;
+        }
+
+        root = merge(left, right);
+        if (root != null) {
+            root.visibleParent = null;
+        }
+    }
+
+    /**
+     * Removes all nodes.
+     */
+    public void clear() {
+        root = null;
+    }
+
+    /**
+     * Updates the list after the row count of a visible node has changed.
+     *
+     * @param node
+     */
+    public void resize(NodeInfo node) {
+        NodeInfo current = node;
+        while (current != null) {
+            update(current);
+            current = current.visibleParent;
+        }
+    }
+
+    private void reset(NodeInfo node) {
+        node.visibleLeft = null;
+        node.visibleRight = null;
+        node.visibleParent = null;
+        node.visibleSize = node.getRowCount();
+        node.visibleMinimumDepth = node.depth;
+
+        // Xorshift
+        seed ^= (seed << 13);
+        seed ^= (seed >>> 17);
+        seed ^= (seed << 5);
+        node.visiblePriority = seed;
+    }
+
+    /**
+     * Splits a subtree into the nodes occupying its first <tt>count</tt> rows
+     * and the rest, setting {@link #splitLeft} and {@link #splitRight}.
+     */
+    private void split(NodeInfo node, int count) {
+        if (node == null) {
+            splitLeft = null;
+            splitRight = null;
+        } else if (size(node.visibleLeft) >= count) {
+            split(node.visibleLeft, count);
+
+            node.visibleLeft = splitRight;
+            if (splitRight != null) {
+                splitRight.visibleParent = node;
+            }
+
+            update(node);
+            splitRight = node;
+        } else {
+            split(node.visibleRight, count - size(node.visibleLeft) - node.getRowCount());
+
+            node.visibleRight = splitLeft;
+            if (splitLeft != null) {
+                splitLeft.visibleParent = node;
+            }
+
+            update(node);
+            splitLeft = node;
+        }
+    }
+
+    private static NodeInfo merge(NodeInfo left, NodeInfo right) {
+        NodeInfo node;
+
+        if (left == null) {
+            node = right;
+        } else if (right == null) {
+            node = left;
+        } else if (left.visiblePriority > right.visiblePriority) {
+            left.visibleRight = merge(left.visibleRight, right);
+            left.visibleRight.visibleParent = left;
+            update(left);
+            node = left;
+        } else {
+            right.visibleLeft = merge(left, right.visibleLeft);
+            right.visibleLeft.visibleParent = right;
+            update(right);
+            node = right;
+        }
+
+        return node;
+    }
+
+    private static void update(NodeInfo node) {
+        NodeInfo left = node.visibleLeft;
+        NodeInfo right = node.visibleRight;
+
+        int size = node.getRowCount();
+        int minimumDepth = node.depth;
+
+        if (left != null) {
+            size += left.visibleSize;
+            minimumDepth = Math.min(minimumDepth, left.visibleMinimumDepth);
+        }
+
+        if (right != null) {
+            size += right.visibleSize;
+            minimumDepth = Math.min(minimumDepth, right.visibleMinimumDepth);
+        }
+
+        node.visibleSize = size;
+        node.visibleMinimumDepth = minimumDepth;
+    }
+
+    private static int size(NodeInfo node) {
+        return (node == null) ? 0 : node.visibleSize;
+    }
+}
@@ -151,22 +151,25 @@ public class Accordion extends Container {
         implements AccordionListener {
         @Override
         public void panelInserted(Accordion accordion, int index) {
-            for (AccordionListener listener : this) {
-                listener.panelInserted(accordion, index);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((AccordionListener)listeners[i]).panelInserted(accordion, index);
             }
         }
 
         @Override
         public void panelsRemoved(Accordion accordion, int index, Sequence<Component> panels) {
-            for (AccordionListener listener : this) {
-                listener.panelsRemoved(accordion, index, panels);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((AccordionListener)listeners[i]).panelsRemoved(accordion, index, panels);
             }
         }
 
         @Override
         public void headerDataRendererChanged(Accordion accordion, Button.DataRenderer previousHeaderDataRenderer) {
-            for (AccordionListener listener : this) {
-                listener.headerDataRendererChanged(accordion, previousHeaderDataRenderer);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((AccordionListener)listeners[i]).headerDataRendererChanged(accordion, previousHeaderDataRenderer);
             }
         }
     }
@@ -177,7 +180,9 @@ public class Accordion extends Container {
         public Vote previewSelectedIndexChange(Accordion accordion, int selectedIndex) {
             Vote vote = Vote.APPROVE;
 
-            for (AccordionSelectionListener listener : this) {
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                AccordionSelectionListener listener = (AccordionSelectionListener)listeners[i];
                 vote = vote.tally(listener.previewSelectedIndexChange(accordion, selectedIndex));
             }
 
@@ -186,15 +191,17 @@ public class Accordion extends Container {
 
         @Override
         public void selectedIndexChangeVetoed(Accordion accordion, Vote reason) {
-            for (AccordionSelectionListener listener : this) {
-                listener.selectedIndexChangeVetoed(accordion, reason);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((AccordionSelectionListener)listeners[i]).selectedIndexChangeVetoed(accordion, reason);
             }
         }
 
         @Override
         public void selectedIndexChanged(Accordion accordion, int previousSelectedIndex) {
-            for (AccordionSelectionListener listener : this) {
-                listener.selectedIndexChanged(accordion, previousSelectedIndex);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((AccordionSelectionListener)listeners[i]).selectedIndexChanged(accordion, previousSelectedIndex);
             }
         }
     }
@@ -203,15 +210,17 @@ public class Accordion extends Container {
         implements AccordionAttributeListener {
         @Override
         public void headerDataChanged(Accordion accordion, Component component, Object previousHeaderData) {
-            for (AccordionAttributeListener listener : this) {
-                listener.headerDataChanged(accordion, component, previousHeaderData);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((AccordionAttributeListener)listeners[i]).headerDataChanged(accordion, component, previousHeaderData);
             }
         }
 
         @Override
         public void tooltipTextChanged(Accordion accordion, Component component, String previousTooltipText) {
-            for (AccordionAttributeListener listener : this) {
-                listener.tooltipTextChanged(accordion, component, previousTooltipText);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((AccordionAttributeListener)listeners[i]).tooltipTextChanged(accordion, component, previousTooltipText);
             }
         }
     }
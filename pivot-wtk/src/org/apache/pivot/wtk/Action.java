@@ -88,8 +88,9 @@ public abstract class Action {
         implements ActionListener {
         @Override
         public void enabledChanged(Action action) {
-            for (ActionListener listener : this) {
-                listener.enabledChanged(action);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ActionListener)listeners[i]).enabledChanged(action);
             }
         }
     }
@@ -98,22 +99,25 @@ public abstract class Action {
         implements ActionClassListener {
         @Override
         public void actionAdded(String id) {
-            for (ActionClassListener listener : this) {
-                listener.actionAdded(id);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ActionClassListener)listeners[i]).actionAdded(id);
             }
         }
 
         @Override
         public void actionUpdated(String id, Action previousAction) {
-            for (ActionClassListener listener : this) {
-                listener.actionUpdated(id, previousAction);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ActionClassListener)listeners[i]).actionUpdated(id, previousAction);
             }
         }
 
         @Override
         public void actionRemoved(String id, Action action) {
-            for (ActionClassListener listener : this) {
-                listener.actionRemoved(id, action);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ActionClassListener)listeners[i]).actionRemoved(id, action);
             }
         }
     }
@@ -26,8 +26,9 @@ public class ActivityIndicator extends Component {
         implements ActivityIndicatorListener {
         @Override
         public void activeChanged(ActivityIndicator activityIndicator) {
-            for (ActivityIndicatorListener listener : this) {
-                listener.activeChanged(activityIndicator);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ActivityIndicatorListener)listeners[i]).activeChanged(activityIndicator);
             }
         }
     }
@@ -122,43 +122,49 @@ public class Alert extends Dialog {
         implements AlertListener {
         @Override
         public void messageTypeChanged(Alert alert, MessageType previousMessageType) {
-            for (AlertListener listener : this) {
-                listener.messageTypeChanged(alert, previousMessageType);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((AlertListener)listeners[i]).messageTypeChanged(alert, previousMessageType);
             }
         }
 
         @Override
         public void messageChanged(Alert alert, String previousMessage) {
-            for (AlertListener listener : this) {
-                listener.messageChanged(alert, previousMessage);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((AlertListener)listeners[i]).messageChanged(alert, previousMessage);
             }
         }
 
         @Override
         public void bodyChanged(Alert alert, Component previousBody) {
-            for (AlertListener listener : this) {
-                listener.bodyChanged(alert, previousBody);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((AlertListener)listeners[i]).bodyChanged(alert, previousBody);
             }
         }
 
         @Override
         public void optionInserted(Alert alert, int index) {
-            for (AlertListener listener : this) {
-                listener.optionInserted(alert, index);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((AlertListener)listeners[i]).optionInserted(alert, index);
             }
         }
 
         @Override
         public void optionsRemoved(Alert alert, int index, Sequence<?> removed) {
-            for (AlertListener listener : this) {
-                listener.optionsRemoved(alert, index, removed);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((AlertListener)listeners[i]).optionsRemoved(alert, index, removed);
             }
         }
 
         @Override
         public void selectedOptionChanged(Alert alert, int previousSelectedOption) {
-            for (AlertListener listener : this) {
-                listener.selectedOptionChanged(alert, previousSelectedOption);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((AlertListener)listeners[i]).selectedOptionChanged(alert, previousSelectedOption);
             }
         }
     }
@@ -56,6 +56,7 @@ import java.util.Iterator;
 import java.util.Random;
 import java.util.Timer;
 import java.util.TimerTask;
+import java.util.concurrent.Executor;
 
 import org.apache.pivot.collections.ArrayList;
 import org.apache.pivot.collections.Dictionary;
@@ -1735,6 +1736,13 @@ public abstract class ApplicationContext {
 
 	private static Timer timer = null;
 
+	private static final Executor callbackExecutor = new Executor() {
+		@Override
+		public void execute(Runnable command) {
+			queueCallback(command);
+		}
+	};
+
 	private static HashMap<URI, Object> resourceCache = new HashMap<URI, Object>();
 	private static ResourceCacheDictionary resourceCacheDictionary = new ResourceCacheDictionary();
 
@@ -1984,6 +1992,15 @@ public abstract class ApplicationContext {
 		return queuedCallback;
 	}
 
+	/**
+	 * Returns an executor that queues tasks as callbacks on the UI thread.
+	 * Suitable for delivering the messages of an asynchronous
+	 * {@link org.apache.pivot.util.MessageBus} to UI code.
+	 */
+	public static Executor getCallbackExecutor() {
+		return callbackExecutor;
+	}
+
 	protected static void createTimer() {
 		timer = new Timer();
 	}
@@ -29,15 +29,17 @@ public class Border extends Container {
         implements BorderListener {
         @Override
         public void titleChanged(Border border, String previousTitle) {
-            for (BorderListener listener : this) {
-                listener.titleChanged(border, previousTitle);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((BorderListener)listeners[i]).titleChanged(border, previousTitle);
             }
         }
 
         @Override
         public void contentChanged(Border border, Component previousContent) {
-            for (BorderListener listener : this) {
-                listener.contentChanged(border, previousContent);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((BorderListener)listeners[i]).contentChanged(border, previousContent);
             }
         }
     }
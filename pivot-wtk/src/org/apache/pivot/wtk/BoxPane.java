@@ -58,8 +58,9 @@ public class BoxPane extends Container {
         implements BoxPaneListener {
         @Override
         public void orientationChanged(BoxPane boxPane) {
-            for (BoxPaneListener listener : this) {
-                listener.orientationChanged(boxPane);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((BoxPaneListener)listeners[i]).orientationChanged(boxPane);
             }
         }
     }
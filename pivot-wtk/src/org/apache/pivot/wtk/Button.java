@@ -135,43 +135,49 @@ public abstract class Button extends Component {
         implements ButtonListener {
         @Override
         public void buttonDataChanged(Button button, Object previousButtonData) {
-            for (ButtonListener listener : this) {
-                listener.buttonDataChanged(button, previousButtonData);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ButtonListener)listeners[i]).buttonDataChanged(button, previousButtonData);
             }
         }
 
         @Override
         public void dataRendererChanged(Button button, DataRenderer previousDataRenderer) {
-            for (ButtonListener listener : this) {
-                listener.dataRendererChanged(button, previousDataRenderer);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ButtonListener)listeners[i]).dataRendererChanged(button, previousDataRenderer);
             }
         }
 
         @Override
         public void actionChanged(Button button, Action previousAction) {
-            for (ButtonListener listener : this) {
-                listener.actionChanged(button, previousAction);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ButtonListener)listeners[i]).actionChanged(button, previousAction);
             }
         }
 
         @Override
         public void toggleButtonChanged(Button button) {
-            for (ButtonListener listener : this) {
-                listener.toggleButtonChanged(button);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ButtonListener)listeners[i]).toggleButtonChanged(button);
             }
         }
 
         @Override
         public void triStateChanged(Button button) {
-            for (ButtonListener listener : this) {
-                listener.triStateChanged(button);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ButtonListener)listeners[i]).triStateChanged(button);
             }
         }
 
         @Override
         public void buttonGroupChanged(Button button, ButtonGroup previousButtonGroup) {
-            for (ButtonListener listener : this) {
-                listener.buttonGroupChanged(button, previousButtonGroup);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ButtonListener)listeners[i]).buttonGroupChanged(button, previousButtonGroup);
             }
         }
     }
@@ -180,8 +186,9 @@ public abstract class Button extends Component {
         implements ButtonStateListener {
         @Override
         public void stateChanged(Button button, Button.State previousState) {
-            for (ButtonStateListener listener : this) {
-                listener.stateChanged(button, previousState);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ButtonStateListener)listeners[i]).stateChanged(button, previousState);
             }
         }
     }
@@ -190,8 +197,9 @@ public abstract class Button extends Component {
         implements ButtonPressListener {
         @Override
         public void buttonPressed(Button button) {
-            for (ButtonPressListener listener : this) {
-                listener.buttonPressed(button);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ButtonPressListener)listeners[i]).buttonPressed(button);
             }
         }
     }
@@ -200,64 +208,73 @@ public abstract class Button extends Component {
         implements ButtonBindingListener {
         @Override
         public void buttonDataKeyChanged(Button button, String previousButtonDataKey) {
-            for (ButtonBindingListener listener : this) {
-                listener.buttonDataKeyChanged(button, previousButtonDataKey);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ButtonBindingListener)listeners[i]).buttonDataKeyChanged(button, previousButtonDataKey);
             }
         }
 
         @Override
         public void buttonDataBindTypeChanged(Button button, BindType previousDataBindType) {
-            for (ButtonBindingListener listener : this) {
-                listener.buttonDataBindTypeChanged(button, previousDataBindType);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ButtonBindingListener)listeners[i]).buttonDataBindTypeChanged(button, previousDataBindType);
             }
         }
 
         @Override
         public void buttonDataBindMappingChanged(Button button, Button.ButtonDataBindMapping previousButtonDataBindMapping) {
-            for (ButtonBindingListener listener : this) {
-                listener.buttonDataBindMappingChanged(button, previousButtonDataBindMapping);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ButtonBindingListener)listeners[i]).buttonDataBindMappingChanged(button, previousButtonDataBindMapping);
             }
         }
 
         @Override
         public void selectedKeyChanged(Button button, String previousSelectedKey) {
-            for (ButtonBindingListener listener : this) {
-                listener.selectedKeyChanged(button, previousSelectedKey);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ButtonBindingListener)listeners[i]).selectedKeyChanged(button, previousSelectedKey);
             }
         }
 
         @Override
         public void selectedBindTypeChanged(Button button, BindType previousSelectedBindType) {
-            for (ButtonBindingListener listener : this) {
-                listener.selectedBindTypeChanged(button, previousSelectedBindType);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ButtonBindingListener)listeners[i]).selectedBindTypeChanged(button, previousSelectedBindType);
             }
         }
 
         @Override
         public void selectedBindMappingChanged(Button button, Button.SelectedBindMapping previousSelectedBindMapping) {
-            for (ButtonBindingListener listener : this) {
-                listener.selectedBindMappingChanged(button, previousSelectedBindMapping);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ButtonBindingListener)listeners[i]).selectedBindMappingChanged(button, previousSelectedBindMapping);
             }
         }
 
         @Override
         public void stateKeyChanged(Button button, String previousStateKey) {
-            for (ButtonBindingListener listener : this) {
-                listener.stateKeyChanged(button, previousStateKey);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ButtonBindingListener)listeners[i]).stateKeyChanged(button, previousStateKey);
             }
         }
 
         @Override
         public void stateBindTypeChanged(Button button, BindType previousStateBindType) {
-            for (ButtonBindingListener listener : this) {
-                listener.stateBindTypeChanged(button, previousStateBindType);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ButtonBindingListener)listeners[i]).stateBindTypeChanged(button, previousStateBindType);
             }
         }
 
         @Override
         public void stateBindMappingChanged(Button button, Button.StateBindMapping previousStateBindMapping) {
-            for (ButtonBindingListener listener : this) {
-                listener.stateBindMappingChanged(button, previousStateBindMapping);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ButtonBindingListener)listeners[i]).stateBindMappingChanged(button, previousStateBindMapping);
             }
         }
     }
@@ -31,22 +31,25 @@ public class ButtonGroup implements Group<Button>, Iterable<Button> {
         implements ButtonGroupListener {
         @Override
         public void buttonAdded(ButtonGroup buttonGroup, Button button) {
-            for (ButtonGroupListener listener : this) {
-                listener.buttonAdded(buttonGroup, button);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ButtonGroupListener)listeners[i]).buttonAdded(buttonGroup, button);
             }
         }
 
         @Override
         public void buttonRemoved(ButtonGroup buttonGroup, Button button) {
-            for (ButtonGroupListener listener : this) {
-                listener.buttonRemoved(buttonGroup, button);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ButtonGroupListener)listeners[i]).buttonRemoved(buttonGroup, button);
             }
         }
 
         @Override
         public void selectionChanged(ButtonGroup buttonGroup, Button previousSelection) {
-            for (ButtonGroupListener listener : this) {
-                listener.selectionChanged(buttonGroup, previousSelection);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ButtonGroupListener)listeners[i]).selectionChanged(buttonGroup, previousSelection);
             }
         }
     }
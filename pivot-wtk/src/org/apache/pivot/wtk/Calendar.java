@@ -53,29 +53,33 @@ public class Calendar extends Container {
         implements CalendarListener {
         @Override
         public void yearChanged(Calendar calendar, int previousYear) {
-            for (CalendarListener listener : this) {
-                listener.yearChanged(calendar, previousYear);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((CalendarListener)listeners[i]).yearChanged(calendar, previousYear);
             }
         }
 
         @Override
         public void monthChanged(Calendar calendar, int previousMonth) {
-            for (CalendarListener listener : this) {
-                listener.monthChanged(calendar, previousMonth);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((CalendarListener)listeners[i]).monthChanged(calendar, previousMonth);
             }
         }
 
         @Override
         public void localeChanged(Calendar calendar, Locale previousLocale) {
-            for (CalendarListener listener : this) {
-                listener.localeChanged(calendar, previousLocale);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((CalendarListener)listeners[i]).localeChanged(calendar, previousLocale);
             }
         }
 
         @Override
         public void disabledDateFilterChanged(Calendar calendar, Filter<CalendarDate> previousDisabledDateFilter) {
-            for (CalendarListener listener : this) {
-                listener.disabledDateFilterChanged(calendar, previousDisabledDateFilter);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((CalendarListener)listeners[i]).disabledDateFilterChanged(calendar, previousDisabledDateFilter);
             }
         }
     }
@@ -86,8 +90,9 @@ public class Calendar extends Container {
         @Override
         public void selectedDateChanged(Calendar calendar,
             CalendarDate previousSelectedDate) {
-            for (CalendarSelectionListener listener : this) {
-                listener.selectedDateChanged(calendar, previousSelectedDate);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((CalendarSelectionListener)listeners[i]).selectedDateChanged(calendar, previousSelectedDate);
             }
         }
     }
@@ -97,22 +102,25 @@ public class Calendar extends Container {
         @Override
         public void selectedDateKeyChanged(Calendar calendar,
             String previousSelectedDateKey) {
-            for (CalendarBindingListener listener : this) {
-                listener.selectedDateKeyChanged(calendar, previousSelectedDateKey);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((CalendarBindingListener)listeners[i]).selectedDateKeyChanged(calendar, previousSelectedDateKey);
             }
         }
 
         @Override
         public void selectedDateBindTypeChanged(Calendar calendar, BindType previousSelectedDateBindType) {
-            for (CalendarBindingListener listener : this) {
-                listener.selectedDateBindTypeChanged(calendar, previousSelectedDateBindType);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((CalendarBindingListener)listeners[i]).selectedDateBindTypeChanged(calendar, previousSelectedDateBindType);
             }
         }
 
         @Override
         public void selectedDateBindMappingChanged(Calendar calendar, SelectedDateBindMapping previousSelectedDateBindMapping) {
-            for (CalendarBindingListener listener : this) {
-                listener.selectedDateBindMappingChanged(calendar, previousSelectedDateBindMapping);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((CalendarBindingListener)listeners[i]).selectedDateBindMappingChanged(calendar, previousSelectedDateBindMapping);
             }
         }
     }
@@ -36,30 +36,34 @@ public class CalendarButton extends Button {
         implements CalendarButtonListener {
         @Override
         public void yearChanged(CalendarButton calendarButton, int previousYear) {
-            for (CalendarButtonListener listener : this) {
-                listener.yearChanged(calendarButton, previousYear);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((CalendarButtonListener)listeners[i]).yearChanged(calendarButton, previousYear);
             }
         }
 
         @Override
         public void monthChanged(CalendarButton calendarButton, int previousMonth) {
-            for (CalendarButtonListener listener : this) {
-                listener.monthChanged(calendarButton, previousMonth);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((CalendarButtonListener)listeners[i]).monthChanged(calendarButton, previousMonth);
             }
         }
 
         @Override
         public void localeChanged(CalendarButton calendarButton, Locale previousLocale) {
-            for (CalendarButtonListener listener : this) {
-                listener.localeChanged(calendarButton, previousLocale);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((CalendarButtonListener)listeners[i]).localeChanged(calendarButton, previousLocale);
             }
         }
 
         @Override
         public void disabledDateFilterChanged(CalendarButton calendarButton,
             Filter<CalendarDate> previousDisabledDateFilter) {
-            for (CalendarButtonListener listener : this) {
-                listener.disabledDateFilterChanged(calendarButton, previousDisabledDateFilter);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((CalendarButtonListener)listeners[i]).disabledDateFilterChanged(calendarButton, previousDisabledDateFilter);
             }
         }
     }
@@ -71,8 +75,9 @@ public class CalendarButton extends Button {
         @Override
         public void selectedDateChanged(CalendarButton calendarButton,
             CalendarDate previousSelectedDate) {
-            for (CalendarButtonSelectionListener listener : this) {
-                listener.selectedDateChanged(calendarButton, previousSelectedDate);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((CalendarButtonSelectionListener)listeners[i]).selectedDateChanged(calendarButton, previousSelectedDate);
             }
         }
     }
@@ -82,24 +87,27 @@ public class CalendarButton extends Button {
         @Override
         public void selectedDateKeyChanged(CalendarButton calendarButton,
             String previousSelectedDateKey) {
-            for (CalendarButtonBindingListener listener : this) {
-                listener.selectedDateKeyChanged(calendarButton, previousSelectedDateKey);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((CalendarButtonBindingListener)listeners[i]).selectedDateKeyChanged(calendarButton, previousSelectedDateKey);
             }
         }
 
         @Override
         public void selectedDateBindTypeChanged(CalendarButton calendarButton,
             BindType previousSelectedDateBindType) {
-            for (CalendarButtonBindingListener listener : this) {
-                listener.selectedDateBindTypeChanged(calendarButton, previousSelectedDateBindType);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((CalendarButtonBindingListener)listeners[i]).selectedDateBindTypeChanged(calendarButton, previousSelectedDateBindType);
             }
         }
 
         @Override
         public void selectedDateBindMappingChanged(CalendarButton calendarButton,
             Calendar.SelectedDateBindMapping previousSelectedDateBindMapping) {
-            for (CalendarButtonBindingListener listener : this) {
-                listener.selectedDateBindMappingChanged(calendarButton, previousSelectedDateBindMapping);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((CalendarButtonBindingListener)listeners[i]).selectedDateBindMappingChanged(calendarButton, previousSelectedDateBindMapping);
             }
         }
     }
@@ -32,7 +32,9 @@ public class CardPane extends Container {
         public Vote previewSelectedIndexChange(CardPane cardPane, int selectedIndex) {
             Vote vote = Vote.APPROVE;
 
-            for (CardPaneListener listener : this) {
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                CardPaneListener listener = (CardPaneListener)listeners[i];
                 vote = vote.tally(listener.previewSelectedIndexChange(cardPane, selectedIndex));
             }
 
@@ -41,15 +43,17 @@ public class CardPane extends Container {
 
         @Override
         public void selectedIndexChangeVetoed(CardPane cardPane, Vote reason) {
-            for (CardPaneListener listener : this) {
-                listener.selectedIndexChangeVetoed(cardPane, reason);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((CardPaneListener)listeners[i]).selectedIndexChangeVetoed(cardPane, reason);
             }
         }
 
         @Override
         public void selectedIndexChanged(CardPane cardPane, int previousSelectedIndex) {
-            for (CardPaneListener listener : this) {
-                listener.selectedIndexChanged(cardPane, previousSelectedIndex);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((CardPaneListener)listeners[i]).selectedIndexChanged(cardPane, previousSelectedIndex);
             }
         }
     }
@@ -54,8 +54,9 @@ public class ColorChooser extends Container {
         @Override
         public void selectedColorChanged(ColorChooser colorChooser,
             Color previousSelectedColor) {
-            for (ColorChooserSelectionListener listener : this) {
-                listener.selectedColorChanged(colorChooser, previousSelectedColor);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ColorChooserSelectionListener)listeners[i]).selectedColorChanged(colorChooser, previousSelectedColor);
             }
         }
     }
@@ -69,24 +70,27 @@ public class ColorChooser extends Container {
         @Override
         public void selectedColorKeyChanged(ColorChooser colorChooser,
             String previousSelectedColorKey) {
-            for (ColorChooserBindingListener listener : this) {
-                listener.selectedColorKeyChanged(colorChooser, previousSelectedColorKey);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ColorChooserBindingListener)listeners[i]).selectedColorKeyChanged(colorChooser, previousSelectedColorKey);
             }
         }
 
         @Override
         public void selectedColorBindTypeChanged(ColorChooser colorChooser,
             BindType previousSelectedColorBindType) {
-            for (ColorChooserBindingListener listener : this) {
-                listener.selectedColorBindTypeChanged(colorChooser, previousSelectedColorBindType);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ColorChooserBindingListener)listeners[i]).selectedColorBindTypeChanged(colorChooser, previousSelectedColorBindType);
             }
         }
 
         @Override
         public void selectedColorBindMappingChanged(ColorChooser colorChooser,
             SelectedColorBindMapping previousSelectedColorBindMapping) {
-            for (ColorChooserBindingListener listener : this) {
-                listener.selectedColorBindMappingChanged(colorChooser,
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ColorChooserBindingListener)listeners[i]).selectedColorBindMappingChanged(colorChooser,
                     previousSelectedColorBindMapping);
             }
         }
@@ -37,8 +37,9 @@ public class ColorChooserButton extends Button {
         @Override
         public void selectedColorChanged(ColorChooserButton colorChooserButton,
             Color previousSelectedColor) {
-            for (ColorChooserButtonSelectionListener listener : this) {
-                listener.selectedColorChanged(colorChooserButton, previousSelectedColor);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ColorChooserButtonSelectionListener)listeners[i]).selectedColorChanged(colorChooserButton, previousSelectedColor);
             }
         }
     }
@@ -52,16 +53,18 @@ public class ColorChooserButton extends Button {
         @Override
         public void selectedColorKeyChanged(ColorChooserButton colorChooserButton,
             String previousSelectedColorKey) {
-            for (ColorChooserButtonBindingListener listener : this) {
-                listener.selectedColorKeyChanged(colorChooserButton, previousSelectedColorKey);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ColorChooserButtonBindingListener)listeners[i]).selectedColorKeyChanged(colorChooserButton, previousSelectedColorKey);
             }
         }
 
         @Override
         public void selectedColorBindTypeChanged(ColorChooserButton colorChooserButton,
             BindType previousSelectedColorBindType) {
-            for (ColorChooserButtonBindingListener listener : this) {
-                listener.selectedColorBindTypeChanged(colorChooserButton,
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ColorChooserButtonBindingListener)listeners[i]).selectedColorBindTypeChanged(colorChooserButton,
                     previousSelectedColorBindType);
             }
         }
@@ -69,8 +72,9 @@ public class ColorChooserButton extends Button {
         @Override
         public void selectedColorBindMappingChanged(ColorChooserButton colorChooserButton,
             ColorChooser.SelectedColorBindMapping previousSelectedColorBindMapping) {
-            for (ColorChooserButtonBindingListener listener : this) {
-                listener.selectedColorBindMappingChanged(colorChooserButton,
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ColorChooserButtonBindingListener)listeners[i]).selectedColorBindMappingChanged(colorChooserButton,
                     previousSelectedColorBindMapping);
             }
         }
@@ -16,10 +16,14 @@
  */
 package org.apache.pivot.wtk;
 
+import java.awt.AlphaComposite;
 import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
 import java.awt.Rectangle;
 import java.awt.Shape;
+import java.awt.Transparency;
 import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
 import java.util.Iterator;
 
 import org.apache.pivot.beans.BeanAdapter;
@@ -299,24 +303,27 @@ public abstract class Component implements ConstrainedVisual {
 			WTKListenerList<ComponentListener> implements ComponentListener {
 		@Override
 		public void parentChanged(Component component, Container previousParent) {
-			for (ComponentListener listener : this) {
-				listener.parentChanged(component, previousParent);
+			Object[] listeners = getSnapshot();
+			for (int i = 0; i < listeners.length; i++) {
+				((ComponentListener)listeners[i]).parentChanged(component, previousParent);
 			}
 		}
 
 		@Override
 		public void sizeChanged(Component component, int previousWidth,
 				int previousHeight) {
-			for (ComponentListener listener : this) {
-				listener.sizeChanged(component, previousWidth, previousHeight);
+			Object[] listeners = getSnapshot();
+			for (int i = 0; i < listeners.length; i++) {
+				((ComponentListener)listeners[i]).sizeChanged(component, previousWidth, previousHeight);
 			}
 		}
 
 		@Override
 		public void preferredSizeChanged(Component component,
 				int previousPreferredWidth, int previousPreferredHeight) {
-			for (ComponentListener listener : this) {
-				listener.preferredSizeChanged(component,
+			Object[] listeners = getSnapshot();
+			for (int i = 0; i < listeners.length; i++) {
+				((ComponentListener)listeners[i]).preferredSizeChanged(component,
 						previousPreferredWidth, previousPreferredHeight);
 			}
 		}
@@ -324,8 +331,9 @@ public abstract class Component implements ConstrainedVisual {
 		@Override
 		public void widthLimitsChanged(Component component,
 				int previousMinimumWidth, int previousMaximumWidth) {
-			for (ComponentListener listener : this) {
-				listener.widthLimitsChanged(component, previousMinimumWidth,
+			Object[] listeners = getSnapshot();
+			for (int i = 0; i < listeners.length; i++) {
+				((ComponentListener)listeners[i]).widthLimitsChanged(component, previousMinimumWidth,
 						previousMaximumWidth);
 			}
 		}
@@ -333,8 +341,9 @@ public abstract class Component implements ConstrainedVisual {
 		@Override
 		public void heightLimitsChanged(Component component,
 				int previousMinimumHeight, int previousMaximumHeight) {
-			for (ComponentListener listener : this) {
-				listener.heightLimitsChanged(component, previousMinimumHeight,
+			Object[] listeners = getSnapshot();
+			for (int i = 0; i < listeners.length; i++) {
+				((ComponentListener)listeners[i]).heightLimitsChanged(component, previousMinimumHeight,
 						previousMaximumHeight);
 			}
 		}
@@ -342,69 +351,78 @@ public abstract class Component implements ConstrainedVisual {
 		@Override
 		public void locationChanged(Component component, int previousX,
 				int previousY) {
-			for (ComponentListener listener : this) {
-				listener.locationChanged(component, previousX, previousY);
+			Object[] listeners = getSnapshot();
+			for (int i = 0; i < listeners.length; i++) {
+				((ComponentListener)listeners[i]).locationChanged(component, previousX, previousY);
 			}
 		}
 
 		@Override
 		public void visibleChanged(Component component) {
-			for (ComponentListener listener : this) {
-				listener.visibleChanged(component);
+			Object[] listeners = getSnapshot();
+			for (int i = 0; i < listeners.length; i++) {
+				((ComponentListener)listeners[i]).visibleChanged(component);
 			}
 		}
 
 		@Override
 		public void cursorChanged(Component component, Cursor previousCursor) {
-			for (ComponentListener listener : this) {
-				listener.cursorChanged(component, previousCursor);
+			Object[] listeners = getSnapshot();
+			for (int i = 0; i < listeners.length; i++) {
+				((ComponentListener)listeners[i]).cursorChanged(component, previousCursor);
 			}
 		}
 
 		@Override
 		public void tooltipTextChanged(Component component,
 				String previousTooltipText) {
-			for (ComponentListener listener : this) {
-				listener.tooltipTextChanged(component, previousTooltipText);
+			Object[] listeners = getSnapshot();
+			for (int i = 0; i < listeners.length; i++) {
+				((ComponentListener)listeners[i]).tooltipTextChanged(component, previousTooltipText);
 			}
 		}
 
 		@Override
 		public void tooltipDelayChanged(Component component,
 				int previousTooltipDelay) {
-			for (ComponentListener listener : this) {
-				listener.tooltipDelayChanged(component, previousTooltipDelay);
+			Object[] listeners = getSnapshot();
+			for (int i = 0; i < listeners.length; i++) {
+				((ComponentListener)listeners[i]).tooltipDelayChanged(component, previousTooltipDelay);
 			}
 		}
 
 		@Override
 		public void dragSourceChanged(Component component,
 				DragSource previousDragSource) {
-			for (ComponentListener listener : this) {
-				listener.dragSourceChanged(component, previousDragSource);
+			Object[] listeners = getSnapshot();
+			for (int i = 0; i < listeners.length; i++) {
+				((ComponentListener)listeners[i]).dragSourceChanged(component, previousDragSource);
 			}
 		}
 
 		@Override
 		public void dropTargetChanged(Component component,
 				DropTarget previousDropTarget) {
-			for (ComponentListener listener : this) {
-				listener.dropTargetChanged(component, previousDropTarget);
+			Object[] listeners = getSnapshot();
+			for (int i = 0; i < listeners.length; i++) {
+				((ComponentListener)listeners[i]).dropTargetChanged(component, previousDropTarget);
 			}
 		}
 
 		@Override
 		public void menuHandlerChanged(Component component,
 				MenuHandler previousMenuHandler) {
-			for (ComponentListener listener : this) {
-				listener.menuHandlerChanged(component, previousMenuHandler);
+			Object[] listeners = getSnapshot();
+			for (int i = 0; i < listeners.length; i++) {
+				((ComponentListener)listeners[i]).menuHandlerChanged(component, previousMenuHandler);
 			}
 		}
 
 		@Override
 		public void nameChanged(Component component, String previousName) {
-			for (ComponentListener listener : this) {
-				listener.nameChanged(component, previousName);
+			Object[] listeners = getSnapshot();
+			for (int i = 0; i < listeners.length; i++) {
+				((ComponentListener)listeners[i]).nameChanged(component, previousName);
 			}
 		}
 	}
@@ -414,16 +432,18 @@ public abstract class Component implements ConstrainedVisual {
 			ComponentStateListener {
 		@Override
 		public void enabledChanged(Component component) {
-			for (ComponentStateListener listener : this) {
-				listener.enabledChanged(component);
+			Object[] listeners = getSnapshot();
+			for (int i = 0; i < listeners.length; i++) {
+				((ComponentStateListener)listeners[i]).enabledChanged(component);
 			}
 		}
 
 		@Override
 		public void focusedChanged(Component component,
 				Component obverseComponent) {
-			for (ComponentStateListener listener : this) {
-				listener.focusedChanged(component, obverseComponent);
+			Object[] listeners = getSnapshot();
+			for (int i = 0; i < listeners.length; i++) {
+				((ComponentStateListener)listeners[i]).focusedChanged(component, obverseComponent);
 			}
 		}
 	}
@@ -433,24 +453,27 @@ public abstract class Component implements ConstrainedVisual {
 			ComponentDecoratorListener {
 		@Override
 		public void decoratorInserted(Component component, int index) {
-			for (ComponentDecoratorListener listener : this) {
-				listener.decoratorInserted(component, index);
+			Object[] listeners = getSnapshot();
+			for (int i = 0; i < listeners.length; i++) {
+				((ComponentDecoratorListener)listeners[i]).decoratorInserted(component, index);
 			}
 		}
 
 		@Override
 		public void decoratorUpdated(Component component, int index,
 				Decorator previousDecorator) {
-			for (ComponentDecoratorListener listener : this) {
-				listener.decoratorUpdated(component, index, previousDecorator);
+			Object[] listeners = getSnapshot();
+			for (int i = 0; i < listeners.length; i++) {
+				((ComponentDecoratorListener)listeners[i]).decoratorUpdated(component, index, previousDecorator);
 			}
 		}
 
 		@Override
 		public void decoratorsRemoved(Component component, int index,
 				Sequence<Decorator> decorators) {
-			for (ComponentDecoratorListener listener : this) {
-				listener.decoratorsRemoved(component, index, decorators);
+			Object[] listeners = getSnapshot();
+			for (int i = 0; i < listeners.length; i++) {
+				((ComponentDecoratorListener)listeners[i]).decoratorsRemoved(component, index, decorators);
 			}
 		}
 	}
@@ -461,8 +484,9 @@ public abstract class Component implements ConstrainedVisual {
 		@Override
 		public void styleUpdated(Component component, String styleKey,
 				Object previousValue) {
-			for (ComponentStyleListener listener : this) {
-				listener.styleUpdated(component, styleKey, previousValue);
+			Object[] listeners = getSnapshot();
+			for (int i = 0; i < listeners.length; i++) {
+				((ComponentStyleListener)listeners[i]).styleUpdated(component, styleKey, previousValue);
 			}
 		}
 	}
@@ -474,7 +498,9 @@ public abstract class Component implements ConstrainedVisual {
 		public boolean mouseMove(Component component, int x, int y) {
 			boolean consumed = false;
 
-			for (ComponentMouseListener listener : this) {
+			Object[] listeners = getSnapshot();
+			for (int i = 0; i < listeners.length; i++) {
+				ComponentMouseListener listener = (ComponentMouseListener)listeners[i];
 				consumed |= listener.mouseMove(component, x, y);
 			}
 
@@ -483,15 +509,17 @@ public abstract class Component implements ConstrainedVisual {
 
 		@Override
 		public void mouseOver(Component component) {
-			for (ComponentMouseListener listener : this) {
-				listener.mouseOver(component);
+			Object[] listeners = getSnapshot();
+			for (int i = 0; i < listeners.length; i++) {
+				((ComponentMouseListener)listeners[i]).mouseOver(component);
 			}
 		}
 
 		@Override
 		public void mouseOut(Component component) {
-			for (ComponentMouseListener listener : this) {
-				listener.mouseOut(component);
+			Object[] listeners = getSnapshot();
+			for (int i = 0; i < listeners.length; i++) {
+				((ComponentMouseListener)listeners[i]).mouseOut(component);
 			}
 		}
 	}
@@ -504,7 +532,9 @@ public abstract class Component implements ConstrainedVisual {
 				int x, int y) {
 			boolean consumed = false;
 
-			for (ComponentMouseButtonListener listener : this) {
+			Object[] listeners = getSnapshot();
+			for (int i = 0; i < listeners.length; i++) {
+				ComponentMouseButtonListener listener = (ComponentMouseButtonListener)listeners[i];
 				consumed |= listener.mouseDown(component, button, x, y);
 			}
 
@@ -516,7 +546,9 @@ public abstract class Component implements ConstrainedVisual {
 				int y) {
 			boolean consumed = false;
 
-			for (ComponentMouseButtonListener listener : this) {
+			Object[] listeners = getSnapshot();
+			for (int i = 0; i < listeners.length; i++) {
+				ComponentMouseButtonListener listener = (ComponentMouseButtonListener)listeners[i];
 				consumed |= listener.mouseUp(component, button, x, y);
 			}
 
@@ -528,7 +560,9 @@ public abstract class Component implements ConstrainedVisual {
 				int x, int y, int count) {
 			boolean consumed = false;
 
-			for (ComponentMouseButtonListener listener : this) {
+			Object[] listeners = getSnapshot();
+			for (int i = 0; i < listeners.length; i++) {
+				ComponentMouseButtonListener listener = (ComponentMouseButtonListener)listeners[i];
 				consumed |= listener.mouseClick(component, button, x, y, count);
 			}
 
@@ -545,7 +579,9 @@ public abstract class Component implements ConstrainedVisual {
 				int wheelRotation, int x, int y) {
 			boolean consumed = false;
 
-			for (ComponentMouseWheelListener listener : this) {
+			Object[] listeners = getSnapshot();
+			for (int i = 0; i < listeners.length; i++) {
+				ComponentMouseWheelListener listener = (ComponentMouseWheelListener)listeners[i];
 				consumed |= listener.mouseWheel(component, scrollType,
 						scrollAmount, wheelRotation, x, y);
 			}
@@ -561,7 +597,9 @@ public abstract class Component implements ConstrainedVisual {
 		public boolean keyTyped(Component component, char character) {
 			boolean consumed = false;
 
-			for (ComponentKeyListener listener : this) {
+			Object[] listeners = getSnapshot();
+			for (int i = 0; i < listeners.length; i++) {
+				ComponentKeyListener listener = (ComponentKeyListener)listeners[i];
 				consumed |= listener.keyTyped(component, character);
 			}
 
@@ -573,7 +611,9 @@ public abstract class Component implements ConstrainedVisual {
 				Keyboard.KeyLocation keyLocation) {
 			boolean consumed = false;
 
-			for (ComponentKeyListener listener : this) {
+			Object[] listeners = getSnapshot();
+			for (int i = 0; i < listeners.length; i++) {
+				ComponentKeyListener listener = (ComponentKeyListener)listeners[i];
 				consumed |= listener
 						.keyPressed(component, keyCode, keyLocation);
 			}
@@ -586,7 +626,9 @@ public abstract class Component implements ConstrainedVisual {
 				Keyboard.KeyLocation keyLocation) {
 			boolean consumed = false;
 
-			for (ComponentKeyListener listener : this) {
+			Object[] listeners = getSnapshot();
+			for (int i = 0; i < listeners.length; i++) {
+				ComponentKeyListener listener = (ComponentKeyListener)listeners[i];
 				consumed |= listener.keyReleased(component, keyCode,
 						keyLocation);
 			}
@@ -600,8 +642,9 @@ public abstract class Component implements ConstrainedVisual {
 			ComponentTooltipListener {
 		@Override
 		public void tooltipTriggered(Component component, int x, int y) {
-			for (ComponentTooltipListener listener : this) {
-				listener.tooltipTriggered(component, x, y);
+			Object[] listeners = getSnapshot();
+			for (int i = 0; i < listeners.length; i++) {
+				((ComponentTooltipListener)listeners[i]).tooltipTriggered(component, x, y);
 			}
 		}
 	}
@@ -611,23 +654,26 @@ public abstract class Component implements ConstrainedVisual {
 			ComponentDataListener {
 		@Override
 		public void valueAdded(Component component, String key) {
-			for (ComponentDataListener listener : this) {
-				listener.valueAdded(component, key);
+			Object[] listeners = getSnapshot();
+			for (int i = 0; i < listeners.length; i++) {
+				((ComponentDataListener)listeners[i]).valueAdded(component, key);
 			}
 		}
 
 		@Override
 		public void valueUpdated(Component component, String key,
 				Object previousValue) {
-			for (ComponentDataListener listener : this) {
-				listener.valueUpdated(component, key, previousValue);
+			Object[] listeners = getSnapshot();
+			for (int i = 0; i < listeners.length; i++) {
+				((ComponentDataListener)listeners[i]).valueUpdated(component, key, previousValue);
 			}
 		}
 
 		@Override
 		public void valueRemoved(Component component, String key, Object value) {
-			for (ComponentDataListener listener : this) {
-				listener.valueRemoved(component, key, value);
+			Object[] listeners = getSnapshot();
+			for (int i = 0; i < listeners.length; i++) {
+				((ComponentDataListener)listeners[i]).valueRemoved(component, key, value);
 			}
 		}
 	}
@@ -637,8 +683,9 @@ public abstract class Component implements ConstrainedVisual {
 			ComponentClassListener {
 		@Override
 		public void focusedComponentChanged(Component previousFocusedComponent) {
-			for (ComponentClassListener listener : this) {
-				listener.focusedComponentChanged(previousFocusedComponent);
+			Object[] listeners = getSnapshot();
+			for (int i = 0; i < listeners.length; i++) {
+				((ComponentClassListener)listeners[i]).focusedComponentChanged(previousFocusedComponent);
 			}
 		}
 	}
@@ -680,6 +727,12 @@ public abstract class Component implements ConstrainedVisual {
 	private ArrayList<Decorator> decorators = new ArrayList<Decorator>();
 	private DecoratorSequence decoratorSequence = new DecoratorSequence();
 
+	// The component's layer cache and the area of it that must be repainted
+	// before it is next used, or null if the cache is current
+	private boolean layerCached = false;
+	private BufferedImage layerImage = null;
+	private Bounds layerDamage = null;
+
 	// The component's enabled flag
 	private boolean enabled = true;
 
@@ -890,6 +943,10 @@ public abstract class Component implements ConstrainedVisual {
 		Container previousParent = this.parent;
 		this.parent = parent;
 
+		// Repaints made while the component was not in the hierarchy were
+		// not tracked
+		layerImage = null;
+
 		if (previousParent != null) {
 			previousParent.descendantRemoved(this);
 		}
@@ -2105,6 +2162,16 @@ public abstract class Component implements ConstrainedVisual {
 					- yArgumentMutable + 1;
 
 			if (widthMutable > 0 && heightMutable > 0) {
+				// Add the region to the layer cache's damaged area; this must
+				// be done before the parent is notified, since an immediate
+				// repaint will paint the layer
+				if (layerImage != null) {
+					Bounds area = new Bounds(xArgumentMutable,
+							yArgumentMutable, widthMutable, heightMutable);
+					layerDamage = (layerDamage == null) ? area : layerDamage
+							.union(area);
+				}
+
 				// Notify the parent that the region needs updating
 				parent.repaint(xArgumentMutable + this.x, yArgumentMutable
 						+ this.y, widthMutable, heightMutable, immediate);
@@ -2145,6 +2212,100 @@ public abstract class Component implements ConstrainedVisual {
 		skin.paint(graphics);
 	}
 
+	/**
+	 * Paints the component, using the component's layer cache if layer
+	 * caching is enabled and the graphics are only translated. Called by the
+	 * parent container in place of {@link #paint(Graphics2D)}.
+	 * 
+	 * @param graphics
+	 */
+	final void paintLayer(Graphics2D graphics) {
+		int width = getWidth();
+		int height = getHeight();
+
+		// Paint directly if the graphics are scaled or rotated, in which case
+		// the cached image would not match the direct rendering
+		if (!layerCached || width <= 0 || height <= 0
+				|| (graphics.getTransform().getType() & ~AffineTransform.TYPE_TRANSLATION) != 0) {
+			paint(graphics);
+		} else {
+			// The image is also recreated if the component's opacity has
+			// changed, since clearing an opaque image paints it black
+			int transparency = isOpaque() ? Transparency.OPAQUE
+					: Transparency.TRANSLUCENT;
+
+			if (layerImage == null || layerImage.getWidth() != width
+					|| layerImage.getHeight() != height
+					|| layerImage.getTransparency() != transparency) {
+				GraphicsConfiguration gc = graphics.getDeviceConfiguration();
+				layerImage = gc.createCompatibleImage(width, height, transparency);
+				layerDamage = new Bounds(0, 0, width, height);
+			}
+
+			if (layerDamage != null) {
+				Graphics2D layerGraphics = layerImage.createGraphics();
+
+				try {
+					layerGraphics.setRenderingHints(graphics
+							.getRenderingHints());
+					layerGraphics.clipRect(layerDamage.x, layerDamage.y,
+							layerDamage.width, layerDamage.height);
+
+					// Clear the damaged area, since the component may not be
+					// opaque
+					layerGraphics.setComposite(AlphaComposite.Clear);
+					layerGraphics.fillRect(layerDamage.x, layerDamage.y,
+							layerDamage.width, layerDamage.height);
+					layerGraphics.setComposite(AlphaComposite.SrcOver);
+
+					paint(layerGraphics);
+				} finally {
+					layerGraphics.dispose();
+				}
+
+				layerDamage = null;
+			}
+
+			graphics.drawImage(layerImage, 0, 0, null);
+		}
+	}
+
+	/**
+	 * Returns the component's layer caching state.
+	 * 
+	 * @return <tt>true</tt> if the component's rendering is cached;
+	 *         <tt>false</tt>, otherwise.
+	 */
+	public boolean isLayerCached() {
+		return layerCached;
+	}
+
+	/**
+	 * Sets the component's layer caching state. When enabled, the component
+	 * (and, for a container, its descendants) is rendered into an offscreen
+	 * image that is drawn in place of the component on subsequent paints.
+	 * Only the areas passed to {@link #repaint(int, int, int, int, boolean)}
+	 * since the last paint are rendered again, so the component is not
+	 * repainted when a repaint elsewhere in the display overlaps it.
+	 * <p>
+	 * This is intended for static content that surrounds frequently updated
+	 * components. Anything that changes the component's appearance without
+	 * repainting it will not be reflected in the cached image.
+	 * 
+	 * @param layerCached
+	 */
+	public void setLayerCached(boolean layerCached) {
+		Container.assertEventDispatchThread(this);
+
+		if (layerCached != this.layerCached) {
+			this.layerCached = layerCached;
+			layerImage = null;
+			layerDamage = null;
+
+			repaint();
+		}
+	}
+
 	/**
 	 * Creates a graphics context for this component. This graphics context will
 	 * not be double buffered. In other words, drawing operations on it will
@@ -2168,6 +2329,10 @@ public abstract class Component implements ConstrainedVisual {
 			xLocal += component.x;
 			yLocal += component.y;
 
+			// Drawing on the graphics context will not be reflected in any
+			// cached layer
+			component.layerImage = null;
+
 			component = component.getParent();
 		}
 
@@ -37,30 +37,34 @@ public abstract class Container extends Component
         implements ContainerListener {
         @Override
         public void componentInserted(Container container, int index) {
-            for (ContainerListener listener : this) {
-                listener.componentInserted(container, index);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ContainerListener)listeners[i]).componentInserted(container, index);
             }
         }
 
         @Override
         public void componentsRemoved(Container container, int index, Sequence<Component> components) {
-            for (ContainerListener listener : this) {
-                listener.componentsRemoved(container, index, components);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ContainerListener)listeners[i]).componentsRemoved(container, index, components);
             }
         }
 
         @Override
         public void componentMoved(Container container, int from, int to) {
-            for (ContainerListener listener : this) {
-                listener.componentMoved(container, from, to);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ContainerListener)listeners[i]).componentMoved(container, from, to);
             }
         }
 
         @Override
         public void focusTraversalPolicyChanged(Container container,
             FocusTraversalPolicy previousFocusTraversalPolicy) {
-            for (ContainerListener listener : this) {
-                listener.focusTraversalPolicyChanged(container, previousFocusTraversalPolicy);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ContainerListener)listeners[i]).focusTraversalPolicyChanged(container, previousFocusTraversalPolicy);
             }
         }
     }
@@ -71,7 +75,9 @@ public abstract class Container extends Component
         public boolean mouseMove(Container container, int x, int y) {
             boolean consumed = false;
 
-            for (ContainerMouseListener listener : this) {
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ContainerMouseListener listener = (ContainerMouseListener)listeners[i];
                 consumed |= listener.mouseMove(container, x, y);
             }
 
@@ -82,7 +88,9 @@ public abstract class Container extends Component
         public boolean mouseDown(Container container, Mouse.Button button, int x, int y) {
             boolean consumed = false;
 
-            for (ContainerMouseListener listener : this) {
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ContainerMouseListener listener = (ContainerMouseListener)listeners[i];
                 consumed |= listener.mouseDown(container, button, x, y);
             }
 
@@ -93,7 +101,9 @@ public abstract class Container extends Component
         public boolean mouseUp(Container container, Mouse.Button button, int x, int y) {
             boolean consumed = false;
 
-            for (ContainerMouseListener listener : this) {
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ContainerMouseListener listener = (ContainerMouseListener)listeners[i];
                 consumed |= listener.mouseUp(container, button, x, y);
             }
 
@@ -105,7 +115,9 @@ public abstract class Container extends Component
             int scrollAmount, int wheelRotation, int x, int y) {
             boolean consumed = false;
 
-            for (ContainerMouseListener listener : this) {
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ContainerMouseListener listener = (ContainerMouseListener)listeners[i];
                 consumed |= listener.mouseWheel(container, scrollType, scrollAmount, wheelRotation, x, y);
             }
 
@@ -129,6 +141,9 @@ public abstract class Container extends Component
     private java.awt.image.BufferedImage doubleBufferImage = null;
     private boolean doubleBufferedRepaintRequired = false;
 
+    // The optional spatial index of the components
+    private SpatialIndex spatialIndex = null;
+
     private ContainerListenerList containerListeners = new ContainerListenerList();
     private ContainerMouseListenerList containerMouseListeners = new ContainerMouseListenerList();
 
@@ -159,6 +174,10 @@ public abstract class Container extends Component
         component.setParent(Container.this);
         components.insert(component, index);
 
+        if (spatialIndex != null) {
+            spatialIndex.add(component);
+        }
+
         // Repaint the area occupied by the new component
         repaint(component.getDecoratedBounds());
 
@@ -202,6 +221,10 @@ public abstract class Container extends Component
 
             repaint(component.getDecoratedBounds());
 
+            if (spatialIndex != null) {
+                spatialIndex.remove(component);
+            }
+
             component.setParent(null);
         }
 
@@ -235,6 +258,10 @@ public abstract class Container extends Component
             Component component = removed.get(0);
             components.insert(component, to);
 
+            if (spatialIndex != null) {
+                spatialIndex.invalidateOrder();
+            }
+
             // Repaint the area occupied by the component
             repaint(component.getDecoratedBounds());
 
@@ -281,6 +308,11 @@ public abstract class Container extends Component
 
     public Component getComponentAt(int x, int y) {
         assertEventDispatchThread();
+
+        if (spatialIndex != null) {
+            return spatialIndex.getComponentAt(x, y);
+        }
+
         Component component = null;
 
         int i = components.getLength() - 1;
@@ -388,8 +420,6 @@ public abstract class Container extends Component
     }
 
     private void paint0(Graphics2D graphics) {
-        int count = getLength();
-
         // Determine the paint bounds
         Bounds paintBounds = new Bounds(0, 0, getWidth(), getHeight());
         Rectangle clipBounds = graphics.getClipBounds();
@@ -397,11 +427,16 @@ public abstract class Container extends Component
             paintBounds = paintBounds.intersect(clipBounds);
         }
 
+        // Determine the components that may intersect the paint bounds; a null
+        // value means that all components must be considered
+        int[] indexes = (spatialIndex == null) ? null : spatialIndex.getComponentIndexes(paintBounds);
+        int count = (indexes == null) ? getLength() : indexes.length;
+
         // Determine if we need to paint the container, or if it's completely
         // obscured by a child component.
         boolean paintContainer = true;
         for (int i = 0; i < count; i++) {
-            Component component = get(i);
+            Component component = get((indexes == null) ? i : indexes[i]);
 
             if (component.isVisible()
                 && component.isOpaque()
@@ -421,7 +456,7 @@ public abstract class Container extends Component
         }
 
         for (int i = 0; i < count; i++) {
-            Component component = get(i);
+            Component component = get((indexes == null) ? i : indexes[i]);
 
             // Calculate the decorated bounds
             Bounds decoratedBounds = component.getDecoratedBounds();
@@ -448,7 +483,7 @@ public abstract class Container extends Component
                 // Paint the component
                 Graphics2D componentGraphics = (Graphics2D)decoratedGraphics.create();
                 componentGraphics.clipRect(0, 0, componentBounds.width, componentBounds.height);
-                component.paint(componentGraphics);
+                component.paintLayer(componentGraphics);
                 componentGraphics.dispose();
 
                 // Update the decorators
@@ -909,6 +944,40 @@ public abstract class Container extends Component
        }
     }
 
+    /**
+     * Returns the container's spatial indexing state.
+     *
+     * @return
+     * <tt>true</tt> if the container's components are indexed by location;
+     * <tt>false</tt>, otherwise.
+     */
+    public boolean isSpatiallyIndexed() {
+        return (spatialIndex != null);
+    }
+
+    /**
+     * Sets the container's spatial indexing state. When enabled, the
+     * container maintains an index of its components' bounds that is used to
+     * locate the components under a point and the components that intersect
+     * the area being painted, rather than scanning every component. This is
+     * worthwhile for containers with many children, of which any one point or
+     * repaint touches only a few.
+     *
+     * @param spatiallyIndexed
+     */
+    public void setSpatiallyIndexed(boolean spatiallyIndexed) {
+        assertEventDispatchThread();
+
+        if (spatiallyIndexed != isSpatiallyIndexed()) {
+            if (spatiallyIndexed) {
+                spatialIndex = new SpatialIndex(components);
+            } else {
+                spatialIndex.clear();
+                spatialIndex = null;
+            }
+        }
+    }
+
     public ListenerList<ContainerListener> getContainerListeners() {
         return containerListeners;
     }
@@ -28,8 +28,9 @@ public class Dialog extends Frame {
         implements DialogListener {
         @Override
         public void modalChanged(Dialog dialog) {
-            for (DialogListener listener : this) {
-                listener.modalChanged(dialog);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((DialogListener)listeners[i]).modalChanged(dialog);
             }
         }
     }
@@ -40,7 +41,9 @@ public class Dialog extends Frame {
         public Vote previewDialogClose(Dialog dialog, boolean result) {
             Vote vote = Vote.APPROVE;
 
-            for (DialogStateListener listener : this) {
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                DialogStateListener listener = (DialogStateListener)listeners[i];
                 vote = vote.tally(listener.previewDialogClose(dialog, result));
             }
 
@@ -49,15 +52,17 @@ public class Dialog extends Frame {
 
         @Override
         public void dialogCloseVetoed(Dialog dialog, Vote reason) {
-            for (DialogStateListener listener : this) {
-                listener.dialogCloseVetoed(dialog, reason);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((DialogStateListener)listeners[i]).dialogCloseVetoed(dialog, reason);
             }
         }
 
         @Override
         public void dialogClosed(Dialog dialog, boolean modal) {
-            for (DialogStateListener listener : this) {
-                listener.dialogClosed(dialog, modal);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((DialogStateListener)listeners[i]).dialogClosed(dialog, modal);
             }
         }
     }
@@ -31,15 +31,17 @@ public class Expander extends Container {
     implements ExpanderListener {
         @Override
         public void titleChanged(Expander expander, String previousTitle) {
-            for (ExpanderListener listener : this) {
-                listener.titleChanged(expander, previousTitle);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ExpanderListener)listeners[i]).titleChanged(expander, previousTitle);
             }
         }
 
         @Override
         public void collapsibleChanged(Expander expander) {
-            for (ExpanderListener listener : this) {
-                listener.collapsibleChanged(expander);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ExpanderListener)listeners[i]).collapsibleChanged(expander);
             }
         }
 
@@ -47,7 +49,9 @@ public class Expander extends Container {
         public Vote previewExpandedChange(Expander expander) {
             Vote vote = Vote.APPROVE;
 
-            for (ExpanderListener listener : this) {
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ExpanderListener listener = (ExpanderListener)listeners[i];
                 vote = vote.tally(listener.previewExpandedChange(expander));
             }
 
@@ -56,22 +60,25 @@ public class Expander extends Container {
 
         @Override
         public void expandedChangeVetoed(Expander expander, Vote reason) {
-            for (ExpanderListener listener : this) {
-                listener.expandedChangeVetoed(expander, reason);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ExpanderListener)listeners[i]).expandedChangeVetoed(expander, reason);
             }
         }
 
         @Override
         public void expandedChanged(Expander expander) {
-            for (ExpanderListener listener : this) {
-                listener.expandedChanged(expander);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ExpanderListener)listeners[i]).expandedChanged(expander);
             }
         }
 
         @Override
         public void contentChanged(Expander expander, Component previousContent) {
-            for (ExpanderListener listener : this) {
-                listener.contentChanged(expander, previousContent);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ExpanderListener)listeners[i]).contentChanged(expander, previousContent);
             }
         }
     }
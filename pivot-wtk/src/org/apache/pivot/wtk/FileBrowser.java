@@ -42,45 +42,51 @@ public class FileBrowser extends Container {
         implements FileBrowserListener {
         @Override
         public void rootDirectoryChanged(FileBrowser fileBrowser, File previousRootDirectory) {
-            for (FileBrowserListener listener : this) {
-                listener.rootDirectoryChanged(fileBrowser, previousRootDirectory);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((FileBrowserListener)listeners[i]).rootDirectoryChanged(fileBrowser, previousRootDirectory);
             }
         }
 
         @Override
         public void selectedFileAdded(FileBrowser fileBrowser, File file) {
-            for (FileBrowserListener listener : this) {
-                listener.selectedFileAdded(fileBrowser, file);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((FileBrowserListener)listeners[i]).selectedFileAdded(fileBrowser, file);
             }
         }
 
         @Override
         public void selectedFileRemoved(FileBrowser fileBrowser, File file) {
-            for (FileBrowserListener listener : this) {
-                listener.selectedFileRemoved(fileBrowser, file);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((FileBrowserListener)listeners[i]).selectedFileRemoved(fileBrowser, file);
             }
         }
 
         @Override
         public void selectedFilesChanged(FileBrowser fileBrowser,
             Sequence<File> previousSelectedFiles) {
-            for (FileBrowserListener listener : this) {
-                listener.selectedFilesChanged(fileBrowser, previousSelectedFiles);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((FileBrowserListener)listeners[i]).selectedFilesChanged(fileBrowser, previousSelectedFiles);
             }
         }
 
         @Override
         public void multiSelectChanged(FileBrowser fileBrowser) {
-            for (FileBrowserListener listener : this) {
-                listener.multiSelectChanged(fileBrowser);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((FileBrowserListener)listeners[i]).multiSelectChanged(fileBrowser);
             }
         }
 
         @Override
         public void disabledFileFilterChanged(FileBrowser fileBrowser,
             Filter<File> previousDisabledFileFilter) {
-            for (FileBrowserListener listener : this) {
-                listener.disabledFileFilterChanged(fileBrowser, previousDisabledFileFilter);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((FileBrowserListener)listeners[i]).disabledFileFilterChanged(fileBrowser, previousDisabledFileFilter);
             }
         }
     }
@@ -47,32 +47,36 @@ public class FileBrowserSheet extends Sheet {
         @Override
         public void modeChanged(FileBrowserSheet fileBrowserSheet,
             FileBrowserSheet.Mode previousMode) {
-            for (FileBrowserSheetListener listener : this) {
-                listener.modeChanged(fileBrowserSheet, previousMode);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((FileBrowserSheetListener)listeners[i]).modeChanged(fileBrowserSheet, previousMode);
             }
         }
 
         @Override
         public void rootDirectoryChanged(FileBrowserSheet fileBrowserSheet,
             File previousRootDirectory) {
-            for (FileBrowserSheetListener listener : this) {
-                listener.rootDirectoryChanged(fileBrowserSheet, previousRootDirectory);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((FileBrowserSheetListener)listeners[i]).rootDirectoryChanged(fileBrowserSheet, previousRootDirectory);
             }
         }
 
         @Override
         public void selectedFilesChanged(FileBrowserSheet fileBrowserSheet,
             Sequence<File> previousSelectedFiles) {
-            for (FileBrowserSheetListener listener : this) {
-                listener.selectedFilesChanged(fileBrowserSheet, previousSelectedFiles);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((FileBrowserSheetListener)listeners[i]).selectedFilesChanged(fileBrowserSheet, previousSelectedFiles);
             }
         }
 
         @Override
         public void disabledFileFilterChanged(FileBrowserSheet fileBrowserSheet,
             Filter<File> previousDisabledFileFilter) {
-            for (FileBrowserSheetListener listener : this) {
-                listener.disabledFileFilterChanged(fileBrowserSheet,
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((FileBrowserSheetListener)listeners[i]).disabledFileFilterChanged(fileBrowserSheet,
                     previousDisabledFileFilter);
             }
         }
@@ -74,8 +74,9 @@ public class FillPane extends Container {
         implements FillPaneListener {
         @Override
         public void orientationChanged(FillPane fillPane) {
-            for (FillPaneListener listener : this) {
-                listener.orientationChanged(fillPane);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((FillPaneListener)listeners[i]).orientationChanged(fillPane);
             }
         }
     }
@@ -362,36 +362,41 @@ public class Form extends Container {
         implements FormListener {
         @Override
         public void sectionInserted(Form form, int index) {
-            for (FormListener listener : this) {
-                listener.sectionInserted(form, index);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((FormListener)listeners[i]).sectionInserted(form, index);
             }
         }
 
         @Override
         public void sectionsRemoved(Form form, int index, Sequence<Section> removed) {
-            for (FormListener listener : this) {
-                listener.sectionsRemoved(form, index, removed);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((FormListener)listeners[i]).sectionsRemoved(form, index, removed);
             }
         }
 
         @Override
         public void sectionHeadingChanged(Form.Section section) {
-            for (FormListener listener : this) {
-                listener.sectionHeadingChanged(section);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((FormListener)listeners[i]).sectionHeadingChanged(section);
             }
         }
 
         @Override
         public void fieldInserted(Section section, int index) {
-            for (FormListener listener : this) {
-                listener.fieldInserted(section, index);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((FormListener)listeners[i]).fieldInserted(section, index);
             }
         }
 
         @Override
         public void fieldsRemoved(Section section, int index, Sequence<Component> fields) {
-            for (FormListener listener : this) {
-                listener.fieldsRemoved(section, index, fields);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((FormListener)listeners[i]).fieldsRemoved(section, index, fields);
             }
         }
     }
@@ -400,22 +405,25 @@ public class Form extends Container {
         implements FormAttributeListener {
         @Override
         public void labelChanged(Form form, Component component, String previousLabel) {
-            for (FormAttributeListener listener : this) {
-                listener.labelChanged(form, component, previousLabel);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((FormAttributeListener)listeners[i]).labelChanged(form, component, previousLabel);
             }
         }
 
         @Override
         public void requiredChanged(Form form, Component field) {
-            for (FormAttributeListener listener : this) {
-                listener.requiredChanged(form, field);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((FormAttributeListener)listeners[i]).requiredChanged(form, field);
             }
         }
 
         @Override
         public void flagChanged(Form form, Component component, Form.Flag previousFlag) {
-            for (FormAttributeListener listener : this) {
-                listener.flagChanged(form, component, previousFlag);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((FormAttributeListener)listeners[i]).flagChanged(form, component, previousFlag);
             }
         }
     }
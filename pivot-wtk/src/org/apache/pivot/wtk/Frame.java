@@ -28,8 +28,9 @@ public class Frame extends Window {
         implements FrameListener {
         @Override
         public void menuBarChanged(Frame frame, MenuBar previousMenuBar) {
-            for (FrameListener listener : this) {
-                listener.menuBarChanged(frame, previousMenuBar);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((FrameListener)listeners[i]).menuBarChanged(frame, previousMenuBar);
             }
         }
     }
@@ -267,46 +267,52 @@ public class GridPane extends Container {
         implements GridPaneListener {
         @Override
         public void columnCountChanged(GridPane gridPane, int previousColumnCount) {
-            for (GridPaneListener listener : this) {
-                listener.columnCountChanged(gridPane, previousColumnCount);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((GridPaneListener)listeners[i]).columnCountChanged(gridPane, previousColumnCount);
             }
         }
 
         @Override
         public void rowInserted(GridPane gridPane, int index) {
-            for (GridPaneListener listener : this) {
-                listener.rowInserted(gridPane, index);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((GridPaneListener)listeners[i]).rowInserted(gridPane, index);
             }
         }
 
         @Override
         public void rowsRemoved(GridPane gridPane, int index,
             Sequence<GridPane.Row> rows) {
-            for (GridPaneListener listener : this) {
-                listener.rowsRemoved(gridPane, index, rows);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((GridPaneListener)listeners[i]).rowsRemoved(gridPane, index, rows);
             }
         }
 
         @Override
         public void cellInserted(GridPane.Row row, int column) {
-            for (GridPaneListener listener : this) {
-                listener.cellInserted(row, column);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((GridPaneListener)listeners[i]).cellInserted(row, column);
             }
         }
 
         @Override
         public void cellsRemoved(GridPane.Row row, int column,
             Sequence<Component> removed) {
-            for (GridPaneListener listener : this) {
-                listener.cellsRemoved(row, column, removed);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((GridPaneListener)listeners[i]).cellsRemoved(row, column, removed);
             }
         }
 
         @Override
         public void cellUpdated(GridPane.Row row, int column,
             Component previousComponent) {
-            for (GridPaneListener listener : this) {
-                listener.cellUpdated(row, column, previousComponent);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((GridPaneListener)listeners[i]).cellUpdated(row, column, previousComponent);
             }
         }
     }
@@ -88,15 +88,17 @@ public class ImageView extends Component {
         implements ImageViewListener {
         @Override
         public void imageChanged(ImageView imageView, Image previousImage) {
-            for (ImageViewListener listener : this) {
-                listener.imageChanged(imageView, previousImage);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ImageViewListener)listeners[i]).imageChanged(imageView, previousImage);
             }
         }
 
         @Override
         public void asynchronousChanged(ImageView imageView) {
-            for (ImageViewListener listener : this) {
-                listener.asynchronousChanged(imageView);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ImageViewListener)listeners[i]).asynchronousChanged(imageView);
             }
         }
     }
@@ -105,24 +107,27 @@ public class ImageView extends Component {
         implements ImageViewBindingListener {
         @Override
         public void imageKeyChanged(ImageView imageView, String previousImageKey) {
-            for (ImageViewBindingListener listener : this) {
-                listener.imageKeyChanged(imageView, previousImageKey);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ImageViewBindingListener)listeners[i]).imageKeyChanged(imageView, previousImageKey);
             }
         }
 
         @Override
         public void imageBindTypeChanged(ImageView imageView,
             BindType previousImageBindType) {
-            for (ImageViewBindingListener listener : this) {
-                listener.imageBindTypeChanged(imageView, previousImageBindType);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ImageViewBindingListener)listeners[i]).imageBindTypeChanged(imageView, previousImageBindType);
             }
         }
 
         @Override
         public void imageBindMappingChanged(ImageView imageView,
             ImageView.ImageBindMapping previousImageBindMapping) {
-            for (ImageViewBindingListener listener : this) {
-                listener.imageBindMappingChanged(imageView, previousImageBindMapping);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ImageViewBindingListener)listeners[i]).imageBindMappingChanged(imageView, previousImageBindMapping);
             }
         }
     }
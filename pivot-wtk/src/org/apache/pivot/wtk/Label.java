@@ -48,15 +48,17 @@ public class Label extends Component {
         implements LabelListener {
         @Override
         public void textChanged(Label label, String previousText) {
-            for (LabelListener listener : this) {
-                listener.textChanged(label, previousText);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((LabelListener)listeners[i]).textChanged(label, previousText);
             }
         }
 
         @Override
         public void maximumLengthChanged(Label label, int previousMaximumLength) {
-            for (LabelListener listener : this) {
-                listener.maximumLengthChanged(label, previousMaximumLength);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((LabelListener)listeners[i]).maximumLengthChanged(label, previousMaximumLength);
             }
         }
 
@@ -66,22 +68,25 @@ public class Label extends Component {
         implements LabelBindingListener {
         @Override
         public void textKeyChanged(Label label, String previousTextKey) {
-            for (LabelBindingListener listener : this) {
-                listener.textKeyChanged(label, previousTextKey);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((LabelBindingListener)listeners[i]).textKeyChanged(label, previousTextKey);
             }
         }
 
         @Override
         public void textBindTypeChanged(Label label, BindType previousTextBindType) {
-            for (LabelBindingListener listener : this) {
-                listener.textBindTypeChanged(label, previousTextBindType);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((LabelBindingListener)listeners[i]).textBindTypeChanged(label, previousTextBindType);
             }
         }
 
         @Override
         public void textBindMappingChanged(Label label, Label.TextBindMapping previousTextBindMapping) {
-            for (LabelBindingListener listener : this) {
-                listener.textBindMappingChanged(label, previousTextBindMapping);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((LabelBindingListener)listeners[i]).textBindMappingChanged(label, previousTextBindMapping);
             }
         }
     }
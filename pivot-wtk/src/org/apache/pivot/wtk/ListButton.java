@@ -45,39 +45,44 @@ public class ListButton extends Button {
 		@Override
 		public void listDataChanged(ListButton listButton,
 				List<?> previousListData) {
-			for (ListButtonListener listener : this) {
-				listener.listDataChanged(listButton, previousListData);
+			Object[] listeners = getSnapshot();
+			for (int i = 0; i < listeners.length; i++) {
+				((ListButtonListener)listeners[i]).listDataChanged(listButton, previousListData);
 			}
 		}
 
 		@Override
 		public void itemRendererChanged(ListButton listButton,
 				ListView.ItemRenderer previousItemRenderer) {
-			for (ListButtonListener listener : this) {
-				listener.itemRendererChanged(listButton, previousItemRenderer);
+			Object[] listeners = getSnapshot();
+			for (int i = 0; i < listeners.length; i++) {
+				((ListButtonListener)listeners[i]).itemRendererChanged(listButton, previousItemRenderer);
 			}
 		}
 
 		@Override
 		public void repeatableChanged(ListButton listButton) {
-			for (ListButtonListener listener : this) {
-				listener.repeatableChanged(listButton);
+			Object[] listeners = getSnapshot();
+			for (int i = 0; i < listeners.length; i++) {
+				((ListButtonListener)listeners[i]).repeatableChanged(listButton);
 			}
 		}
 
 		@Override
 		public void disabledItemFilterChanged(ListButton listButton,
 				Filter<?> previousDisabledItemFilter) {
-			for (ListButtonListener listener : this) {
-				listener.disabledItemFilterChanged(listButton,
+			Object[] listeners = getSnapshot();
+			for (int i = 0; i < listeners.length; i++) {
+				((ListButtonListener)listeners[i]).disabledItemFilterChanged(listButton,
 						previousDisabledItemFilter);
 			}
 		}
 
 		@Override
 		public void listSizeChanged(ListButton listButton, int previousListSize) {
-			for (ListButtonListener listener : this) {
-				listener.listSizeChanged(listButton, previousListSize);
+			Object[] listeners = getSnapshot();
+			for (int i = 0; i < listeners.length; i++) {
+				((ListButtonListener)listeners[i]).listSizeChanged(listButton, previousListSize);
 			}
 		}
 	}
@@ -87,36 +92,41 @@ public class ListButton extends Button {
 			ListButtonItemListener {
 		@Override
 		public void itemInserted(ListButton listButton, int index) {
-			for (ListButtonItemListener listener : this) {
-				listener.itemInserted(listButton, index);
+			Object[] listeners = getSnapshot();
+			for (int i = 0; i < listeners.length; i++) {
+				((ListButtonItemListener)listeners[i]).itemInserted(listButton, index);
 			}
 		}
 
 		@Override
 		public void itemsRemoved(ListButton listButton, int index, int count) {
-			for (ListButtonItemListener listener : this) {
-				listener.itemsRemoved(listButton, index, count);
+			Object[] listeners = getSnapshot();
+			for (int i = 0; i < listeners.length; i++) {
+				((ListButtonItemListener)listeners[i]).itemsRemoved(listButton, index, count);
 			}
 		}
 
 		@Override
 		public void itemUpdated(ListButton listButton, int index) {
-			for (ListButtonItemListener listener : this) {
-				listener.itemUpdated(listButton, index);
+			Object[] listeners = getSnapshot();
+			for (int i = 0; i < listeners.length; i++) {
+				((ListButtonItemListener)listeners[i]).itemUpdated(listButton, index);
 			}
 		}
 
 		@Override
 		public void itemsCleared(ListButton listButton) {
-			for (ListButtonItemListener listener : this) {
-				listener.itemsCleared(listButton);
+			Object[] listeners = getSnapshot();
+			for (int i = 0; i < listeners.length; i++) {
+				((ListButtonItemListener)listeners[i]).itemsCleared(listButton);
 			}
 		}
 
 		@Override
 		public void itemsSorted(ListButton listButton) {
-			for (ListButtonItemListener listener : this) {
-				listener.itemsSorted(listButton);
+			Object[] listeners = getSnapshot();
+			for (int i = 0; i < listeners.length; i++) {
+				((ListButtonItemListener)listeners[i]).itemsSorted(listButton);
 			}
 		}
 	}
@@ -127,16 +137,18 @@ public class ListButton extends Button {
 		@Override
 		public void selectedIndexChanged(ListButton listButton,
 				int previousSelectedIndex) {
-			for (ListButtonSelectionListener listener : this) {
-				listener.selectedIndexChanged(listButton, previousSelectedIndex);
+			Object[] listeners = getSnapshot();
+			for (int i = 0; i < listeners.length; i++) {
+				((ListButtonSelectionListener)listeners[i]).selectedIndexChanged(listButton, previousSelectedIndex);
 			}
 		}
 
 		@Override
 		public void selectedItemChanged(ListButton listButton,
 				Object previousSelectedItem) {
-			for (ListButtonSelectionListener listener : this) {
-				listener.selectedItemChanged(listButton, previousSelectedItem);
+			Object[] listeners = getSnapshot();
+			for (int i = 0; i < listeners.length; i++) {
+				((ListButtonSelectionListener)listeners[i]).selectedItemChanged(listButton, previousSelectedItem);
 			}
 		}
 	}
@@ -147,16 +159,18 @@ public class ListButton extends Button {
 		@Override
 		public void listDataKeyChanged(ListButton listButton,
 				String previousListDataKey) {
-			for (ListButtonBindingListener listener : this) {
-				listener.listDataKeyChanged(listButton, previousListDataKey);
+			Object[] listeners = getSnapshot();
+			for (int i = 0; i < listeners.length; i++) {
+				((ListButtonBindingListener)listeners[i]).listDataKeyChanged(listButton, previousListDataKey);
 			}
 		}
 
 		@Override
 		public void listDataBindTypeChanged(ListButton listButton,
 				BindType previousListDataBindType) {
-			for (ListButtonBindingListener listener : this) {
-				listener.listDataBindTypeChanged(listButton,
+			Object[] listeners = getSnapshot();
+			for (int i = 0; i < listeners.length; i++) {
+				((ListButtonBindingListener)listeners[i]).listDataBindTypeChanged(listButton,
 						previousListDataBindType);
 			}
 		}
@@ -164,8 +178,9 @@ public class ListButton extends Button {
 		@Override
 		public void listDataBindMappingChanged(ListButton listButton,
 				ListView.ListDataBindMapping previousListDataBindMapping) {
-			for (ListButtonBindingListener listener : this) {
-				listener.listDataBindMappingChanged(listButton,
+			Object[] listeners = getSnapshot();
+			for (int i = 0; i < listeners.length; i++) {
+				((ListButtonBindingListener)listeners[i]).listDataBindMappingChanged(listButton,
 						previousListDataBindMapping);
 			}
 		}
@@ -173,8 +188,9 @@ public class ListButton extends Button {
 		@Override
 		public void selectedItemKeyChanged(ListButton listButton,
 				String previousSelectedItemKey) {
-			for (ListButtonBindingListener listener : this) {
-				listener.selectedItemKeyChanged(listButton,
+			Object[] listeners = getSnapshot();
+			for (int i = 0; i < listeners.length; i++) {
+				((ListButtonBindingListener)listeners[i]).selectedItemKeyChanged(listButton,
 						previousSelectedItemKey);
 			}
 		}
@@ -182,8 +198,9 @@ public class ListButton extends Button {
 		@Override
 		public void selectedItemBindTypeChanged(ListButton listButton,
 				BindType previousSelectedItemBindType) {
-			for (ListButtonBindingListener listener : this) {
-				listener.selectedItemBindTypeChanged(listButton,
+			Object[] listeners = getSnapshot();
+			for (int i = 0; i < listeners.length; i++) {
+				((ListButtonBindingListener)listeners[i]).selectedItemBindTypeChanged(listButton,
 						previousSelectedItemBindType);
 			}
 		}
@@ -191,8 +208,9 @@ public class ListButton extends Button {
 		@Override
 		public void selectedItemBindMappingChanged(ListButton listButton,
 				ListView.ItemBindMapping previousSelectedItemBindMapping) {
-			for (ListButtonBindingListener listener : this) {
-				listener.selectedItemBindMappingChanged(listButton,
+			Object[] listeners = getSnapshot();
+			for (int i = 0; i < listeners.length; i++) {
+				((ListButtonBindingListener)listeners[i]).selectedItemBindMappingChanged(listButton,
 						previousSelectedItemBindMapping);
 			}
 		}
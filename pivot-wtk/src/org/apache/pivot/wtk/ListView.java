@@ -203,55 +203,62 @@ public class ListView extends Component {
         implements ListViewListener {
         @Override
         public void listDataChanged(ListView listView, List<?> previousListData) {
-            for (ListViewListener listener : this) {
-                listener.listDataChanged(listView, previousListData);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ListViewListener)listeners[i]).listDataChanged(listView, previousListData);
             }
         }
 
         @Override
         public void itemRendererChanged(ListView listView,
             ListView.ItemRenderer previousItemRenderer) {
-            for (ListViewListener listener : this) {
-                listener.itemRendererChanged(listView, previousItemRenderer);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ListViewListener)listeners[i]).itemRendererChanged(listView, previousItemRenderer);
             }
         }
 
         @Override
         public void itemEditorChanged(ListView listView,
             ListView.ItemEditor previousItemEditor) {
-            for (ListViewListener listener : this) {
-                listener.itemEditorChanged(listView, previousItemEditor);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ListViewListener)listeners[i]).itemEditorChanged(listView, previousItemEditor);
             }
         }
 
         @Override
         public void selectModeChanged(ListView listView,
             ListView.SelectMode previousSelectMode) {
-            for (ListViewListener listener : this) {
-                listener.selectModeChanged(listView, previousSelectMode);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ListViewListener)listeners[i]).selectModeChanged(listView, previousSelectMode);
             }
         }
 
         @Override
         public void checkmarksEnabledChanged(ListView listView) {
-            for (ListViewListener listener : this) {
-                listener.checkmarksEnabledChanged(listView);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ListViewListener)listeners[i]).checkmarksEnabledChanged(listView);
             }
         }
 
         @Override
         public void disabledItemFilterChanged(ListView listView,
             Filter<?> previousDisabledItemFilter) {
-            for (ListViewListener listener : this) {
-                listener.disabledItemFilterChanged(listView, previousDisabledItemFilter);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ListViewListener)listeners[i]).disabledItemFilterChanged(listView, previousDisabledItemFilter);
             }
         }
 
         @Override
         public void disabledCheckmarkFilterChanged(ListView listView,
             Filter<?> previousDisabledCheckmarkFilter) {
-            for (ListViewListener listener : this) {
-                listener.disabledCheckmarkFilterChanged(listView, previousDisabledCheckmarkFilter);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ListViewListener)listeners[i]).disabledCheckmarkFilterChanged(listView, previousDisabledCheckmarkFilter);
             }
         }
     }
@@ -260,36 +267,41 @@ public class ListView extends Component {
         implements ListViewItemListener {
         @Override
         public void itemInserted(ListView listView, int index) {
-            for (ListViewItemListener listener : this) {
-                listener.itemInserted(listView, index);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ListViewItemListener)listeners[i]).itemInserted(listView, index);
             }
         }
 
         @Override
         public void itemsRemoved(ListView listView, int index, int count) {
-            for (ListViewItemListener listener : this) {
-                listener.itemsRemoved(listView, index, count);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ListViewItemListener)listeners[i]).itemsRemoved(listView, index, count);
             }
         }
 
         @Override
         public void itemUpdated(ListView listView, int index) {
-            for (ListViewItemListener listener : this) {
-                listener.itemUpdated(listView, index);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ListViewItemListener)listeners[i]).itemUpdated(listView, index);
             }
         }
 
         @Override
         public void itemsCleared(ListView listView) {
-            for (ListViewItemListener listener : this) {
-                listener.itemsCleared(listView);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ListViewItemListener)listeners[i]).itemsCleared(listView);
             }
         }
 
         @Override
         public void itemsSorted(ListView listView) {
-            for (ListViewItemListener listener : this) {
-                listener.itemsSorted(listView);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ListViewItemListener)listeners[i]).itemsSorted(listView);
             }
         }
     }
@@ -298,8 +310,9 @@ public class ListView extends Component {
         implements ListViewItemStateListener {
         @Override
         public void itemCheckedChanged(ListView listView, int index) {
-            for (ListViewItemStateListener listener : this) {
-                listener.itemCheckedChanged(listView, index);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ListViewItemStateListener)listeners[i]).itemCheckedChanged(listView, index);
             }
         }
     }
@@ -308,29 +321,33 @@ public class ListView extends Component {
         implements ListViewSelectionListener {
         @Override
         public void selectedRangeAdded(ListView listView, int rangeStart, int rangeEnd) {
-            for (ListViewSelectionListener listener : this) {
-                listener.selectedRangeAdded(listView, rangeStart, rangeEnd);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ListViewSelectionListener)listeners[i]).selectedRangeAdded(listView, rangeStart, rangeEnd);
             }
         }
 
         @Override
         public void selectedRangeRemoved(ListView listView, int rangeStart, int rangeEnd) {
-            for (ListViewSelectionListener listener : this) {
-                listener.selectedRangeRemoved(listView, rangeStart, rangeEnd);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ListViewSelectionListener)listeners[i]).selectedRangeRemoved(listView, rangeStart, rangeEnd);
             }
         }
 
         @Override
         public void selectedRangesChanged(ListView listView, Sequence<Span> previousSelection) {
-            for (ListViewSelectionListener listener : this) {
-                listener.selectedRangesChanged(listView, previousSelection);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ListViewSelectionListener)listeners[i]).selectedRangesChanged(listView, previousSelection);
             }
         }
 
         @Override
         public void selectedItemChanged(ListView listView, Object previousSelectedItem) {
-            for (ListViewSelectionListener listener : this) {
-                listener.selectedItemChanged(listView, previousSelectedItem);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ListViewSelectionListener)listeners[i]).selectedItemChanged(listView, previousSelectedItem);
             }
         }
     }
@@ -339,89 +356,101 @@ public class ListView extends Component {
         implements ListViewBindingListener {
         @Override
         public void listDataKeyChanged(ListView listView, String previousListDataKey) {
-            for (ListViewBindingListener listener : this) {
-                listener.listDataKeyChanged(listView, previousListDataKey);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ListViewBindingListener)listeners[i]).listDataKeyChanged(listView, previousListDataKey);
             }
         }
 
         @Override
         public void listDataBindTypeChanged(ListView listView, BindType previousListDataBindType) {
-            for (ListViewBindingListener listener : this) {
-                listener.listDataBindTypeChanged(listView, previousListDataBindType);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ListViewBindingListener)listeners[i]).listDataBindTypeChanged(listView, previousListDataBindType);
             }
         }
 
         @Override
         public void listDataBindMappingChanged(ListView listView,
             ListView.ListDataBindMapping previousListDataBindMapping) {
-            for (ListViewBindingListener listener : this) {
-                listener.listDataBindMappingChanged(listView, previousListDataBindMapping);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ListViewBindingListener)listeners[i]).listDataBindMappingChanged(listView, previousListDataBindMapping);
             }
         }
 
         @Override
         public void selectedItemKeyChanged(ListView listView, String previousSelectedItemKey) {
-            for (ListViewBindingListener listener : this) {
-                listener.selectedItemKeyChanged(listView, previousSelectedItemKey);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ListViewBindingListener)listeners[i]).selectedItemKeyChanged(listView, previousSelectedItemKey);
             }
         }
 
         @Override
         public void selectedItemBindTypeChanged(ListView listView, BindType previousSelectedItemBindType) {
-            for (ListViewBindingListener listener : this) {
-                listener.selectedItemBindTypeChanged(listView, previousSelectedItemBindType);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ListViewBindingListener)listeners[i]).selectedItemBindTypeChanged(listView, previousSelectedItemBindType);
             }
         }
 
         @Override
         public void selectedItemBindMappingChanged(ListView listView,
             ItemBindMapping previousSelectedItemBindMapping) {
-            for (ListViewBindingListener listener : this) {
-                listener.selectedItemBindMappingChanged(listView, previousSelectedItemBindMapping);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ListViewBindingListener)listeners[i]).selectedItemBindMappingChanged(listView, previousSelectedItemBindMapping);
             }
         }
 
         @Override
         public void selectedItemsKeyChanged(ListView listView, String previousSelectedItemsKey) {
-            for (ListViewBindingListener listener : this) {
-                listener.selectedItemsKeyChanged(listView, previousSelectedItemsKey);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ListViewBindingListener)listeners[i]).selectedItemsKeyChanged(listView, previousSelectedItemsKey);
             }
         }
 
         @Override
         public void selectedItemsBindTypeChanged(ListView listView, BindType previousSelectedItemsBindType) {
-            for (ListViewBindingListener listener : this) {
-                listener.selectedItemsBindTypeChanged(listView, previousSelectedItemsBindType);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ListViewBindingListener)listeners[i]).selectedItemsBindTypeChanged(listView, previousSelectedItemsBindType);
             }
         }
 
         @Override
         public void selectedItemsBindMappingChanged(ListView listView,
             ItemBindMapping previousSelectedItemsBindMapping) {
-            for (ListViewBindingListener listener : this) {
-                listener.selectedItemsBindMappingChanged(listView, previousSelectedItemsBindMapping);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ListViewBindingListener)listeners[i]).selectedItemsBindMappingChanged(listView, previousSelectedItemsBindMapping);
             }
         }
 
         @Override
         public void checkedItemsKeyChanged(ListView listView, String previousCheckedItemsKey) {
-            for (ListViewBindingListener listener : this) {
-                listener.checkedItemsKeyChanged(listView, previousCheckedItemsKey);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ListViewBindingListener)listeners[i]).checkedItemsKeyChanged(listView, previousCheckedItemsKey);
             }
         }
 
         @Override
         public void checkedItemsBindTypeChanged(ListView listView, BindType previousCheckedItemsBindType) {
-            for (ListViewBindingListener listener : this) {
-                listener.checkedItemsBindTypeChanged(listView, previousCheckedItemsBindType);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ListViewBindingListener)listeners[i]).checkedItemsBindTypeChanged(listView, previousCheckedItemsBindType);
             }
         }
 
         @Override
         public void checkedItemsBindMappingChanged(ListView listView,
             ListView.ItemBindMapping previousCheckedItemsBindMapping) {
-            for (ListViewBindingListener listener : this) {
-                listener.checkedItemsBindMappingChanged(listView, previousCheckedItemsBindMapping);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ListViewBindingListener)listeners[i]).checkedItemsBindMappingChanged(listView, previousCheckedItemsBindMapping);
             }
         }
     }
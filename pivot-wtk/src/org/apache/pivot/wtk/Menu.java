@@ -39,15 +39,17 @@ public class Menu extends Container {
             implements ItemListener {
             @Override
             public void menuChanged(Item item, Menu previousMenu) {
-                for (ItemListener listener : this) {
-                    listener.menuChanged(item, previousMenu);
+                Object[] listeners = getSnapshot();
+                for (int i = 0; i < listeners.length; i++) {
+                    ((ItemListener)listeners[i]).menuChanged(item, previousMenu);
                 }
             }
 
             @Override
             public void activeChanged(Item item) {
-                for (ItemListener listener : this) {
-                    listener.activeChanged(item);
+                Object[] listeners = getSnapshot();
+                for (int i = 0; i < listeners.length; i++) {
+                    ((ItemListener)listeners[i]).activeChanged(item);
                 }
             }
         }
@@ -229,22 +231,25 @@ public class Menu extends Container {
             implements SectionListener {
             @Override
             public void itemInserted(Menu.Section section, int index) {
-                for (SectionListener listener : this) {
-                    listener.itemInserted(section, index);
+                Object[] listeners = getSnapshot();
+                for (int i = 0; i < listeners.length; i++) {
+                    ((SectionListener)listeners[i]).itemInserted(section, index);
                 }
             }
 
             @Override
             public void itemsRemoved(Menu.Section section, int index, Sequence<Item> removed) {
-                for (SectionListener listener : this) {
-                    listener.itemsRemoved(section, index, removed);
+                Object[] listeners = getSnapshot();
+                for (int i = 0; i < listeners.length; i++) {
+                    ((SectionListener)listeners[i]).itemsRemoved(section, index, removed);
                 }
             }
 
             @Override
             public void nameChanged(Menu.Section section, String previousName) {
-                for (SectionListener listener : this) {
-                    listener.nameChanged(section, previousName);
+                Object[] listeners = getSnapshot();
+                for (int i = 0; i < listeners.length; i++) {
+                    ((SectionListener)listeners[i]).nameChanged(section, previousName);
                 }
             }
         }
@@ -478,22 +483,25 @@ public class Menu extends Container {
         implements MenuListener {
         @Override
         public void sectionInserted(Menu menu, int index) {
-            for (MenuListener listener : this) {
-                listener.sectionInserted(menu, index);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((MenuListener)listeners[i]).sectionInserted(menu, index);
             }
         }
 
         @Override
         public void sectionsRemoved(Menu menu, int index, Sequence<Section> removed) {
-            for (MenuListener listener : this) {
-                listener.sectionsRemoved(menu, index, removed);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((MenuListener)listeners[i]).sectionsRemoved(menu, index, removed);
             }
         }
 
         @Override
         public void activeItemChanged(Menu menu, Menu.Item previousActiveItem) {
-            for (MenuListener listener : this) {
-                listener.activeItemChanged(menu, previousActiveItem);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((MenuListener)listeners[i]).activeItemChanged(menu, previousActiveItem);
             }
         }
     }
@@ -502,8 +510,9 @@ public class Menu extends Container {
         implements MenuItemSelectionListener {
         @Override
         public void itemSelected(Menu.Item menuItem) {
-            for (MenuItemSelectionListener listener : this) {
-                listener.itemSelected(menuItem);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((MenuItemSelectionListener)listeners[i]).itemSelected(menuItem);
             }
         }
     }
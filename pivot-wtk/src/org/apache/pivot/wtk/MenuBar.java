@@ -39,15 +39,17 @@ public class MenuBar extends Container {
             implements ItemListener {
             @Override
             public void menuChanged(Item item, Menu previousMenu) {
-                for (ItemListener listener : this) {
-                    listener.menuChanged(item, previousMenu);
+                Object[] listeners = getSnapshot();
+                for (int i = 0; i < listeners.length; i++) {
+                    ((ItemListener)listeners[i]).menuChanged(item, previousMenu);
                 }
             }
 
             @Override
             public void activeChanged(Item item) {
-                for (ItemListener listener : this) {
-                    listener.activeChanged(item);
+                Object[] listeners = getSnapshot();
+                for (int i = 0; i < listeners.length; i++) {
+                    ((ItemListener)listeners[i]).activeChanged(item);
                 }
             }
         }
@@ -263,22 +265,25 @@ public class MenuBar extends Container {
         implements MenuBarListener {
         @Override
         public void itemInserted(MenuBar menuBar, int index) {
-            for (MenuBarListener listener : this) {
-                listener.itemInserted(menuBar, index);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((MenuBarListener)listeners[i]).itemInserted(menuBar, index);
             }
         }
 
         @Override
         public void itemsRemoved(MenuBar menuBar, int index, Sequence<MenuBar.Item> removed) {
-            for (MenuBarListener listener : this) {
-                listener.itemsRemoved(menuBar, index, removed);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((MenuBarListener)listeners[i]).itemsRemoved(menuBar, index, removed);
             }
         }
 
         @Override
         public void activeItemChanged(MenuBar menuBar, MenuBar.Item previousActiveItem) {
-            for (MenuBarListener listener : this) {
-                listener.activeItemChanged(menuBar, previousActiveItem);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((MenuBarListener)listeners[i]).activeItemChanged(menuBar, previousActiveItem);
             }
         }
     }
@@ -37,8 +37,9 @@ public class MenuButton extends Button {
         implements MenuButtonListener {
         @Override
         public void menuChanged(MenuButton menuButton, Menu previousMenu) {
-            for (MenuButtonListener listener : this) {
-                listener.menuChanged(menuButton, previousMenu);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((MenuButtonListener)listeners[i]).menuChanged(menuButton, previousMenu);
             }
         }
     }
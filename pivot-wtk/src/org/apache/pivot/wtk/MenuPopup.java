@@ -29,8 +29,9 @@ public class MenuPopup extends Window {
         implements MenuPopupListener {
         @Override
         public void menuChanged(MenuPopup menuPopup, Menu previousMenu) {
-            for (MenuPopupListener listener : this) {
-                listener.menuChanged(menuPopup, previousMenu);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((MenuPopupListener)listeners[i]).menuChanged(menuPopup, previousMenu);
             }
         }
     }
@@ -41,7 +42,9 @@ public class MenuPopup extends Window {
         public Vote previewMenuPopupClose(MenuPopup menuPopup, boolean immediate) {
             Vote vote = Vote.APPROVE;
 
-            for (MenuPopupStateListener listener : this) {
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                MenuPopupStateListener listener = (MenuPopupStateListener)listeners[i];
                 vote = vote.tally(listener.previewMenuPopupClose(menuPopup, immediate));
             }
 
@@ -50,15 +53,17 @@ public class MenuPopup extends Window {
 
         @Override
         public void menuPopupCloseVetoed(MenuPopup menuPopup, Vote reason) {
-            for (MenuPopupStateListener listener : this) {
-                listener.menuPopupCloseVetoed(menuPopup, reason);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((MenuPopupStateListener)listeners[i]).menuPopupCloseVetoed(menuPopup, reason);
             }
         }
 
         @Override
         public void menuPopupClosed(MenuPopup menuPopup) {
-            for (MenuPopupStateListener listener : this) {
-                listener.menuPopupClosed(menuPopup);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((MenuPopupStateListener)listeners[i]).menuPopupClosed(menuPopup);
             }
         }
     }
@@ -26,22 +26,25 @@ public class Meter extends Component {
     implements MeterListener {
         @Override
         public void orientationChanged(Meter meter) {
-            for (MeterListener listener : this) {
-                listener.orientationChanged(meter);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((MeterListener)listeners[i]).orientationChanged(meter);
             }
         }
 
         @Override
         public void percentageChanged(Meter meter, double oldPercentage) {
-            for (MeterListener listener : this) {
-                listener.percentageChanged(meter, oldPercentage);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((MeterListener)listeners[i]).percentageChanged(meter, oldPercentage);
             }
         }
 
         @Override
         public void textChanged(Meter meter, String oldText) {
-            for (MeterListener listener : this) {
-                listener.textChanged(meter, oldText);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((MeterListener)listeners[i]).textChanged(meter, oldText);
             }
         }
     }
@@ -30,8 +30,9 @@ public class MovieView extends Component {
         implements MovieViewListener {
         @Override
         public void movieChanged(MovieView movieView, Movie previousMovie) {
-            for (MovieViewListener listener : this) {
-                listener.movieChanged(movieView, previousMovie);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((MovieViewListener)listeners[i]).movieChanged(movieView, previousMovie);
             }
         }
     }
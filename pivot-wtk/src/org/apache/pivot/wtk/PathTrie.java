@@ -0,0 +1,457 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pivot.wtk;
+
+import org.apache.pivot.collections.ArrayList;
+import org.apache.pivot.collections.Sequence.Tree.ImmutablePath;
+import org.apache.pivot.collections.Sequence.Tree.Path;
+import org.apache.pivot.collections.immutable.ImmutableList;
+
+/**
+ * Class for managing a set of tree paths, such as the expanded, selected, or
+ * checked nodes of a tree view. The paths are stored in a trie keyed by path
+ * element, so that membership tests take <tt>O(d log k)</tt> time for a path
+ * of depth <tt>d</tt> whose ancestors have at most <tt>k</tt> children in the
+ * set, and adjusting the paths when nodes are inserted into or removed from
+ * a branch only visits the branch's children that lead to a path in the set.
+ */
+final class PathTrie {
+    private static final class Node {
+        public final Node parent;
+        public int index;
+
+        public boolean member = false;
+
+        // The number of paths in the set at or below this node
+        public int count = 0;
+
+        // Sorted by index
+        public ArrayList<Node> children = null;
+
+        public Node(Node parent, int index) {
+            this.parent = parent;
+            this.index = index;
+        }
+    }
+
+    private Node root = new Node(null, -1);
+
+    // The paths in row order, built on demand
+    private ArrayList<Path> paths = null;
+
+    /**
+     * Adds a path to the set.
+     *
+     * @param path
+     *
+     * @return
+     * <tt>true</tt> if the path was added; <tt>false</tt> if it was already in
+     * the set.
+     */
+    public boolean add(Path path) {
+        Node node = root;
+
+        for (int i = 0, n = path.getLength(); i < n; i++) {
+            int index = path.get(i);
+
+            if (node.children == null) {
+                node.children = new ArrayList<Node>();
+            }
+
+            int j = search(node.children, index);
+            if (j < 0) {
+                j = -(j + 1);
+                node.children.insert(new Node(node, index), j);
+            }
+
+            node = node.children.get(j);
+        }
+
+        boolean added = !node.member;
+
+        if (added) {
+            node.member = true;
+            updateCount(node, 1);
+        }
+
+        return added;
+    }
+
+    /**
+     * Removes a path from the set.
+     *
+     * @param path
+     *
+     * @return
+     * <tt>true</tt> if the path was removed; <tt>false</tt> if it was not in
+     * the set.
+     */
+    public boolean remove(Path path) {
+        Node node = getNode(path);
+        boolean removed = (node != null && node.member);
+
+        if (removed) {
+            node.member = false;
+            updateCount(node, -1);
+            prune(node);
+        }
+
+        return removed;
+    }
+
+    /**
+     * Tests whether a path is in the set.
+     *
+     * @param path
+     */
+    public boolean contains(Path path) {
+        Node node = getNode(path);
+        return (node != null && node.member);
+    }
+
+    /**
+     * Tests whether the set contains any descendants of a path.
+     *
+     * @param path
+     */
+    public boolean containsDescendants(Path path) {
+        Node node = getNode(path);
+        return (node != null && node.count > (node.member ? 1 : 0));
+    }
+
+    /**
+     * Returns the number of paths in the set.
+     */
+    public int getLength() {
+        return root.count;
+    }
+
+    /**
+     * Removes all paths from the set.
+     */
+    public void clear() {
+        root = new Node(null, -1);
+        paths = null;
+    }
+
+    /**
+     * Returns the paths in the set, in the order in which their nodes would
+     * appear in a fully expanded tree.
+     *
+     * @return
+     * An immutable snapshot of the set; subsequent changes to the set are not
+     * reflected in it.
+     */
+    public ImmutableList<Path> getPaths() {
+        if (paths == null) {
+            paths = new ArrayList<Path>(root.count);
+            addPaths(root, new Path());
+        }
+
+        return new ImmutableList<Path>(paths);
+    }
+
+    private void addPaths(Node node, Path path) {
+        if (node.member) {
+            paths.add(new ImmutablePath(path));
+        }
+
+        if (node.children != null) {
+            int depth = path.getLength();
+            path.add(0);
+
+            for (int i = 0, n = node.children.getLength(); i < n; i++) {
+                Node child = node.children.get(i);
+
+                path.update(depth, child.index);
+                addPaths(child, path);
+            }
+
+            path.remove(depth, 1);
+        }
+    }
+
+    /**
+     * Updates the set in response to a node having been inserted into a
+     * branch. For instance, if the set is <tt>[[3, 0], [5, 0]]</tt>,
+     * <tt>basePath</tt> is <tt>[]</tt>, and <tt>index</tt> is <tt>4</tt>, then
+     * the set will be updated to <tt>[[3, 0], [6, 0]]</tt>.
+     *
+     * @param basePath
+     * The path to the parent of the inserted node.
+     *
+     * @param index
+     * The index of the inserted node within its parent.
+     *
+     * @return
+     * The number of paths that were updated.
+     */
+    public int insert(Path basePath, int index) {
+        return insert(basePath, index, 1);
+    }
+
+    /**
+     * Updates the set in response to nodes having been inserted into a
+     * branch. For instance, if the set is <tt>[[3, 0], [5, 0]]</tt>,
+     * <tt>basePath</tt> is <tt>[]</tt>, <tt>index</tt> is <tt>4</tt>, and
+     * <tt>count</tt> is <tt>2</tt>, then the set will be updated to
+     * <tt>[[3, 0], [7, 0]]</tt>.
+     *
+     * @param basePath
+     * The path to the parent of the inserted nodes.
+     *
+     * @param index
+     * The index of the first inserted node within its parent.
+     *
+     * @param count
+     * The number of nodes inserted.
+     *
+     * @return
+     * The number of paths that were updated.
+     */
+    public int insert(Path basePath, int index, int count) {
+        Node node = getNode(basePath);
+        if (node == null
+            || node.children == null) {
+            return 0;
+        }
+
+        int updated = 0;
+
+        int i = search(node.children, index);
+        if (i < 0) {
+            i = -(i + 1);
+        }
+
+        for (int n = node.children.getLength(); i < n; i++) {
+            Node child = node.children.get(i);
+            child.index += count;
+            updated += child.count;
+        }
+
+        if (updated > 0) {
+            paths = null;
+        }
+
+        return updated;
+    }
+
+    /**
+     * Updates the set in response to nodes having been removed from a branch.
+     * For instance, if the set is <tt>[[3, 0], [3, 1], [6, 0]]</tt>,
+     * <tt>basePath</tt> is <tt>[]</tt>, <tt>index</tt> is <tt>3</tt>, and
+     * <tt>count</tt> is <tt>2</tt>, then the set will be updated to
+     * <tt>[[4, 0]]</tt>.
+     *
+     * @param basePath
+     * The path to the parent of the removed nodes.
+     *
+     * @param index
+     * The index of the first removed node within its parent.
+     *
+     * @param count
+     * The number of nodes removed.
+     *
+     * @return
+     * The number of paths that were removed or updated.
+     */
+    public int remove(Path basePath, int index, int count) {
+        Node node = getNode(basePath);
+        if (node == null
+            || node.children == null) {
+            return 0;
+        }
+
+        int start = search(node.children, index);
+        if (start < 0) {
+            start = -(start + 1);
+        }
+
+        int end = search(node.children, index + count);
+        if (end < 0) {
+            end = -(end + 1);
+        }
+
+        // Remove the nodes' paths and their descendants
+        int removed = 0;
+        for (int i = start; i < end; i++) {
+            removed += node.children.get(i).count;
+        }
+
+        if (end > start) {
+            node.children.remove(start, end - start);
+        }
+
+        // Decrement the following siblings
+        int updated = 0;
+        for (int i = start, n = node.children.getLength(); i < n; i++) {
+            Node child = node.children.get(i);
+            child.index -= count;
+            updated += child.count;
+        }
+
+        if (node.children.getLength() == 0) {
+            node.children = null;
+        }
+
+        if (removed > 0) {
+            updateCount(node, -removed);
+            prune(node);
+        } else if (updated > 0) {
+            paths = null;
+        }
+
+        return removed + updated;
+    }
+
+    /**
+     * Removes a node's path and those of its descendants; for instance, in
+     * response to the node having been replaced.
+     *
+     * @param basePath
+     * The path to the parent of the node.
+     *
+     * @param index
+     * The index of the node within its parent.
+     *
+     * @return
+     * The number of paths that were removed.
+     */
+    public int remove(Path basePath, int index) {
+        Node node = getNode(basePath);
+        if (node == null
+            || node.children == null) {
+            return 0;
+        }
+
+        int i = search(node.children, index);
+        if (i < 0) {
+            return 0;
+        }
+
+        int removed = node.children.get(i).count;
+
+        node.children.remove(i, 1);
+        if (node.children.getLength() == 0) {
+            node.children = null;
+        }
+
+        updateCount(node, -removed);
+        prune(node);
+
+        return removed;
+    }
+
+    /**
+     * Removes the paths of a node's descendants, but not that of the node
+     * itself; for instance, in response to the node's children having been
+     * sorted.
+     *
+     * @param path
+     * The path to the node.
+     *
+     * @return
+     * The number of paths that were removed.
+     */
+    public int removeDescendants(Path path) {
+        Node node = getNode(path);
+        if (node == null
+            || node.children == null) {
+            return 0;
+        }
+
+        int removed = node.count - (node.member ? 1 : 0);
+        node.children = null;
+
+        if (removed > 0) {
+            updateCount(node, -removed);
+            prune(node);
+        }
+
+        return removed;
+    }
+
+    private Node getNode(Path path) {
+        Node node = root;
+
+        for (int i = 0, n = path.getLength(); i < n && node != null; i++) {
+            if (node.children == null) {
+                node = null;
+            } else {
+                int j = search(node.children, path.get(i));
+                node = (j < 0) ? null : node.children.get(j);
+            }
+        }
+
+        return node;
+    }
+
+    private void updateCount(Node node, int delta) {
+        for (Node n = node; n != null; n = n.parent) {
+            n.count += delta;
+        }
+
+        paths = null;
+    }
+
+    /**
+     * Removes a node and its ancestors from the trie once they no longer lead
+     * to any path in the set.
+     */
+    private void prune(Node node) {
+        Node n = node;
+
+        while (n != root
+            && n.count == 0) {
+            Node parent = n.parent;
+            parent.children.remove(search(parent.children, n.index), 1);
+
+            if (parent.children.getLength() == 0) {
+                parent.children = null;
+            }
+
+            n = parent;
+        }
+    }
+
+    /**
+     * Searches a sorted list of nodes for a child index.
+     *
+     * @return
+     * The position of the node, or <tt>-(insertion point + 1)</tt> if there is
+     * no node with the given index.
+     */
+    private static int search(ArrayList<Node> children, int index) {
+        int low = 0;
+        int high = children.getLength() - 1;
+
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midIndex = children.get(mid).index;
+
+            if (midIndex < index) {
+                low = mid + 1;
+            } else if (midIndex > index) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+
+        return -(low + 1);
+    }
+}
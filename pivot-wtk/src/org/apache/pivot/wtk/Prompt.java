@@ -122,43 +122,49 @@ public class Prompt extends Sheet {
         implements PromptListener {
         @Override
         public void messageTypeChanged(Prompt prompt, MessageType previousMessageType) {
-            for (PromptListener listener : this) {
-                listener.messageTypeChanged(prompt, previousMessageType);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((PromptListener)listeners[i]).messageTypeChanged(prompt, previousMessageType);
             }
         }
 
         @Override
         public void messageChanged(Prompt prompt, String previousMessage) {
-            for (PromptListener listener : this) {
-                listener.messageChanged(prompt, previousMessage);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((PromptListener)listeners[i]).messageChanged(prompt, previousMessage);
             }
         }
 
         @Override
         public void bodyChanged(Prompt prompt, Component previousBody) {
-            for (PromptListener listener : this) {
-                listener.bodyChanged(prompt, previousBody);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((PromptListener)listeners[i]).bodyChanged(prompt, previousBody);
             }
         }
 
         @Override
         public void optionInserted(Prompt prompt, int index) {
-            for (PromptListener listener : this) {
-                listener.optionInserted(prompt, index);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((PromptListener)listeners[i]).optionInserted(prompt, index);
             }
         }
 
         @Override
         public void optionsRemoved(Prompt prompt, int index, Sequence<?> removed) {
-            for (PromptListener listener : this) {
-                listener.optionsRemoved(prompt, index, removed);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((PromptListener)listeners[i]).optionsRemoved(prompt, index, removed);
             }
         }
 
         @Override
         public void selectedOptionChanged(Prompt prompt, int previousSelectedOption) {
-            for (PromptListener listener : this) {
-                listener.selectedOptionChanged(prompt, previousSelectedOption);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((PromptListener)listeners[i]).selectedOptionChanged(prompt, previousSelectedOption);
             }
         }
     }
@@ -33,22 +33,25 @@ public class Rollup extends Container {
         implements RollupListener {
         @Override
         public void headingChanged(Rollup rollup, Component previousHeading) {
-            for (RollupListener listener : this) {
-                listener.headingChanged(rollup, previousHeading);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((RollupListener)listeners[i]).headingChanged(rollup, previousHeading);
             }
         }
 
         @Override
         public void contentChanged(Rollup rollup, Component previousContent) {
-            for (RollupListener listener : this) {
-                listener.contentChanged(rollup, previousContent);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((RollupListener)listeners[i]).contentChanged(rollup, previousContent);
             }
         }
 
         @Override
         public void collapsibleChanged(Rollup rollup) {
-            for (RollupListener listener : this) {
-                listener.collapsibleChanged(rollup);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((RollupListener)listeners[i]).collapsibleChanged(rollup);
             }
         }
     }
@@ -59,7 +62,9 @@ public class Rollup extends Container {
         public Vote previewExpandedChange(Rollup rollup) {
             Vote vote = Vote.APPROVE;
 
-            for (RollupStateListener listener : this) {
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                RollupStateListener listener = (RollupStateListener)listeners[i];
                 vote = vote.tally(listener.previewExpandedChange(rollup));
             }
 
@@ -68,15 +73,17 @@ public class Rollup extends Container {
 
         @Override
         public void expandedChangeVetoed(Rollup rollup, Vote reason) {
-            for (RollupStateListener listener : this) {
-                listener.expandedChangeVetoed(rollup, reason);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((RollupStateListener)listeners[i]).expandedChangeVetoed(rollup, reason);
             }
         }
 
         @Override
         public void expandedChanged(Rollup rollup) {
-            for (RollupStateListener listener : this) {
-                listener.expandedChanged(rollup);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((RollupStateListener)listeners[i]).expandedChanged(rollup);
             }
         }
     }
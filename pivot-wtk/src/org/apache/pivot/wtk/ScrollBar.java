@@ -92,32 +92,36 @@ public class ScrollBar extends Container {
         @Override
         public void orientationChanged(ScrollBar scrollBar,
             Orientation previousOrientation) {
-            for (ScrollBarListener listener : this) {
-                listener.orientationChanged(scrollBar, previousOrientation);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ScrollBarListener)listeners[i]).orientationChanged(scrollBar, previousOrientation);
             }
         }
 
         @Override
         public void scopeChanged(ScrollBar scrollBar, int previousStart, int previousEnd,
             int previousExtent) {
-            for (ScrollBarListener listener : this) {
-                listener.scopeChanged(scrollBar, previousStart, previousEnd,
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ScrollBarListener)listeners[i]).scopeChanged(scrollBar, previousStart, previousEnd,
                     previousExtent);
             }
         }
 
         @Override
         public void unitIncrementChanged(ScrollBar scrollBar, int previousUnitIncrement) {
-            for (ScrollBarListener listener : this) {
-                listener.unitIncrementChanged(scrollBar, previousUnitIncrement);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ScrollBarListener)listeners[i]).unitIncrementChanged(scrollBar, previousUnitIncrement);
             }
         }
 
         @Override
         public void blockIncrementChanged(ScrollBar scrollBar,
             int previousBlockIncrement) {
-            for (ScrollBarListener listener : this) {
-                listener.blockIncrementChanged(scrollBar, previousBlockIncrement);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ScrollBarListener)listeners[i]).blockIncrementChanged(scrollBar, previousBlockIncrement);
             }
         }
     }
@@ -126,8 +130,9 @@ public class ScrollBar extends Container {
         implements ScrollBarValueListener {
         @Override
         public void valueChanged(ScrollBar scrollBar, int previousValue) {
-            for (ScrollBarValueListener listener : this) {
-                listener.valueChanged(scrollBar, previousValue);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ScrollBarValueListener)listeners[i]).valueChanged(scrollBar, previousValue);
             }
         }
     }
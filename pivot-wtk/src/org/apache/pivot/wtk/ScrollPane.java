@@ -69,8 +69,9 @@ public class ScrollPane extends Viewport {
         @Override
         public void horizontalScrollBarPolicyChanged(ScrollPane scrollPane,
             ScrollBarPolicy previousHorizontalScrollBarPolicy) {
-            for (ScrollPaneListener listener : this) {
-                listener.horizontalScrollBarPolicyChanged(scrollPane,
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ScrollPaneListener)listeners[i]).horizontalScrollBarPolicyChanged(scrollPane,
                     previousHorizontalScrollBarPolicy);
             }
         }
@@ -78,31 +79,35 @@ public class ScrollPane extends Viewport {
         @Override
         public void verticalScrollBarPolicyChanged(ScrollPane scrollPane,
             ScrollBarPolicy previousVerticalScrollBarPolicy) {
-            for (ScrollPaneListener listener : this) {
-                listener.verticalScrollBarPolicyChanged(scrollPane,
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ScrollPaneListener)listeners[i]).verticalScrollBarPolicyChanged(scrollPane,
                     previousVerticalScrollBarPolicy);
             }
         }
 
         @Override
         public void rowHeaderChanged(ScrollPane scrollPane, Component previousRowHeader) {
-            for (ScrollPaneListener listener : this) {
-                listener.rowHeaderChanged(scrollPane, previousRowHeader);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ScrollPaneListener)listeners[i]).rowHeaderChanged(scrollPane, previousRowHeader);
             }
         }
 
         @Override
         public void columnHeaderChanged(ScrollPane scrollPane,
             Component previousColumnHeader) {
-            for (ScrollPaneListener listener : this) {
-                listener.columnHeaderChanged(scrollPane, previousColumnHeader);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ScrollPaneListener)listeners[i]).columnHeaderChanged(scrollPane, previousColumnHeader);
             }
         }
 
         @Override
         public void cornerChanged(ScrollPane scrollPane, Component previousCorner) {
-            for (ScrollPaneListener listener : this) {
-                listener.cornerChanged(scrollPane, previousCorner);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ScrollPaneListener)listeners[i]).cornerChanged(scrollPane, previousCorner);
             }
         }
     }
@@ -26,8 +26,9 @@ public class Separator extends Component {
         implements SeparatorListener {
         @Override
         public void headingChanged(Separator separator, String previousHeading) {
-            for (SeparatorListener listener : this) {
-                listener.headingChanged(separator, previousHeading);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((SeparatorListener)listeners[i]).headingChanged(separator, previousHeading);
             }
         }
     }
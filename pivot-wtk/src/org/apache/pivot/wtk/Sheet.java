@@ -30,7 +30,9 @@ public class Sheet extends Window {
         public Vote previewSheetClose(Sheet sheet, boolean result) {
             Vote vote = Vote.APPROVE;
 
-            for (SheetStateListener listener : this) {
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                SheetStateListener listener = (SheetStateListener)listeners[i];
                 vote = vote.tally(listener.previewSheetClose(sheet, result));
             }
 
@@ -39,15 +41,17 @@ public class Sheet extends Window {
 
         @Override
         public void sheetCloseVetoed(Sheet sheet, Vote reason) {
-            for (SheetStateListener listener : this) {
-                listener.sheetCloseVetoed(sheet, reason);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((SheetStateListener)listeners[i]).sheetCloseVetoed(sheet, reason);
             }
         }
 
         @Override
         public void sheetClosed(Sheet sheet) {
-            for (SheetStateListener listener : this) {
-                listener.sheetClosed(sheet);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((SheetStateListener)listeners[i]).sheetClosed(sheet);
             }
         }
     }
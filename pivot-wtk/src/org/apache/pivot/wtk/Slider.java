@@ -27,15 +27,17 @@ public class Slider extends Container {
         implements SliderListener {
         @Override
         public void orientationChanged(Slider slider) {
-            for (SliderListener listener : this) {
-                listener.orientationChanged(slider);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((SliderListener)listeners[i]).orientationChanged(slider);
             }
         }
 
         @Override
         public void rangeChanged(Slider slider, int previousStart, int previousEnd) {
-            for (SliderListener listener : this) {
-                listener.rangeChanged(slider, previousStart, previousEnd);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((SliderListener)listeners[i]).rangeChanged(slider, previousStart, previousEnd);
             }
         }
     }
@@ -44,8 +46,9 @@ public class Slider extends Container {
         implements SliderValueListener {
         @Override
         public void valueChanged(Slider slider, int previousValue) {
-            for (SliderValueListener listener : this) {
-                listener.valueChanged(slider, previousValue);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((SliderValueListener)listeners[i]).valueChanged(slider, previousValue);
             }
         }
     }
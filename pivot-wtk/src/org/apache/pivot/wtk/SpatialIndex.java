@@ -0,0 +1,381 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pivot.wtk;
+
+import java.util.Arrays;
+
+import org.apache.pivot.collections.ArrayList;
+import org.apache.pivot.collections.HashMap;
+import org.apache.pivot.collections.Sequence;
+import org.apache.pivot.wtk.effects.Decorator;
+
+/**
+ * Indexes the children of a container by location, using a uniform grid of
+ * cells. Each child is registered in the cells its bounds overlap; children
+ * that overlap too many cells are kept in a separate list that is always
+ * searched.
+ * <p>
+ * The index listens to its children, so it remains current as they are
+ * moved or resized. Because a decorator's bounds can change without
+ * notification, decorated children are reported to every paint query
+ * regardless of their location.
+ */
+final class SpatialIndex {
+    private static final class Entry {
+        public final Component component;
+
+        // The range of cells covered by the component, inclusive
+        public int left;
+        public int top;
+        public int right;
+        public int bottom;
+        public boolean oversized;
+
+        public boolean decorated;
+
+        // The component's index within the container
+        public int order = -1;
+
+        // The most recent query that reported the entry
+        public int stamp = 0;
+
+        public Entry(Component component) {
+            this.component = component;
+        }
+    }
+
+    private class ChildHandler extends ComponentListener.Adapter
+        implements ComponentDecoratorListener {
+        @Override
+        public void sizeChanged(Component component, int previousWidth, int previousHeight) {
+            update(entries.get(component));
+        }
+
+        @Override
+        public void locationChanged(Component component, int previousX, int previousY) {
+            update(entries.get(component));
+        }
+
+        @Override
+        public void decoratorInserted(Component component, int index) {
+            updateDecorated(entries.get(component));
+        }
+
+        @Override
+        public void decoratorUpdated(Component component, int index, Decorator previousDecorator) {
+            // No-op
+        }
+
+        @Override
+        public void decoratorsRemoved(Component component, int index,
+            Sequence<Decorator> decorators) {
+            updateDecorated(entries.get(component));
+        }
+    }
+
+    private final Sequence<Component> components;
+
+    private HashMap<Component, Entry> entries = new HashMap<Component, Entry>();
+    private HashMap<Long, ArrayList<Entry>> cells = new HashMap<Long, ArrayList<Entry>>();
+    private ArrayList<Entry> oversizedEntries = new ArrayList<Entry>();
+    private ArrayList<Entry> decoratedEntries = new ArrayList<Entry>();
+
+    private boolean orderValid = true;
+    private int stamp = 0;
+
+    private ChildHandler childHandler = new ChildHandler();
+
+    // Cells are 2^CELL_SHIFT pixels square
+    private static final int CELL_SHIFT = 7;
+
+    // The number of cells a component may cover before it is considered
+    // oversized
+    private static final int MAXIMUM_CELL_COUNT = 64;
+
+    /**
+     * Creates a spatial index.
+     *
+     * @param components
+     * The container's components, in paint order.
+     */
+    public SpatialIndex(Sequence<Component> components) {
+        this.components = components;
+
+        for (int i = 0, n = components.getLength(); i < n; i++) {
+            add(components.get(i));
+        }
+    }
+
+    /**
+     * Adds a component to the index.
+     *
+     * @param component
+     */
+    public void add(Component component) {
+        Entry entry = new Entry(component);
+        entries.put(component, entry);
+
+        component.getComponentListeners().add(childHandler);
+        component.getComponentDecoratorListeners().add(childHandler);
+
+        index(entry);
+
+        entry.decorated = (component.getDecorators().getLength() > 0);
+        if (entry.decorated) {
+            decoratedEntries.add(entry);
+        }
+
+        orderValid = false;
+    }
+
+    /**
+     * Removes a component from the index.
+     *
+     * @param component
+     */
+    public void remove(Component component) {
+        Entry entry = entries.remove(component);
+
+        component.getComponentListeners().remove(childHandler);
+        component.getComponentDecoratorListeners().remove(childHandler);
+
+        unindex(entry);
+
+        if (entry.decorated) {
+            decoratedEntries.remove(entry);
+        }
+
+        orderValid = false;
+    }
+
+    /**
+     * Removes all components from the index and stops listening to them.
+     */
+    public void clear() {
+        for (Component component : entries) {
+            component.getComponentListeners().remove(childHandler);
+            component.getComponentDecoratorListeners().remove(childHandler);
+        }
+
+        entries.clear();
+        cells.clear();
+        oversizedEntries.clear();
+        decoratedEntries.clear();
+    }
+
+    /**
+     * Notifies the index that the order of the container's components has
+     * changed.
+     */
+    public void invalidateOrder() {
+        orderValid = false;
+    }
+
+    /**
+     * Returns the topmost visible component whose bounds contain a location.
+     *
+     * @param x
+     * @param y
+     *
+     * @return
+     * The component, or <tt>null</tt> if there is no such component.
+     */
+    public Component getComponentAt(int x, int y) {
+        validateOrder();
+
+        Entry topEntry = null;
+
+        ArrayList<Entry> cell = cells.get(getKey(x >> CELL_SHIFT, y >> CELL_SHIFT));
+        if (cell != null) {
+            topEntry = getTopEntry(cell, x, y, topEntry);
+        }
+
+        topEntry = getTopEntry(oversizedEntries, x, y, topEntry);
+
+        return (topEntry == null) ? null : topEntry.component;
+    }
+
+    private static Entry getTopEntry(ArrayList<Entry> entryList, int x, int y, Entry topEntry) {
+        Entry topEntryUpdated = topEntry;
+
+        for (int i = 0, n = entryList.getLength(); i < n; i++) {
+            Entry entry = entryList.get(i);
+
+            if ((topEntryUpdated == null
+                || entry.order > topEntryUpdated.order)
+                && entry.component.isVisible()
+                && entry.component.getBounds().contains(x, y)) {
+                topEntryUpdated = entry;
+            }
+        }
+
+        return topEntryUpdated;
+    }
+
+    /**
+     * Returns the indexes of the components that may need to be painted
+     * within an area: those whose bounds intersect the area, and all decorated
+     * components.
+     *
+     * @param area
+     *
+     * @return
+     * The component indexes in ascending (paint) order, or <tt>null</tt> if
+     * the area is large enough that the caller should simply consider every
+     * component.
+     */
+    public int[] getComponentIndexes(Bounds area) {
+        if (area.width <= 0
+            || area.height <= 0) {
+            return new int[0];
+        }
+
+        int left = area.x >> CELL_SHIFT;
+        int top = area.y >> CELL_SHIFT;
+        int right = (area.x + area.width - 1) >> CELL_SHIFT;
+        int bottom = (area.y + area.height - 1) >> CELL_SHIFT;
+
+        if ((long)(right - left + 1) * (bottom - top + 1) > entries.getCount()) {
+            return null;
+        }
+
+        validateOrder();
+        stamp++;
+
+        ArrayList<Entry> result = new ArrayList<Entry>();
+
+        for (int cellX = left; cellX <= right; cellX++) {
+            for (int cellY = top; cellY <= bottom; cellY++) {
+                ArrayList<Entry> cell = cells.get(getKey(cellX, cellY));
+
+                if (cell != null) {
+                    addEntries(cell, result);
+                }
+            }
+        }
+
+        addEntries(oversizedEntries, result);
+        addEntries(decoratedEntries, result);
+
+        int n = result.getLength();
+        int[] indexes = new int[n];
+        for (int i = 0; i < n; i++) {
+            indexes[i] = result.get(i).order;
+        }
+
+        Arrays.sort(indexes);
+
+        return indexes;
+    }
+
+    private void addEntries(ArrayList<Entry> entryList, ArrayList<Entry> result) {
+        for (int i = 0, n = entryList.getLength(); i < n; i++) {
+            Entry entry = entryList.get(i);
+
+            if (entry.stamp != stamp) {
+                entry.stamp = stamp;
+                result.add(entry);
+            }
+        }
+    }
+
+    private void update(Entry entry) {
+        unindex(entry);
+        index(entry);
+    }
+
+    private void updateDecorated(Entry entry) {
+        boolean decorated = (entry.component.getDecorators().getLength() > 0);
+
+        if (decorated != entry.decorated) {
+            entry.decorated = decorated;
+
+            if (decorated) {
+                decoratedEntries.add(entry);
+            } else {
+                decoratedEntries.remove(entry);
+            }
+        }
+    }
+
+    private void index(Entry entry) {
+        Component component = entry.component;
+
+        int x = component.getX();
+        int y = component.getY();
+
+        // Empty components are still registered at their location
+        entry.left = x >> CELL_SHIFT;
+        entry.top = y >> CELL_SHIFT;
+        entry.right = (x + Math.max(component.getWidth(), 1) - 1) >> CELL_SHIFT;
+        entry.bottom = (y + Math.max(component.getHeight(), 1) - 1) >> CELL_SHIFT;
+
+        entry.oversized = ((long)(entry.right - entry.left + 1)
+            * (entry.bottom - entry.top + 1) > MAXIMUM_CELL_COUNT);
+
+        if (entry.oversized) {
+            oversizedEntries.add(entry);
+        } else {
+            for (int cellX = entry.left; cellX <= entry.right; cellX++) {
+                for (int cellY = entry.top; cellY <= entry.bottom; cellY++) {
+                    Long key = getKey(cellX, cellY);
+
+                    ArrayList<Entry> cell = cells.get(key);
+                    if (cell == null) {
+                        cell = new ArrayList<Entry>();
+                        cells.put(key, cell);
+                    }
+
+                    cell.add(entry);
+                }
+            }
+        }
+    }
+
+    private void unindex(Entry entry) {
+        if (entry.oversized) {
+            oversizedEntries.remove(entry);
+        } else {
+            for (int cellX = entry.left; cellX <= entry.right; cellX++) {
+                for (int cellY = entry.top; cellY <= entry.bottom; cellY++) {
+                    Long key = getKey(cellX, cellY);
+
+                    ArrayList<Entry> cell = cells.get(key);
+                    cell.remove(entry);
+
+                    if (cell.getLength() == 0) {
+                        cells.remove(key);
+                    }
+                }
+            }
+        }
+    }
+
+    private void validateOrder() {
+        if (!orderValid) {
+            for (int i = 0, n = components.getLength(); i < n; i++) {
+                entries.get(components.get(i)).order = i;
+            }
+
+            orderValid = true;
+        }
+    }
+
+    private static Long getKey(int cellX, int cellY) {
+        return Long.valueOf(((long)cellX << 32) | (cellY & 0xFFFFFFFFL));
+    }
+}
@@ -132,23 +132,26 @@ public class Spinner extends Container {
         implements SpinnerListener {
         @Override
         public void spinnerDataChanged(Spinner spinner, List<?> previousSpinnerData) {
-            for (SpinnerListener listener : this) {
-                listener.spinnerDataChanged(spinner, previousSpinnerData);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((SpinnerListener)listeners[i]).spinnerDataChanged(spinner, previousSpinnerData);
             }
         }
 
         @Override
         public void itemRendererChanged(Spinner spinner,
             Spinner.ItemRenderer previousItemRenderer) {
-            for (SpinnerListener listener : this) {
-                listener.itemRendererChanged(spinner, previousItemRenderer);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((SpinnerListener)listeners[i]).itemRendererChanged(spinner, previousItemRenderer);
             }
         }
 
         @Override
         public void circularChanged(Spinner spinner) {
-            for (SpinnerListener listener : this) {
-                listener.circularChanged(spinner);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((SpinnerListener)listeners[i]).circularChanged(spinner);
             }
         }
     }
@@ -157,36 +160,41 @@ public class Spinner extends Container {
         implements SpinnerItemListener {
         @Override
         public void itemInserted(Spinner spinner, int index) {
-            for (SpinnerItemListener listener : this) {
-                listener.itemInserted(spinner, index);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((SpinnerItemListener)listeners[i]).itemInserted(spinner, index);
             }
         }
 
         @Override
         public void itemsRemoved(Spinner spinner, int index, int count) {
-            for (SpinnerItemListener listener : this) {
-                listener.itemsRemoved(spinner, index, count);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((SpinnerItemListener)listeners[i]).itemsRemoved(spinner, index, count);
             }
         }
 
         @Override
         public void itemUpdated(Spinner spinner, int index) {
-            for (SpinnerItemListener listener : this) {
-                listener.itemUpdated(spinner, index);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((SpinnerItemListener)listeners[i]).itemUpdated(spinner, index);
             }
         }
 
         @Override
         public void itemsCleared(Spinner spinner) {
-            for (SpinnerItemListener listener : this) {
-                listener.itemsCleared(spinner);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((SpinnerItemListener)listeners[i]).itemsCleared(spinner);
             }
         }
 
         @Override
         public void itemsSorted(Spinner spinner) {
-            for (SpinnerItemListener listener : this) {
-                listener.itemsSorted(spinner);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((SpinnerItemListener)listeners[i]).itemsSorted(spinner);
             }
         }
     }
@@ -196,15 +204,17 @@ public class Spinner extends Container {
         implements SpinnerSelectionListener {
         @Override
         public void selectedIndexChanged(Spinner spinner, int previousSelectedIndex) {
-            for (SpinnerSelectionListener listener : this) {
-                listener.selectedIndexChanged(spinner, previousSelectedIndex);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((SpinnerSelectionListener)listeners[i]).selectedIndexChanged(spinner, previousSelectedIndex);
             }
         }
 
         @Override
         public void selectedItemChanged(Spinner spinner, Object previousSelectedItem) {
-            for (SpinnerSelectionListener listener : this) {
-                listener.selectedItemChanged(spinner, previousSelectedItem);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((SpinnerSelectionListener)listeners[i]).selectedItemChanged(spinner, previousSelectedItem);
             }
         }
     }
@@ -213,44 +223,50 @@ public class Spinner extends Container {
         implements SpinnerBindingListener {
         @Override
         public void spinnerDataKeyChanged(Spinner spinner, String previousSpinnerDataKey) {
-            for (SpinnerBindingListener listener : this) {
-                listener.spinnerDataKeyChanged(spinner, previousSpinnerDataKey);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((SpinnerBindingListener)listeners[i]).spinnerDataKeyChanged(spinner, previousSpinnerDataKey);
             }
         }
 
         @Override
         public void spinnerDataBindTypeChanged(Spinner spinner, BindType previousSpinnerDataBindType) {
-            for (SpinnerBindingListener listener : this) {
-                listener.spinnerDataBindTypeChanged(spinner, previousSpinnerDataBindType);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((SpinnerBindingListener)listeners[i]).spinnerDataBindTypeChanged(spinner, previousSpinnerDataBindType);
             }
         }
 
         @Override
         public void spinnerDataBindMappingChanged(Spinner spinner,
             Spinner.SpinnerDataBindMapping previousSpinnerDataBindMapping) {
-            for (SpinnerBindingListener listener : this) {
-                listener.spinnerDataBindMappingChanged(spinner, previousSpinnerDataBindMapping);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((SpinnerBindingListener)listeners[i]).spinnerDataBindMappingChanged(spinner, previousSpinnerDataBindMapping);
             }
         }
 
         @Override
         public void selectedItemKeyChanged(Spinner spinner, String previousSelectedItemKey) {
-            for (SpinnerBindingListener listener : this) {
-                listener.selectedItemKeyChanged(spinner, previousSelectedItemKey);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((SpinnerBindingListener)listeners[i]).selectedItemKeyChanged(spinner, previousSelectedItemKey);
             }
         }
 
         @Override
         public void selectedItemBindTypeChanged(Spinner spinner, BindType previousSelectedItemBindType) {
-            for (SpinnerBindingListener listener : this) {
-                listener.selectedItemBindTypeChanged(spinner, previousSelectedItemBindType);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((SpinnerBindingListener)listeners[i]).selectedItemBindTypeChanged(spinner, previousSelectedItemBindType);
             }
         }
 
         @Override
         public void selectedItemBindMappingChanged(Spinner spinner, ItemBindMapping previousSelectedItemBindMapping) {
-            for (SpinnerBindingListener listener : this) {
-                listener.selectedItemBindMappingChanged(spinner, previousSelectedItemBindMapping);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((SpinnerBindingListener)listeners[i]).selectedItemBindMappingChanged(spinner, previousSelectedItemBindMapping);
             }
         }
     }
@@ -61,50 +61,57 @@ public class SplitPane extends Container {
         implements SplitPaneListener {
         @Override
         public void topLeftChanged(SplitPane splitPane, Component previousTopLeft) {
-            for (SplitPaneListener listener : this) {
-                listener.topLeftChanged(splitPane, previousTopLeft);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((SplitPaneListener)listeners[i]).topLeftChanged(splitPane, previousTopLeft);
             }
         }
 
         @Override
         public void bottomRightChanged(SplitPane splitPane, Component previousBottomRight) {
-            for (SplitPaneListener listener : this) {
-                listener.bottomRightChanged(splitPane, previousBottomRight);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((SplitPaneListener)listeners[i]).bottomRightChanged(splitPane, previousBottomRight);
             }
         }
 
         @Override
         public void orientationChanged(SplitPane splitPane) {
-            for (SplitPaneListener listener : this) {
-                listener.orientationChanged(splitPane);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((SplitPaneListener)listeners[i]).orientationChanged(splitPane);
             }
         }
 
         @Override
         public void primaryRegionChanged(SplitPane splitPane) {
-            for (SplitPaneListener listener : this) {
-                listener.primaryRegionChanged(splitPane);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((SplitPaneListener)listeners[i]).primaryRegionChanged(splitPane);
             }
         }
 
         @Override
         public void splitRatioChanged(SplitPane splitPane, float previousSplitRatio) {
-            for (SplitPaneListener listener : this) {
-                listener.splitRatioChanged(splitPane, previousSplitRatio);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((SplitPaneListener)listeners[i]).splitRatioChanged(splitPane, previousSplitRatio);
             }
         }
 
         @Override
         public void lockedChanged(SplitPane splitPane) {
-            for (SplitPaneListener listener : this) {
-                listener.lockedChanged(splitPane);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((SplitPaneListener)listeners[i]).lockedChanged(splitPane);
             }
         }
 
         @Override
         public void resizeModeChanged(SplitPane splitPane, ResizeMode previousResizeMode) {
-            for (SplitPaneListener listener : this) {
-                listener.resizeModeChanged(splitPane, previousResizeMode);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((SplitPaneListener)listeners[i]).resizeModeChanged(splitPane, previousResizeMode);
             }
         }
     }
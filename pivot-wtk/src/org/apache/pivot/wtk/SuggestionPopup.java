@@ -35,23 +35,26 @@ public class SuggestionPopup extends Window {
         @Override
         public void suggestionDataChanged(SuggestionPopup suggestionPopup,
             List<?> previousSuggestionData) {
-            for (SuggestionPopupListener listener : this) {
-                listener.suggestionDataChanged(suggestionPopup, previousSuggestionData);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((SuggestionPopupListener)listeners[i]).suggestionDataChanged(suggestionPopup, previousSuggestionData);
             }
         }
 
         @Override
         public void suggestionRendererChanged(SuggestionPopup suggestionPopup,
             ListView.ItemRenderer previousSuggestionRenderer) {
-            for (SuggestionPopupListener listener : this) {
-                listener.suggestionRendererChanged(suggestionPopup, previousSuggestionRenderer);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((SuggestionPopupListener)listeners[i]).suggestionRendererChanged(suggestionPopup, previousSuggestionRenderer);
             }
         }
 
         @Override
         public void listSizeChanged(SuggestionPopup suggestionPopup, int previousListSize) {
-            for (SuggestionPopupListener listener : this) {
-                listener.listSizeChanged(suggestionPopup, previousListSize);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((SuggestionPopupListener)listeners[i]).listSizeChanged(suggestionPopup, previousListSize);
             }
         }
     }
@@ -60,36 +63,41 @@ public class SuggestionPopup extends Window {
         implements SuggestionPopupItemListener {
         @Override
         public void itemInserted(SuggestionPopup suggestionPopup, int index) {
-            for (SuggestionPopupItemListener listener : this) {
-                listener.itemInserted(suggestionPopup, index);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((SuggestionPopupItemListener)listeners[i]).itemInserted(suggestionPopup, index);
             }
         }
 
         @Override
         public void itemsRemoved(SuggestionPopup suggestionPopup, int index, int count) {
-            for (SuggestionPopupItemListener listener : this) {
-                listener.itemsRemoved(suggestionPopup, index, count);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((SuggestionPopupItemListener)listeners[i]).itemsRemoved(suggestionPopup, index, count);
             }
         }
 
         @Override
         public void itemUpdated(SuggestionPopup suggestionPopup, int index) {
-            for (SuggestionPopupItemListener listener : this) {
-                listener.itemUpdated(suggestionPopup, index);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((SuggestionPopupItemListener)listeners[i]).itemUpdated(suggestionPopup, index);
             }
         }
 
         @Override
         public void itemsCleared(SuggestionPopup suggestionPopup) {
-            for (SuggestionPopupItemListener listener : this) {
-                listener.itemsCleared(suggestionPopup);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((SuggestionPopupItemListener)listeners[i]).itemsCleared(suggestionPopup);
             }
         }
 
         @Override
         public void itemsSorted(SuggestionPopup suggestionPopup) {
-            for (SuggestionPopupItemListener listener : this) {
-                listener.itemsSorted(suggestionPopup);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((SuggestionPopupItemListener)listeners[i]).itemsSorted(suggestionPopup);
             }
         }
     }
@@ -99,15 +107,17 @@ public class SuggestionPopup extends Window {
         @Override
         public void selectedIndexChanged(SuggestionPopup suggestionPopup,
             int previousSelectedIndex) {
-            for (SuggestionPopupSelectionListener listener : this) {
-                listener.selectedIndexChanged(suggestionPopup, previousSelectedIndex);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((SuggestionPopupSelectionListener)listeners[i]).selectedIndexChanged(suggestionPopup, previousSelectedIndex);
             }
         }
 
         @Override
         public void selectedSuggestionChanged(SuggestionPopup suggestionPopup, Object previousSelectedSuggestion) {
-            for (SuggestionPopupSelectionListener listener : this) {
-                listener.selectedSuggestionChanged(suggestionPopup, previousSelectedSuggestion);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((SuggestionPopupSelectionListener)listeners[i]).selectedSuggestionChanged(suggestionPopup, previousSelectedSuggestion);
             }
         }
     }
@@ -118,7 +128,9 @@ public class SuggestionPopup extends Window {
         public Vote previewSuggestionPopupClose(SuggestionPopup suggestionPopup, boolean result) {
             Vote vote = Vote.APPROVE;
 
-            for (SuggestionPopupStateListener listener : this) {
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                SuggestionPopupStateListener listener = (SuggestionPopupStateListener)listeners[i];
                 vote = vote.tally(listener.previewSuggestionPopupClose(suggestionPopup, result));
             }
 
@@ -127,15 +139,17 @@ public class SuggestionPopup extends Window {
 
         @Override
         public void suggestionPopupCloseVetoed(SuggestionPopup suggestionPopup, Vote reason) {
-            for (SuggestionPopupStateListener listener : this) {
-                listener.suggestionPopupCloseVetoed(suggestionPopup, reason);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((SuggestionPopupStateListener)listeners[i]).suggestionPopupCloseVetoed(suggestionPopup, reason);
             }
         }
 
         @Override
         public void suggestionPopupClosed(SuggestionPopup suggestionPopup) {
-            for (SuggestionPopupStateListener listener : this) {
-                listener.suggestionPopupClosed(suggestionPopup);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((SuggestionPopupStateListener)listeners[i]).suggestionPopupClosed(suggestionPopup);
             }
         }
     }
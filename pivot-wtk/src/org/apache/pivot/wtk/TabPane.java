@@ -159,8 +159,9 @@ public class TabPane extends Container {
         implements TabPaneListener {
         @Override
         public void tabInserted(TabPane tabPane, int index) {
-            for (TabPaneListener listener : this) {
-                listener.tabInserted(tabPane, index);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TabPaneListener)listeners[i]).tabInserted(tabPane, index);
             }
         }
 
@@ -168,7 +169,9 @@ public class TabPane extends Container {
         public Vote previewRemoveTabs(TabPane tabPane, int index, int count) {
             Vote vote = Vote.APPROVE;
 
-            for (TabPaneListener listener : this) {
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                TabPaneListener listener = (TabPaneListener)listeners[i];
                 vote = vote.tally(listener.previewRemoveTabs(tabPane, index, count));
             }
 
@@ -177,43 +180,49 @@ public class TabPane extends Container {
 
         @Override
         public void tabsRemoved(TabPane tabPane, int index, Sequence<Component> tabs) {
-            for (TabPaneListener listener : this) {
-                listener.tabsRemoved(tabPane, index, tabs);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TabPaneListener)listeners[i]).tabsRemoved(tabPane, index, tabs);
             }
         }
 
         @Override
         public void removeTabsVetoed(TabPane tabPane, Vote reason) {
-            for (TabPaneListener listener : this) {
-                listener.removeTabsVetoed(tabPane, reason);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TabPaneListener)listeners[i]).removeTabsVetoed(tabPane, reason);
             }
         }
 
         @Override
         public void cornerChanged(TabPane tabPane, Component previousCorner) {
-            for (TabPaneListener listener : this) {
-                listener.cornerChanged(tabPane, previousCorner);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TabPaneListener)listeners[i]).cornerChanged(tabPane, previousCorner);
             }
         }
 
         @Override
         public void tabDataRendererChanged(TabPane tabPane, Button.DataRenderer previousTabDataRenderer) {
-            for (TabPaneListener listener : this) {
-                listener.tabDataRendererChanged(tabPane, previousTabDataRenderer);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TabPaneListener)listeners[i]).tabDataRendererChanged(tabPane, previousTabDataRenderer);
             }
         }
 
         @Override
         public void closeableChanged(TabPane tabPane) {
-            for (TabPaneListener listener : this) {
-                listener.closeableChanged(tabPane);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TabPaneListener)listeners[i]).closeableChanged(tabPane);
             }
         }
 
         @Override
         public void collapsibleChanged(TabPane tabPane) {
-            for (TabPaneListener listener : this) {
-                listener.collapsibleChanged(tabPane);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TabPaneListener)listeners[i]).collapsibleChanged(tabPane);
             }
         }
     }
@@ -224,7 +233,9 @@ public class TabPane extends Container {
         public Vote previewSelectedIndexChange(TabPane tabPane, int selectedIndex) {
             Vote vote = Vote.APPROVE;
 
-            for (TabPaneSelectionListener listener : this) {
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                TabPaneSelectionListener listener = (TabPaneSelectionListener)listeners[i];
                 vote = vote.tally(listener.previewSelectedIndexChange(tabPane, selectedIndex));
             }
 
@@ -233,15 +244,17 @@ public class TabPane extends Container {
 
         @Override
         public void selectedIndexChangeVetoed(TabPane tabPane, Vote reason) {
-            for (TabPaneSelectionListener listener : this) {
-                listener.selectedIndexChangeVetoed(tabPane, reason);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TabPaneSelectionListener)listeners[i]).selectedIndexChangeVetoed(tabPane, reason);
             }
         }
 
         @Override
         public void selectedIndexChanged(TabPane tabPane, int previousSelectedIndex) {
-            for (TabPaneSelectionListener listener : this) {
-                listener.selectedIndexChanged(tabPane, previousSelectedIndex);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TabPaneSelectionListener)listeners[i]).selectedIndexChanged(tabPane, previousSelectedIndex);
             }
         }
     }
@@ -250,15 +263,17 @@ public class TabPane extends Container {
         implements TabPaneAttributeListener {
         @Override
         public void tabDataChanged(TabPane tabPane, Component component, Object previousTabData) {
-            for (TabPaneAttributeListener listener : this) {
-                listener.tabDataChanged(tabPane, component, previousTabData);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TabPaneAttributeListener)listeners[i]).tabDataChanged(tabPane, component, previousTabData);
             }
         }
 
         @Override
         public void tooltipTextChanged(TabPane tabPane, Component component, String previousTooltipText) {
-            for (TabPaneAttributeListener listener : this) {
-                listener.tooltipTextChanged(tabPane, component, previousTooltipText);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TabPaneAttributeListener)listeners[i]).tooltipTextChanged(tabPane, component, previousTooltipText);
             }
         }
     }
@@ -636,84 +636,95 @@ public class TablePane extends Container {
         implements TablePaneListener {
         @Override
         public void rowInserted(TablePane tablePane, int index) {
-            for (TablePaneListener listener : this) {
-                listener.rowInserted(tablePane, index);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TablePaneListener)listeners[i]).rowInserted(tablePane, index);
             }
         }
 
         @Override
         public void rowsRemoved(TablePane tablePane, int index,
             Sequence<TablePane.Row> rows) {
-            for (TablePaneListener listener : this) {
-                listener.rowsRemoved(tablePane, index, rows);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TablePaneListener)listeners[i]).rowsRemoved(tablePane, index, rows);
             }
         }
 
         @Override
         public void rowHeightChanged(TablePane.Row row, int previousHeight,
             boolean previousRelative) {
-            for (TablePaneListener listener : this) {
-                listener.rowHeightChanged(row, previousHeight, previousRelative);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TablePaneListener)listeners[i]).rowHeightChanged(row, previousHeight, previousRelative);
             }
         }
 
         @Override
         public void rowHighlightedChanged(TablePane.Row row) {
-            for (TablePaneListener listener : this) {
-                listener.rowHighlightedChanged(row);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TablePaneListener)listeners[i]).rowHighlightedChanged(row);
             }
         }
 
         @Override
         public void columnInserted(TablePane tablePane, int index) {
-            for (TablePaneListener listener : this) {
-                listener.columnInserted(tablePane, index);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TablePaneListener)listeners[i]).columnInserted(tablePane, index);
             }
         }
 
         @Override
         public void columnsRemoved(TablePane tablePane, int index,
             Sequence<TablePane.Column> columns) {
-            for (TablePaneListener listener : this) {
-                listener.columnsRemoved(tablePane, index, columns);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TablePaneListener)listeners[i]).columnsRemoved(tablePane, index, columns);
             }
         }
 
         @Override
         public void columnWidthChanged(TablePane.Column column, int previousWidth,
             boolean previousRelative) {
-            for (TablePaneListener listener : this) {
-                listener.columnWidthChanged(column, previousWidth, previousRelative);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TablePaneListener)listeners[i]).columnWidthChanged(column, previousWidth, previousRelative);
             }
         }
 
         @Override
         public void columnHighlightedChanged(TablePane.Column column) {
-            for (TablePaneListener listener : this) {
-                listener.columnHighlightedChanged(column);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TablePaneListener)listeners[i]).columnHighlightedChanged(column);
             }
         }
 
         @Override
         public void cellInserted(TablePane.Row row, int column) {
-            for (TablePaneListener listener : this) {
-                listener.cellInserted(row, column);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TablePaneListener)listeners[i]).cellInserted(row, column);
             }
         }
 
         @Override
         public void cellsRemoved(TablePane.Row row, int column,
             Sequence<Component> removed) {
-            for (TablePaneListener listener : this) {
-                listener.cellsRemoved(row, column, removed);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TablePaneListener)listeners[i]).cellsRemoved(row, column, removed);
             }
         }
 
         @Override
         public void cellUpdated(TablePane.Row row, int column,
             Component previousComponent) {
-            for (TablePaneListener listener : this) {
-                listener.cellUpdated(row, column, previousComponent);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TablePaneListener)listeners[i]).cellUpdated(row, column, previousComponent);
             }
         }
     }
@@ -723,16 +734,18 @@ public class TablePane extends Container {
         @Override
         public void rowSpanChanged(TablePane tablePane, Component component,
             int previousRowSpan) {
-            for (TablePaneAttributeListener listener : this) {
-                listener.rowSpanChanged(tablePane, component, previousRowSpan);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TablePaneAttributeListener)listeners[i]).rowSpanChanged(tablePane, component, previousRowSpan);
             }
         }
 
         @Override
         public void columnSpanChanged(TablePane tablePane, Component component,
             int previousColumnSpan) {
-            for (TablePaneAttributeListener listener : this) {
-                listener.columnSpanChanged(tablePane, component, previousColumnSpan);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TablePaneAttributeListener)listeners[i]).columnSpanChanged(tablePane, component, previousColumnSpan);
             }
         }
     }
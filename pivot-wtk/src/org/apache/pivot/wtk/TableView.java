@@ -826,37 +826,42 @@ public class TableView extends Component {
         implements TableViewListener {
         @Override
         public void tableDataChanged(TableView tableView, List<?> previousTableData) {
-            for (TableViewListener listener : this) {
-                listener.tableDataChanged(tableView, previousTableData);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TableViewListener)listeners[i]).tableDataChanged(tableView, previousTableData);
             }
         }
 
         @Override
         public void columnSourceChanged(TableView tableView, TableView previousColumnSource) {
-            for (TableViewListener listener : this) {
-                listener.columnSourceChanged(tableView, previousColumnSource);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TableViewListener)listeners[i]).columnSourceChanged(tableView, previousColumnSource);
             }
         }
 
         @Override
         public void rowEditorChanged(TableView tableView,
             TableView.RowEditor previousRowEditor) {
-            for (TableViewListener listener : this) {
-                listener.rowEditorChanged(tableView, previousRowEditor);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TableViewListener)listeners[i]).rowEditorChanged(tableView, previousRowEditor);
             }
         }
 
         @Override
         public void selectModeChanged(TableView tableView, SelectMode previousSelectMode) {
-            for (TableViewListener listener : this) {
-                listener.selectModeChanged(tableView, previousSelectMode);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TableViewListener)listeners[i]).selectModeChanged(tableView, previousSelectMode);
             }
         }
 
         @Override
         public void disabledRowFilterChanged(TableView tableView, Filter<?> previousDisabledRowFilter) {
-            for (TableViewListener listener : this) {
-                listener.disabledRowFilterChanged(tableView, previousDisabledRowFilter);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TableViewListener)listeners[i]).disabledRowFilterChanged(tableView, previousDisabledRowFilter);
             }
         }
     }
@@ -865,65 +870,74 @@ public class TableView extends Component {
         implements TableViewColumnListener {
         @Override
         public void columnInserted(TableView tableView, int index) {
-            for (TableViewColumnListener listener : this) {
-                listener.columnInserted(tableView, index);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TableViewColumnListener)listeners[i]).columnInserted(tableView, index);
             }
         }
 
         @Override
         public void columnsRemoved(TableView tableView, int index, Sequence<TableView.Column> columns) {
-            for (TableViewColumnListener listener : this) {
-                listener.columnsRemoved(tableView, index, columns);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TableViewColumnListener)listeners[i]).columnsRemoved(tableView, index, columns);
             }
         }
 
         @Override
         public void columnNameChanged(Column column, String previousName) {
-            for (TableViewColumnListener listener : this) {
-                listener.columnNameChanged(column, previousName);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TableViewColumnListener)listeners[i]).columnNameChanged(column, previousName);
             }
         }
 
         @Override
         public void columnHeaderDataChanged(Column column, Object previousHeaderData) {
-            for (TableViewColumnListener listener : this) {
-                listener.columnHeaderDataChanged(column, previousHeaderData);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TableViewColumnListener)listeners[i]).columnHeaderDataChanged(column, previousHeaderData);
             }
         }
 
         @Override
         public void columnHeaderDataRendererChanged(TableView.Column column,
             TableView.HeaderDataRenderer previousHeaderDataRenderer) {
-            for (TableViewColumnListener listener : this) {
-                listener.columnHeaderDataRendererChanged(column, previousHeaderDataRenderer);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TableViewColumnListener)listeners[i]).columnHeaderDataRendererChanged(column, previousHeaderDataRenderer);
             }
         }
 
         @Override
         public void columnWidthChanged(Column column, int previousWidth, boolean previousRelative) {
-            for (TableViewColumnListener listener : this) {
-                listener.columnWidthChanged(column, previousWidth, previousRelative);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TableViewColumnListener)listeners[i]).columnWidthChanged(column, previousWidth, previousRelative);
             }
         }
 
         @Override
         public void columnWidthLimitsChanged(Column column, int  previousMinimumWidth, int previousMaximumWidth) {
-            for (TableViewColumnListener listener : this) {
-                listener.columnWidthLimitsChanged(column, previousMinimumWidth, previousMaximumWidth);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TableViewColumnListener)listeners[i]).columnWidthLimitsChanged(column, previousMinimumWidth, previousMaximumWidth);
             }
         }
 
         @Override
         public void columnFilterChanged(Column column, Object previousFilter) {
-            for (TableViewColumnListener listener : this) {
-                listener.columnFilterChanged(column, previousFilter);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TableViewColumnListener)listeners[i]).columnFilterChanged(column, previousFilter);
             }
         }
 
         @Override
         public void columnCellRendererChanged(Column column, TableView.CellRenderer previousCellRenderer) {
-            for (TableViewColumnListener listener : this) {
-                listener.columnCellRendererChanged(column, previousCellRenderer);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TableViewColumnListener)listeners[i]).columnCellRendererChanged(column, previousCellRenderer);
             }
         }
     }
@@ -932,36 +946,52 @@ public class TableView extends Component {
         implements TableViewRowListener {
         @Override
         public void rowInserted(TableView tableView, int index) {
-            for (TableViewRowListener listener : this) {
-                listener.rowInserted(tableView, index);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TableViewRowListener)listeners[i]).rowInserted(tableView, index);
             }
         }
 
         @Override
         public void rowsRemoved(TableView tableView, int index, int count) {
-            for (TableViewRowListener listener : this) {
-                listener.rowsRemoved(tableView, index, count);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TableViewRowListener)listeners[i]).rowsRemoved(tableView, index, count);
             }
         }
 
         @Override
         public void rowUpdated(TableView tableView, int index) {
-            for (TableViewRowListener listener : this) {
-                listener.rowUpdated(tableView, index);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TableViewRowListener)listeners[i]).rowUpdated(tableView, index);
             }
         }
 
         @Override
         public void rowsCleared(TableView tableView) {
-            for (TableViewRowListener listener : this) {
-                listener.rowsCleared(tableView);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TableViewRowListener)listeners[i]).rowsCleared(tableView);
             }
         }
 
         @Override
         public void rowsSorted(TableView tableView) {
-            for (TableViewRowListener listener : this) {
-                listener.rowsSorted(tableView);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TableViewRowListener)listeners[i]).rowsSorted(tableView);
+            }
+        }
+    }
+
+    private static class TableViewCellListenerList extends WTKListenerList<TableViewCellListener>
+        implements TableViewCellListener {
+        @Override
+        public void cellUpdated(TableView tableView, int rowIndex, String columnName) {
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TableViewCellListener)listeners[i]).cellUpdated(tableView, rowIndex, columnName);
             }
         }
     }
@@ -970,29 +1000,33 @@ public class TableView extends Component {
         implements TableViewSelectionListener {
         @Override
         public void selectedRangeAdded(TableView tableView, int rangeStart, int rangeEnd) {
-            for (TableViewSelectionListener listener : this) {
-                listener.selectedRangeAdded(tableView, rangeStart, rangeEnd);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TableViewSelectionListener)listeners[i]).selectedRangeAdded(tableView, rangeStart, rangeEnd);
             }
         }
 
         @Override
         public void selectedRangeRemoved(TableView tableView, int rangeStart, int rangeEnd) {
-            for (TableViewSelectionListener listener : this) {
-                listener.selectedRangeRemoved(tableView, rangeStart, rangeEnd);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TableViewSelectionListener)listeners[i]).selectedRangeRemoved(tableView, rangeStart, rangeEnd);
             }
         }
 
         @Override
         public void selectedRangesChanged(TableView tableView, Sequence<Span> previousSelection) {
-            for (TableViewSelectionListener listener : this) {
-                listener.selectedRangesChanged(tableView, previousSelection);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TableViewSelectionListener)listeners[i]).selectedRangesChanged(tableView, previousSelection);
             }
         }
 
         @Override
         public void selectedRowChanged(TableView tableView, Object previousSelectedRow) {
-            for (TableViewSelectionListener listener : this) {
-                listener.selectedRowChanged(tableView, previousSelectedRow);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TableViewSelectionListener)listeners[i]).selectedRowChanged(tableView, previousSelectedRow);
             }
         }
     }
@@ -1001,31 +1035,35 @@ public class TableView extends Component {
         implements TableViewSortListener {
         @Override
         public void sortAdded(TableView tableView, String columnName) {
-            for (TableViewSortListener listener : this) {
-                listener.sortAdded(tableView, columnName);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TableViewSortListener)listeners[i]).sortAdded(tableView, columnName);
             }
         }
 
         @Override
         public void sortUpdated(TableView tableView, String columnName,
             SortDirection previousSortDirection) {
-            for (TableViewSortListener listener : this) {
-                listener.sortUpdated(tableView, columnName, previousSortDirection);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TableViewSortListener)listeners[i]).sortUpdated(tableView, columnName, previousSortDirection);
             }
         }
 
         @Override
         public void sortRemoved(TableView tableView, String columnName,
             SortDirection sortDirection) {
-            for (TableViewSortListener listener : this) {
-                listener.sortRemoved(tableView, columnName, sortDirection);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TableViewSortListener)listeners[i]).sortRemoved(tableView, columnName, sortDirection);
             }
         }
 
         @Override
         public void sortChanged(TableView tableView) {
-            for (TableViewSortListener listener : this) {
-                listener.sortChanged(tableView);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TableViewSortListener)listeners[i]).sortChanged(tableView);
             }
         }
     }
@@ -1034,67 +1072,76 @@ public class TableView extends Component {
         implements TableViewBindingListener {
         @Override
         public void tableDataKeyChanged(TableView tableView, String previousTableDataKey) {
-            for (TableViewBindingListener listener : this) {
-                listener.tableDataKeyChanged(tableView, previousTableDataKey);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TableViewBindingListener)listeners[i]).tableDataKeyChanged(tableView, previousTableDataKey);
             }
         }
 
         @Override
         public void tableDataBindTypeChanged(TableView tableView, BindType previousTableDataBindType) {
-            for (TableViewBindingListener listener : this) {
-                listener.tableDataBindTypeChanged(tableView, previousTableDataBindType);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TableViewBindingListener)listeners[i]).tableDataBindTypeChanged(tableView, previousTableDataBindType);
             }
         }
 
         @Override
         public void tableDataBindMappingChanged(TableView tableView,
             TableView.TableDataBindMapping previousTableDataBindMapping) {
-            for (TableViewBindingListener listener : this) {
-                listener.tableDataBindMappingChanged(tableView, previousTableDataBindMapping);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TableViewBindingListener)listeners[i]).tableDataBindMappingChanged(tableView, previousTableDataBindMapping);
             }
         }
 
         @Override
         public void selectedRowKeyChanged(TableView tableView, String previousSelectedRowKey) {
-            for (TableViewBindingListener listener : this) {
-                listener.selectedRowKeyChanged(tableView, previousSelectedRowKey);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TableViewBindingListener)listeners[i]).selectedRowKeyChanged(tableView, previousSelectedRowKey);
             }
         }
 
         @Override
         public void selectedRowBindTypeChanged(TableView tableView, BindType previousSelectedRowBindType) {
-            for (TableViewBindingListener listener : this) {
-                listener.selectedRowBindTypeChanged(tableView, previousSelectedRowBindType);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TableViewBindingListener)listeners[i]).selectedRowBindTypeChanged(tableView, previousSelectedRowBindType);
             }
         }
 
         @Override
         public void selectedRowBindMappingChanged(TableView tableView,
             TableView.SelectedRowBindMapping previousSelectedRowBindMapping) {
-            for (TableViewBindingListener listener : this) {
-                listener.selectedRowBindMappingChanged(tableView, previousSelectedRowBindMapping);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TableViewBindingListener)listeners[i]).selectedRowBindMappingChanged(tableView, previousSelectedRowBindMapping);
             }
         }
 
         @Override
         public void selectedRowsKeyChanged(TableView tableView, String previousSelectedRowsKey) {
-            for (TableViewBindingListener listener : this) {
-                listener.selectedRowsKeyChanged(tableView, previousSelectedRowsKey);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TableViewBindingListener)listeners[i]).selectedRowsKeyChanged(tableView, previousSelectedRowsKey);
             }
         }
 
         @Override
         public void selectedRowsBindTypeChanged(TableView tableView, BindType previousSelectedRowsBindType) {
-            for (TableViewBindingListener listener : this) {
-                listener.selectedRowsBindTypeChanged(tableView, previousSelectedRowsBindType);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TableViewBindingListener)listeners[i]).selectedRowsBindTypeChanged(tableView, previousSelectedRowsBindType);
             }
         }
 
         @Override
         public void selectedRowsBindMappingChanged(TableView tableView,
             TableView.SelectedRowBindMapping previousSelectedRowsBindMapping) {
-            for (TableViewBindingListener listener : this) {
-                listener.selectedRowsBindMappingChanged(tableView, previousSelectedRowsBindMapping);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TableViewBindingListener)listeners[i]).selectedRowsBindMappingChanged(tableView, previousSelectedRowsBindMapping);
             }
         }
     }
@@ -1212,6 +1259,7 @@ public class TableView extends Component {
     private TableViewListenerList tableViewListeners = new TableViewListenerList();
     private TableViewColumnListenerList tableViewColumnListeners = new TableViewColumnListenerList();
     private TableViewRowListenerList tableViewRowListeners = new TableViewRowListenerList();
+    private TableViewCellListenerList tableViewCellListeners = new TableViewCellListenerList();
     private TableViewSelectionListenerList tableViewSelectionListeners = new TableViewSelectionListenerList();
     private TableViewSortListenerList tableViewSortListeners = new TableViewSortListenerList();
     private TableViewBindingListenerList tableViewBindingListeners = new TableViewBindingListenerList();
@@ -2346,6 +2394,31 @@ public class TableView extends Component {
         return tableViewSkin.getCellBounds(rowIndex, columnIndex);
     }
 
+    /**
+     * Notifies the table view that the value of a single cell has changed.
+     * Unlike updating the row in the table data, which causes the whole row
+     * to be refreshed, this allows the skin to refresh only the given cell;
+     * skins may defer and coalesce the resulting repaints.
+     *
+     * @param rowIndex
+     * The index of the row containing the cell.
+     *
+     * @param columnName
+     * The name of the column containing the cell.
+     */
+    public void markCellDirty(int rowIndex, String columnName) {
+        if (columnName == null) {
+            throw new IllegalArgumentException("columnName is null.");
+        }
+
+        if (rowIndex < 0
+            || rowIndex >= tableData.getLength()) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        tableViewCellListeners.cellUpdated(this, rowIndex, columnName);
+    }
+
     public ListenerList<TableViewListener> getTableViewListeners() {
         return tableViewListeners;
     }
@@ -2358,6 +2431,10 @@ public class TableView extends Component {
         return tableViewRowListeners;
     }
 
+    public ListenerList<TableViewCellListener> getTableViewCellListeners() {
+        return tableViewCellListeners;
+    }
+
     public ListenerList<TableViewSelectionListener> getTableViewSelectionListeners() {
         return tableViewSelectionListeners;
     }
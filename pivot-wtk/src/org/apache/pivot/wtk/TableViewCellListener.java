@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pivot.wtk;
+
+/**
+ * Table view cell listener interface.
+ */
+public interface TableViewCellListener {
+    /**
+     * Table view cell listener adapter.
+     */
+    public static class Adapter implements TableViewCellListener {
+        @Override
+        public void cellUpdated(TableView tableView, int rowIndex, String columnName) {
+            // empty block
+        }
+    }
+
+    /**
+     * Called when the value of a single cell has been marked as changed.
+     *
+     * @param tableView
+     * The source of the event.
+     *
+     * @param rowIndex
+     * The index of the row containing the cell.
+     *
+     * @param columnName
+     * The name of the column containing the cell.
+     *
+     * @see TableView#markCellDirty(int, String)
+     */
+    public void cellUpdated(TableView tableView, int rowIndex, String columnName);
+}
@@ -45,15 +45,17 @@ public class TableViewHeader extends Component {
         @Override
         public void tableViewChanged(TableViewHeader tableViewHeader,
             TableView previousTableView) {
-            for (TableViewHeaderListener listener : this) {
-                listener.tableViewChanged(tableViewHeader, previousTableView);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TableViewHeaderListener)listeners[i]).tableViewChanged(tableViewHeader, previousTableView);
             }
         }
 
         @Override
         public void sortModeChanged(TableViewHeader tableViewHeader, SortMode previousSortMode) {
-            for (TableViewHeaderListener listener : this) {
-                listener.sortModeChanged(tableViewHeader, previousSortMode);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TableViewHeaderListener)listeners[i]).sortModeChanged(tableViewHeader, previousSortMode);
             }
         }
     }
@@ -62,8 +64,9 @@ public class TableViewHeader extends Component {
         implements TableViewHeaderPressListener {
         @Override
         public void headerPressed(TableViewHeader tableViewHeader, int index) {
-            for (TableViewHeaderPressListener listener : this) {
-                listener.headerPressed(tableViewHeader, index);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TableViewHeaderPressListener)listeners[i]).headerPressed(tableViewHeader, index);
             }
         }
     }
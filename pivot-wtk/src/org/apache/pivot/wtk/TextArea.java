@@ -44,15 +44,17 @@ public class TextArea extends Component {
             implements ParagraphListener {
             @Override
             public void textInserted(Paragraph paragraph, int index, int count) {
-                for (ParagraphListener listener : this) {
-                    listener.textInserted(paragraph, index, count);
+                Object[] listeners = getSnapshot();
+                for (int i = 0; i < listeners.length; i++) {
+                    ((ParagraphListener)listeners[i]).textInserted(paragraph, index, count);
                 }
             }
 
             @Override
             public void textRemoved(Paragraph paragraph, int index, int count) {
-                for (ParagraphListener listener : this) {
-                    listener.textRemoved(paragraph, index, count);
+                Object[] listeners = getSnapshot();
+                for (int i = 0; i < listeners.length; i++) {
+                    ((ParagraphListener)listeners[i]).textRemoved(paragraph, index, count);
                 }
             }
         }
@@ -499,15 +501,17 @@ public class TextArea extends Component {
         implements TextAreaListener {
         @Override
         public void maximumLengthChanged(TextArea textArea, int previousMaximumLength) {
-            for (TextAreaListener listener : this) {
-                listener.maximumLengthChanged(textArea, previousMaximumLength);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TextAreaListener)listeners[i]).maximumLengthChanged(textArea, previousMaximumLength);
             }
         }
 
         @Override
         public void editableChanged(TextArea textArea) {
-            for (TextAreaListener listener : this) {
-                listener.editableChanged(textArea);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TextAreaListener)listeners[i]).editableChanged(textArea);
             }
         }
     }
@@ -516,22 +520,25 @@ public class TextArea extends Component {
         implements TextAreaContentListener {
         @Override
         public void paragraphInserted(TextArea textArea, int index) {
-            for (TextAreaContentListener listener : this) {
-                listener.paragraphInserted(textArea, index);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TextAreaContentListener)listeners[i]).paragraphInserted(textArea, index);
             }
         }
 
         @Override
         public void paragraphsRemoved(TextArea textArea, int index, Sequence<TextArea.Paragraph> removed) {
-            for (TextAreaContentListener listener : this) {
-                listener.paragraphsRemoved(textArea, index, removed);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TextAreaContentListener)listeners[i]).paragraphsRemoved(textArea, index, removed);
             }
         }
 
         @Override
         public void textChanged(TextArea textArea) {
-            for (TextAreaContentListener listener : this) {
-                listener.textChanged(textArea);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TextAreaContentListener)listeners[i]).textChanged(textArea);
             }
         }
     }
@@ -541,8 +548,9 @@ public class TextArea extends Component {
         @Override
         public void selectionChanged(TextArea textArea, int previousSelectionStart,
             int previousSelectionLength) {
-            for (TextAreaSelectionListener listener : this) {
-                listener.selectionChanged(textArea, previousSelectionStart,
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TextAreaSelectionListener)listeners[i]).selectionChanged(textArea, previousSelectionStart,
                     previousSelectionLength);
             }
         }
@@ -552,22 +560,25 @@ public class TextArea extends Component {
         implements TextAreaBindingListener {
         @Override
         public void textKeyChanged(TextArea textArea, String previousTextKey) {
-            for (TextAreaBindingListener listener : this) {
-                listener.textKeyChanged(textArea, previousTextKey);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TextAreaBindingListener)listeners[i]).textKeyChanged(textArea, previousTextKey);
             }
         }
 
         @Override
         public void textBindTypeChanged(TextArea textArea, BindType previousTextBindType) {
-            for (TextAreaBindingListener listener : this) {
-                listener.textBindTypeChanged(textArea, previousTextBindType);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TextAreaBindingListener)listeners[i]).textBindTypeChanged(textArea, previousTextBindType);
             }
         }
 
         @Override
         public void textBindMappingChanged(TextArea textArea, TextBindMapping previousTextBindMapping) {
-            for (TextAreaBindingListener listener : this) {
-                listener.textBindMappingChanged(textArea, previousTextBindMapping);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TextAreaBindingListener)listeners[i]).textBindMappingChanged(textArea, previousTextBindMapping);
             }
         }
     }
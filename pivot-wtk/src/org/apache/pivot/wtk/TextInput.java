@@ -108,57 +108,65 @@ public class TextInput extends Component {
         implements TextInputListener {
         @Override
         public void textSizeChanged(TextInput textInput, int previousTextSize) {
-            for (TextInputListener listener : this) {
-                listener.textSizeChanged(textInput, previousTextSize);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TextInputListener)listeners[i]).textSizeChanged(textInput, previousTextSize);
             }
         }
 
         @Override
         public void maximumLengthChanged(TextInput textInput, int previousMaximumLength) {
-            for (TextInputListener listener : this) {
-                listener.maximumLengthChanged(textInput, previousMaximumLength);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TextInputListener)listeners[i]).maximumLengthChanged(textInput, previousMaximumLength);
             }
         }
 
         @Override
         public void passwordChanged(TextInput textInput) {
-            for (TextInputListener listener : this) {
-                listener.passwordChanged(textInput);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TextInputListener)listeners[i]).passwordChanged(textInput);
             }
         }
 
         @Override
         public void promptChanged(TextInput textInput, String previousPrompt) {
-            for (TextInputListener listener : this) {
-                listener.promptChanged(textInput, previousPrompt);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TextInputListener)listeners[i]).promptChanged(textInput, previousPrompt);
             }
         }
 
         @Override
         public void textValidatorChanged(TextInput textInput, Validator previousValidator) {
-            for (TextInputListener listener : this) {
-                listener.textValidatorChanged(textInput, previousValidator);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TextInputListener)listeners[i]).textValidatorChanged(textInput, previousValidator);
             }
         }
 
         @Override
         public void strictValidationChanged(TextInput textInput) {
-            for (TextInputListener listener : this) {
-                listener.strictValidationChanged(textInput);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TextInputListener)listeners[i]).strictValidationChanged(textInput);
             }
         }
 
         @Override
         public void textValidChanged(TextInput textInput) {
-            for (TextInputListener listener : this) {
-                listener.textValidChanged(textInput);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TextInputListener)listeners[i]).textValidChanged(textInput);
             }
         }
 
         @Override
         public void editableChanged(TextInput textInput) {
-            for (TextInputListener listener : this) {
-                listener.editableChanged(textInput);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TextInputListener)listeners[i]).editableChanged(textInput);
             }
         }
     }
@@ -169,7 +177,9 @@ public class TextInput extends Component {
         public Vote previewInsertText(TextInput textInput, CharSequence text, int index) {
             Vote vote = Vote.APPROVE;
 
-            for (TextInputContentListener listener : this) {
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                TextInputContentListener listener = (TextInputContentListener)listeners[i];
                 vote = vote.tally(listener.previewInsertText(textInput, text, index));
             }
 
@@ -178,15 +188,17 @@ public class TextInput extends Component {
 
         @Override
         public void insertTextVetoed(TextInput textInput, Vote reason) {
-            for (TextInputContentListener listener : this) {
-                listener.insertTextVetoed(textInput, reason);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TextInputContentListener)listeners[i]).insertTextVetoed(textInput, reason);
             }
         }
 
         @Override
         public void textInserted(TextInput textInput, int index, int count) {
-            for (TextInputContentListener listener : this) {
-                listener.textInserted(textInput, index, count);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TextInputContentListener)listeners[i]).textInserted(textInput, index, count);
             }
         }
 
@@ -194,7 +206,9 @@ public class TextInput extends Component {
         public Vote previewRemoveText(TextInput textInput, int index, int count) {
             Vote vote = Vote.APPROVE;
 
-            for (TextInputContentListener listener : this) {
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                TextInputContentListener listener = (TextInputContentListener)listeners[i];
                 vote = vote.tally(listener.previewRemoveText(textInput, index, count));
             }
 
@@ -203,22 +217,25 @@ public class TextInput extends Component {
 
         @Override
         public void removeTextVetoed(TextInput textInput, Vote reason) {
-            for (TextInputContentListener listener : this) {
-                listener.removeTextVetoed(textInput, reason);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TextInputContentListener)listeners[i]).removeTextVetoed(textInput, reason);
             }
         }
 
         @Override
         public void textRemoved(TextInput textInput, int index, int count) {
-            for (TextInputContentListener listener : this) {
-                listener.textRemoved(textInput, index, count);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TextInputContentListener)listeners[i]).textRemoved(textInput, index, count);
             }
         }
 
         @Override
         public void textChanged(TextInput textInput) {
-            for (TextInputContentListener listener : this) {
-                listener.textChanged(textInput);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TextInputContentListener)listeners[i]).textChanged(textInput);
             }
         }
     }
@@ -228,8 +245,9 @@ public class TextInput extends Component {
         @Override
         public void selectionChanged(TextInput textInput, int previousSelectionStart,
             int previousSelectionLength) {
-            for (TextInputSelectionListener listener : this) {
-                listener.selectionChanged(textInput,
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TextInputSelectionListener)listeners[i]).selectionChanged(textInput,
                     previousSelectionStart, previousSelectionLength);
             }
         }
@@ -239,22 +257,25 @@ public class TextInput extends Component {
         implements TextInputBindingListener {
         @Override
         public void textKeyChanged(TextInput textInput, String previousTextKey) {
-            for (TextInputBindingListener listener : this) {
-                listener.textKeyChanged(textInput, previousTextKey);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TextInputBindingListener)listeners[i]).textKeyChanged(textInput, previousTextKey);
             }
         }
 
         @Override
         public void textBindTypeChanged(TextInput textInput, BindType previousTextBindType) {
-            for (TextInputBindingListener listener : this) {
-                listener.textBindTypeChanged(textInput, previousTextBindType);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TextInputBindingListener)listeners[i]).textBindTypeChanged(textInput, previousTextBindType);
             }
         }
 
         @Override
         public void textBindMappingChanged(TextInput textInput, TextBindMapping previousTextBindMapping) {
-            for (TextInputBindingListener listener : this) {
-                listener.textBindMappingChanged(textInput, previousTextBindMapping);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TextInputBindingListener)listeners[i]).textBindMappingChanged(textInput, previousTextBindMapping);
             }
         }
     }
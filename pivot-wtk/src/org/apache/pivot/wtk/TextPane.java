@@ -162,15 +162,17 @@ public class TextPane extends Container {
         implements TextPaneListener {
         @Override
         public void documentChanged(TextPane textPane, Document previousText) {
-            for (TextPaneListener listener : this) {
-                listener.documentChanged(textPane, previousText);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TextPaneListener)listeners[i]).documentChanged(textPane, previousText);
             }
         }
 
         @Override
         public void editableChanged(TextPane textPane) {
-            for (TextPaneListener listener : this) {
-                listener.editableChanged(textPane);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TextPaneListener)listeners[i]).editableChanged(textPane);
             }
         }
     }
@@ -179,15 +181,17 @@ public class TextPane extends Container {
         implements TextPaneCharacterListener {
         @Override
         public void charactersInserted(TextPane textPane, int index, int count) {
-            for (TextPaneCharacterListener listener : this) {
-                listener.charactersInserted(textPane, index, count);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TextPaneCharacterListener)listeners[i]).charactersInserted(textPane, index, count);
             }
         }
 
         @Override
         public void charactersRemoved(TextPane textPane, int index, int count) {
-            for (TextPaneCharacterListener listener : this) {
-                listener.charactersRemoved(textPane, index, count);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TextPaneCharacterListener)listeners[i]).charactersRemoved(textPane, index, count);
             }
         }
     }
@@ -197,8 +201,9 @@ public class TextPane extends Container {
         @Override
         public void selectionChanged(TextPane textPane,
             int previousSelectionStart, int previousSelectionLength) {
-            for (TextPaneSelectionListener listener : this) {
-                listener.selectionChanged(textPane, previousSelectionStart, previousSelectionLength);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TextPaneSelectionListener)listeners[i]).selectionChanged(textPane, previousSelectionStart, previousSelectionLength);
             }
         }
     }
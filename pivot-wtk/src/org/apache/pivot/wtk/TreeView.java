@@ -24,7 +24,6 @@ import org.apache.pivot.collections.ArrayList;
 import org.apache.pivot.collections.List;
 import org.apache.pivot.collections.ListListener;
 import org.apache.pivot.collections.Sequence;
-import org.apache.pivot.collections.Sequence.Tree.ImmutablePath;
 import org.apache.pivot.collections.Sequence.Tree.Path;
 import org.apache.pivot.collections.immutable.ImmutableList;
 import org.apache.pivot.util.Filter;
@@ -169,6 +168,67 @@ public class TreeView extends Component {
         public boolean isEditing();
     }
 
+    /**
+     * Optional interface for branch data whose children are loaded on demand
+     * (for example, a page at a time from a server). Until a child has been
+     * loaded, the branch returns a placeholder for it; when the child arrives,
+     * the branch reports it as an update of the placeholder.
+     * <p>
+     * Skins call {@link #loadNodes(int, int)} for the children they are about
+     * to display, so only the children that are scrolled into view are ever
+     * requested.
+     */
+    public interface LazyBranch {
+        /**
+         * Requests that a range of children be loaded. Implementations must
+         * return immediately; loaded children must be reported on the UI
+         * thread.
+         *
+         * @param index
+         * The index of the first child.
+         *
+         * @param count
+         * The number of children.
+         */
+        public void loadNodes(int index, int count);
+    }
+
+    /**
+     * Optional interface for list listeners of lazy branch data. A lazy branch
+     * that adds a run of children at once (for example, when it learns that
+     * more data is available) notifies listeners that implement this
+     * interface with a single call, rather than one
+     * <tt>itemInserted()</tt> call per child.
+     */
+    public interface LazyBranchListener {
+        /**
+         * Called when a run of children has been inserted into a lazy branch.
+         *
+         * @param list
+         * @param index
+         * The index of the first inserted child.
+         *
+         * @param count
+         * The number of children inserted.
+         */
+        public void itemsInserted(List<?> list, int index, int count);
+
+        /**
+         * Called when the way a run of children is displayed has changed, but
+         * no loaded child has been replaced; for example, when the node that
+         * stands in for unloaded children changes. The children keep their
+         * expanded, selected, and checked state.
+         *
+         * @param list
+         * @param index
+         * The index of the first updated child.
+         *
+         * @param count
+         * The number of children updated.
+         */
+        public void itemsUpdated(List<?> list, int index, int count);
+    }
+
     /**
      * Tree view skin interface. Tree view skins must implement this.
      */
@@ -237,61 +297,69 @@ public class TreeView extends Component {
 
         @Override
         public void treeDataChanged(TreeView treeView, List<?> previousTreeData) {
-            for (TreeViewListener listener : this) {
-                listener.treeDataChanged(treeView, previousTreeData);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TreeViewListener)listeners[i]).treeDataChanged(treeView, previousTreeData);
             }
         }
 
         @Override
         public void nodeRendererChanged(TreeView treeView,
             NodeRenderer previousNodeRenderer) {
-            for (TreeViewListener listener : this) {
-                listener.nodeRendererChanged(treeView, previousNodeRenderer);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TreeViewListener)listeners[i]).nodeRendererChanged(treeView, previousNodeRenderer);
             }
         }
 
         @Override
         public void nodeEditorChanged(TreeView treeView,
             TreeView.NodeEditor previousNodeEditor) {
-            for (TreeViewListener listener : this) {
-                listener.nodeEditorChanged(treeView, previousNodeEditor);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TreeViewListener)listeners[i]).nodeEditorChanged(treeView, previousNodeEditor);
             }
         }
 
         @Override
         public void selectModeChanged(TreeView treeView, SelectMode previousSelectMode) {
-            for (TreeViewListener listener : this) {
-                listener.selectModeChanged(treeView, previousSelectMode);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TreeViewListener)listeners[i]).selectModeChanged(treeView, previousSelectMode);
             }
         }
 
         @Override
         public void checkmarksEnabledChanged(TreeView treeView) {
-            for (TreeViewListener listener : this) {
-                listener.checkmarksEnabledChanged(treeView);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TreeViewListener)listeners[i]).checkmarksEnabledChanged(treeView);
             }
         }
 
         @Override
         public void showMixedCheckmarkStateChanged(TreeView treeView) {
-            for (TreeViewListener listener : this) {
-                listener.showMixedCheckmarkStateChanged(treeView);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TreeViewListener)listeners[i]).showMixedCheckmarkStateChanged(treeView);
             }
         }
 
         @Override
         public void disabledNodeFilterChanged(TreeView treeView,
             Filter<?> previousDisabledNodeFilter) {
-            for (TreeViewListener listener : this) {
-                listener.disabledNodeFilterChanged(treeView, previousDisabledNodeFilter);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TreeViewListener)listeners[i]).disabledNodeFilterChanged(treeView, previousDisabledNodeFilter);
             }
         }
 
         @Override
         public void disabledCheckmarkFilterChanged(TreeView treeView,
             Filter<?> previousDisabledCheckmarkFilter) {
-            for (TreeViewListener listener : this) {
-                listener.disabledCheckmarkFilterChanged(treeView, previousDisabledCheckmarkFilter);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TreeViewListener)listeners[i]).disabledCheckmarkFilterChanged(treeView, previousDisabledCheckmarkFilter);
             }
         }
     }
@@ -303,15 +371,17 @@ public class TreeView extends Component {
         implements TreeViewBranchListener {
         @Override
         public void branchExpanded(TreeView treeView, Path path) {
-            for (TreeViewBranchListener listener : this) {
-                listener.branchExpanded(treeView, path);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TreeViewBranchListener)listeners[i]).branchExpanded(treeView, path);
             }
         }
 
         @Override
         public void branchCollapsed(TreeView treeView, Path path) {
-            for (TreeViewBranchListener listener : this) {
-                listener.branchCollapsed(treeView, path);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TreeViewBranchListener)listeners[i]).branchCollapsed(treeView, path);
             }
         }
     }
@@ -323,37 +393,74 @@ public class TreeView extends Component {
         implements TreeViewNodeListener {
         @Override
         public void nodeInserted(TreeView treeView, Path path, int index) {
-            for (TreeViewNodeListener listener : this) {
-                listener.nodeInserted(treeView, path, index);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TreeViewNodeListener)listeners[i]).nodeInserted(treeView, path, index);
+            }
+        }
+
+        public void nodesInserted(TreeView treeView, Path path, int index, int count) {
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                TreeViewNodeListener listener = (TreeViewNodeListener)listeners[i];
+
+                if (listener instanceof TreeViewNodeRangeListener) {
+                    ((TreeViewNodeRangeListener)listener).nodesInserted(treeView, path, index,
+                        count);
+                } else {
+                    for (int j = 0; j < count; j++) {
+                        listener.nodeInserted(treeView, path, index + j);
+                    }
+                }
+            }
+        }
+
+        public void nodesUpdated(TreeView treeView, Path path, int index, int count) {
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                TreeViewNodeListener listener = (TreeViewNodeListener)listeners[i];
+
+                if (listener instanceof TreeViewNodeRangeListener) {
+                    ((TreeViewNodeRangeListener)listener).nodesUpdated(treeView, path, index,
+                        count);
+                } else {
+                    for (int j = 0; j < count; j++) {
+                        listener.nodeUpdated(treeView, path, index + j);
+                    }
+                }
             }
         }
 
         @Override
         public void nodesRemoved(TreeView treeView, Path path, int index,
             int count) {
-            for (TreeViewNodeListener listener : this) {
-                listener.nodesRemoved(treeView, path, index, count);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TreeViewNodeListener)listeners[i]).nodesRemoved(treeView, path, index, count);
             }
         }
 
         @Override
         public void nodeUpdated(TreeView treeView, Path path, int index) {
-            for (TreeViewNodeListener listener : this) {
-                listener.nodeUpdated(treeView, path, index);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TreeViewNodeListener)listeners[i]).nodeUpdated(treeView, path, index);
             }
         }
 
         @Override
         public void nodesCleared(TreeView treeView, Path path) {
-            for (TreeViewNodeListener listener : this) {
-                listener.nodesCleared(treeView, path);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TreeViewNodeListener)listeners[i]).nodesCleared(treeView, path);
             }
         }
 
         @Override
         public void nodesSorted(TreeView treeView, Path path) {
-            for (TreeViewNodeListener listener : this) {
-                listener.nodesSorted(treeView, path);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TreeViewNodeListener)listeners[i]).nodesSorted(treeView, path);
             }
         }
     }
@@ -367,8 +474,9 @@ public class TreeView extends Component {
         @Override
         public void nodeCheckStateChanged(TreeView treeView, Path path,
             TreeView.NodeCheckState previousCheckState) {
-            for (TreeViewNodeStateListener listener : this) {
-                listener.nodeCheckStateChanged(treeView, path, previousCheckState);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TreeViewNodeStateListener)listeners[i]).nodeCheckStateChanged(treeView, path, previousCheckState);
             }
         }
     }
@@ -381,30 +489,34 @@ public class TreeView extends Component {
         implements TreeViewSelectionListener {
         @Override
         public void selectedPathAdded(TreeView treeView, Path path) {
-            for (TreeViewSelectionListener listener : this) {
-                listener.selectedPathAdded(treeView, path);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TreeViewSelectionListener)listeners[i]).selectedPathAdded(treeView, path);
             }
         }
 
         @Override
         public void selectedPathRemoved(TreeView treeView, Path path) {
-            for (TreeViewSelectionListener listener : this) {
-                listener.selectedPathRemoved(treeView, path);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TreeViewSelectionListener)listeners[i]).selectedPathRemoved(treeView, path);
             }
         }
 
         @Override
         public void selectedPathsChanged(TreeView treeView,
             Sequence<Path> previousSelectedPaths) {
-            for (TreeViewSelectionListener listener : this) {
-                listener.selectedPathsChanged(treeView, previousSelectedPaths);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TreeViewSelectionListener)listeners[i]).selectedPathsChanged(treeView, previousSelectedPaths);
             }
         }
 
         @Override
         public void selectedNodeChanged(TreeView treeView, Object previousSelectedNode) {
-            for (TreeViewSelectionListener listener : this) {
-                listener.selectedNodeChanged(treeView, previousSelectedNode);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TreeViewSelectionListener)listeners[i]).selectedNodeChanged(treeView, previousSelectedNode);
             }
         }
     }
@@ -438,7 +550,8 @@ public class TreeView extends Component {
      * Notifies the tree of nested <tt>ListListener</tt> events that occur on
      * the tree data.
      */
-    private class BranchHandler extends ArrayList<BranchHandler> implements ListListener<Object> {
+    private class BranchHandler extends ArrayList<BranchHandler> implements ListListener<Object>,
+        LazyBranchListener {
         private static final long serialVersionUID = -6132480635507615071L;
 
         // Reference to its parent allows for the construction of its path
@@ -500,15 +613,26 @@ public class TreeView extends Component {
          * branch. Note: <tt>rootBranchHandler.getPath()</tt> will return and
          * empty sequence.
          */
-        @SuppressWarnings("unchecked")
         private Path getPath() {
             Path path = new Path();
 
             BranchHandler handler = this;
 
             while (handler.parent != null) {
-                int index = ((List<Object>)handler.parent.branchData).indexOf(handler.branchData);
-                path.insert(index, 0);
+                // Search the parent's handlers rather than its branch data,
+                // which may be lazy; they are kept aligned with the data. The
+                // search is by identity, since indexOf() would match the first
+                // sibling handler that is equal to this one.
+                BranchHandler parentHandler = handler.parent;
+
+                int index = 0;
+                int n = parentHandler.getLength();
+                while (index < n
+                    && parentHandler.get(index) != handler) {
+                    index++;
+                }
+
+                path.insert((index < n) ? index : -1, 0);
 
                 handler = handler.parent;
             }
@@ -524,9 +648,9 @@ public class TreeView extends Component {
             insert(null, index);
 
             // Update our data structures
-            incrementPaths(expandedPaths, path, index);
-            int updated = incrementPaths(selectedPaths, path, index);
-            incrementPaths(checkedPaths, path, index);
+            expandedPaths.insert(path, index);
+            int updated = selectedPaths.insert(path, index);
+            checkedPaths.insert(path, index);
 
             // Notify listeners
             treeViewNodeListeners.nodeInserted(TreeView.this, path, index);
@@ -537,16 +661,39 @@ public class TreeView extends Component {
         }
 
         @Override
-        public void itemsRemoved(List<Object> list, int index, Sequence<Object> items) {
+        public void itemsInserted(List<?> list, int index, int count) {
             Path path = getPath();
 
-            Path previousSelectedPath;
-            if (selectMode == SelectMode.SINGLE
-                && selectedPaths.getLength() > 0) {
-                previousSelectedPath = selectedPaths.get(0);
-            } else {
-                previousSelectedPath = null;
+            // Insert child handler placeholders (lazily loaded)
+            for (int i = 0; i < count; i++) {
+                insert(null, index + i);
+            }
+
+            // Update our data structures
+            expandedPaths.insert(path, index, count);
+            int updated = selectedPaths.insert(path, index, count);
+            checkedPaths.insert(path, index, count);
+
+            // Notify listeners
+            treeViewNodeListeners.nodesInserted(TreeView.this, path, index, count);
+
+            if (updated > 0) {
+                treeViewSelectionListeners.selectedPathsChanged(TreeView.this, getSelectedPaths());
             }
+        }
+
+        @Override
+        public void itemsUpdated(List<?> list, int index, int count) {
+            // Notify listeners
+            treeViewNodeListeners.nodesUpdated(TreeView.this, getPath(), index, count);
+        }
+
+        @Override
+        public void itemsRemoved(List<Object> list, int index, Sequence<Object> items) {
+            Path path = getPath();
+
+            Path previousSelectedPath = (selectMode == SelectMode.SINGLE) ?
+                getFirstSelectedPath() : null;
 
             // Remove child handlers
             int count = items.getLength();
@@ -562,9 +709,9 @@ public class TreeView extends Component {
             }
 
             // Update our data structures
-            clearAndDecrementPaths(expandedPaths, path, index, count);
-            int updated = clearAndDecrementPaths(selectedPaths, path, index, count);
-            clearAndDecrementPaths(checkedPaths, path, index, count);
+            expandedPaths.remove(path, index, count);
+            int updated = selectedPaths.remove(path, index, count);
+            checkedPaths.remove(path, index, count);
 
             // Notify listeners
             treeViewNodeListeners.nodesRemoved(TreeView.this, path, index, count);
@@ -572,8 +719,11 @@ public class TreeView extends Component {
             if (updated > 0) {
                 treeViewSelectionListeners.selectedPathsChanged(TreeView.this, getSelectedPaths());
 
+                Path selectedPath = getSelectedPath();
+
                 if (selectMode == SelectMode.SINGLE
-                    && !getSelectedPath().equals(previousSelectedPath)) {
+                    && (selectedPath == null
+                    || !selectedPath.equals(previousSelectedPath))) {
                     treeViewSelectionListeners.selectedNodeChanged(TreeView.this, null);
                 }
             }
@@ -592,9 +742,9 @@ public class TreeView extends Component {
                 }
 
                 // Update our data structures
-                clearPaths(expandedPaths, path, index);
-                clearPaths(selectedPaths, path, index);
-                clearPaths(checkedPaths, path, index);
+                expandedPaths.remove(path, index);
+                selectedPaths.remove(path, index);
+                checkedPaths.remove(path, index);
             }
 
             // Notify listeners
@@ -618,9 +768,9 @@ public class TreeView extends Component {
             super.clear();
 
             // Update our data structures
-            clearPaths(expandedPaths, path);
-            int cleared = clearPaths(selectedPaths, path);
-            clearPaths(checkedPaths, path);
+            expandedPaths.removeDescendants(path);
+            int cleared = selectedPaths.removeDescendants(path);
+            checkedPaths.removeDescendants(path);
 
             // Notify listeners
             treeViewNodeListeners.nodesCleared(TreeView.this, path);
@@ -641,7 +791,7 @@ public class TreeView extends Component {
                 Path path = getPath();
 
                 // Release all child handlers. This is safe because of the
-                // calls to clearPaths(). Failure to do this would result in
+                // calls to removeDescendants(). Failure to do this would result in
                 // the indices of our child handlers not matching those of the
                 // backing data structures, which would yield very hard to find
                 // bugs
@@ -654,9 +804,9 @@ public class TreeView extends Component {
                 }
 
                 // Update our data structures
-                clearPaths(expandedPaths, path);
-                int cleared = clearPaths(selectedPaths, path);
-                clearPaths(checkedPaths, path);
+                expandedPaths.removeDescendants(path);
+                int cleared = selectedPaths.removeDescendants(path);
+                checkedPaths.removeDescendants(path);
 
                 // Notify listeners
                 treeViewNodeListeners.nodesSorted(TreeView.this, path);
@@ -670,205 +820,15 @@ public class TreeView extends Component {
                 }
             }
         }
-
-        /**
-         * Updates the paths within the specified sequence in response to a tree
-         * data path insertion.  For instance, if <tt>paths</tt> is
-         * <tt>[[3, 0], [5, 0]]</tt>, <tt>basePath</tt> is <tt>[]</tt>, and
-         * <tt>index</tt> is <tt>4</tt>, then <tt>paths</tt> will be updated to
-         * <tt>[[3, 0], [6, 0]]</tt>. No events are fired.
-         *
-         * @param paths
-         * Sequence of paths guaranteed to be sorted by "row order".
-         *
-         * @param basePath
-         * The path to the parent of the inserted item.
-         *
-         * @param index
-         * The index of the inserted item within its parent.
-         */
-        private int incrementPaths(ArrayList<Path> paths, Path basePath, int index) {
-            // Calculate the child's path
-            Path childPath = new Path(basePath);
-            childPath.add(index);
-
-            // Find the child path's place in our sorted paths sequence
-            int i = ArrayList.binarySearch(paths, childPath, PATH_COMPARATOR);
-            if (i < 0) {
-                i = -(i + 1);
-            }
-
-            // Temporarily clear the comparator while we update the list
-            paths.setComparator(null);
-
-            int n = paths.getLength();
-            try {
-                // Update all affected paths by incrementing the appropriate path element
-                for (int depth = basePath.getLength(); i < n; i++) {
-                    Path affectedPath = paths.get(i);
-
-                    if (!Sequence.Tree.isDescendant(basePath, affectedPath)) {
-                        // All paths from here forward are guaranteed to be unaffected
-                        break;
-                    }
-
-                    Integer[] elements = affectedPath.toArray();
-                    elements[depth]++;
-                    paths.update(i, new ImmutablePath(elements));
-                }
-            } finally {
-                // Restore the comparator
-                paths.setComparator(PATH_COMPARATOR);
-            }
-
-            return (n - i);
-        }
-
-        /**
-         * Updates the paths within the specified sequence in response to items
-         * having been removed from the base path. For instance, if
-         * <tt>paths</tt> is <tt>[[3, 0], [3, 1], [6, 0]]</tt>,
-         * <tt>basePath</tt> is <tt>[]</tt>, <tt>index</tt> is <tt>3</tt>, and
-         * <tt>count</tt> is <tt>2</tt>, then <tt>paths</tt> will be updated to
-         * <tt>[[4, 0]]</tt>. No events are fired.
-         *
-         * @param paths
-         * Sequence of paths guaranteed to be sorted by "row order".
-         *
-         * @param basePath
-         * The path to the parent of the removed items.
-         *
-         * @param index
-         * The index of the first removed item within the base.
-         *
-         * @param count
-         * The number of items removed.
-         */
-        private int clearAndDecrementPaths(ArrayList<Path> paths, Path basePath, int index,
-            int count) {
-            int depth = basePath.getLength();
-
-            // Find the index of the first path to clear (inclusive)
-            Path testPath = new Path(basePath);
-            testPath.add(index);
-
-            int start = ArrayList.binarySearch(paths, testPath, PATH_COMPARATOR);
-            if (start < 0) {
-                start = -(start + 1);
-            }
-
-            // Find the index of the last path to clear (exclusive)
-            testPath.update(depth, index + count);
-
-            int end = ArrayList.binarySearch(paths, testPath, PATH_COMPARATOR);
-            if (end < 0) {
-                end = -(end + 1);
-            }
-
-            // Clear affected paths
-            if (end > start) {
-                paths.remove(start, end - start);
-            }
-
-            // Decrement paths as necessary
-            int n = paths.getLength();
-            for (int i = start; i < n; i++) {
-                Path affectedPath = paths.get(i);
-
-                if (!Sequence.Tree.isDescendant(basePath, affectedPath)) {
-                    // All paths from here forward are guaranteed to be unaffected
-                    break;
-                }
-
-                Integer[] elements = affectedPath.toArray();
-                elements[depth] -= count;
-                paths.update(i, new ImmutablePath(elements));
-            }
-
-            return (n - start);
-        }
-
-        /**
-         * Removes affected paths from within the specified sequence in response
-         * to an item having been updated in the base path.  For instance, if
-         * <tt>paths</tt> is <tt>[[3], [3, 0], [3, 1], [5, 0]]</tt>,
-         * <tt>basePath</tt> is <tt>[3]</tt>, and <tt>index</tt> is <tt>0</tt>,
-         * then <tt>paths</tt> will be updated to
-         * <tt>[[3], [3, 1], [5, 0]]</tt>. No events are fired.
-         *
-         * @param paths
-         * Sequence of paths guaranteed to be sorted by "row order".
-         *
-         * @param basePath
-         * The path to the parent of the updated item.
-         *
-         * @param index
-         * The index of the updated item within its parent.
-         */
-        private void clearPaths(ArrayList<Path> paths, Path basePath, int index) {
-            // Calculate the child's path
-            Path childPath = new Path(basePath);
-            childPath.add(index);
-
-            // Find the child path's place in our sorted paths sequence
-            int clearIndex = ArrayList.binarySearch(paths, childPath, PATH_COMPARATOR);
-            if (clearIndex < 0) {
-                clearIndex = -(clearIndex + 1);
-            }
-
-            // Remove the child and all descendants from the paths list
-            for (int i = clearIndex, n = paths.getLength(); i < n; i++) {
-                Path affectedPath = paths.get(clearIndex);
-
-                if (!Sequence.Tree.isDescendant(childPath, affectedPath)) {
-                    break;
-                }
-
-                paths.remove(clearIndex, 1);
-            }
-        }
-
-        /**
-         * Removes affected paths from within the specified sequence in response
-         * to a base path having been sorted.  For instance, if <tt>paths</tt>
-         * is <tt>[[3], [3, 0], [3, 1], [5, 0]]</tt> and <tt>basePath</tt> is
-         * <tt>[3]</tt>, then <tt>paths</tt> will be updated to
-         * <tt>[[3], [5, 0]]</tt>. No events are fired.
-         *
-         * @param paths
-         * Sequence of paths guaranteed to be sorted by "row order".
-         *
-         * @param basePath
-         * The path whose children were sorted.
-         */
-        private int clearPaths(ArrayList<Path> paths, Path basePath) {
-            // Find first descendant in paths list, if it exists
-            int index = ArrayList.binarySearch(paths, basePath, PATH_COMPARATOR);
-            index = (index < 0 ? -(index + 1) : index + 1);
-
-            // Remove all descendants from the paths list
-            int n = paths.getLength();
-            for (int i = index; i < n; i++) {
-                Path affectedPath = paths.get(index);
-
-                if (!Sequence.Tree.isDescendant(basePath, affectedPath)) {
-                    break;
-                }
-
-                paths.remove(index, 1);
-            }
-
-            return (n - index);
-        }
     }
 
     // Core data model
     private List<?> treeData = null;
 
     // Ancillary data models
-    private ArrayList<Path> expandedPaths = new ArrayList<Path>(PATH_COMPARATOR);
-    private ArrayList<Path> selectedPaths = new ArrayList<Path>(PATH_COMPARATOR);
-    private ArrayList<Path> checkedPaths = new ArrayList<Path>(PATH_COMPARATOR);
+    private PathTrie expandedPaths = new PathTrie();
+    private PathTrie selectedPaths = new PathTrie();
+    private PathTrie checkedPaths = new PathTrie();
 
     // Properties
     private SelectMode selectMode = SelectMode.SINGLE;
@@ -902,8 +862,6 @@ public class TreeView extends Component {
 
     private static final NodeRenderer DEFAULT_NODE_RENDERER = new TreeViewNodeRenderer();
 
-    private static final Comparator<Path> PATH_COMPARATOR = new PathComparator();
-
     /**
      * Creates a new <tt>TreeView</tt> with empty tree data.
      */
@@ -1126,12 +1084,12 @@ public class TreeView extends Component {
      * Returns the currently selected paths.
      *
      * @return
-     * An immutable list containing the currently selected paths. Note that the returned
-     * list is a wrapper around the actual selection, not a copy. Any changes made to the
-     * selection state will be reflected in the list, but events will not be fired.
+     * An immutable list containing the currently selected paths, in row order. Note that
+     * the returned list is a snapshot of the selection; subsequent changes to the
+     * selection state will not be reflected in it.
      */
     public ImmutableList<Path> getSelectedPaths() {
-        return new ImmutableList<Path>(selectedPaths);
+        return selectedPaths.getPaths();
     }
 
     /**
@@ -1154,23 +1112,33 @@ public class TreeView extends Component {
             throw new IllegalArgumentException("Selection length is greater than 1.");
         }
 
-        Sequence<Path> previousSelectedPaths = this.selectedPaths;
+        PathTrie previousSelectedPathTrie = this.selectedPaths;
+        Sequence<Path> previousSelectedPaths = previousSelectedPathTrie.getPaths();
         Object previousSelectedNode = (selectMode == SelectMode.SINGLE) ? getSelectedNode() : null;
 
-        // TODO Only add and monitor non-duplicates
+        PathTrie selectedPathTrie = new PathTrie();
 
-        if (selectedPaths != previousSelectedPaths) {
-            this.selectedPaths = new ArrayList<Path>(PATH_COMPARATOR);
-
-            for (int i = 0, n = selectedPaths.getLength(); i < n; i++) {
-                Path path = selectedPaths.get(i);
+        for (int i = 0, n = selectedPaths.getLength(); i < n; i++) {
+            Path path = selectedPaths.get(i);
 
+            if (!selectedPathTrie.contains(path)) {
                 // Monitor the path's parent
                 monitorBranch(new Path(path, path.getLength() - 1));
 
                 // Update the selection
-                this.selectedPaths.add(new ImmutablePath(path));
+                selectedPathTrie.add(path);
             }
+        }
+
+        // Only replace the selection and notify listeners if it has changed
+        boolean changed = (selectedPathTrie.getLength() != previousSelectedPathTrie.getLength());
+
+        for (int i = 0, n = previousSelectedPaths.getLength(); i < n && !changed; i++) {
+            changed = !selectedPathTrie.contains(previousSelectedPaths.get(i));
+        }
+
+        if (changed) {
+            this.selectedPaths = selectedPathTrie;
 
             // Notify listeners
             treeViewSelectionListeners.selectedPathsChanged(this, previousSelectedPaths);
@@ -1191,7 +1159,7 @@ public class TreeView extends Component {
      * The first selected path, or <tt>null</tt> if nothing is selected.
      */
     public Path getFirstSelectedPath() {
-        return (selectedPaths.getLength() > 0 ? selectedPaths.get(0) : null);
+        return (selectedPaths.getLength() > 0 ? selectedPaths.getPaths().get(0) : null);
     }
 
     /**
@@ -1203,7 +1171,7 @@ public class TreeView extends Component {
      */
     public Path getLastSelectedPath() {
         return (selectedPaths.getLength() > 0
-            ? selectedPaths.get(selectedPaths.getLength() - 1) : null);
+            ? selectedPaths.getPaths().get(selectedPaths.getLength() - 1) : null);
     }
 
     /**
@@ -1275,20 +1243,20 @@ public class TreeView extends Component {
             throw new IllegalStateException("Tree view is not in multi-select mode.");
         }
 
-        int index = selectedPaths.indexOf(path);
-        if (index < 0) {
+        boolean added = !selectedPaths.contains(path);
+        if (added) {
             // Monitor the path's parent
             monitorBranch(new Path(path, path.getLength() - 1));
 
             // Update the selection
-            selectedPaths.add(new ImmutablePath(path));
+            selectedPaths.add(path);
 
             // Notify listeners
             treeViewSelectionListeners.selectedPathAdded(this, path);
             treeViewSelectionListeners.selectedPathsChanged(this, null);
         }
 
-        return (index < 0);
+        return added;
     }
 
     /**
@@ -1316,17 +1284,15 @@ public class TreeView extends Component {
             throw new IllegalStateException("Tree view is not in multi-select mode.");
         }
 
-        int index = selectedPaths.indexOf(path);
-        if (index >= 0) {
-            // Update the selection
-            selectedPaths.remove(index, 1);
-
+        // Update the selection
+        boolean removed = selectedPaths.remove(path);
+        if (removed) {
             // Notify listeners
             treeViewSelectionListeners.selectedPathRemoved(this, path);
             treeViewSelectionListeners.selectedPathsChanged(this, null);
         }
 
-        return (index >= 0);
+        return removed;
     }
 
     public String getTreeDataKey() {
@@ -1356,10 +1322,10 @@ public class TreeView extends Component {
      */
     public void clearSelection() {
         if (selectedPaths.getLength() > 0) {
-            Sequence<Path> previousSelectedPaths = selectedPaths;
+            Sequence<Path> previousSelectedPaths = getSelectedPaths();
 
             // Update the selection
-            selectedPaths = new ArrayList<Path>(PATH_COMPARATOR);
+            selectedPaths.clear();
 
             // Notify listeners
             treeViewSelectionListeners.selectedPathsChanged(this, previousSelectedPaths);
@@ -1373,7 +1339,7 @@ public class TreeView extends Component {
             throw new IllegalArgumentException("path is null.");
         }
 
-        return (selectedPaths.indexOf(path) >= 0);
+        return selectedPaths.contains(path);
     }
 
     /**
@@ -1538,7 +1504,7 @@ public class TreeView extends Component {
             throw new IllegalArgumentException("path is null.");
         }
 
-        return (checkedPaths.indexOf(path) >= 0);
+        return checkedPaths.contains(path);
     }
 
     /**
@@ -1570,21 +1536,11 @@ public class TreeView extends Component {
         NodeCheckState checkState = NodeCheckState.UNCHECKED;
 
         if (checkmarksEnabled) {
-            int index = ArrayList.binarySearch(checkedPaths, path, PATH_COMPARATOR);
-
-            if (index >= 0) {
+            if (checkedPaths.contains(path)) {
                 checkState = NodeCheckState.CHECKED;
-            } else if (showMixedCheckmarkState) {
-                // Translate to the insertion index
-                index = -(index + 1);
-
-                if (index < checkedPaths.getLength()) {
-                    Path nextCheckedPath = checkedPaths.get(index);
-
-                    if (Sequence.Tree.isDescendant(path, nextCheckedPath)) {
-                        checkState = NodeCheckState.MIXED;
-                    }
-                }
+            } else if (showMixedCheckmarkState
+                && checkedPaths.containsDescendants(path)) {
+                checkState = NodeCheckState.MIXED;
             }
         }
 
@@ -1625,10 +1581,7 @@ public class TreeView extends Component {
             throw new IllegalStateException("Checkmarks are not enabled.");
         }
 
-        int index = checkedPaths.indexOf(path);
-
-        if ((index < 0 && checked)
-            || (index >= 0 && !checked)) {
+        if (checkedPaths.contains(path) != checked) {
             NodeCheckState previousCheckState = getNodeCheckState(path);
 
             Sequence<NodeCheckState> ancestorCheckStates = null;
@@ -1652,10 +1605,10 @@ public class TreeView extends Component {
                 monitorBranch(new Path(path, path.getLength() - 1));
 
                 // Update the checked paths
-                checkedPaths.add(new ImmutablePath(path));
+                checkedPaths.add(path);
             } else {
                 // Update the checked paths
-                checkedPaths.remove(index, 1);
+                checkedPaths.remove(path);
             }
 
             // Notify listeners
@@ -1694,7 +1647,7 @@ public class TreeView extends Component {
      * non-<tt>null</tt>.
      */
     public Sequence<Path> getCheckedPaths() {
-        return new ImmutableList<Path>(checkedPaths);
+        return checkedPaths.getPaths();
     }
 
     /**
@@ -1758,20 +1711,20 @@ public class TreeView extends Component {
             throw new IllegalArgumentException("path is empty.");
         }
 
-        int index = expandedPaths.indexOf(path);
+        boolean branchExpanded = expandedPaths.contains(path);
 
-        if (expanded && index < 0) {
+        if (expanded && !branchExpanded) {
             // Monitor the branch
             monitorBranch(path);
 
             // Update the expanded paths
-            expandedPaths.add(new ImmutablePath(path));
+            expandedPaths.add(path);
 
             // Notify listeners
             treeViewBranchListeners.branchExpanded(this, path);
-        } else if (!expanded && index >= 0) {
+        } else if (!expanded && branchExpanded) {
             // Update the expanded paths
-            expandedPaths.remove(index, 1);
+            expandedPaths.remove(path);
 
             // Notify listeners
             treeViewBranchListeners.branchCollapsed(this, path);
@@ -1792,7 +1745,7 @@ public class TreeView extends Component {
             throw new IllegalArgumentException("path is null.");
         }
 
-        return (expandedPaths.indexOf(path) >= 0);
+        return expandedPaths.contains(path);
     }
 
     /**
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pivot.wtk;
+
+import org.apache.pivot.collections.Sequence.Tree.Path;
+
+/**
+ * Optional interface for tree view node listeners. When a lazy branch inserts
+ * or updates a run of children at once, a node listener that implements this
+ * interface is notified with a single call; other node listeners receive one
+ * {@link TreeViewNodeListener#nodeInserted(TreeView, Path, int)} or
+ * {@link TreeViewNodeListener#nodeUpdated(TreeView, Path, int)} call per
+ * child.
+ */
+public interface TreeViewNodeRangeListener extends TreeViewNodeListener {
+    /**
+     * Called when a run of nodes has been inserted into the tree view.
+     *
+     * @param treeView
+     * @param path
+     * @param index
+     * The index of the first inserted node.
+     *
+     * @param count
+     * The number of nodes that were inserted.
+     */
+    public void nodesInserted(TreeView treeView, Path path, int index, int count);
+
+    /**
+     * Called when a run of nodes in the tree view has been updated.
+     *
+     * @param treeView
+     * @param path
+     * @param index
+     * The index of the first updated node.
+     *
+     * @param count
+     * The number of nodes that were updated.
+     */
+    public void nodesUpdated(TreeView treeView, Path path, int index, int count);
+}
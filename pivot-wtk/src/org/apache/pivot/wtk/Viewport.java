@@ -46,22 +46,25 @@ public abstract class Viewport extends Container {
 
         @Override
         public void scrollTopChanged(Viewport viewport, int previousScrollTop) {
-            for (ViewportListener listener : this) {
-                listener.scrollTopChanged(viewport, previousScrollTop);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ViewportListener)listeners[i]).scrollTopChanged(viewport, previousScrollTop);
             }
         }
 
         @Override
         public void scrollLeftChanged(Viewport viewport, int previousScrollLeft) {
-            for (ViewportListener listener : this) {
-                listener.scrollLeftChanged(viewport, previousScrollLeft);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ViewportListener)listeners[i]).scrollLeftChanged(viewport, previousScrollLeft);
             }
         }
 
         @Override
         public void viewChanged(Viewport viewport, Component previousView) {
-            for (ViewportListener listener : this) {
-                listener.viewChanged(viewport, previousView);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ViewportListener)listeners[i]).viewChanged(viewport, previousView);
             }
         }
     }
@@ -292,50 +292,57 @@ public class Window extends Container {
         implements WindowListener {
         @Override
         public void titleChanged(Window window, String previousTitle) {
-            for (WindowListener listener : this) {
-                listener.titleChanged(window, previousTitle);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((WindowListener)listeners[i]).titleChanged(window, previousTitle);
             }
         }
 
         @Override
         public void iconAdded(Window window, Image addedIcon) {
-            for (WindowListener listener : this) {
-                listener.iconAdded(window, addedIcon);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((WindowListener)listeners[i]).iconAdded(window, addedIcon);
             }
         }
 
         @Override
         public void iconInserted(Window window, Image addedIcon, int index) {
-            for (WindowListener listener : this) {
-                listener.iconInserted(window, addedIcon, index);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((WindowListener)listeners[i]).iconInserted(window, addedIcon, index);
             }
         }
 
         @Override
         public void iconsRemoved(Window window, int index, Sequence<Image> removed) {
-            for (WindowListener listener : this) {
-                listener.iconsRemoved(window, index, removed);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((WindowListener)listeners[i]).iconsRemoved(window, index, removed);
             }
         }
 
         @Override
         public void contentChanged(Window window, Component previousContent) {
-            for (WindowListener listener : this) {
-                listener.contentChanged(window, previousContent);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((WindowListener)listeners[i]).contentChanged(window, previousContent);
             }
         }
 
         @Override
         public void activeChanged(Window window, Window obverseWindow) {
-            for (WindowListener listener : this) {
-                listener.activeChanged(window, obverseWindow);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((WindowListener)listeners[i]).activeChanged(window, obverseWindow);
             }
         }
 
         @Override
         public void maximizedChanged(Window window) {
-            for (WindowListener listener : this) {
-                listener.maximizedChanged(window);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((WindowListener)listeners[i]).maximizedChanged(window);
             }
         }
     }
@@ -344,8 +351,9 @@ public class Window extends Container {
         implements WindowStateListener {
         @Override
         public void windowOpened(Window window) {
-            for (WindowStateListener listener : this) {
-                listener.windowOpened(window);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((WindowStateListener)listeners[i]).windowOpened(window);
             }
         }
 
@@ -353,7 +361,9 @@ public class Window extends Container {
         public Vote previewWindowClose(Window window) {
             Vote vote = Vote.APPROVE;
 
-            for (WindowStateListener listener : this) {
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                WindowStateListener listener = (WindowStateListener)listeners[i];
                 vote = vote.tally(listener.previewWindowClose(window));
             }
 
@@ -362,8 +372,9 @@ public class Window extends Container {
 
         @Override
         public void windowCloseVetoed(Window window, Vote reason) {
-            for (WindowStateListener listener : this) {
-                listener.windowCloseVetoed(window, reason);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((WindowStateListener)listeners[i]).windowCloseVetoed(window, reason);
             }
         }
 
@@ -371,7 +382,9 @@ public class Window extends Container {
         public Vote previewWindowOpen(Window window) {
             Vote vote = Vote.APPROVE;
 
-            for (WindowStateListener listener : this) {
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                WindowStateListener listener = (WindowStateListener)listeners[i];
                 vote = vote.tally(listener.previewWindowOpen(window));
             }
 
@@ -381,15 +394,17 @@ public class Window extends Container {
 
         @Override
         public void windowOpenVetoed(Window window, Vote reason) {
-            for (WindowStateListener listener : this) {
-                listener.windowOpenVetoed(window, reason);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((WindowStateListener)listeners[i]).windowOpenVetoed(window, reason);
             }
         }
 
         @Override
         public void windowClosed(Window window, Display display, Window owner) {
-            for (WindowStateListener listener : this) {
-                listener.windowClosed(window, display, owner);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((WindowStateListener)listeners[i]).windowClosed(window, display, owner);
             }
         }
     }
@@ -398,29 +413,33 @@ public class Window extends Container {
         implements WindowActionMappingListener {
         @Override
         public void actionMappingAdded(Window window) {
-            for (WindowActionMappingListener listener : this) {
-                listener.actionMappingAdded(window);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((WindowActionMappingListener)listeners[i]).actionMappingAdded(window);
             }
         }
 
         @Override
         public void actionMappingsRemoved(Window window, int index, Sequence<Window.ActionMapping> removed) {
-            for (WindowActionMappingListener listener : this) {
-                listener.actionMappingsRemoved(window, index, removed);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((WindowActionMappingListener)listeners[i]).actionMappingsRemoved(window, index, removed);
             }
         }
 
         @Override
         public void keyStrokeChanged(Window.ActionMapping actionMapping, Keyboard.KeyStroke previousKeyStroke) {
-            for (WindowActionMappingListener listener : this) {
-                listener.keyStrokeChanged(actionMapping, previousKeyStroke);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((WindowActionMappingListener)listeners[i]).keyStrokeChanged(actionMapping, previousKeyStroke);
             }
         }
 
         @Override
         public void actionChanged(Window.ActionMapping actionMapping, Action previousAction) {
-            for (WindowActionMappingListener listener : this) {
-                listener.actionChanged(actionMapping, previousAction);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((WindowActionMappingListener)listeners[i]).actionChanged(actionMapping, previousAction);
             }
         }
     }
@@ -430,8 +449,9 @@ public class Window extends Container {
         implements WindowClassListener {
         @Override
         public void activeWindowChanged(Window previousActiveWindow) {
-            for (WindowClassListener listener : this) {
-                listener.activeWindowChanged(previousActiveWindow);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((WindowClassListener)listeners[i]).activeWindowChanged(previousActiveWindow);
             }
         }
     }
@@ -0,0 +1,651 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pivot.wtk.content;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.apache.pivot.collections.HashSet;
+import org.apache.pivot.collections.List;
+import org.apache.pivot.collections.ListListener;
+import org.apache.pivot.collections.Sequence;
+import org.apache.pivot.util.ListenerList;
+import org.apache.pivot.util.concurrent.Task;
+import org.apache.pivot.util.concurrent.TaskListener;
+import org.apache.pivot.wtk.TaskAdapter;
+import org.apache.pivot.wtk.TreeView;
+import org.apache.pivot.wtk.media.Image;
+
+/**
+ * Tree branch whose children are loaded a page at a time by tasks. The number
+ * of children is known up front; children that have not been loaded are
+ * represented by a placeholder node, and a page is requested the first time
+ * any of its children is passed to {@link #loadNodes(int, int)} (which the
+ * tree view skin does as the children are scrolled into view).
+ * <p>
+ * At most {@link #getMaximumPageCount()} pages are kept; when another page
+ * is loaded, the least recently requested page is discarded and its children
+ * revert to the placeholder. Since the tree view treats a changed child as a
+ * new node, discarding a page clears the expanded, selected, and checked
+ * state of its children.
+ * <p>
+ * The branch is read-only; its contents change only as pages are loaded, or
+ * when {@link #setLength(int)} or {@link #refresh()} is called. Loaded nodes
+ * are not assigned a parent, since {@link TreeNode#getParent()} is a
+ * {@link TreeBranch}.
+ */
+public abstract class PagedTreeBranch extends TreeNode implements List<TreeNode>,
+    TreeView.LazyBranch {
+    private class PageListener implements TaskListener<Sequence<TreeNode>> {
+        private final int pageIndex;
+        private final int generation;
+
+        public PageListener(int pageIndex, int generation) {
+            this.pageIndex = pageIndex;
+            this.generation = generation;
+        }
+
+        @Override
+        public void taskExecuted(Task<Sequence<TreeNode>> task) {
+            if (generation == PagedTreeBranch.this.generation) {
+                loadingPages.remove(pageIndex);
+                pageLoaded(pageIndex, task.getResult());
+            }
+        }
+
+        @Override
+        public void executeFailed(Task<Sequence<TreeNode>> task) {
+            if (generation == PagedTreeBranch.this.generation) {
+                // Leave the placeholders in place; the page will be requested
+                // again the next time it is displayed
+                loadingPages.remove(pageIndex);
+            }
+        }
+    }
+
+    /**
+     * The children removed by {@link PagedTreeBranch#setLength(int)}. Children
+     * are looked up in the removed pages on demand, so that shrinking a large
+     * branch does not visit every removed child.
+     */
+    private class RemovedNodeSequence implements Sequence<TreeNode> {
+        private final int start;
+        private final int count;
+        private final TreeNode placeholderLocal = placeholder;
+        private final HashMap<Integer, TreeNode[]> removedPages = new HashMap<Integer, TreeNode[]>();
+
+        public RemovedNodeSequence(int start, int count) {
+            this.start = start;
+            this.count = count;
+        }
+
+        @Override
+        public int add(TreeNode treeNode) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void insert(TreeNode treeNode, int index) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public TreeNode update(int index, TreeNode treeNode) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int remove(TreeNode treeNode) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Sequence<TreeNode> remove(int index, int countArgument) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public TreeNode get(int index) {
+            if (index < 0
+                || index >= count) {
+                throw new IndexOutOfBoundsException();
+            }
+
+            int childIndex = start + index;
+            int pageIndex = childIndex / pageSize;
+            TreeNode[] page = removedPages.get(pageIndex);
+            int offset = childIndex - pageIndex * pageSize;
+
+            TreeNode treeNode = (page == null
+                || offset >= page.length) ? null : page[offset];
+
+            return (treeNode == null) ? placeholderLocal : treeNode;
+        }
+
+        @Override
+        public int indexOf(TreeNode treeNode) {
+            int index = -1;
+
+            if (treeNode == placeholderLocal) {
+                // The first placeholder lies within or just past the run of
+                // loaded children at the start of the sequence
+                index = 0;
+                while (index < count
+                    && get(index) != treeNode) {
+                    index++;
+                }
+
+                if (index == count) {
+                    index = -1;
+                }
+            } else if (treeNode != null) {
+                for (Map.Entry<Integer, TreeNode[]> entry : removedPages.entrySet()) {
+                    TreeNode[] page = entry.getValue();
+                    int pageStart = entry.getKey() * pageSize - start;
+
+                    for (int i = Math.max(0, -pageStart), n = Math.min(page.length,
+                        count - pageStart); i < n; i++) {
+                        if (page[i] == treeNode
+                            && (index == -1
+                            || pageStart + i < index)) {
+                            index = pageStart + i;
+                            break;
+                        }
+                    }
+                }
+            }
+
+            return index;
+        }
+
+        @Override
+        public int getLength() {
+            return count;
+        }
+    }
+
+    private Image expandedIcon = null;
+
+    private int length;
+    private final int pageSize;
+    private int maximumPageCount = DEFAULT_MAXIMUM_PAGE_COUNT;
+
+    private TreeNode placeholder = new TreeNode("...");
+
+    // Loaded pages, in order of last request
+    private LinkedHashMap<Integer, TreeNode[]> pages = new LinkedHashMap<Integer, TreeNode[]>();
+
+    // Indexes of the loaded children, by identity
+    private IdentityHashMap<TreeNode, Integer> loadedIndexes = new IdentityHashMap<TreeNode, Integer>();
+    private HashSet<Integer> loadingPages = new HashSet<Integer>();
+
+    // Incremented whenever the loaded pages are discarded, so that the results
+    // of tasks that were already running can be ignored
+    private int generation = 0;
+
+    private ListListenerList<TreeNode> listListeners = new ListListenerList<TreeNode>();
+
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int DEFAULT_MAXIMUM_PAGE_COUNT = 50;
+
+    public PagedTreeBranch(int length) {
+        this(null, null, length, DEFAULT_PAGE_SIZE);
+    }
+
+    public PagedTreeBranch(String text, int length) {
+        this(null, text, length, DEFAULT_PAGE_SIZE);
+    }
+
+    public PagedTreeBranch(Image icon, String text, int length, int pageSize) {
+        super(icon, text);
+
+        if (length < 0) {
+            throw new IllegalArgumentException("length is negative.");
+        }
+
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize must be positive.");
+        }
+
+        this.length = length;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Creates a task that loads a page of children.
+     *
+     * @param index
+     * The index of the first child in the page.
+     *
+     * @param count
+     * The number of children in the page. The task's result may contain fewer
+     * children, in which case the rest remain placeholders.
+     */
+    protected abstract Task<Sequence<TreeNode>> createLoadTask(int index, int count);
+
+    public Image getExpandedIcon() {
+        return expandedIcon;
+    }
+
+    public void setExpandedIcon(Image expandedIcon) {
+        this.expandedIcon = expandedIcon;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public int getMaximumPageCount() {
+        return maximumPageCount;
+    }
+
+    public void setMaximumPageCount(int maximumPageCount) {
+        if (maximumPageCount <= 0) {
+            throw new IllegalArgumentException("maximumPageCount must be positive.");
+        }
+
+        this.maximumPageCount = maximumPageCount;
+        trimPages();
+    }
+
+    /**
+     * Returns the node that stands in for children that have not been loaded.
+     */
+    public TreeNode getPlaceholder() {
+        return placeholder;
+    }
+
+    public void setPlaceholder(TreeNode placeholder) {
+        if (placeholder == null) {
+            throw new IllegalArgumentException("placeholder is null.");
+        }
+
+        if (placeholder == this.placeholder) {
+            return;
+        }
+
+        TreeNode previousPlaceholder = this.placeholder;
+        this.placeholder = placeholder;
+
+        if (length > 0) {
+            // Report the change with a single notification to listeners that
+            // accept one, such as the tree view
+            for (ListListener<TreeNode> listener : listListeners) {
+                if (listener instanceof TreeView.LazyBranchListener) {
+                    ((TreeView.LazyBranchListener)listener).itemsUpdated(this, 0, length);
+                } else {
+                    for (int i = 0; i < length; i++) {
+                        if (getLoaded(i) == null) {
+                            listener.itemUpdated(this, i, previousPlaceholder);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests whether a child has been loaded.
+     *
+     * @param index
+     */
+    public boolean isLoaded(int index) {
+        verifyIndex(index);
+        return (getLoaded(index) != null);
+    }
+
+    /**
+     * Changes the number of children, such as when the underlying data has
+     * grown or shrunk. Loaded children that remain in range are kept. Added
+     * children are reported to a {@link TreeView.LazyBranchListener} with a
+     * single call.
+     *
+     * @param length
+     */
+    public void setLength(int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("length is negative.");
+        }
+
+        int previousLength = this.length;
+
+        if (length > previousLength) {
+            this.length = length;
+
+            // Report the new children with a single notification to listeners
+            // that accept one, such as the tree view
+            int count = length - previousLength;
+
+            for (ListListener<TreeNode> listener : listListeners) {
+                if (listener instanceof TreeView.LazyBranchListener) {
+                    ((TreeView.LazyBranchListener)listener).itemsInserted(this, previousLength,
+                        count);
+                } else {
+                    for (int i = previousLength; i < length; i++) {
+                        listener.itemInserted(this, i);
+                    }
+                }
+            }
+        } else if (length < previousLength) {
+            RemovedNodeSequence removed = new RemovedNodeSequence(length,
+                previousLength - length);
+
+            this.length = length;
+
+            // Discard the pages that are now out of range, and truncate the
+            // last one
+            int lastPageIndex = (length - 1) / pageSize;
+            Iterator<Map.Entry<Integer, TreeNode[]>> iterator = pages.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Integer, TreeNode[]> entry = iterator.next();
+                int pageIndex = entry.getKey();
+
+                if (length == 0
+                    || pageIndex > lastPageIndex) {
+                    removed.removedPages.put(pageIndex, entry.getValue());
+                    iterator.remove();
+                    unindexPage(pageIndex, entry.getValue(), 0);
+                } else if (pageIndex == lastPageIndex) {
+                    TreeNode[] page = entry.getValue();
+                    int pageLength = length - pageIndex * pageSize;
+
+                    if (pageLength < page.length) {
+                        removed.removedPages.put(pageIndex, page);
+                        unindexPage(pageIndex, page, pageLength);
+
+                        TreeNode[] pageUpdated = new TreeNode[pageLength];
+                        System.arraycopy(page, 0, pageUpdated, 0, pageLength);
+                        entry.setValue(pageUpdated);
+                    }
+                }
+            }
+
+            listListeners.itemsRemoved(this, length, removed);
+        }
+    }
+
+    /**
+     * Discards all loaded children, so that they are requested again the next
+     * time they are displayed.
+     */
+    public void refresh() {
+        generation++;
+        loadingPages.clear();
+
+        while (!pages.isEmpty()) {
+            Iterator<Map.Entry<Integer, TreeNode[]>> iterator = pages.entrySet().iterator();
+            Map.Entry<Integer, TreeNode[]> entry = iterator.next();
+            iterator.remove();
+
+            discardPage(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public void loadNodes(int index, int count) {
+        if (index < 0
+            || count < 0
+            || index + count > length) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        if (count == 0) {
+            return;
+        }
+
+        for (int pageIndex = index / pageSize, end = (index + count - 1) / pageSize;
+            pageIndex <= end; pageIndex++) {
+            int start = pageIndex * pageSize;
+            TreeNode[] page = pages.remove(pageIndex);
+
+            if (page != null) {
+                // Mark the page as recently requested
+                pages.put(pageIndex, page);
+            }
+
+            // A page that was truncated by setLength() is requested again
+            // once the length grows past it
+            if ((page == null
+                || page.length < Math.min(pageSize, length - start))
+                && !loadingPages.contains(pageIndex)) {
+                loadingPages.add(pageIndex);
+
+                Task<Sequence<TreeNode>> loadTask = createLoadTask(start,
+                    Math.min(pageSize, length - start));
+                loadTask.execute(new TaskAdapter<Sequence<TreeNode>>(new PageListener(pageIndex,
+                    generation)));
+            }
+        }
+    }
+
+    private void pageLoaded(int pageIndex, Sequence<TreeNode> treeNodes) {
+        int start = pageIndex * pageSize;
+        if (start >= length
+            || treeNodes == null) {
+            return;
+        }
+
+        TreeNode[] page = new TreeNode[Math.min(pageSize, length - start)];
+
+        for (int i = 0, n = Math.min(page.length, treeNodes.getLength()); i < n; i++) {
+            page[i] = treeNodes.get(i);
+        }
+
+        TreeNode[] previousPage = pages.remove(pageIndex);
+        pages.put(pageIndex, page);
+
+        if (previousPage != null) {
+            unindexPage(pageIndex, previousPage, 0);
+        }
+
+        indexPage(pageIndex, page);
+
+        for (int i = 0; i < page.length; i++) {
+            TreeNode previousTreeNode = (previousPage != null
+                && i < previousPage.length
+                && previousPage[i] != null) ? previousPage[i] : placeholder;
+
+            if (get(start + i) != previousTreeNode) {
+                listListeners.itemUpdated(this, start + i, previousTreeNode);
+            }
+        }
+
+        trimPages();
+    }
+
+    private void trimPages() {
+        while (pages.size() > maximumPageCount) {
+            Iterator<Map.Entry<Integer, TreeNode[]>> iterator = pages.entrySet().iterator();
+            Map.Entry<Integer, TreeNode[]> entry = iterator.next();
+            iterator.remove();
+
+            discardPage(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void discardPage(int pageIndex, TreeNode[] page) {
+        unindexPage(pageIndex, page, 0);
+
+        int start = pageIndex * pageSize;
+
+        for (int i = 0; i < page.length; i++) {
+            TreeNode treeNode = page[i];
+
+            if (treeNode != null) {
+                listListeners.itemUpdated(this, start + i, treeNode);
+            }
+        }
+    }
+
+    private void indexPage(int pageIndex, TreeNode[] page) {
+        int start = pageIndex * pageSize;
+
+        for (int i = 0; i < page.length; i++) {
+            if (page[i] != null) {
+                loadedIndexes.put(page[i], start + i);
+            }
+        }
+    }
+
+    private void unindexPage(int pageIndex, TreeNode[] page, int offset) {
+        int start = pageIndex * pageSize;
+
+        for (int i = offset; i < page.length; i++) {
+            TreeNode treeNode = page[i];
+
+            if (treeNode != null) {
+                Integer index = loadedIndexes.get(treeNode);
+
+                if (index != null
+                    && index.intValue() == start + i) {
+                    loadedIndexes.remove(treeNode);
+                }
+            }
+        }
+    }
+
+    private TreeNode getLoaded(int index) {
+        int pageIndex = index / pageSize;
+        TreeNode[] page = pages.get(pageIndex);
+        int offset = index - pageIndex * pageSize;
+
+        return (page == null
+            || offset >= page.length) ? null : page[offset];
+    }
+
+    private void verifyIndex(int index) {
+        if (index < 0
+            || index >= length) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    @Override
+    public int add(TreeNode treeNode) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void insert(TreeNode treeNode, int index) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public TreeNode update(int index, TreeNode treeNode) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int remove(TreeNode treeNode) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Sequence<TreeNode> remove(int index, int count) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns a child, or the placeholder if the child has not been loaded.
+     * This method does not request the child; see {@link #loadNodes(int, int)}.
+     *
+     * @param index
+     */
+    @Override
+    public TreeNode get(int index) {
+        verifyIndex(index);
+
+        TreeNode treeNode = getLoaded(index);
+        return (treeNode == null) ? placeholder : treeNode;
+    }
+
+    /**
+     * Returns the index of a loaded child.
+     *
+     * @param treeNode
+     *
+     * @return
+     * The index of the child, or <tt>-1</tt> if the node is not a loaded child
+     * of this branch.
+     */
+    @Override
+    public int indexOf(TreeNode treeNode) {
+        Integer index = (treeNode == null) ? null : loadedIndexes.get(treeNode);
+        return (index == null) ? -1 : index.intValue();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return (length == 0);
+    }
+
+    @Override
+    public int getLength() {
+        return length;
+    }
+
+    @Override
+    public Comparator<TreeNode> getComparator() {
+        return null;
+    }
+
+    @Override
+    public void setComparator(Comparator<TreeNode> comparator) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Iterator<TreeNode> iterator() {
+        return new Iterator<TreeNode>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return (index < length);
+            }
+
+            @Override
+            public TreeNode next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                return get(index++);
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    @Override
+    public ListenerList<ListListener<TreeNode>> getListListeners() {
+        return listListeners;
+    }
+}
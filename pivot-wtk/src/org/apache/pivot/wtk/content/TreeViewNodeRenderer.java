@@ -75,15 +75,15 @@ public class TreeViewNodeRenderer extends BoxPane implements TreeView.NodeRender
             if (node instanceof TreeNode) {
                 TreeNode treeNode = (TreeNode)node;
 
-                if (expanded
-                    && treeNode instanceof TreeBranch) {
-                    TreeBranch treeBranch = (TreeBranch)treeNode;
-                    icon = treeBranch.getExpandedIcon();
-
-                    if (icon == null) {
-                        icon = treeBranch.getIcon();
+                if (expanded) {
+                    if (treeNode instanceof TreeBranch) {
+                        icon = ((TreeBranch)treeNode).getExpandedIcon();
+                    } else if (treeNode instanceof PagedTreeBranch) {
+                        icon = ((PagedTreeBranch)treeNode).getExpandedIcon();
                     }
-                } else {
+                }
+
+                if (icon == null) {
                     icon = treeNode.getIcon();
                 }
 
@@ -46,22 +46,25 @@ public abstract class Image implements Visual {
         implements ImageListener {
         @Override
         public void sizeChanged(Image image, int previousWidth, int previousHeight) {
-            for (ImageListener listener : this) {
-                listener.sizeChanged(image, previousWidth, previousHeight);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ImageListener)listeners[i]).sizeChanged(image, previousWidth, previousHeight);
             }
         }
 
         @Override
         public void baselineChanged(Image image, int previousBaseline) {
-            for (ImageListener listener : this) {
-                listener.baselineChanged(image, previousBaseline);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ImageListener)listeners[i]).baselineChanged(image, previousBaseline);
             }
         }
 
         @Override
         public void regionUpdated(Image image, int x, int y, int width, int height) {
-            for (ImageListener listener : this) {
-                listener.regionUpdated(image, x, y, width, height);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ImageListener)listeners[i]).regionUpdated(image, x, y, width, height);
             }
         }
     }
@@ -34,50 +34,57 @@ public abstract class Movie implements Visual {
         implements MovieListener {
         @Override
         public void sizeChanged(Movie movie, int previousWidth, int previousHeight) {
-            for (MovieListener listener : this) {
-                listener.sizeChanged(movie, previousWidth, previousHeight);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((MovieListener)listeners[i]).sizeChanged(movie, previousWidth, previousHeight);
             }
         }
 
         @Override
         public void baselineChanged(Movie movie, int previousBaseline) {
-            for (MovieListener listener : this) {
-                listener.baselineChanged(movie, previousBaseline);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((MovieListener)listeners[i]).baselineChanged(movie, previousBaseline);
             }
         }
 
         @Override
         public void currentFrameChanged(Movie movie, int previousFrame) {
-            for (MovieListener listener : this) {
-                listener.currentFrameChanged(movie, previousFrame);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((MovieListener)listeners[i]).currentFrameChanged(movie, previousFrame);
             }
         }
 
         @Override
         public void loopingChanged(Movie movie) {
-            for (MovieListener listener : this) {
-                listener.loopingChanged(movie);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((MovieListener)listeners[i]).loopingChanged(movie);
             }
         }
 
         @Override
         public void movieStarted(Movie movie) {
-            for (MovieListener listener : this) {
-                listener.movieStarted(movie);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((MovieListener)listeners[i]).movieStarted(movie);
             }
         }
 
         @Override
         public void movieStopped(Movie movie) {
-            for (MovieListener listener : this) {
-                listener.movieStopped(movie);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((MovieListener)listeners[i]).movieStopped(movie);
             }
         }
 
         @Override
         public void regionUpdated(Movie movie, int x, int y, int width, int height) {
-            for (MovieListener listener : this) {
-                listener.regionUpdated(movie, x, y, width, height);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((MovieListener)listeners[i]).regionUpdated(movie, x, y, width, height);
             }
         }
     }
@@ -30,8 +30,9 @@ public abstract class Block extends Element {
         BlockListener {
         @Override
         public void horizontalAlignmentChanged(Block block, HorizontalAlignment previousHorizontalAlignment) {
-            for (BlockListener listener : this) {
-                listener.horizontalAlignmentChanged(block, previousHorizontalAlignment);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((BlockListener)listeners[i]).horizontalAlignmentChanged(block, previousHorizontalAlignment);
             }
         }
     }
@@ -36,8 +36,9 @@ public class BulletedList extends List {
         implements BulletedListListener {
         @Override
         public void styleChanged(BulletedList bulletedList, Style previousStyle) {
-            for (BulletedListListener listener : this) {
-                listener.styleChanged(bulletedList, previousStyle);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((BulletedListListener)listeners[i]).styleChanged(bulletedList, previousStyle);
             }
         }
     }
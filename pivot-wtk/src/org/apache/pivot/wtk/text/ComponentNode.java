@@ -28,8 +28,9 @@ public class ComponentNode extends Node {
         ComponentNodeListener {
         @Override
         public void componentChanged(ComponentNode componentNode, Component previousComponent) {
-            for (ComponentNodeListener listener : this) {
-                listener.componentChanged(componentNode, previousComponent);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ComponentNodeListener)listeners[i]).componentChanged(componentNode, previousComponent);
             }
         }
     }
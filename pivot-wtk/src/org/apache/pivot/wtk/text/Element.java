@@ -42,47 +42,54 @@ public abstract class Element extends Node
         implements ElementListener {
         @Override
         public void nodeInserted(Element element, int index) {
-            for (ElementListener listener : this) {
-                listener.nodeInserted(element, index);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ElementListener)listeners[i]).nodeInserted(element, index);
             }
         }
 
         @Override
         public void nodesRemoved(Element element, int index,
             Sequence<Node> nodes) {
-            for (ElementListener listener : this) {
-                listener.nodesRemoved(element, index, nodes);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ElementListener)listeners[i]).nodesRemoved(element, index, nodes);
             }
         }
 
         @Override
         public void fontChanged(Element element, Font previousFont) {
-            for (ElementListener listener : this) {
-                listener.fontChanged(element, previousFont);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ElementListener)listeners[i]).fontChanged(element, previousFont);
             }
         }
         @Override
         public void backgroundColorChanged(Element element, Color previousBackgroundColor) {
-            for (ElementListener listener : this) {
-                listener.backgroundColorChanged(element, previousBackgroundColor);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ElementListener)listeners[i]).backgroundColorChanged(element, previousBackgroundColor);
             }
         }
         @Override
         public void foregroundColorChanged(Element element, Color previousForegroundColor) {
-            for (ElementListener listener : this) {
-                listener.foregroundColorChanged(element, previousForegroundColor);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ElementListener)listeners[i]).foregroundColorChanged(element, previousForegroundColor);
             }
         }
         @Override
         public void underlineChanged(Element element) {
-            for (ElementListener listener : this) {
-                listener.underlineChanged(element);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ElementListener)listeners[i]).underlineChanged(element);
             }
         }
         @Override
         public void strikethroughChanged(Element element) {
-            for (ElementListener listener : this) {
-                listener.strikethroughChanged(element);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ElementListener)listeners[i]).strikethroughChanged(element);
             }
         }
     }
@@ -29,8 +29,9 @@ public class ImageNode extends Node {
         implements ImageNodeListener {
         @Override
         public void imageChanged(ImageNode imageNode, Image previousImage) {
-            for (ImageNodeListener listener : this) {
-                listener.imageChanged(imageNode, previousImage);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((ImageNodeListener)listeners[i]).imageChanged(imageNode, previousImage);
             }
         }
     }
@@ -27,43 +27,49 @@ public abstract class Node {
         NodeListener {
         @Override
         public void parentChanged(Node node, Element previousParent) {
-            for (NodeListener listener : this) {
-                listener.parentChanged(node, previousParent);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((NodeListener)listeners[i]).parentChanged(node, previousParent);
             }
         }
 
         @Override
         public void offsetChanged(Node node, int previousOffset) {
-            for (NodeListener listener : this) {
-                listener.offsetChanged(node, previousOffset);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((NodeListener)listeners[i]).offsetChanged(node, previousOffset);
             }
         }
 
         @Override
         public void nodeInserted(Node node, int offset) {
-            for (NodeListener listener : this) {
-                listener.nodeInserted(node, offset);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((NodeListener)listeners[i]).nodeInserted(node, offset);
             }
         }
 
         @Override
         public void nodesRemoved(Node node, Sequence<Node> removed, int offset) {
-            for (NodeListener listener : this) {
-                listener.nodesRemoved(node, removed, offset);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((NodeListener)listeners[i]).nodesRemoved(node, removed, offset);
             }
         }
 
         @Override
         public void rangeInserted(Node node, int offset, int span) {
-            for (NodeListener listener : this) {
-                listener.rangeInserted(node, offset, span);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((NodeListener)listeners[i]).rangeInserted(node, offset, span);
             }
         }
 
         @Override
         public void rangeRemoved(Node node, int offset, int characterCount) {
-            for (NodeListener listener : this) {
-                listener.rangeRemoved(node, offset, characterCount);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((NodeListener)listeners[i]).rangeRemoved(node, offset, characterCount);
             }
         }
     }
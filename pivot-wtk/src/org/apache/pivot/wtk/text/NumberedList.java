@@ -37,8 +37,9 @@ public class NumberedList extends List {
         implements NumberedListListener {
         @Override
         public void styleChanged(NumberedList numberedList, Style previousStyle) {
-            for (NumberedListListener listener : this) {
-                listener.styleChanged(numberedList, previousStyle);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((NumberedListListener)listeners[i]).styleChanged(numberedList, previousStyle);
             }
         }
     }
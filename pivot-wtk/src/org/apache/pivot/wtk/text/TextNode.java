@@ -26,15 +26,17 @@ public final class TextNode extends Node {
         implements TextNodeListener {
         @Override
         public void charactersInserted(TextNode textNode, int index, int count) {
-            for (TextNodeListener listener : this) {
-                listener.charactersInserted(textNode, index, count);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TextNodeListener)listeners[i]).charactersInserted(textNode, index, count);
             }
         }
 
         @Override
         public void charactersRemoved(TextNode textNode, int index, int count) {
-            for (TextNodeListener listener : this) {
-                listener.charactersRemoved(textNode, index, count);
+            Object[] listeners = getSnapshot();
+            for (int i = 0; i < listeners.length; i++) {
+                ((TextNodeListener)listeners[i]).charactersRemoved(textNode, index, count);
             }
         }
     }